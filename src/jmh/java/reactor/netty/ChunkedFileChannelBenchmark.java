@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedNioFile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the throughput of reading a file chunk by chunk, as done by
+ * {@link NettyOutbound#sendFileChunked(Path, long, long)}, with {@link ChunkedFileChannel}
+ * and with Netty's {@link ChunkedNioFile}, for different chunk sizes and allocators.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class ChunkedFileChannelBenchmark {
+
+	@Param({"1024", "16384", "65536"})
+	int chunkSize;
+
+	@Param({"heap", "direct"})
+	String allocator;
+
+	Path file;
+
+	ByteBufAllocator alloc;
+
+	@Setup
+	public void setup() throws IOException {
+		file = Files.createTempFile("chunked", ".bin");
+		Files.write(file, new byte[FILE_SIZE]);
+		alloc = "direct".equals(allocator) ? new PooledByteBufAllocator(true) : new PooledByteBufAllocator(false);
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.delete(file);
+	}
+
+	@Benchmark
+	public void chunkedFileChannel(Blackhole bh) throws Exception {
+		try (FileChannel fc = FileChannel.open(file, StandardOpenOption.READ)) {
+			read(new ChunkedFileChannel(fc, 0, FILE_SIZE, chunkSize), bh);
+		}
+	}
+
+	@Benchmark
+	public void chunkedNioFile(Blackhole bh) throws Exception {
+		try (FileChannel fc = FileChannel.open(file, StandardOpenOption.READ)) {
+			read(new ChunkedNioFile(fc, 0, FILE_SIZE, chunkSize), bh);
+		}
+	}
+
+	void read(ChunkedInput<ByteBuf> input, Blackhole bh) throws Exception {
+		ByteBuf chunk;
+		while ((chunk = input.readChunk(alloc)) != null) {
+			bh.consume(chunk.readableBytes());
+			chunk.release();
+		}
+	}
+
+	static final int FILE_SIZE = 8 * 1024 * 1024;
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+
+/**
+ * Measures draining inbound messages through {@link FluxReceive}, either with an unbounded
+ * receiver (fast path) or with a bounded receiver (queued path).
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class FluxReceiveBenchmark {
+
+	@Param({"16", "256"})
+	int messages;
+
+	@Param({"false", "true"})
+	boolean bounded;
+
+	ByteBuf content;
+
+	@Setup
+	public void setup() {
+		content = Unpooled.directBuffer(1024)
+		                  .writeZero(1024);
+	}
+
+	@TearDown
+	public void tearDown() {
+		content.release();
+	}
+
+	@Benchmark
+	public void receive(Blackhole bh) {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		ChannelOperations<?, ?> ops =
+				new ChannelOperations<>(Connection.from(channel), ConnectionObserver.emptyListener());
+
+		Flux<?> inbound = bounded ? ops.receiveObject().limitRate(32) : ops.receiveObject();
+		inbound.subscribe(bh::consume);
+
+		for (int i = 0; i < messages; i++) {
+			ops.inbound.onInboundNext(content.retainedDuplicate());
+		}
+		ops.inbound.onInboundComplete();
+
+		channel.finishAndReleaseAll();
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import reactor.core.publisher.Flux;
+
+/**
+ * Measures writing and flushing a stream of buffers through {@link MonoSendMany},
+ * either flushing once per batch or flushing after each buffer.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class MonoSendManyBenchmark {
+
+	@Param({"1", "32", "256"})
+	int messages;
+
+	@Param({"64", "8192"})
+	int messageSize;
+
+	@Param({"false", "true"})
+	boolean flushOnEach;
+
+	EmbeddedChannel channel;
+	ByteBuf content;
+
+	@Setup
+	public void setup() {
+		channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter());
+		content = Unpooled.directBuffer(messageSize)
+		                  .writeZero(messageSize);
+	}
+
+	@TearDown
+	public void tearDown() {
+		channel.finishAndReleaseAll();
+		content.release();
+	}
+
+	@Benchmark
+	public void sendMany(Blackhole bh) {
+		Flux<ByteBuf> source = Flux.range(0, messages)
+		                           .map(i -> content.retainedDuplicate());
+		boolean flush = flushOnEach;
+		MonoSendMany.byteBufSource(source, channel, b -> flush)
+		            .subscribe();
+
+		channel.runPendingTasks();
+
+		ByteBuf buf;
+		while ((buf = channel.readOutbound()) != null) {
+			bh.consume(buf);
+			buf.release();
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link HttpOperations#resolvePath(String)} for the typical request uri shapes,
+ * compared with parsing the uri with {@link java.net.URI}.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class HttpOperationsBenchmark {
+
+	@Param({
+			"/api/v1/users/42",
+			"/api/v1/users/42?expand=true&limit=10",
+			"http://localhost:8080/api/v1/users/42?expand=true",
+			"localhost:8080/api/v1/users/42",
+			"http://[::1]:8080/api/v1/users/caf%C3%A9"
+	})
+	String uri;
+
+	@Benchmark
+	public String resolvePath() {
+		return HttpOperations.resolvePath(uri);
+	}
+
+	@Benchmark
+	public String resolvePathWithUri() {
+		return HttpOperations.resolvePathWithUri(uri);
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.ReactorNetty;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * Measures request/response throughput of {@link HttpClient} against {@link HttpServer} over loopback.
+ * {@code epoll} requires the epoll native transport and {@code io_uring} requires a kernel supporting
+ * io_uring, the incubator transport is on the jmh runtime classpath. When the transport is not available,
+ * the runs fail in the setup instead of measuring another transport.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class HttpThroughputBenchmark {
+
+	static final String RESPONSE = "Hello World!";
+
+	static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring.";
+
+	@Param({"nio", "epoll", "io_uring"})
+	String transport;
+
+	LoopResources loops;
+	ConnectionProvider provider;
+	DisposableServer server;
+	HttpClient client;
+
+	@Setup
+	public void setup() {
+		boolean preferNative = !"nio".equals(transport);
+		if ("epoll".equals(transport) && !Epoll.isAvailable()) {
+			throw new IllegalStateException("The epoll transport is not available", Epoll.unavailabilityCause());
+		}
+		if ("io_uring".equals(transport)) {
+			// each parameter runs in its own fork, the native transport is selected once per JVM
+			System.setProperty(ReactorNetty.NATIVE_IO_URING, "true");
+		}
+		loops = LoopResources.create("bench", 1, true);
+		provider = ConnectionProvider.create("bench", 16);
+
+		server =
+				HttpServer.create()
+				          .port(0)
+				          .runOn(loops, preferNative)
+				          .handle((req, res) -> res.sendString(Mono.just(RESPONSE)))
+				          .bindNow();
+
+		if ("epoll".equals(transport) && !(server.channel() instanceof EpollServerSocketChannel)) {
+			String actual = server.channel().getClass().getName();
+			tearDown();
+			throw new IllegalStateException("The epoll transport is not used, " + actual + " is used instead.");
+		}
+		if ("io_uring".equals(transport) &&
+				!server.channel().getClass().getName().startsWith(IO_URING_PACKAGE)) {
+			String actual = server.channel().getClass().getName();
+			tearDown();
+			throw new IllegalStateException("The io_uring transport is not available, " + actual + " is used instead." +
+					" The incubator transport and a kernel supporting io_uring are required.");
+		}
+
+		client =
+				HttpClient.create(provider)
+				          .port(server.port())
+				          .runOn(loops, preferNative);
+	}
+
+	@TearDown
+	public void tearDown() {
+		server.disposeNow();
+		provider.disposeLater()
+		        .block(Duration.ofSeconds(5));
+		loops.disposeLater()
+		     .block(Duration.ofSeconds(5));
+	}
+
+	@Benchmark
+	public String get() {
+		return client.get()
+		             .uri("/")
+		             .responseContent()
+		             .aggregate()
+		             .asString()
+		             .block(Duration.ofSeconds(5));
+	}
+}
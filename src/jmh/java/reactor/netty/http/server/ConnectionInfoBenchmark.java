@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link ConnectionInfo} parsing of the {@code Forwarded} and {@code X-Forwarded-*} headers.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class ConnectionInfoBenchmark {
+
+	static final InetSocketAddress LOCAL_ADDRESS = new InetSocketAddress("127.0.0.1", 8080);
+	static final InetSocketAddress REMOTE_ADDRESS = new InetSocketAddress("127.0.0.1", 54321);
+
+	NioSocketChannel channel;
+	HttpRequest forwardedRequest;
+	HttpRequest xForwardedRequest;
+	HttpRequest plainRequest;
+
+	@Setup
+	public void setup() {
+		channel = new NioSocketChannel() {
+			@Override
+			public InetSocketAddress localAddress() {
+				return LOCAL_ADDRESS;
+			}
+		};
+
+		forwardedRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+		forwardedRequest.headers()
+		                .add(ConnectionInfo.FORWARDED_HEADER,
+		                     "for=\"[2001:db8:cafe::17]:4711\";proto=https;host=a.example.com:8443, for=192.0.2.43");
+
+		xForwardedRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+		xForwardedRequest.headers()
+		                 .add(ConnectionInfo.XFORWARDED_IP_HEADER, "192.0.2.60, 198.51.100.17")
+		                 .add(ConnectionInfo.XFORWARDED_HOST_HEADER, "a.example.com")
+		                 .add(ConnectionInfo.XFORWARDED_PORT_HEADER, "8443")
+		                 .add(ConnectionInfo.XFORWARDED_PROTO_HEADER, "https");
+
+		plainRequest = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+	}
+
+	@TearDown
+	public void tearDown() {
+		channel.unsafe().closeForcibly();
+	}
+
+	@Benchmark
+	public ConnectionInfo forwarded() {
+		return ConnectionInfo.from(channel, true, forwardedRequest, false, REMOTE_ADDRESS);
+	}
+
+	@Benchmark
+	public ConnectionInfo xForwarded() {
+		return ConnectionInfo.from(channel, true, xForwardedRequest, false, REMOTE_ADDRESS);
+	}
+
+	@Benchmark
+	public ConnectionInfo noForwardedHeaders() {
+		return ConnectionInfo.from(channel, true, plainRequest, false, REMOTE_ADDRESS);
+	}
+
+	@Benchmark
+	public ConnectionInfo forwardedHeadersDisabled() {
+		return ConnectionInfo.from(channel, false, forwardedRequest, false, REMOTE_ADDRESS);
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link HttpPredicate.UriPathTemplate} matching and path variables extraction.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class HttpPredicateBenchmark {
+
+	final HttpPredicate.UriPathTemplate literal =
+			new HttpPredicate.UriPathTemplate("/api/v1/users");
+
+	final HttpPredicate.UriPathTemplate variables =
+			new HttpPredicate.UriPathTemplate("/api/v1/users/{id}/orders/{orderId}");
+
+	final HttpPredicate.UriPathTemplate splat =
+			new HttpPredicate.UriPathTemplate("/static/**");
+
+	@Benchmark
+	public boolean matchesLiteral() {
+		return literal.matches("/api/v1/users");
+	}
+
+	@Benchmark
+	public boolean matchesVariables() {
+		return variables.matches("/api/v1/users/42/orders/7?expand=true");
+	}
+
+	@Benchmark
+	public boolean matchesSplat() {
+		return splat.matches("/static/css/site/main.css");
+	}
+
+	@Benchmark
+	public boolean noMatch() {
+		return variables.matches("/api/v2/accounts/42");
+	}
+
+	@Benchmark
+	public Map<String, String> extractVariables() {
+		return variables.match("/api/v1/users/42/orders/7?expand=true");
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the meter lookup of {@link MicrometerHttpServerMetricsRecorder} for the calls made
+ * by a single HTTP exchange. Run with {@code -prof gc} to observe the allocation rate,
+ * e.g. {@code ./gradlew jmh -PjmhArgs="MicrometerHttpServerMetricsRecorderBenchmark -prof gc"}.
+ *
+ * @author Violeta Georgieva
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class MicrometerHttpServerMetricsRecorderBenchmark {
+
+	static final Duration TIME = Duration.ofMillis(1);
+
+	final MicrometerHttpServerMetricsRecorder recorder = MicrometerHttpServerMetricsRecorder.INSTANCE;
+
+	MeterRegistry registry;
+
+	@Setup
+	public void setup() {
+		registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+	}
+
+	@TearDown
+	public void tearDown() {
+		Metrics.removeRegistry(registry);
+		registry.close();
+	}
+
+	@Benchmark
+	public void exchange() {
+		recorder.recordDataReceived(null, "/api/v1/users", 128);
+		recorder.recordDataReceivedTime("/api/v1/users", "GET", TIME);
+		recorder.recordDataSent(null, "/api/v1/users", 1024);
+		recorder.recordDataSentTime("/api/v1/users", "GET", "200", TIME);
+		recorder.recordResponseTime("/api/v1/users", "GET", "200", TIME);
+	}
+}
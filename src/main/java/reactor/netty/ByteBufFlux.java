@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -30,6 +31,7 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.TooLongFrameException;
 import io.netty.util.IllegalReferenceCountException;
 import org.reactivestreams.Publisher;
 import reactor.core.CoreSubscriber;
@@ -256,34 +258,41 @@ public class ByteBufFlux extends FluxOperator<ByteBuf, ByteBuf> {
 
 	/**
 	 * Aggregate subsequent byte buffers into a single buffer.
+	 * The buffers are not copied, they are retained as components of a {@link CompositeByteBuf}.
 	 *
 	 * @return {@link ByteBufMono} of aggregated {@link ByteBuf}
 	 */
 	public final ByteBufMono aggregate() {
+		return aggregate(Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Aggregate subsequent byte buffers into a single buffer, failing with
+	 * {@link TooLongFrameException} as soon as the aggregated bytes exceed {@code maxBytes}.
+	 * The buffers are not copied, they are retained as components of a {@link CompositeByteBuf}.
+	 *
+	 * @param maxBytes the maximum number of the aggregated bytes
+	 * @return {@link ByteBufMono} of aggregated {@link ByteBuf}
+	 * @since 1.0.0
+	 */
+	public final ByteBufMono aggregate(int maxBytes) {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("Max bytes must be strictly positive");
+		}
 		return Mono.defer(() -> {
-		               CompositeByteBuf output = alloc.compositeBuffer();
-		               return doOnNext(ByteBuf::retain)
-		                       .collectList()
-		                       .doOnDiscard(ByteBuf.class, ByteBufFlux::safeRelease)
-		                       .handle((list, sink) -> {
-		                           if (!list.isEmpty()) {
-		                               try {
-		                                   output.addComponents(true, list);
-		                               }
-		                               catch(IllegalReferenceCountException e) {
-		                                   if (log.isDebugEnabled()) {
-		                                       log.debug("", e);
-		                                   }
-		                               }
-		                           }
-		                           if (output.isReadable()) {
-		                               sink.next(output);
-		                           }
-		                           else {
-		                               sink.complete();
-		                           }
-		                       })
-		                       .doFinally(signalType -> safeRelease(output));
+		               // no maximum of components, consolidating would copy the buffers
+		               CompositeByteBuf output = alloc.compositeBuffer(Integer.MAX_VALUE);
+		               return this.<ByteBuf>handle((bb, sink) -> {
+		                              if ((long) output.readableBytes() + bb.readableBytes() > maxBytes) {
+		                                  sink.error(new TooLongFrameException(
+		                                          "Aggregated content exceeds the maximum of " + maxBytes + " bytes"));
+		                              }
+		                              else if (bb.isReadable()) {
+		                                  output.addComponent(true, bb.retain());
+		                              }
+		                          })
+		                          .then(Mono.fromSupplier(() -> output.isReadable() ? output : null))
+		                          .doFinally(signalType -> safeRelease(output));
 		               })
 		           .as(ByteBufMono::maybeFuse);
 	}
@@ -291,11 +300,60 @@ public class ByteBufFlux extends FluxOperator<ByteBuf, ByteBuf> {
 	/**
 	 * Allow multiple consumers downstream of the flux while also disabling auto memory
 	 * release on each buffer published (retaining in order to prevent premature recycling).
+	 * Late subscribers receive up to the last 32 buffers.
 	 *
-	 * @return {@link ByteBufMono} of retained {@link ByteBuf}
+	 * @return {@link ByteBufFlux} of retained {@link ByteBuf}
+	 * @see #multicast(int, Duration)
 	 */
-	public final ByteBufMono multicast() {
-		throw new UnsupportedOperationException("Not yet implemented");
+	public final ByteBufFlux multicast() {
+		return multicast(DEFAULT_MULTICAST_HISTORY);
+	}
+
+	/**
+	 * Allow multiple consumers downstream of the flux while also disabling auto memory
+	 * release on each buffer published (retaining in order to prevent premature recycling).
+	 * The buffers are not copied, each subscriber receives a retained duplicate of the buffer
+	 * and is responsible for releasing it. The source is subscribed with the first subscriber
+	 * and is requested no further than {@code history} buffers ahead of the slowest subscriber.
+	 * Late subscribers receive up to the last {@code history} buffers.
+	 * Once all subscribers have terminated, the source is cancelled and the retained buffers
+	 * are released, subsequent subscribers receive {@link IllegalStateException}.
+	 *
+	 * @param history the maximum number of the buffers retained for the subscribers
+	 * @return {@link ByteBufFlux} of retained {@link ByteBuf}
+	 * @since 1.0.0
+	 * @see #multicast(int, Duration)
+	 */
+	public final ByteBufFlux multicast(int history) {
+		return multicast(history, DEFAULT_MULTICAST_RETENTION);
+	}
+
+	/**
+	 * Allow multiple consumers downstream of the flux while also disabling auto memory
+	 * release on each buffer published (retaining in order to prevent premature recycling).
+	 * The buffers are not copied, each subscriber receives a retained duplicate of the buffer
+	 * and is responsible for releasing it. The source is subscribed with the first subscriber
+	 * and is requested no further than {@code history} buffers ahead of the slowest subscriber.
+	 * Late subscribers receive up to the last {@code history} buffers. Once all subscribers have
+	 * terminated, the source is no longer requested and the retained buffers are kept for the
+	 * given retention, a subscriber arriving within it resumes the multicast. When the retention
+	 * elapses, the source is cancelled (if not yet terminated) and the retained buffers are
+	 * released, subsequent subscribers receive {@link IllegalStateException}.
+	 *
+	 * @param history the maximum number of the buffers retained for the subscribers
+	 * @param retention how long the retained buffers are kept once all subscribers have terminated
+	 * @return {@link ByteBufFlux} of retained {@link ByteBuf}
+	 * @since 1.0.0
+	 */
+	public final ByteBufFlux multicast(int history, Duration retention) {
+		if (history <= 0) {
+			throw new IllegalArgumentException("History must be strictly positive");
+		}
+		Objects.requireNonNull(retention, "retention");
+		if (retention.isNegative()) {
+			throw new IllegalArgumentException("Retention must not be negative");
+		}
+		return new ByteBufFlux(new FluxMulticast(this, history, retention), alloc);
 	}
 
 	/**
@@ -352,6 +410,9 @@ public class ByteBufFlux extends FluxOperator<ByteBuf, ByteBuf> {
 
 	final static int MAX_CHUNK_SIZE = 1024 * 512; //500k
 
+	final static int DEFAULT_MULTICAST_HISTORY = 32;
+	final static Duration DEFAULT_MULTICAST_RETENTION = Duration.ZERO;
+
 	final static Logger log = Loggers.getLogger(ByteBufFlux.class);
 
 	static void safeRelease(ByteBuf byteBuf) {
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.util.Objects;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+
+/**
+ * A {@link ChunkedInput} that reads a region of a {@link FileChannel} chunk by chunk.
+ * Each chunk is read with a positional {@link FileChannel#read(java.nio.ByteBuffer, long)}
+ * directly into a buffer obtained from the channel's allocator, preferring a pooled direct buffer
+ * so that the JDK does not have to copy the data through a temporary direct buffer.
+ *
+ * @author Violeta Georgieva
+ */
+final class ChunkedFileChannel implements ChunkedInput<ByteBuf> {
+
+	final FileChannel fc;
+	final long        startOffset;
+	final long        endOffset;
+	final int         chunkSize;
+
+	long offset;
+
+	ChunkedFileChannel(FileChannel fc, long position, long count, int chunkSize) throws IOException {
+		Objects.requireNonNull(fc, "fc");
+		if (position < 0) {
+			throw new IllegalArgumentException("position must be positive or zero");
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("count must be positive or zero");
+		}
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be positive");
+		}
+		if (!fc.isOpen()) {
+			throw new ClosedChannelException();
+		}
+		this.fc = fc;
+		this.startOffset = position;
+		this.endOffset = position + count;
+		this.chunkSize = chunkSize;
+		this.offset = position;
+	}
+
+	@Override
+	public boolean isEndOfInput() {
+		return offset >= endOffset || !fc.isOpen();
+	}
+
+	@Override
+	public void close() throws Exception {
+		fc.close();
+	}
+
+	@Override
+	@Deprecated
+	public ByteBuf readChunk(ChannelHandlerContext ctx) throws Exception {
+		return readChunk(ctx.alloc());
+	}
+
+	@Override
+	public ByteBuf readChunk(ByteBufAllocator allocator) throws Exception {
+		long offset = this.offset;
+		if (offset >= endOffset) {
+			return null;
+		}
+
+		int length = (int) Math.min(chunkSize, endOffset - offset);
+		ByteBuf buffer = allocator.isDirectBufferPooled() ? allocator.directBuffer(length) : allocator.buffer(length);
+		boolean release = true;
+		try {
+			int read = 0;
+			while (read < length) {
+				int localRead = buffer.writeBytes(fc, offset + read, length - read);
+				if (localRead < 0) {
+					// the file was truncated after the transfer had started
+					throw new EOFException("Expected " + (endOffset - startOffset) + " bytes but the file ends at " +
+							(offset + read));
+				}
+				read += localRead;
+			}
+			this.offset = offset + read;
+			release = false;
+			return buffer;
+		}
+		finally {
+			if (release) {
+				buffer.release();
+			}
+		}
+	}
+
+	@Override
+	public long length() {
+		return endOffset - startOffset;
+	}
+
+	@Override
+	public long progress() {
+		return offset - startOffset;
+	}
+}
@@ -212,6 +212,44 @@ public interface Connection extends DisposableChannel {
 		return this;
 	}
 
+	/**
+	 * Return the size (bytes) of the chunks in which a file is read and written when it cannot
+	 * be transferred with zero-copy (e.g. SSL/TLS or compression is enabled).
+	 * When not configured for the channel or its parent (e.g. HTTP/2 streams), fallback to
+	 * {@link ReactorNetty#FILE_CHUNK_SIZE}.
+	 *
+	 * @return the size (bytes) of the chunks in which a file is read and written
+	 * @since 1.0.0
+	 */
+	default int fileChunkSize() {
+		Integer chunkSize = channel().attr(ReactorNetty.CHUNK_SIZE).get();
+		if (chunkSize == null && channel().parent() != null) {
+			chunkSize = channel().parent().attr(ReactorNetty.CHUNK_SIZE).get();
+		}
+		return chunkSize != null ? chunkSize : ReactorNetty.DEFAULT_FILE_CHUNK_SIZE;
+	}
+
+	/**
+	 * Configure the size (bytes) of the chunks in which a file is read and written when it cannot
+	 * be transferred with zero-copy (e.g. SSL/TLS or compression is enabled).
+	 * The value applies to the whole connection, use {@code doOnConnection} to configure it
+	 * for all connections of a server or a client.
+	 * A size close to the maximum TLS record size (16 KB) avoids splitting a file
+	 * in many small TLS records.
+	 *
+	 * @param chunkSize the size (bytes) of the chunks, must be positive
+	 * @return this Connection
+	 * @since 1.0.0
+	 */
+	default Connection fileChunkSize(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException("chunkSize must be positive");
+		}
+		channel().attr(ReactorNetty.CHUNK_SIZE)
+		         .set(chunkSize);
+		return this;
+	}
+
 	/**
 	 * Return the {@link NettyInbound} read API from this connection. If
 	 * {@link Connection} has not been configured with a supporting bridge, receive
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import io.netty.buffer.ByteBuf;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.Nullable;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
+
+/**
+ * Shares a {@link ByteBuf} source with several subscribers without copying the buffers.
+ * The source is subscribed by the first subscriber. Each buffer is retained once in a
+ * bounded history and is delivered to every subscriber as a retained duplicate owned
+ * by the subscriber. The source is requested only while the slowest subscriber is
+ * within the history, a late subscriber starts from the oldest buffer of the history.
+ * Once all subscribers have terminated, the history is kept for the configured retention,
+ * by default none, without requesting the source. A subscriber arriving within the retention
+ * resumes the multicast, otherwise the source is cancelled (if not yet terminated) and the
+ * history is released, subsequent subscribers receive {@link IllegalStateException}.
+ *
+ * @author Violeta Georgieva
+ */
+final class FluxMulticast extends Flux<ByteBuf> implements CoreSubscriber<ByteBuf> {
+
+	final Flux<? extends ByteBuf> source;
+	final int                     history;
+	final long                    retentionMillis;
+	final ByteBuf[]               buffers;
+	final Queue<ByteBuf>          queue;
+
+	volatile Subscription     s;
+	volatile MulticastInner[] subscribers = EMPTY;
+	volatile int              connected;
+	volatile int              wip;
+	volatile boolean          done;
+	volatile long             expiredIdlePeriod = -1L;
+	@Nullable
+	Throwable                 error;
+
+	// accessed only in drain
+	long produced;
+	long upstreamRequested;
+	boolean idle;
+	long idlePeriod;
+
+	FluxMulticast(Flux<? extends ByteBuf> source, int history, Duration retention) {
+		this.source = source;
+		this.history = history;
+		this.retentionMillis = retention.toMillis();
+		this.buffers = new ByteBuf[history];
+		this.queue = Queues.<ByteBuf>get(history).get();
+	}
+
+	@Override
+	public void subscribe(CoreSubscriber<? super ByteBuf> actual) {
+		MulticastInner inner = new MulticastInner(this, actual);
+		if (!add(inner)) {
+			Operators.error(actual, new IllegalStateException("The multicast source has been released"));
+			return;
+		}
+		actual.onSubscribe(inner);
+		if (connected == 0 && CONNECTED.compareAndSet(this, 0, 1)) {
+			source.subscribe(this);
+		}
+		drain();
+	}
+
+	@Override
+	public Context currentContext() {
+		MulticastInner[] subscribers = this.subscribers;
+		return subscribers.length > 0 ? subscribers[0].actual.currentContext() : Context.empty();
+	}
+
+	@Override
+	public void onSubscribe(Subscription s) {
+		if (Operators.setOnce(S, this, s)) {
+			if (subscribers == TERMINATED) {
+				// all subscribers left before the source was subscribed
+				s.cancel();
+				return;
+			}
+			drain();
+		}
+	}
+
+	@Override
+	public void onNext(ByteBuf buffer) {
+		if (done) {
+			return;
+		}
+		if (!queue.offer(buffer.retain())) {
+			buffer.release();
+			onError(Operators.onOperatorError(s, new IllegalStateException("Multicast history overflow"), currentContext()));
+			return;
+		}
+		drain();
+	}
+
+	@Override
+	public void onError(Throwable t) {
+		if (done) {
+			Operators.onErrorDropped(t, currentContext());
+			return;
+		}
+		error = t;
+		done = true;
+		drain();
+	}
+
+	@Override
+	public void onComplete() {
+		if (done) {
+			return;
+		}
+		done = true;
+		drain();
+	}
+
+	boolean add(MulticastInner inner) {
+		for (;;) {
+			MulticastInner[] a = subscribers;
+			if (a == TERMINATED) {
+				return false;
+			}
+			int n = a.length;
+			MulticastInner[] b = new MulticastInner[n + 1];
+			System.arraycopy(a, 0, b, 0, n);
+			b[n] = inner;
+			if (SUBSCRIBERS.compareAndSet(this, a, b)) {
+				return true;
+			}
+		}
+	}
+
+	void remove(MulticastInner inner) {
+		for (;;) {
+			MulticastInner[] a = subscribers;
+			int n = a.length;
+			int j = -1;
+			for (int i = 0; i < n; i++) {
+				if (a[i] == inner) {
+					j = i;
+					break;
+				}
+			}
+			if (j < 0) {
+				return;
+			}
+			MulticastInner[] b = new MulticastInner[n - 1];
+			System.arraycopy(a, 0, b, 0, j);
+			System.arraycopy(a, j + 1, b, j, n - j - 1);
+			if (SUBSCRIBERS.compareAndSet(this, a, b)) {
+				return;
+			}
+		}
+	}
+
+	void drain() {
+		if (WIP.getAndIncrement(this) != 0) {
+			return;
+		}
+		int missed = 1;
+		for (;;) {
+			boolean d = done;
+			ByteBuf buffer;
+			while ((buffer = queue.poll()) != null) {
+				int index = (int) (produced % history);
+				ByteBuf evicted = buffers[index];
+				if (evicted != null) {
+					evicted.release();
+				}
+				buffers[index] = buffer;
+				produced++;
+			}
+
+			MulticastInner[] subscribers = this.subscribers;
+			long oldest = Math.max(0L, produced - history);
+			long minCursor = Long.MAX_VALUE;
+			for (MulticastInner inner : subscribers) {
+				if (inner.cancelled) {
+					continue;
+				}
+				if (inner.cursor < oldest) {
+					inner.cursor = oldest;
+				}
+				long r = inner.requested;
+				long e = 0L;
+				while (e != r && inner.cursor < produced && !inner.cancelled) {
+					inner.actual.onNext(buffers[(int) (inner.cursor % history)].retainedDuplicate());
+					inner.cursor++;
+					e++;
+				}
+				if (e != 0L && r != Long.MAX_VALUE) {
+					MulticastInner.REQUESTED.addAndGet(inner, -e);
+				}
+				if (d && inner.cursor == produced && !inner.cancelled) {
+					inner.cancelled = true;
+					remove(inner);
+					Throwable t = error;
+					if (t != null) {
+						inner.actual.onError(t);
+					}
+					else {
+						inner.actual.onComplete();
+					}
+					continue;
+				}
+				minCursor = Math.min(minCursor, inner.cursor);
+			}
+
+			Subscription s = this.s;
+			MulticastInner[] current = this.subscribers;
+			if (current.length == 0 && current != TERMINATED && connected == 1) {
+				// no subscriber remains, the source is not requested until the retention has elapsed
+				if (!idle) {
+					idle = true;
+					startRetention(idlePeriod);
+				}
+				if (expiredIdlePeriod == idlePeriod && SUBSCRIBERS.compareAndSet(this, current, TERMINATED)) {
+					if (!d && s != null) {
+						s.cancel();
+					}
+					release();
+					return;
+				}
+			}
+			else {
+				if (idle) {
+					// a subscriber arrived within the retention
+					idle = false;
+					idlePeriod++;
+				}
+				if (!d && s != null && minCursor != Long.MAX_VALUE) {
+					long n = minCursor + history - upstreamRequested;
+					if (n > 0) {
+						upstreamRequested += n;
+						s.request(n);
+					}
+				}
+			}
+
+			missed = WIP.addAndGet(this, -missed);
+			if (missed == 0) {
+				break;
+			}
+		}
+	}
+
+	void startRetention(long idlePeriod) {
+		if (retentionMillis <= 0) {
+			expiredIdlePeriod = idlePeriod;
+		}
+		else {
+			Schedulers.parallel()
+			          .schedule(() -> expire(idlePeriod), retentionMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	void expire(long idlePeriod) {
+		expiredIdlePeriod = idlePeriod;
+		drain();
+	}
+
+	void release() {
+		ByteBuf buffer;
+		while ((buffer = queue.poll()) != null) {
+			buffer.release();
+		}
+		for (int i = 0; i < buffers.length; i++) {
+			ByteBuf b = buffers[i];
+			if (b != null) {
+				buffers[i] = null;
+				b.release();
+			}
+		}
+	}
+
+	static final class MulticastInner implements Subscription {
+
+		final FluxMulticast                   parent;
+		final CoreSubscriber<? super ByteBuf> actual;
+
+		volatile long    requested;
+		volatile boolean cancelled;
+
+		// accessed only in drain
+		long cursor;
+
+		MulticastInner(FluxMulticast parent, CoreSubscriber<? super ByteBuf> actual) {
+			this.parent = parent;
+			this.actual = actual;
+		}
+
+		@Override
+		public void request(long n) {
+			if (Operators.validate(n)) {
+				Operators.addCap(REQUESTED, this, n);
+				parent.drain();
+			}
+		}
+
+		@Override
+		public void cancel() {
+			if (!cancelled) {
+				cancelled = true;
+				parent.remove(this);
+				parent.drain();
+			}
+		}
+
+		static final AtomicLongFieldUpdater<MulticastInner> REQUESTED =
+				AtomicLongFieldUpdater.newUpdater(MulticastInner.class, "requested");
+	}
+
+	static final MulticastInner[] EMPTY      = new MulticastInner[0];
+	static final MulticastInner[] TERMINATED = new MulticastInner[0];
+
+	static final AtomicReferenceFieldUpdater<FluxMulticast, Subscription> S =
+			AtomicReferenceFieldUpdater.newUpdater(FluxMulticast.class, Subscription.class, "s");
+
+	static final AtomicReferenceFieldUpdater<FluxMulticast, MulticastInner[]> SUBSCRIBERS =
+			AtomicReferenceFieldUpdater.newUpdater(FluxMulticast.class, MulticastInner[].class, "subscribers");
+
+	static final AtomicIntegerFieldUpdater<FluxMulticast> CONNECTED =
+			AtomicIntegerFieldUpdater.newUpdater(FluxMulticast.class, "connected");
+
+	static final AtomicIntegerFieldUpdater<FluxMulticast> WIP =
+			AtomicIntegerFieldUpdater.newUpdater(FluxMulticast.class, "wip");
+}
@@ -78,6 +78,12 @@ public class Metrics {
 	 */
 	public static final String BYTE_BUF_ALLOCATOR_PREFIX = "reactor.netty.bytebuf.allocator";
 
+	/**
+	 * Name prefix that will be used for the channel's metrics
+	 * registered in Micrometer's global registry
+	 */
+	public static final String CHANNEL_PREFIX = "reactor.netty.channel";
+
 
 	// Metrics
 	/**
@@ -100,6 +106,11 @@ public class Metrics {
 	 */
 	public static final String TLS_HANDSHAKE_TIME = ".tls.handshake.time";
 
+	/**
+	 * Number of the TLS handshakes that resumed a session (HIT) or not (MISS)
+	 */
+	public static final String TLS_SESSION_RESUMPTION = ".tls.session.resumption";
+
 	/**
 	 * Time spent for connecting to the remote address
 	 */
@@ -120,6 +131,11 @@ public class Metrics {
 	 */
 	public static final String RESPONSE_TIME = ".response.time";
 
+	/**
+	 * Number of the uri tag values collapsed because the maximum number of uri tags was reached
+	 */
+	public static final String URI_TAGS_COLLAPSED = ".uri.tags.collapsed";
+
 
 	// AddressResolverGroup Metrics
 	/**
@@ -127,6 +143,11 @@ public class Metrics {
 	 */
 	public static final String ADDRESS_RESOLVER = ".address.resolver";
 
+	/**
+	 * Number of the address resolutions served from the DNS cache or not
+	 */
+	public static final String ADDRESS_RESOLVER_CACHE = ".address.resolver.cache";
+
 
 	// PooledConnectionProvider Metrics
 	/**
@@ -149,6 +170,18 @@ public class Metrics {
 	 */
 	public static final String PENDING_CONNECTIONS = ".pending.connections";
 
+	/**
+	 * The number of the connections closed by the background eviction
+	 */
+	public static final String EVICTED_CONNECTIONS = ".evicted.connections";
+
+
+	// Inbound Metrics
+	/**
+	 * The number of the bytes received and not yet consumed, buffered in the receive queues
+	 */
+	public static final String RECEIVE_QUEUED_BYTES = ".receive.queued.bytes";
+
 
 	// ByteBufAllocator Metrics
 	/**
@@ -216,6 +249,10 @@ public class Metrics {
 
 	public static final String ERROR = "ERROR";
 
+	public static final String HIT = "HIT";
+
+	public static final String MISS = "MISS";
+
 
 	@Nullable
 	public static String formatSocketAddress(@Nullable SocketAddress socketAddress) {
@@ -35,7 +35,6 @@ import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.DefaultFileRegion;
-import io.netty.handler.stream.ChunkedNioFile;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import reactor.core.Exceptions;
@@ -144,7 +143,8 @@ public interface NettyOutbound extends Publisher<Void> {
 	 * {@link java.nio.channels.FileChannel#transferTo(long, long, WritableByteChannel)}
 	 * support, if the system supports it, the path resolves to a local file
 	 * system {@link File}, compression and SSL/TLS is not enabled, then transfer will
-	 * use zero-byte copy to the peer., otherwise chunked read/write will be used.
+	 * use zero-byte copy to the peer., otherwise chunked read/write will be used,
+	 * the size of the chunks is configured with {@link Connection#fileChunkSize(int)}.
 	 * <p>It will listens for any error on write and closes
 	 * on terminal signal (complete|error). If more than one publisher is attached
 	 * (multiple calls to send()) completion occurs after all publishers complete.</p>
@@ -165,7 +165,7 @@ public interface NettyOutbound extends Publisher<Void> {
 					if (ReactorNetty.mustChunkFileTransfer(c, file)) {
 						ReactorNetty.addChunkedWriter(c);
 						try {
-							return new ChunkedNioFile(fc, position, count, 1024);
+							return new ChunkedFileChannel(fc, position, count, c.fileChunkSize());
 						}
 						catch (Exception ioe) {
 							throw Exceptions.propagate(ioe);
@@ -177,7 +177,8 @@ public interface NettyOutbound extends Publisher<Void> {
 	}
 
 	/**
-	 * Sends content from given {@link Path} using chunked read/write. <p>It will listen
+	 * Sends content from given {@link Path} using chunked read/write, the size of the chunks
+	 * is configured with {@link Connection#fileChunkSize(int)}. <p>It will listen
 	 * for any error on write and close on terminal signal (complete|error). If more than
 	 * one publisher is attached (multiple calls to send()) completion occurs after all
 	 * publishers complete.</p>
@@ -197,7 +198,7 @@ public interface NettyOutbound extends Publisher<Void> {
 				(c, fc) -> {
 					ReactorNetty.addChunkedWriter(c);
 					try {
-						return new ChunkedNioFile(fc, position, count, 1024);
+						return new ChunkedFileChannel(fc, position, count, c.fileChunkSize());
 					}
 					catch (Exception e) {
 						throw Exceptions.propagate(e);
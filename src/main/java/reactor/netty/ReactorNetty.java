@@ -100,10 +100,16 @@ public final class ReactorNetty {
 	public static final String SHUTDOWN_TIMEOUT = "reactor.netty.ioShutdownTimeout";
 
 	/**
-	 * Default value whether the native transport (epoll, kqueue) will be preferred,
+	 * Default value whether the native transport (epoll, kqueue, io_uring) will be preferred,
 	 * fallback it will be preferred when available
 	 */
 	public static final String NATIVE = "reactor.netty.native";
+	/**
+	 * Specifies whether the io_uring native transport will be preferred over epoll, when the
+	 * incubator transport is on the classpath and the kernel supports it, otherwise epoll is used.
+	 * By default it is disabled.
+	 */
+	public static final String NATIVE_IO_URING = "reactor.netty.native.ioUring";
 
 
 	/**
@@ -129,6 +135,11 @@ public final class ReactorNetty {
 	 * </ul>
 	 */
 	public static final String POOL_LEASING_STRATEGY = "reactor.netty.pool.leasingStrategy";
+	/**
+	 * Default interval (milliseconds) of the background eviction of the idle and expired connections,
+	 * fallback - the background eviction is disabled.
+	 */
+	public static final String POOL_EVICTION_INTERVAL = "reactor.netty.pool.evictionInterval";
 
 
 	/**
@@ -147,6 +158,13 @@ public final class ReactorNetty {
 	public static final String SSL_SERVER_DEBUG = "reactor.netty.tcp.ssl.server.debug";
 
 
+	/**
+	 * Default delay (milliseconds) before the next connection attempt is started, when the remote host
+	 * resolves to several addresses and the previous attempt is still in progress, fallback to 250 milliseconds
+	 */
+	public static final String CONNECTION_ATTEMPT_DELAY = "reactor.netty.connectionAttemptDelay";
+
+
 	/**
 	 * Specifies whether the Http Server access log will be enabled.
 	 * By default it is disabled.
@@ -154,6 +172,49 @@ public final class ReactorNetty {
 	public static final String ACCESS_LOG_ENABLED = "reactor.netty.http.server.accessLogEnabled";
 
 
+	/**
+	 * Default maximum number of the files whose metadata and content are cached by each directory
+	 * served with {@code HttpServerRoutes#directory}, fallback to 1024 files
+	 */
+	public static final String FILE_CACHE_SIZE = "reactor.netty.http.server.fileCacheSize";
+
+
+	/**
+	 * Default maximum size of the files served with {@code HttpServerRoutes#directory} that are
+	 * kept in memory and served without reading the file system, fallback to 65536 bytes
+	 */
+	public static final String FILE_IN_MEMORY_THRESHOLD = "reactor.netty.http.server.fileInMemoryThreshold";
+
+
+	/**
+	 * Default maximum number of meters cached by each of the built-in Micrometer recorders' caches,
+	 * once reached cached meters are evicted, fallback to 10000 meters
+	 */
+	public static final String MAX_CACHED_METERS = "reactor.netty.metrics.maxCachedMeters";
+
+
+	/**
+	 * Specifies the number of bytes buffered in the receive queue of a connection, at or above which
+	 * reading from the connection is suspended until the receiver consumes the buffered data.
+	 * By default it is disabled.
+	 */
+	public static final String RECEIVE_HIGH_WATER_MARK = "reactor.netty.channel.receiveHighWaterMark";
+
+
+	/**
+	 * Specifies the number of bytes buffered in the receive queue of a connection, at or below which
+	 * suspended reading is resumed, fallback to half of {@link #RECEIVE_HIGH_WATER_MARK}
+	 */
+	public static final String RECEIVE_LOW_WATER_MARK = "reactor.netty.channel.receiveLowWaterMark";
+
+
+	/**
+	 * Default size (bytes) of the chunks in which a file is read and written when it cannot be transferred
+	 * with zero-copy (e.g. SSL/TLS or compression is enabled), fallback to 16384 bytes
+	 */
+	public static final String FILE_CHUNK_SIZE = "reactor.netty.channel.fileChunkSize";
+
+
 	/**
 	 * Try to call {@link ReferenceCounted#release()} if the specified message implements {@link ReferenceCounted}.
 	 * If the specified message doesn't implement {@link ReferenceCounted} or it is already released,
@@ -340,6 +401,8 @@ public final class ReactorNetty {
 		ChannelPipeline p = c.channel().pipeline();
 		return p.get(SslHandler.class) != null  ||
 				p.get(NettyPipeline.CompressionHandler) != null ||
+				// the io_uring transport does not support FileRegion
+				c.channel().getClass().getName().startsWith(IO_URING_CHANNEL_PREFIX) ||
 				(!(c.channel().eventLoop() instanceof NioEventLoop) &&
 						!"file".equals(file.toUri().getScheme()));
 	}
@@ -890,6 +953,15 @@ public final class ReactorNetty {
 
 	static final AttributeKey<Connection> CONNECTION = AttributeKey.newInstance("$CONNECTION");
 
+	static final AttributeKey<Integer> CHUNK_SIZE = AttributeKey.newInstance("$CHUNK_SIZE");
+
+	static final int DEFAULT_FILE_CHUNK_SIZE = Integer.parseInt(System.getProperty(FILE_CHUNK_SIZE, "16384"));
+
+	/**
+	 * The package of the io_uring transport from Netty's incubator, its channels do not support FileRegion
+	 */
+	static final String IO_URING_CHANNEL_PREFIX = "io.netty.incubator.channel.uring.";
+
 	static final Consumer<? super FileChannel> fileCloser = fc -> {
 		try {
 			fc.close();
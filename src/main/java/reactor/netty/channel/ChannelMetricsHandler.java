@@ -31,6 +31,12 @@ import static reactor.netty.Metrics.ERROR;
 import static reactor.netty.Metrics.SUCCESS;
 
 /**
+ * Records the data received/sent, the errors and the connect time of a channel.
+ * <p>By default every inbound/outbound message is recorded. When an accumulation interval is
+ * configured, the data received/sent by a connected channel is accumulated in the handler and
+ * is recorded on {@code channelReadComplete} and {@code flush} once the interval is elapsed,
+ * and when the channel is closed.
+ *
  * @author Violeta Georgieva
  */
 public class ChannelMetricsHandler extends ChannelDuplexHandler {
@@ -40,11 +46,29 @@ public class ChannelMetricsHandler extends ChannelDuplexHandler {
 
 	final boolean onServer;
 
+	/**
+	 * -1 when every message is recorded
+	 */
+	final long accumulationIntervalNanos;
+
+	long dataReceived;
+	long dataSent;
+	long lastRecordedNanos;
+
 
 	ChannelMetricsHandler(ChannelMetricsRecorder recorder, @Nullable SocketAddress remoteAddress, boolean onServer) {
+		this(recorder, remoteAddress, onServer, null);
+	}
+
+	ChannelMetricsHandler(ChannelMetricsRecorder recorder, @Nullable SocketAddress remoteAddress, boolean onServer,
+			@Nullable Duration accumulationInterval) {
 		this.recorder = recorder;
 		this.remoteAddress = remoteAddress;
 		this.onServer = onServer;
+		// Accumulation needs a single remote address, unconnected datagram channels record every packet
+		this.accumulationIntervalNanos = accumulationInterval != null && remoteAddress != null ?
+				accumulationInterval.toNanos() : -1;
+		this.lastRecordedNanos = System.nanoTime();
 	}
 
 	@Override
@@ -64,14 +88,22 @@ public class ChannelMetricsHandler extends ChannelDuplexHandler {
 		if (msg instanceof ByteBuf) {
 			ByteBuf buffer = (ByteBuf) msg;
 			if (buffer.readableBytes() > 0) {
-				recorder.recordDataReceived(remoteAddress, buffer.readableBytes());
+				if (accumulationIntervalNanos > -1) {
+					dataReceived += buffer.readableBytes();
+				}
+				else {
+					recorder.recordDataReceived(remoteAddress, buffer.readableBytes());
+				}
 			}
 		}
 		else if (msg instanceof DatagramPacket) {
 			DatagramPacket p = (DatagramPacket) msg;
 			ByteBuf buffer = p.content();
 			if (buffer.readableBytes() > 0) {
-				if (remoteAddress != null) {
+				if (accumulationIntervalNanos > -1) {
+					dataReceived += buffer.readableBytes();
+				}
+				else if (remoteAddress != null) {
 					recorder.recordDataReceived(remoteAddress, buffer.readableBytes());
 				}
 				else {
@@ -89,14 +121,22 @@ public class ChannelMetricsHandler extends ChannelDuplexHandler {
 		if (msg instanceof ByteBuf) {
 			ByteBuf buffer = (ByteBuf) msg;
 			if (buffer.readableBytes() > 0) {
-				recorder.recordDataSent(remoteAddress, buffer.readableBytes());
+				if (accumulationIntervalNanos > -1) {
+					dataSent += buffer.readableBytes();
+				}
+				else {
+					recorder.recordDataSent(remoteAddress, buffer.readableBytes());
+				}
 			}
 		}
 		else if (msg instanceof DatagramPacket) {
 			DatagramPacket p = (DatagramPacket) msg;
 			ByteBuf buffer = p.content();
 			if (buffer.readableBytes() > 0) {
-				if (remoteAddress != null) {
+				if (accumulationIntervalNanos > -1) {
+					dataSent += buffer.readableBytes();
+				}
+				else if (remoteAddress != null) {
 					recorder.recordDataSent(remoteAddress, buffer.readableBytes());
 				}
 				else {
@@ -109,6 +149,40 @@ public class ChannelMetricsHandler extends ChannelDuplexHandler {
 		ctx.write(msg, promise);
 	}
 
+	@Override
+	public void channelReadComplete(ChannelHandlerContext ctx) {
+		if (accumulationIntervalNanos > -1) {
+			recordAccumulatedData(false);
+		}
+
+		ctx.fireChannelReadComplete();
+	}
+
+	@Override
+	public void flush(ChannelHandlerContext ctx) {
+		if (accumulationIntervalNanos > -1) {
+			recordAccumulatedData(false);
+		}
+
+		ctx.flush();
+	}
+
+	@Override
+	public void channelInactive(ChannelHandlerContext ctx) {
+		if (accumulationIntervalNanos > -1) {
+			recordAccumulatedData(true);
+		}
+
+		ctx.fireChannelInactive();
+	}
+
+	@Override
+	public void handlerRemoved(ChannelHandlerContext ctx) {
+		if (accumulationIntervalNanos > -1) {
+			recordAccumulatedData(true);
+		}
+	}
+
 	@Override
 	public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
 		if (remoteAddress != null) {
@@ -125,6 +199,27 @@ public class ChannelMetricsHandler extends ChannelDuplexHandler {
 		return recorder;
 	}
 
+	void recordAccumulatedData(boolean force) {
+		if (dataReceived == 0 && dataSent == 0) {
+			return;
+		}
+		if (!force && accumulationIntervalNanos > 0) {
+			long now = System.nanoTime();
+			if (now - lastRecordedNanos < accumulationIntervalNanos) {
+				return;
+			}
+			lastRecordedNanos = now;
+		}
+		if (dataReceived > 0) {
+			recorder.recordDataReceived(remoteAddress, dataReceived);
+			dataReceived = 0;
+		}
+		if (dataSent > 0) {
+			recorder.recordDataSent(remoteAddress, dataSent);
+			dataSent = 0;
+		}
+	}
+
 	static final class ConnectMetricsHandler extends ChannelOutboundHandlerAdapter {
 
 		final ChannelMetricsRecorder recorder;
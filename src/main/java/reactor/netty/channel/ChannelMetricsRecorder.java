@@ -57,6 +57,17 @@ public interface ChannelMetricsRecorder {
 	 */
 	void recordTlsHandshakeTime(SocketAddress remoteAddress, Duration time, String status);
 
+	/**
+	 * Increments the number of the successful TLS handshakes that resumed a previous session (HIT)
+	 * or required a full handshake (MISS)
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param status the resumption status of the handshake, either HIT or MISS
+	 * @since 1.0.0
+	 */
+	default void incrementTlsSessionResumptionCount(SocketAddress remoteAddress, String status) {
+	}
+
 	/**
 	 * Records the time that is spent for connecting to the remote address
 	 * Relevant only when on the client
@@ -76,4 +87,15 @@ public interface ChannelMetricsRecorder {
 	 * @param status the status of the operation
 	 */
 	void recordResolveAddressTime(SocketAddress remoteAddress, Duration time, String status);
+
+	/**
+	 * Increments the number of the address resolutions that are served from the DNS cache (HIT)
+	 * or require a DNS query (MISS)
+	 * Relevant only when on the client and the non-blocking DNS resolver is in use
+	 *
+	 * @param remoteAddress The remote peer
+	 * @param status the cache status of the operation, either HIT or MISS
+	 */
+	default void incrementAddressResolverCacheCount(SocketAddress remoteAddress, String status) {
+	}
 }
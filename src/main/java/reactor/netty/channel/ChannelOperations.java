@@ -17,6 +17,7 @@
 package reactor.netty.channel;
 
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -85,12 +86,29 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 	 */
 	public static void addMetricsHandler(Channel ch, ChannelMetricsRecorder recorder,
 			@Nullable SocketAddress remoteAddress, boolean onServer) {
+		addMetricsHandler(ch, recorder, remoteAddress, onServer, null);
+	}
+
+	/**
+	 * Add {@link NettyPipeline#ChannelMetricsHandler} to the channel pipeline.
+	 *
+	 * @param ch the channel
+	 * @param recorder the configured metrics recorder
+	 * @param remoteAddress the remote address
+	 * @param onServer true if {@link ChannelMetricsRecorder} is for the server, false if it is for the client
+	 * @param accumulationInterval the interval for recording the accumulated data received/sent
+	 * or null to record every message
+	 * @since 1.0.0
+	 */
+	public static void addMetricsHandler(Channel ch, ChannelMetricsRecorder recorder,
+			@Nullable SocketAddress remoteAddress, boolean onServer, @Nullable Duration accumulationInterval) {
 		SocketAddress remote = remoteAddress;
 		if (remote == null) {
 			remote = ch.remoteAddress();
 		}
 		ch.pipeline()
-		  .addFirst(NettyPipeline.ChannelMetricsHandler, new ChannelMetricsHandler(recorder, remote, onServer));
+		  .addFirst(NettyPipeline.ChannelMetricsHandler,
+		            new ChannelMetricsHandler(recorder, remote, onServer, accumulationInterval));
 	}
 
 	/**
@@ -115,11 +133,14 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 	@SuppressWarnings("unchecked")
 	volatile Subscription outboundSubscription;
 
+	volatile FlushStrategy flushStrategy = FlushStrategy.onIdle();
+
 	protected ChannelOperations(ChannelOperations<INBOUND, OUTBOUND> replaced) {
 		this.connection = replaced.connection;
 		this.listener = replaced.listener;
 		this.onTerminate = replaced.onTerminate;
 		this.inbound = new FluxReceive(this);
+		this.flushStrategy = replaced.flushStrategy;
 	}
 
 	/**
@@ -264,7 +285,7 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 			return then(((Mono<?>)dataStream).flatMap(m -> FutureMono.from(channel().writeAndFlush(m)))
 			                                 .doOnDiscard(ByteBuf.class, ByteBuf::release));
 		}
-		return then(MonoSendMany.byteBufSource(dataStream, channel(), predicate));
+		return then(MonoSendMany.byteBufSource(dataStream, channel(), predicate, flushStrategy));
 	}
 
 	@Override
@@ -277,7 +298,7 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 			return then(((Mono<?>)dataStream).flatMap(m -> FutureMono.from(channel().writeAndFlush(m)))
 			                                 .doOnDiscard(ReferenceCounted.class, ReferenceCounted::release));
 		}
-		return then(MonoSendMany.objectSource(dataStream, channel(), predicate));
+		return then(MonoSendMany.objectSource(dataStream, channel(), predicate, flushStrategy));
 	}
 
 	@Override
@@ -331,6 +352,30 @@ public class ChannelOperations<INBOUND extends NettyInbound, OUTBOUND extends Ne
 		return listener;
 	}
 
+	/**
+	 * Return the {@link FlushStrategy} applied to the messages sent on this connection
+	 *
+	 * @return the {@link FlushStrategy} applied to the messages sent on this connection
+	 * @since 1.0.0
+	 */
+	public final FlushStrategy flushStrategy() {
+		return flushStrategy;
+	}
+
+	/**
+	 * Set the {@link FlushStrategy} applied to the messages sent on this connection.
+	 * The strategy applies to the send operations created afterwards.
+	 * Default to {@link FlushStrategy#onIdle()}.
+	 *
+	 * @param flushStrategy the {@link FlushStrategy}
+	 * @return this {@link ChannelOperations}
+	 * @since 1.0.0
+	 */
+	public final ChannelOperations<INBOUND, OUTBOUND> flushStrategy(FlushStrategy flushStrategy) {
+		this.flushStrategy = Objects.requireNonNull(flushStrategy, "flushStrategy");
+		return this;
+	}
+
 	@Override
 	public String toString() {
 		return "ChannelOperations{"+connection.toString()+"}";
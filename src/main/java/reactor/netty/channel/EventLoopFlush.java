@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.util.ArrayDeque;
+import javax.annotation.Nullable;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.FastThreadLocal;
+
+/**
+ * Flushes all connections served by an event loop that have unflushed messages,
+ * with a single task scheduled once the event loop has no more messages to write.
+ *
+ * @author Violeta Georgieva
+ */
+final class EventLoopFlush implements Runnable {
+
+	/**
+	 * Schedule a flush of the given {@link ChannelHandlerContext}, consolidated with the flushes
+	 * of the other connections served by the same event loop.
+	 * Must be invoked from the event loop.
+	 *
+	 * @param eventLoop the event loop serving the connection
+	 * @param ctx the {@link ChannelHandlerContext} to flush
+	 * @return false when the flush cannot be consolidated and has to be scheduled separately
+	 */
+	static boolean schedule(EventLoop eventLoop, ChannelHandlerContext ctx) {
+		EventLoopFlush flush = FLUSH.get();
+		if (flush.eventLoop != eventLoop) {
+			if (flush.scheduled) {
+				// another event loop runs on this thread and has a pending flush
+				return false;
+			}
+			flush = new EventLoopFlush(eventLoop);
+			FLUSH.set(flush);
+		}
+		flush.add(ctx);
+		return true;
+	}
+
+	final EventLoop                          eventLoop;
+	final ArrayDeque<ChannelHandlerContext>  contexts = new ArrayDeque<>();
+
+	boolean scheduled;
+
+	EventLoopFlush(@Nullable EventLoop eventLoop) {
+		this.eventLoop = eventLoop;
+	}
+
+	void add(ChannelHandlerContext ctx) {
+		if (contexts.peekLast() != ctx) {
+			contexts.offer(ctx);
+		}
+		if (!scheduled) {
+			scheduled = true;
+			try {
+				eventLoop.execute(this);
+			}
+			catch (Throwable t) {
+				scheduled = false;
+				contexts.clear();
+				throw t;
+			}
+		}
+	}
+
+	@Override
+	public void run() {
+		scheduled = false;
+		ChannelHandlerContext ctx;
+		while ((ctx = contexts.poll()) != null) {
+			ctx.flush();
+		}
+	}
+
+	static final FastThreadLocal<EventLoopFlush> FLUSH = new FastThreadLocal<EventLoopFlush>() {
+		@Override
+		protected EventLoopFlush initialValue() {
+			return new EventLoopFlush(null);
+		}
+	};
+}
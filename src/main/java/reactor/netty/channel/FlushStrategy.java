@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import reactor.netty.NettyOutbound;
+
+/**
+ * Decides when the messages written by {@link NettyOutbound#send(org.reactivestreams.Publisher)}
+ * and {@link NettyOutbound#sendObject(org.reactivestreams.Publisher)} are flushed.
+ * The messages that the strategy does not flush are flushed once the event loop
+ * has no more messages to write, with a single flush task for all connections served by the event loop.
+ * Independently of the strategy, the messages are flushed when the send predicate matches or
+ * when the channel becomes unwritable.
+ *
+ * @author Violeta Georgieva
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface FlushStrategy {
+
+	/**
+	 * Flush only when the event loop has no more messages to write. This is the default strategy.
+	 *
+	 * @return a {@link FlushStrategy} flushing only when the event loop has no more messages to write
+	 */
+	static FlushStrategy onIdle() {
+		return ON_IDLE;
+	}
+
+	/**
+	 * Flush every {@code maxMessages} written messages, and when the event loop has no more messages to write.
+	 *
+	 * @param maxMessages the maximum number of the messages written without being flushed
+	 * @return a {@link FlushStrategy} flushing every {@code maxMessages} written messages
+	 */
+	static FlushStrategy afterMessages(int maxMessages) {
+		if (maxMessages <= 0) {
+			throw new IllegalArgumentException("Max messages must be strictly positive");
+		}
+		return (pendingMessages, pendingBytes) -> pendingMessages >= maxMessages;
+	}
+
+	/**
+	 * Flush every {@code maxBytes} written bytes, and when the event loop has no more messages to write.
+	 *
+	 * @param maxBytes the maximum number of the bytes written without being flushed
+	 * @return a {@link FlushStrategy} flushing every {@code maxBytes} written bytes
+	 */
+	static FlushStrategy afterBytes(long maxBytes) {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException("Max bytes must be strictly positive");
+		}
+		return (pendingMessages, pendingBytes) -> pendingBytes >= maxBytes;
+	}
+
+	/**
+	 * Invoked after each written message, return true when the written messages have to be flushed immediately.
+	 *
+	 * @param pendingMessages the number of the messages written since the last flush
+	 * @param pendingBytes the number of the bytes written since the last flush
+	 * @return true when the written messages have to be flushed immediately
+	 */
+	boolean flushNow(int pendingMessages, long pendingBytes);
+
+	FlushStrategy ON_IDLE = (pendingMessages, pendingBytes) -> false;
+}
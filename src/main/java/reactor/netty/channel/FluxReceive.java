@@ -20,6 +20,7 @@ import java.nio.channels.ClosedChannelException;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 import javax.annotation.Nullable;
 
 import io.netty.buffer.ByteBuf;
@@ -46,6 +47,25 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 
 	static final int QUEUE_LOW_LIMIT = 32;
 
+	/**
+	 * The number of bytes buffered in the receive queue, at or above which reading is suspended,
+	 * -1 when disabled
+	 */
+	static final long RECEIVE_HIGH_WATER_MARK =
+			Long.parseLong(System.getProperty(ReactorNetty.RECEIVE_HIGH_WATER_MARK, "-1"));
+
+	/**
+	 * The number of bytes buffered in the receive queue, at or below which reading is resumed
+	 */
+	static final long RECEIVE_LOW_WATER_MARK =
+			Long.parseLong(System.getProperty(ReactorNetty.RECEIVE_LOW_WATER_MARK,
+					Long.toString(RECEIVE_HIGH_WATER_MARK / 2)));
+
+	/**
+	 * The number of bytes buffered in the receive queues of all connections
+	 */
+	static final LongAdder QUEUED_BYTES = new LongAdder();
+
 	final Channel           channel;
 	final ChannelOperations<?, ?> parent;
 	final EventLoop         eventLoop;
@@ -54,6 +74,10 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 	boolean                        receiverFastpath;
 	long                           receiverDemand;
 	Queue<Object>                  receiverQueue;
+	long                           receiverQueueBytes;
+	boolean                        receiverQueueFull;
+	long                           receiverHighWaterMark = RECEIVE_HIGH_WATER_MARK;
+	long                           receiverLowWaterMark = RECEIVE_LOW_WATER_MARK;
 
 	boolean needRead = true;
 
@@ -155,7 +179,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 	final void cleanQueue(@Nullable Queue<Object> q){
 		if (q != null) {
 			Object o;
-			while ((o = q.poll()) != null) {
+			while ((o = poll(q)) != null) {
 				if (log.isDebugEnabled()) {
 					log.debug(format(channel, "Dropping frame {}, {} in buffer"), o, getPending());
 				}
@@ -186,6 +210,12 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 					}
 					return;
 				}
+				if (isReceiverQueueFull() && channel.config().isAutoRead()) {
+					// no receiver yet, stop reading until it subscribes and drains the queue
+					needRead = true;
+					channel.config()
+					       .setAutoRead(false);
+				}
 				missed = WIP.addAndGet(this, -missed);
 				if(missed == 0){
 					break;
@@ -204,7 +234,7 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				}
 
 				d = inboundDone;
-				Object v = q != null ? q.poll() : null;
+				Object v = q != null ? poll(q) : null;
 				boolean empty = v == null;
 
 				if (d && empty) {
@@ -257,7 +287,8 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 				}
 			}
 
-			if ((receiverDemand -= e) > 0L || (e > 0L && q.size() < QUEUE_LOW_LIMIT)) {
+			boolean hasDemand = (receiverDemand -= e) > 0L;
+			if (!isReceiverQueueFull() && (hasDemand || (e > 0L && q.size() < QUEUE_LOW_LIMIT))) {
 				if (needRead) {
 					needRead = false;
 					channel.config()
@@ -350,6 +381,9 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 							" Queue"));
 				}
 			}
+			long size = sizeOf(msg);
+			receiverQueueBytes += size;
+			QUEUED_BYTES.add(size);
 			q.offer(msg);
 			drainReceiver();
 		}
@@ -418,6 +452,8 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 		if (q != null) {
 			q.clear();
 		}
+		QUEUED_BYTES.add(-receiverQueueBytes);
+		receiverQueueBytes = 0;
 		Throwable ex = inboundError;
 		receiver = null;
 		if (ex != null) {
@@ -429,6 +465,36 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 		}
 	}
 
+	/**
+	 * Return true when reading has to be suspended because too many bytes are buffered in the
+	 * receive queue. The queue is full once the high water mark is reached and until the
+	 * low water mark is reached.
+	 *
+	 * @return true when reading has to be suspended
+	 */
+	final boolean isReceiverQueueFull() {
+		if (receiverHighWaterMark > 0) {
+			if (receiverQueueBytes >= receiverHighWaterMark) {
+				receiverQueueFull = true;
+			}
+			else if (receiverQueueBytes <= receiverLowWaterMark) {
+				receiverQueueFull = false;
+			}
+		}
+		return receiverQueueFull;
+	}
+
+	@Nullable
+	final Object poll(Queue<Object> q) {
+		Object o = q.poll();
+		if (o != null) {
+			long size = sizeOf(o);
+			receiverQueueBytes -= size;
+			QUEUED_BYTES.add(-size);
+		}
+		return o;
+	}
+
 	final void unsubscribeReceiver() {
 		receiverDemand = 0L;
 		receiver = null;
@@ -440,7 +506,8 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 	@Override
 	public String toString() {
 		return "FluxReceive{receiverQueueSize" +
-				"=" + (receiverQueue != null ? receiverQueue.size() : 0) + ", inboundDone=" + inboundDone
+				"=" + (receiverQueue != null ? receiverQueue.size() : 0) + ", receiverQueueBytes=" + receiverQueueBytes +
+				", inboundDone=" + inboundDone
 				+ ",inboundError=" + inboundError + '}';
 	}
 
@@ -453,5 +520,15 @@ final class FluxReceive extends Flux<Object> implements Subscription, Disposable
 	static final Disposable CANCELLED = () -> {
 	};
 
+	static long sizeOf(Object msg) {
+		if (msg instanceof ByteBuf) {
+			return ((ByteBuf) msg).readableBytes();
+		}
+		if (msg instanceof ByteBufHolder) {
+			return ((ByteBufHolder) msg).content().readableBytes();
+		}
+		return 0;
+	}
+
 	static final Logger log = Loggers.getLogger(FluxReceive.class);
 }
@@ -24,17 +24,35 @@ import java.util.Objects;
  */
 public final class MeterKey {
 
-	private final String uri;
-	private final String remoteAddress;
-	private final String method;
-	private final String status;
+	private String uri;
+	private String remoteAddress;
+	private String method;
+	private String status;
+	private int hashCode;
 
 	public MeterKey(@Nullable String uri, @Nullable String remoteAddress,
 			@Nullable String method, @Nullable String status) {
+		set(uri, remoteAddress, method, status);
+	}
+
+	/**
+	 * Creates a key that is reused for lookups only, it must never be stored in a cache.
+	 */
+	MeterKey() {
+	}
+
+	MeterKey set(@Nullable String uri, @Nullable String remoteAddress,
+			@Nullable String method, @Nullable String status) {
 		this.uri = uri;
 		this.remoteAddress = remoteAddress;
 		this.method = method;
 		this.status = status;
+		// Same value as Objects.hash(uri, remoteAddress, method, status) without the varargs array
+		int result = 31 + Objects.hashCode(uri);
+		result = 31 * result + Objects.hashCode(remoteAddress);
+		result = 31 * result + Objects.hashCode(method);
+		this.hashCode = 31 * result + Objects.hashCode(status);
+		return this;
 	}
 
 	@Override
@@ -46,7 +64,8 @@ public final class MeterKey {
 			return false;
 		}
 		MeterKey meterKey = (MeterKey) o;
-		return Objects.equals(uri, meterKey.uri) &&
+		return hashCode == meterKey.hashCode &&
+				Objects.equals(uri, meterKey.uri) &&
 				Objects.equals(remoteAddress, meterKey.remoteAddress) &&
 				Objects.equals(method, meterKey.method) &&
 				Objects.equals(status, meterKey.status);
@@ -54,6 +73,6 @@ public final class MeterKey {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(uri, remoteAddress, method, status);
+		return hashCode;
 	}
 }
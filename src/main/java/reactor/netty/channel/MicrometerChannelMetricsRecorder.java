@@ -17,25 +17,34 @@ package reactor.netty.channel;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.noop.NoopMeter;
+import io.netty.util.concurrent.FastThreadLocal;
 import io.netty.util.internal.PlatformDependent;
+import reactor.netty.ReactorNetty;
 
 import javax.annotation.Nullable;
 import java.net.SocketAddress;
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import static reactor.netty.Metrics.ADDRESS_RESOLVER;
+import static reactor.netty.Metrics.ADDRESS_RESOLVER_CACHE;
+import static reactor.netty.Metrics.CHANNEL_PREFIX;
 import static reactor.netty.Metrics.CONNECT_TIME;
 import static reactor.netty.Metrics.DATA_RECEIVED;
 import static reactor.netty.Metrics.DATA_SENT;
 import static reactor.netty.Metrics.ERRORS;
+import static reactor.netty.Metrics.RECEIVE_QUEUED_BYTES;
 import static reactor.netty.Metrics.REGISTRY;
 import static reactor.netty.Metrics.REMOTE_ADDRESS;
 import static reactor.netty.Metrics.STATUS;
 import static reactor.netty.Metrics.TLS_HANDSHAKE_TIME;
+import static reactor.netty.Metrics.TLS_SESSION_RESUMPTION;
 import static reactor.netty.Metrics.URI;
 
 /**
@@ -59,9 +68,15 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	final Timer.Builder tlsHandshakeTimeBuilder;
 	final ConcurrentMap<MeterKey, Timer> tlsHandshakeTimeCache = PlatformDependent.newConcurrentHashMap();
 
+	final Counter.Builder tlsSessionResumptionBuilder;
+	final ConcurrentMap<MeterKey, Counter> tlsSessionResumptionCache = PlatformDependent.newConcurrentHashMap();
+
 	final Timer.Builder addressResolverTimeBuilder;
 	final ConcurrentMap<MeterKey, Timer> addressResolverTimeCache = PlatformDependent.newConcurrentHashMap();
 
+	final Counter.Builder addressResolverCacheBuilder;
+	final ConcurrentMap<MeterKey, Counter> addressResolverCacheCache = PlatformDependent.newConcurrentHashMap();
+
 
 	public MicrometerChannelMetricsRecorder(String name, String protocol) {
 		this.dataReceivedBuilder =
@@ -89,17 +104,34 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 				Timer.builder(name + TLS_HANDSHAKE_TIME)
 				     .description("Time spent for TLS handshake");
 
+		this.tlsSessionResumptionBuilder =
+				Counter.builder(name + TLS_SESSION_RESUMPTION)
+				       .description("Number of the TLS handshakes that resumed a session or not");
+
 		this.addressResolverTimeBuilder =
 				Timer.builder(name + ADDRESS_RESOLVER)
 				     .description("Time spent for resolving the address");
+
+		this.addressResolverCacheBuilder =
+				Counter.builder(name + ADDRESS_RESOLVER_CACHE)
+				       .description("Number of the address resolutions served from the DNS cache or not");
+
+		// The queued bytes are tracked for all connections, registering the gauge again is a no-op
+		Gauge.builder(CHANNEL_PREFIX + RECEIVE_QUEUED_BYTES, FluxReceive.QUEUED_BYTES, LongAdder::sum)
+		     .baseUnit("bytes")
+		     .description("The number of the bytes received and not yet consumed, buffered in the receive queues")
+		     .register(REGISTRY);
 	}
 
 	@Override
 	public void recordDataReceived(SocketAddress remoteAddress, long bytes) {
 		String address = reactor.netty.Metrics.formatSocketAddress(remoteAddress);
-		DistributionSummary ds = dataReceivedCache.computeIfAbsent(address,
-				key -> filter(dataReceivedBuilder.tag(REMOTE_ADDRESS, address)
-				                                 .register(REGISTRY)));
+		DistributionSummary ds = dataReceivedCache.get(address);
+		if (ds == null) {
+			ds = cache(dataReceivedCache, address,
+					filter(dataReceivedBuilder.tag(REMOTE_ADDRESS, address)
+					                          .register(REGISTRY)));
+		}
 		if (ds != null) {
 			ds.record(bytes);
 		}
@@ -108,9 +140,12 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	@Override
 	public void recordDataSent(SocketAddress remoteAddress, long bytes) {
 		String address = reactor.netty.Metrics.formatSocketAddress(remoteAddress);
-		DistributionSummary ds = dataSentCache.computeIfAbsent(address,
-				key -> filter(dataSentBuilder.tag(REMOTE_ADDRESS, address)
-				                             .register(REGISTRY)));
+		DistributionSummary ds = dataSentCache.get(address);
+		if (ds == null) {
+			ds = cache(dataSentCache, address,
+					filter(dataSentBuilder.tag(REMOTE_ADDRESS, address)
+					                      .register(REGISTRY)));
+		}
 		if (ds != null) {
 			ds.record(bytes);
 		}
@@ -119,9 +154,12 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	@Override
 	public void incrementErrorsCount(SocketAddress remoteAddress) {
 		String address = reactor.netty.Metrics.formatSocketAddress(remoteAddress);
-		Counter c = errorsCache.computeIfAbsent(address,
-				key -> filter(errorCountBuilder.tag(REMOTE_ADDRESS, address)
-				                               .register(REGISTRY)));
+		Counter c = errorsCache.get(address);
+		if (c == null) {
+			c = cache(errorsCache, address,
+					filter(errorCountBuilder.tag(REMOTE_ADDRESS, address)
+					                        .register(REGISTRY)));
+		}
 		if (c != null) {
 			c.increment();
 		}
@@ -130,20 +168,40 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	@Override
 	public void recordTlsHandshakeTime(SocketAddress remoteAddress, Duration time, String status) {
 		String address = reactor.netty.Metrics.formatSocketAddress(remoteAddress);
-		Timer timer = tlsHandshakeTimeCache.computeIfAbsent(new MeterKey(null, address, null, status),
-				key -> filter(tlsHandshakeTimeBuilder.tags(REMOTE_ADDRESS, address, STATUS, status)
-				                                     .register(REGISTRY)));
+		Timer timer = tlsHandshakeTimeCache.get(lookupKey(null, address, null, status));
+		if (timer == null) {
+			timer = cache(tlsHandshakeTimeCache, new MeterKey(null, address, null, status),
+					filter(tlsHandshakeTimeBuilder.tags(REMOTE_ADDRESS, address, STATUS, status)
+					                              .register(REGISTRY)));
+		}
 		if (timer != null) {
 			timer.record(time);
 		}
 	}
 
+	@Override
+	public void incrementTlsSessionResumptionCount(SocketAddress remoteAddress, String status) {
+		String address = reactor.netty.Metrics.formatSocketAddress(remoteAddress);
+		Counter c = tlsSessionResumptionCache.get(lookupKey(null, address, null, status));
+		if (c == null) {
+			c = cache(tlsSessionResumptionCache, new MeterKey(null, address, null, status),
+					filter(tlsSessionResumptionBuilder.tags(REMOTE_ADDRESS, address, STATUS, status)
+					                                  .register(REGISTRY)));
+		}
+		if (c != null) {
+			c.increment();
+		}
+	}
+
 	@Override
 	public void recordConnectTime(SocketAddress remoteAddress, Duration time, String status) {
 		String address = reactor.netty.Metrics.formatSocketAddress(remoteAddress);
-		Timer timer = connectTimeCache.computeIfAbsent(new MeterKey(null, address, null, status),
-				key -> filter(connectTimeBuilder.tags(REMOTE_ADDRESS, address, STATUS, status)
-				                                .register(REGISTRY)));
+		Timer timer = connectTimeCache.get(lookupKey(null, address, null, status));
+		if (timer == null) {
+			timer = cache(connectTimeCache, new MeterKey(null, address, null, status),
+					filter(connectTimeBuilder.tags(REMOTE_ADDRESS, address, STATUS, status)
+					                         .register(REGISTRY)));
+		}
 		if (timer != null) {
 			timer.record(time);
 		}
@@ -152,14 +210,31 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 	@Override
 	public void recordResolveAddressTime(SocketAddress remoteAddress, Duration time, String status) {
 		String address = reactor.netty.Metrics.formatSocketAddress(remoteAddress);
-		Timer timer = addressResolverTimeCache.computeIfAbsent(new MeterKey(null, address, null, status),
-				key -> filter(addressResolverTimeBuilder.tags(REMOTE_ADDRESS, address, STATUS, status)
-				                                        .register(REGISTRY)));
+		Timer timer = addressResolverTimeCache.get(lookupKey(null, address, null, status));
+		if (timer == null) {
+			timer = cache(addressResolverTimeCache, new MeterKey(null, address, null, status),
+					filter(addressResolverTimeBuilder.tags(REMOTE_ADDRESS, address, STATUS, status)
+					                                 .register(REGISTRY)));
+		}
 		if (timer != null) {
 			timer.record(time);
 		}
 	}
 
+	@Override
+	public void incrementAddressResolverCacheCount(SocketAddress remoteAddress, String status) {
+		String address = reactor.netty.Metrics.formatSocketAddress(remoteAddress);
+		Counter c = addressResolverCacheCache.get(lookupKey(null, address, null, status));
+		if (c == null) {
+			c = cache(addressResolverCacheCache, new MeterKey(null, address, null, status),
+					filter(addressResolverCacheBuilder.tags(REMOTE_ADDRESS, address, STATUS, status)
+					                                  .register(REGISTRY)));
+		}
+		if (c != null) {
+			c.increment();
+		}
+	}
+
 	@Nullable
 	protected static <M extends Meter> M filter(M meter) {
 		if (meter instanceof NoopMeter) {
@@ -169,4 +244,59 @@ public class MicrometerChannelMetricsRecorder implements ChannelMetricsRecorder
 			return meter;
 		}
 	}
+
+	/**
+	 * Return a key for looking up a cached meter. The key is reused by the current thread,
+	 * so that looking up a cached meter does not allocate, it must never be stored in a cache.
+	 * On a cache miss, use {@link #cache(ConcurrentMap, Object, Meter)} with a new {@link MeterKey}.
+	 *
+	 * @param uri the uri tag value or null
+	 * @param remoteAddress the remote address tag value or null
+	 * @param method the method tag value or null
+	 * @param status the status tag value or null
+	 * @return a key for looking up a cached meter
+	 * @since 1.0.0
+	 */
+	protected static MeterKey lookupKey(@Nullable String uri, @Nullable String remoteAddress,
+			@Nullable String method, @Nullable String status) {
+		return LOOKUP_KEY.get().set(uri, remoteAddress, method, status);
+	}
+
+	/**
+	 * Cache the given meter unless another meter is already cached for that key. The caches are
+	 * bounded by {@link ReactorNetty#MAX_CACHED_METERS}, once full an arbitrary meter is evicted.
+	 * An evicted meter stays registered, it is cached again on its next use.
+	 *
+	 * @param cache the cache
+	 * @param key the key
+	 * @param meter the meter or null when it is filtered out
+	 * @param <K> the key type
+	 * @param <M> the meter type
+	 * @return the cached meter or null when it is filtered out
+	 * @since 1.0.0
+	 */
+	@Nullable
+	protected static <K, M extends Meter> M cache(ConcurrentMap<K, M> cache, K key, @Nullable M meter) {
+		if (meter == null) {
+			return null;
+		}
+		if (cache.size() >= MAX_CACHED_METERS) {
+			Iterator<K> it = cache.keySet().iterator();
+			if (it.hasNext()) {
+				cache.remove(it.next());
+			}
+		}
+		M cached = cache.putIfAbsent(key, meter);
+		return cached != null ? cached : meter;
+	}
+
+	static final FastThreadLocal<MeterKey> LOOKUP_KEY = new FastThreadLocal<MeterKey>() {
+		@Override
+		protected MeterKey initialValue() {
+			return new MeterKey();
+		}
+	};
+
+	static final int MAX_CACHED_METERS =
+			Integer.parseInt(System.getProperty(ReactorNetty.MAX_CACHED_METERS, "10000"));
 }
@@ -58,7 +58,7 @@ abstract class MonoSend<I, O> extends Mono<Void> {
 
 	static final int                    MAX_SIZE    = 128;
 
-	static final int                    REFILL_SIZE = MAX_SIZE / 2;
+	static final int                    MIN_SIZE    = 16;
 
 	static final Function<ByteBuf, ByteBuf> TRANSFORMATION_FUNCTION_BB =
 		msg -> {
@@ -56,25 +56,42 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 	static MonoSendMany<ByteBuf, ByteBuf> byteBufSource(Publisher<? extends ByteBuf> source,
 			Channel channel,
 			Predicate<ByteBuf> predicate) {
-		return new MonoSendMany<>(source, channel, predicate, TRANSFORMATION_FUNCTION_BB, CONSUMER_BB_NOCHECK_CLEANUP, SIZE_OF_BB);
+		return byteBufSource(source, channel, predicate, FlushStrategy.onIdle());
+	}
+
+	static MonoSendMany<ByteBuf, ByteBuf> byteBufSource(Publisher<? extends ByteBuf> source,
+			Channel channel,
+			Predicate<ByteBuf> predicate,
+			FlushStrategy flushStrategy) {
+		return new MonoSendMany<>(source, channel, predicate, flushStrategy, TRANSFORMATION_FUNCTION_BB, CONSUMER_BB_NOCHECK_CLEANUP, SIZE_OF_BB);
 	}
 
 	static MonoSendMany<?, ?> objectSource(Publisher<?> source, Channel channel, Predicate<Object> predicate) {
-		return new MonoSendMany<>(source, channel, predicate, TRANSFORMATION_FUNCTION, CONSUMER_NOCHECK_CLEANUP, SIZE_OF);
+		return objectSource(source, channel, predicate, FlushStrategy.onIdle());
+	}
+
+	static MonoSendMany<?, ?> objectSource(Publisher<?> source,
+			Channel channel,
+			Predicate<Object> predicate,
+			FlushStrategy flushStrategy) {
+		return new MonoSendMany<>(source, channel, predicate, flushStrategy, TRANSFORMATION_FUNCTION, CONSUMER_NOCHECK_CLEANUP, SIZE_OF);
 	}
 
 	final Publisher<? extends I> source;
 	final Predicate<I> predicate;
+	final FlushStrategy flushStrategy;
 
 	MonoSendMany(Publisher<? extends I> source,
 			Channel channel,
 			Predicate<I> predicate,
+			FlushStrategy flushStrategy,
 			Function<? super I, ? extends O> transformer,
 			Consumer<? super I> sourceCleanup,
 			ToIntFunction<O> sizeOf) {
 		super(channel, transformer, sourceCleanup, sizeOf);
 		this.source = Objects.requireNonNull(source, "source publisher cannot be null");
 		this.predicate = Objects.requireNonNull(predicate, "predicate cannot be null");
+		this.flushStrategy = Objects.requireNonNull(flushStrategy, "flushStrategy cannot be null");
 	}
 
 	@Override
@@ -112,6 +129,10 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 		int      requested;
 		int      sourceMode;
 		boolean  needFlush;
+		int      unflushedMessages;
+		long     unflushedBytes;
+		int      averageMessageSize;
+		int      prefetch = MAX_SIZE;
 		Throwable terminalSignal;
 
 		int nextRequest;
@@ -273,8 +294,7 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 						if (encodedMessage == null) {
 							if (parent.predicate.test(sourceMessage)) {
 								nextRequest++;
-								needFlush = false;
-								ctx.flush();
+								flush();
 							}
 							continue;
 						}
@@ -291,9 +311,14 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 						//"FutureReturnValueIgnored" this is deliberate
 						ctx.write(encodedMessage, this);
 
-						if (parent.predicate.test(sourceMessage) || !ctx.channel().isWritable() || readableBytes > ctx.channel().bytesBeforeUnwritable()) {
-							needFlush = false;
-							ctx.flush();
+						if (readableBytes > 0) {
+							unflushedBytes += readableBytes;
+							adaptPrefetch(readableBytes);
+						}
+
+						if (parent.predicate.test(sourceMessage) || !ctx.channel().isWritable() || readableBytes > ctx.channel().bytesBeforeUnwritable() ||
+								parent.flushStrategy.flushNow(++unflushedMessages, unflushedBytes)) {
+							flush();
 						}
 						else {
 							needFlush = true;
@@ -302,7 +327,11 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 
 					if (needFlush && pending != 0) {
 						needFlush = false;
-						eventLoop.execute(asyncFlush);
+						unflushedMessages = 0;
+						unflushedBytes = 0;
+						if (!EventLoopFlush.schedule(eventLoop, ctx)) {
+							eventLoop.execute(asyncFlush);
+						}
 					}
 
 					if (Operators.cancelledSubscription() == s) {
@@ -372,6 +401,29 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 			}
 		}
 
+		void flush() {
+			needFlush = false;
+			unflushedMessages = 0;
+			unflushedBytes = 0;
+			ctx.flush();
+		}
+
+		/**
+		 * Adapt the number of the messages requested from the source to the observed message size,
+		 * so that the messages in flight do not exceed the write buffer high water mark
+		 * more than necessary.
+		 *
+		 * @param messageSize the size of the last written message
+		 */
+		void adaptPrefetch(int messageSize) {
+			int averageMessageSize = this.averageMessageSize;
+			averageMessageSize = averageMessageSize == 0 ? messageSize :
+					(int) (((long) averageMessageSize * 7 + messageSize) >> 3);
+			this.averageMessageSize = averageMessageSize;
+			int size = ctx.channel().config().getWriteBufferHighWaterMark() / Math.max(averageMessageSize, 1);
+			prefetch = Math.max(MIN_SIZE, Math.min(MAX_SIZE, size));
+		}
+
 		boolean checkTerminated() {
 			return pending == 0 && terminalSignal != null;
 		}
@@ -404,7 +456,7 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 			if (key == Attr.TERMINATED) return terminalSignal != null;
 			if (key == Attr.BUFFERED) return queue != null ? queue.size() : 0;
 			if (key == Attr.ERROR) return !hasOnComplete() ? terminalSignal : null;
-			if (key == Attr.PREFETCH) return MAX_SIZE;
+			if (key == Attr.PREFETCH) return prefetch;
 			return null;
 		}
 
@@ -528,11 +580,14 @@ final class MonoSendMany<I, O> extends MonoSend<I, O> implements Scannable {
 				return true;
 			}
 
-			if (requested <= REFILL_SIZE) {
-				int u = MAX_SIZE - requested;
-				requested += u;
-				nextRequest += u;
-				trySchedule(null);
+			int prefetch = this.prefetch;
+			if (requested <= prefetch >> 1) {
+				int u = prefetch - requested;
+				if (u > 0) {
+					requested += u;
+					nextRequest += u;
+					trySchedule(null);
+				}
 			}
 			return true;
 		}
@@ -17,6 +17,11 @@
 package reactor.netty.http;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.concurrent.Callable;
@@ -40,6 +45,7 @@ import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMessage;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.NetUtil;
 import io.netty.util.ReferenceCountUtil;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
@@ -345,6 +351,58 @@ public abstract class HttpOperations<INBOUND extends NettyInbound, OUTBOUND exte
 			return uri;
 		}
 
+		// Single pass over the origin-form and the absolute-form uris made of legal
+		// US-ASCII characters, anything else is parsed with java.net.URI
+		int length = uri.length();
+		int pathStart = 0;
+		if (uri.charAt(0) != '/') {
+			pathStart = authorityEnd(uri, schemeEnd(uri));
+			if (pathStart == -1) {
+				return resolvePathWithUri(uri);
+			}
+		}
+
+		boolean escaped = false;
+		int pathEnd = pathStart;
+		for (; pathEnd < length; pathEnd++) {
+			char c = uri.charAt(pathEnd);
+			if (c == '?' || c == '#') {
+				break;
+			}
+			if (c == '%') {
+				if (!isEscape(uri, pathEnd)) {
+					return resolvePathWithUri(uri);
+				}
+				escaped = true;
+				pathEnd += 2;
+			}
+			else if (!isLegal(c, PATH_CHARS)) {
+				return resolvePathWithUri(uri);
+			}
+		}
+
+		boolean fragment = pathEnd < length && uri.charAt(pathEnd) == '#';
+		for (int i = pathEnd + 1; i < length; i++) {
+			char c = uri.charAt(i);
+			if (c == '#' && !fragment) {
+				fragment = true;
+			}
+			else if (c == '%') {
+				if (!isEscape(uri, i)) {
+					return resolvePathWithUri(uri);
+				}
+				i += 2;
+			}
+			else if (!isLegal(c, URIC_CHARS)) {
+				return resolvePathWithUri(uri);
+			}
+		}
+
+		String path = uri.substring(pathStart, pathEnd);
+		return escaped ? decode(path) : path;
+	}
+
+	static String resolvePathWithUri(String uri) {
 		String tempUri = uri;
 		if (tempUri.charAt(0) == '/') {
 			tempUri = "http://localhost:8080" + tempUri;
@@ -357,6 +415,119 @@ public abstract class HttpOperations<INBOUND extends NettyInbound, OUTBOUND exte
 		          .getPath();
 	}
 
+	/**
+	 * Returns the index after {@code http://}, {@code https://}, {@code ws://} or
+	 * {@code wss://}, or {@code 0} when the uri does not start with one of them.
+	 */
+	static int schemeEnd(String uri) {
+		int i;
+		if (uri.startsWith("http")) {
+			i = 4;
+		}
+		else if (uri.startsWith("ws")) {
+			i = 2;
+		}
+		else {
+			return 0;
+		}
+		if (uri.startsWith("s", i)) {
+			i++;
+		}
+		return uri.startsWith("://", i) ? i + 3 : 0;
+	}
+
+	/**
+	 * Returns the index where the path starts after a {@code host[:port]} authority, or
+	 * {@code -1} when the authority is not made of a host name, an IPv4 address or an
+	 * IPv6 literal, followed by an optional port.
+	 */
+	static int authorityEnd(String uri, int start) {
+		int length = uri.length();
+		int i = start;
+		if (i < length && uri.charAt(i) == '[') {
+			int end = uri.indexOf(']', i);
+			if (end == -1 || !isIPv6Literal(uri.substring(i + 1, end))) {
+				return -1;
+			}
+			i = end + 1;
+		}
+		else {
+			while (i < length && isHostChar(uri.charAt(i))) {
+				i++;
+			}
+			if (i == start) {
+				return -1;
+			}
+		}
+		if (i < length && uri.charAt(i) == ':') {
+			i++;
+			while (i < length && uri.charAt(i) >= '0' && uri.charAt(i) <= '9') {
+				i++;
+			}
+		}
+		if (i < length) {
+			char c = uri.charAt(i);
+			if (c != '/' && c != '?' && c != '#') {
+				return -1;
+			}
+		}
+		return i;
+	}
+
+	/**
+	 * Decodes the escaped octets the same way as {@link URI#getPath()}, consecutive
+	 * octets are decoded as UTF-8 and malformed input is replaced.
+	 */
+	static String decode(String s) {
+		int length = s.length();
+		StringBuilder sb = new StringBuilder(length);
+		ByteBuffer bb = ByteBuffer.allocate(length);
+		CharBuffer cb = CharBuffer.allocate(length);
+		CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+		                                               .onMalformedInput(CodingErrorAction.REPLACE)
+		                                               .onUnmappableCharacter(CodingErrorAction.REPLACE);
+		int i = 0;
+		while (i < length) {
+			char c = s.charAt(i);
+			if (c != '%') {
+				sb.append(c);
+				i++;
+				continue;
+			}
+			bb.clear();
+			while (i < length && s.charAt(i) == '%') {
+				bb.put((byte) ((Character.digit(s.charAt(i + 1), 16) << 4) + Character.digit(s.charAt(i + 2), 16)));
+				i += 3;
+			}
+			bb.flip();
+			cb.clear();
+			decoder.reset();
+			decoder.decode(bb, cb, true);
+			decoder.flush(cb);
+			sb.append(cb.flip());
+		}
+		return sb.toString();
+	}
+
+	static boolean isEscape(String uri, int index) {
+		return index + 2 < uri.length() &&
+				Character.digit(uri.charAt(index + 1), 16) != -1 &&
+				Character.digit(uri.charAt(index + 2), 16) != -1 &&
+				uri.charAt(index + 1) < 128 && uri.charAt(index + 2) < 128;
+	}
+
+	static boolean isHostChar(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '-';
+	}
+
+	static boolean isIPv6Literal(String address) {
+		return address.indexOf('%') == -1 && NetUtil.isValidIpV6Address(address);
+	}
+
+	static boolean isLegal(char c, boolean[] chars) {
+		return c < chars.length && chars[c];
+	}
+
 	/**
 	 * Outbound Netty HttpMessage
 	 *
@@ -394,6 +565,28 @@ public abstract class HttpOperations<INBOUND extends NettyInbound, OUTBOUND exte
 
 	static final Pattern SCHEME_PATTERN = Pattern.compile("^(https?|wss?)://.*$");
 
+	/**
+	 * The characters allowed by {@link URI} in a path, escaped octets aside.
+	 */
+	static final boolean[] PATH_CHARS = new boolean[128];
+
+	/**
+	 * The characters allowed by {@link URI} in a query or a fragment, escaped octets aside.
+	 */
+	static final boolean[] URIC_CHARS = new boolean[128];
+
+	static {
+		String alphanum = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+		String path = alphanum + "-_.!~*'()" + ":@&=+$," + ";/";
+		String uric = path + "?[]";
+		for (int i = 0; i < path.length(); i++) {
+			PATH_CHARS[path.charAt(i)] = true;
+		}
+		for (int i = 0; i < uric.length(); i++) {
+			URIC_CHARS[uric.charAt(i)] = true;
+		}
+	}
+
 	protected static final class PostHeadersNettyOutbound implements NettyOutbound, Consumer<Throwable>, Runnable {
 
 		final Mono<Void> source;
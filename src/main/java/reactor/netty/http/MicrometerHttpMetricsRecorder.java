@@ -92,9 +92,12 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 	@Override
 	public void recordDataReceived(SocketAddress remoteAddress, String uri, long bytes) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
-		DistributionSummary dataReceived = dataReceivedCache.computeIfAbsent(new MeterKey(uri, address, null, null),
-				key -> filter(dataReceivedBuilder.tags(REMOTE_ADDRESS, address, URI, uri)
-				                                 .register(REGISTRY)));
+		DistributionSummary dataReceived = dataReceivedCache.get(lookupKey(uri, address, null, null));
+		if (dataReceived == null) {
+			dataReceived = cache(dataReceivedCache, new MeterKey(uri, address, null, null),
+					filter(dataReceivedBuilder.tags(REMOTE_ADDRESS, address, URI, uri)
+					                          .register(REGISTRY)));
+		}
 		if (dataReceived != null) {
 			dataReceived.record(bytes);
 		}
@@ -103,9 +106,12 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 	@Override
 	public void recordDataSent(SocketAddress remoteAddress, String uri, long bytes) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
-		DistributionSummary dataSent = dataSentCache.computeIfAbsent(new MeterKey(uri, address, null, null),
-				key -> filter(dataSentBuilder.tags(REMOTE_ADDRESS, address, URI, uri)
-				                             .register(REGISTRY)));
+		DistributionSummary dataSent = dataSentCache.get(lookupKey(uri, address, null, null));
+		if (dataSent == null) {
+			dataSent = cache(dataSentCache, new MeterKey(uri, address, null, null),
+					filter(dataSentBuilder.tags(REMOTE_ADDRESS, address, URI, uri)
+					                      .register(REGISTRY)));
+		}
 		if (dataSent != null) {
 			dataSent.record(bytes);
 		}
@@ -114,9 +120,12 @@ public class MicrometerHttpMetricsRecorder extends MicrometerChannelMetricsRecor
 	@Override
 	public void incrementErrorsCount(SocketAddress remoteAddress, String uri) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
-		Counter errors = errorsCache.computeIfAbsent(new MeterKey(uri, address, null, null),
-				key -> filter(errorsBuilder.tags(REMOTE_ADDRESS, address, URI, uri)
-				                           .register(REGISTRY)));
+		Counter errors = errorsCache.get(lookupKey(uri, address, null, null));
+		if (errors == null) {
+			errors = cache(errorsCache, new MeterKey(uri, address, null, null),
+					filter(errorsBuilder.tags(REMOTE_ADDRESS, address, URI, uri)
+					                    .register(REGISTRY)));
+		}
 		if (errors != null) {
 			errors.increment();
 		}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import io.micrometer.core.instrument.Counter;
+import io.netty.util.internal.PlatformDependent;
+
+import static reactor.netty.Metrics.REGISTRY;
+import static reactor.netty.Metrics.URI_TAGS_COLLAPSED;
+
+/**
+ * Limits the number of distinct values of the {@link reactor.netty.Metrics#URI} tag. The first
+ * {@code maxUriTags} distinct values are used as is, every other value is collapsed into
+ * {@link #OTHER}. All meters of a client/server share the uri tag values, so every meter name
+ * gets at most {@code maxUriTags + 1} distinct uri tags.
+ * The number of collapsed values is counted by the {@code <name>.uri.tags.collapsed} counter.
+ *
+ * @author Violeta Georgieva
+ * @since 1.0.0
+ */
+public final class UriTagLimiter implements Function<String, String> {
+
+	/**
+	 * The uri tag value used once the maximum number of distinct uri tags is reached
+	 */
+	public static final String OTHER = "OTHER";
+
+	final Function<String, String> uriTagValue;
+	final int maxUriTags;
+	final String name;
+	final ConcurrentMap<String, Boolean> uriTags = PlatformDependent.newConcurrentHashMap();
+	final AtomicInteger uriTagsCount = new AtomicInteger();
+	final AtomicLong collapsed = new AtomicLong();
+
+	volatile Counter collapsedCounter;
+
+	/**
+	 * Creates a new {@link UriTagLimiter}.
+	 *
+	 * @param name the metrics name prefix, e.g. {@link reactor.netty.Metrics#HTTP_SERVER_PREFIX}
+	 * @param uriTagValue a function that receives the actual uri and returns the uri tag value or null
+	 * to use the actual uri
+	 * @param maxUriTags the maximum number of distinct uri tag values
+	 * @throws IllegalArgumentException if maxUriTags is not positive
+	 */
+	public UriTagLimiter(String name, @Nullable Function<String, String> uriTagValue, int maxUriTags) {
+		if (maxUriTags <= 0) {
+			throw new IllegalArgumentException("maxUriTags must be positive, provided: " + maxUriTags);
+		}
+		this.name = Objects.requireNonNull(name, "name");
+		this.uriTagValue = uriTagValue != null ? uriTagValue : Function.identity();
+		this.maxUriTags = maxUriTags;
+	}
+
+	@Override
+	public String apply(String uri) {
+		String uriTag = uriTagValue.apply(uri);
+		if (uriTag == null) {
+			uriTag = uri;
+		}
+		if (uriTags.containsKey(uriTag)) {
+			return uriTag;
+		}
+		for (;;) {
+			int count = uriTagsCount.get();
+			if (count >= maxUriTags) {
+				break;
+			}
+			if (uriTagsCount.compareAndSet(count, count + 1)) {
+				if (uriTags.putIfAbsent(uriTag, Boolean.TRUE) != null) {
+					uriTagsCount.decrementAndGet();
+				}
+				return uriTag;
+			}
+		}
+		collapsed.incrementAndGet();
+		collapsedCounter().increment();
+		return OTHER;
+	}
+
+	/**
+	 * Return the number of uri tag values collapsed into {@link #OTHER}.
+	 *
+	 * @return the number of uri tag values collapsed into {@link #OTHER}
+	 */
+	public long collapsedUriTags() {
+		return collapsed.get();
+	}
+
+	/**
+	 * Return the maximum number of distinct uri tag values.
+	 *
+	 * @return the maximum number of distinct uri tag values
+	 */
+	public int maxUriTags() {
+		return maxUriTags;
+	}
+
+	Counter collapsedCounter() {
+		Counter counter = collapsedCounter;
+		if (counter == null) {
+			counter = Counter.builder(name + URI_TAGS_COLLAPSED)
+			                 .description("Number of the uri tag values collapsed into " + OTHER)
+			                 .register(REGISTRY);
+			collapsedCounter = counter;
+		}
+		return counter;
+	}
+}
@@ -0,0 +1,714 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package reactor.netty.http.client;
+
+import java.lang.ref.WeakReference;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.ScheduledFuture;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.NettyPipeline;
+import reactor.netty.channel.ChannelOperations;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.TransportConfig;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.context.Context;
+
+import static reactor.netty.ReactorNetty.format;
+
+/**
+ * A {@link ConnectionProvider} that multiplexes HTTP/2 streams on the connections
+ * obtained from the configured {@link ConnectionProvider}.
+ * <p>
+ * A new connection is acquired only when all held connections to the remote address have
+ * reached the {@code SETTINGS_MAX_CONCURRENT_STREAMS} announced by the remote peer or
+ * have received {@code GOAWAY}, thus the maximum number of connections configured
+ * on the parent {@link ConnectionProvider} is respected. When the remote peer does not
+ * support HTTP/2 (ALPN selects {@code http/1.1} or the h2c upgrade is rejected)
+ * the requests to this remote address fall back to HTTP/1.1 for {@link #HTTP11_FALLBACK_TIMEOUT}.
+ * <p>
+ * There is one {@link Http2ConnectionProvider} per parent {@link ConnectionProvider}, see {@link #of(ConnectionProvider)}.
+ * The HTTP/2 connections without active streams are closed after the {@link ConnectionProvider#maxIdleTime(SocketAddress)}
+ * of the parent and all of them are closed after its {@link ConnectionProvider#maxLifeTime(SocketAddress)}, closing a
+ * connection removes it from the parent. When the parent is disposed, the held connections are closed.
+ *
+ * @author Violeta Georgieva
+ */
+final class Http2ConnectionProvider implements ConnectionProvider {
+
+	final ConnectionProvider parent;
+
+	final ConcurrentMap<PoolKey, Http2Pool> pools = new ConcurrentHashMap<>();
+
+	volatile boolean disposed;
+
+	Http2ConnectionProvider(ConnectionProvider parent) {
+		this.parent = Objects.requireNonNull(parent, "parent");
+	}
+
+	/**
+	 * Return the {@link Http2ConnectionProvider} that multiplexes the HTTP/2 streams on the connections
+	 * of the given {@link ConnectionProvider}, the same instance is returned for the same parent.
+	 *
+	 * @param parent the {@link ConnectionProvider} that provides the HTTP/2 connections
+	 * @return the {@link Http2ConnectionProvider} of the given {@link ConnectionProvider}
+	 */
+	static Http2ConnectionProvider of(ConnectionProvider parent) {
+		Objects.requireNonNull(parent, "parent");
+		synchronized (PROVIDERS) {
+			WeakReference<Http2ConnectionProvider> ref = PROVIDERS.get(parent);
+			Http2ConnectionProvider provider = ref != null ? ref.get() : null;
+			if (provider == null || provider.isDisposed()) {
+				provider = new Http2ConnectionProvider(parent);
+				PROVIDERS.put(parent, new WeakReference<>(provider));
+			}
+			return provider;
+		}
+	}
+
+	@Override
+	public Mono<? extends Connection> acquire(TransportConfig config,
+			ConnectionObserver connectionObserver,
+			@Nullable Supplier<? extends SocketAddress> remoteAddress,
+			@Nullable AddressResolverGroup<?> resolverGroup) {
+		if (!(config instanceof HttpClientConfig)) {
+			return Mono.error(new IllegalArgumentException("HTTP/2 requires HttpClientConfig"));
+		}
+		Objects.requireNonNull(remoteAddress, "remoteAddress");
+		return Mono.create(sink -> {
+			SocketAddress remote = Objects.requireNonNull(remoteAddress.get(), "Remote Address supplier returned null");
+			HttpClientConfig httpClientConfig = (HttpClientConfig) config;
+			PoolKey key = new PoolKey(remote, config.channelHash());
+			StreamAcquire acquire = new StreamAcquire(sink, connectionObserver, httpClientConfig, resolverGroup);
+
+			for (;;) {
+				if (disposed) {
+					sink.error(new IllegalStateException("Connection provider is disposed"));
+					return;
+				}
+
+				Http2Pool pool = pools.computeIfAbsent(key, Http2Pool::new);
+
+				if (pool.http11) {
+					if (System.nanoTime() - pool.http11Nanos < HTTP11_FALLBACK_TIMEOUT_NANOS) {
+						sink.onCancel(parent.acquire(http11Config(httpClientConfig), connectionObserver, () -> remote, resolverGroup)
+						                    .subscribe(sink::success, sink::error));
+						return;
+					}
+					// probe the remote peer for HTTP/2 again
+					pool.remove();
+					continue;
+				}
+
+				if (pool.acquire(acquire)) {
+					sink.onCancel(() -> pool.cancel(acquire));
+					return;
+				}
+				// the pool has been removed in the meantime
+			}
+		});
+	}
+
+	@Override
+	public Mono<Void> disposeLater() {
+		return Mono.fromRunnable(() -> {
+			disposed = true;
+			disposePools();
+		});
+	}
+
+	void disposePools() {
+		for (Http2Pool pool : pools.values()) {
+			pool.dispose();
+		}
+	}
+
+	@Override
+	public boolean isDisposed() {
+		return disposed;
+	}
+
+	static HttpClientConfig http11Config(HttpClientConfig config) {
+		HttpClientConfig http11Config = new HttpClientConfig(config);
+		http11Config.protocols = HttpClientConfig.h11;
+		return http11Config;
+	}
+
+	static final Logger log = Loggers.getLogger(Http2ConnectionProvider.class);
+
+	/**
+	 * The period after which a remote peer that does not support HTTP/2 is probed again
+	 */
+	static final Duration HTTP11_FALLBACK_TIMEOUT = Duration.ofMinutes(1);
+
+	static final long HTTP11_FALLBACK_TIMEOUT_NANOS = HTTP11_FALLBACK_TIMEOUT.toNanos();
+
+	/**
+	 * The maximum period between two checks of the idle time and the life time of a connection
+	 */
+	static final long EVICTION_INTERVAL_MILLIS = 1000;
+
+	static final Map<ConnectionProvider, WeakReference<Http2ConnectionProvider>> PROVIDERS = new WeakHashMap<>();
+
+	/**
+	 * The HTTP/2 connections held for a given remote address and channel configuration.
+	 */
+	final class Http2Pool {
+
+		final PoolKey key;
+
+		final List<Http2PooledConnection> connections = new ArrayList<>();
+		final Queue<StreamAcquire>        pending     = new ArrayDeque<>();
+
+		boolean connecting;
+		boolean removed;
+
+		volatile boolean http11;
+		volatile long    http11Nanos;
+
+		Http2Pool(PoolKey key) {
+			this.key = key;
+		}
+
+		/**
+		 * Open a stream on one of the held connections or acquire a new connection.
+		 *
+		 * @return {@code false} when this pool has been removed and cannot serve the acquisition
+		 */
+		boolean acquire(StreamAcquire acquire) {
+			Http2PooledConnection connection;
+			boolean connect = false;
+			synchronized (this) {
+				if (removed) {
+					return false;
+				}
+				connection = reserve();
+				if (connection == null) {
+					pending.add(acquire);
+					if (!connecting) {
+						connecting = connect = true;
+					}
+				}
+			}
+
+			if (connection != null) {
+				connection.openStream(acquire);
+			}
+			else if (connect) {
+				connect(acquire);
+			}
+			return true;
+		}
+
+		/**
+		 * Remove this pool when it holds neither connections nor pending acquisitions.
+		 */
+		void removeIfUnused() {
+			synchronized (this) {
+				if (removed || connecting || !connections.isEmpty() || !pending.isEmpty()) {
+					return;
+				}
+				removed = true;
+			}
+			pools.remove(key, this);
+		}
+
+		void remove() {
+			synchronized (this) {
+				removed = true;
+			}
+			pools.remove(key, this);
+		}
+
+		void cancel(StreamAcquire acquire) {
+			synchronized (this) {
+				pending.remove(acquire);
+			}
+		}
+
+		void connect(StreamAcquire acquire) {
+			parent.acquire(acquire.config, ParentObserver.INSTANCE, () -> key.remoteAddress, acquire.resolverGroup)
+			      .subscribe(this::onConnection, this::onConnectionError);
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void onConnection(Connection connection) {
+			Channel channel = connection.channel();
+			Http2FrameCodec codec = channel.pipeline().get(Http2FrameCodec.class);
+			if (codec == null) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(channel, "The remote peer does not support HTTP/2, falling back to HTTP/1.1"));
+				}
+				http11Nanos = System.nanoTime();
+				http11 = true;
+				//"FutureReturnValueIgnored" this is deliberate
+				channel.close();
+
+				List<StreamAcquire> toFallback;
+				synchronized (this) {
+					connecting = false;
+					toFallback = new ArrayList<>(pending);
+					pending.clear();
+				}
+				for (StreamAcquire acquire : toFallback) {
+					parent.acquire(http11Config(acquire.config), acquire.obs, () -> key.remoteAddress, acquire.resolverGroup)
+					      .subscribe(acquire.sink::success, acquire.sink::error);
+				}
+				return;
+			}
+
+			if (log.isDebugEnabled()) {
+				log.debug(format(channel, "New HTTP/2 connection"));
+			}
+
+			Http2PooledConnection pooledConnection = new Http2PooledConnection(this, connection, codec,
+					parent.maxIdleTime(key.remoteAddress), parent.maxLifeTime(key.remoteAddress));
+			channel.closeFuture()
+			       .addListener(f -> onClose(pooledConnection));
+
+			synchronized (this) {
+				connecting = false;
+				if (disposed || removed) {
+					//"FutureReturnValueIgnored" this is deliberate
+					channel.close();
+				}
+				else {
+					connections.add(pooledConnection);
+				}
+			}
+			pooledConnection.scheduleEviction();
+			drain();
+		}
+
+		void onConnectionError(Throwable error) {
+			List<StreamAcquire> toFail;
+			synchronized (this) {
+				connecting = false;
+				toFail = new ArrayList<>(pending);
+				pending.clear();
+			}
+			for (StreamAcquire acquire : toFail) {
+				acquire.sink.error(error);
+			}
+			removeIfUnused();
+		}
+
+		void onClose(Http2PooledConnection connection) {
+			if (log.isDebugEnabled()) {
+				log.debug(format(connection.channel(), "HTTP/2 connection closed"));
+			}
+			synchronized (this) {
+				connections.remove(connection);
+			}
+			drain();
+			removeIfUnused();
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void release(Http2PooledConnection connection) {
+			boolean close;
+			synchronized (this) {
+				close = connection.release(System.nanoTime());
+			}
+			if (close) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(connection.channel(), "Closing the HTTP/2 connection that exceeded its life time"));
+				}
+				//"FutureReturnValueIgnored" this is deliberate
+				connection.channel().close();
+			}
+			drain();
+		}
+
+		/**
+		 * Close the connection when it exceeded its idle time or its life time, invoked on the event loop
+		 * of the connection. When the parent {@link ConnectionProvider} is disposed, all connections are closed.
+		 */
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void evictIfExpired(Http2PooledConnection connection) {
+			if (parent.isDisposed()) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(connection.channel(), "The parent connection provider is disposed, " +
+							"closing the HTTP/2 connections"));
+				}
+				disposePools();
+				return;
+			}
+			boolean close;
+			synchronized (this) {
+				close = connection.expire(System.nanoTime());
+			}
+			if (close) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(connection.channel(), "Evicting the HTTP/2 connection, idle time {}ms, life time {}ms"),
+							TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connection.idleNanos),
+							TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - connection.createdNanos));
+				}
+				//"FutureReturnValueIgnored" this is deliberate
+				connection.channel().close();
+			}
+		}
+
+		/**
+		 * Serve the pending acquires with the available capacity and acquire a new
+		 * connection if there are still pending acquires.
+		 */
+		void drain() {
+			for (;;) {
+				StreamAcquire acquire;
+				Http2PooledConnection connection;
+				synchronized (this) {
+					if (pending.isEmpty()) {
+						return;
+					}
+					connection = reserve();
+					if (connection == null) {
+						if (connecting || disposed || removed) {
+							return;
+						}
+						connecting = true;
+						acquire = pending.peek();
+					}
+					else {
+						acquire = pending.poll();
+					}
+				}
+
+				if (connection == null) {
+					connect(acquire);
+					return;
+				}
+				connection.openStream(acquire);
+			}
+		}
+
+		/**
+		 * Reserve a stream on one of the held connections, must be invoked while holding the lock.
+		 */
+		@Nullable
+		Http2PooledConnection reserve() {
+			for (Http2PooledConnection connection : connections) {
+				if (connection.tryReserve()) {
+					return connection;
+				}
+			}
+			return null;
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void dispose() {
+			List<Http2PooledConnection> toClose;
+			List<StreamAcquire> toFail;
+			synchronized (this) {
+				removed = true;
+				toClose = new ArrayList<>(connections);
+				toFail = new ArrayList<>(pending);
+				connections.clear();
+				pending.clear();
+			}
+			pools.remove(key, this);
+			for (Http2PooledConnection connection : toClose) {
+				//"FutureReturnValueIgnored" this is deliberate
+				connection.channel().close();
+			}
+			for (StreamAcquire acquire : toFail) {
+				acquire.sink.error(new IllegalStateException("Connection provider is disposed"));
+			}
+		}
+	}
+
+	/**
+	 * A connection held by {@link Http2Pool} with the number of the streams reserved on it.
+	 * Except for the final fields, the state is guarded by the lock of the {@link Http2Pool}.
+	 */
+	static final class Http2PooledConnection {
+
+		final Http2Pool       pool;
+		final Connection      connection;
+		final Http2FrameCodec codec;
+		final long            maxIdleNanos;
+		final long            maxLifeNanos;
+		final long            createdNanos;
+
+		int     activeStreams;
+		long    idleNanos;
+		boolean expired;
+
+		ScheduledFuture<?> evictionTask;
+
+		Http2PooledConnection(Http2Pool pool, Connection connection, Http2FrameCodec codec,
+				@Nullable Duration maxIdleTime, @Nullable Duration maxLifeTime) {
+			this.pool = pool;
+			this.connection = connection;
+			this.codec = codec;
+			this.maxIdleNanos = maxIdleTime != null ? maxIdleTime.toNanos() : -1;
+			this.maxLifeNanos = maxLifeTime != null ? maxLifeTime.toNanos() : -1;
+			this.createdNanos = System.nanoTime();
+			this.idleNanos = createdNanos;
+		}
+
+		Channel channel() {
+			return connection.channel();
+		}
+
+		/**
+		 * Check periodically the idle time and the life time of this connection and whether
+		 * the parent {@link ConnectionProvider} is disposed.
+		 */
+		void scheduleEviction() {
+			long interval = EVICTION_INTERVAL_MILLIS;
+			if (maxIdleNanos != -1) {
+				interval = Math.min(interval, TimeUnit.NANOSECONDS.toMillis(maxIdleNanos));
+			}
+			if (maxLifeNanos != -1) {
+				interval = Math.min(interval, TimeUnit.NANOSECONDS.toMillis(maxLifeNanos));
+			}
+			interval = Math.max(interval, 1);
+			Channel channel = channel();
+			evictionTask = channel.eventLoop()
+			                      .scheduleAtFixedRate(() -> pool.evictIfExpired(this),
+			                              interval, interval, TimeUnit.MILLISECONDS);
+			channel.closeFuture()
+			       .addListener(f -> evictionTask.cancel(false));
+		}
+
+		/**
+		 * Return whether this connection has to be closed because it exceeded its idle time or its life time,
+		 * must be invoked while holding the lock of the {@link Http2Pool}. A connection that exceeded its life
+		 * time does not accept new streams and is closed once its active streams complete.
+		 */
+		boolean expire(long now) {
+			if (maxLifeNanos != -1 && now - createdNanos >= maxLifeNanos) {
+				expired = true;
+			}
+			if (activeStreams != 0) {
+				return false;
+			}
+			if (maxIdleNanos != -1 && now - idleNanos >= maxIdleNanos) {
+				expired = true;
+			}
+			return expired;
+		}
+
+		/**
+		 * Release a stream, must be invoked while holding the lock of the {@link Http2Pool}.
+		 *
+		 * @return {@code true} when the last stream of an expired connection has been released
+		 */
+		boolean release(long now) {
+			if (--activeStreams == 0) {
+				idleNanos = now;
+				return expired;
+			}
+			return false;
+		}
+
+		/**
+		 * Reserve a stream, must be invoked while holding the lock of the {@link Http2Pool}.
+		 * The HTTP/2 connection state is owned by the event loop, it is read here only as
+		 * a hint, the stream creation will fail if the limit has been reached in the meantime.
+		 */
+		boolean tryReserve() {
+			Http2Connection http2Connection = codec.connection();
+			if (expired || !channel().isActive() || http2Connection.goAwayReceived() || http2Connection.goAwaySent()) {
+				return false;
+			}
+			if (activeStreams >= http2Connection.local().maxActiveStreams()) {
+				return false;
+			}
+			activeStreams++;
+			return true;
+		}
+
+		void openStream(StreamAcquire acquire) {
+			Channel channel = channel();
+			if (channel.eventLoop().inEventLoop()) {
+				doOpenStream(acquire);
+			}
+			else {
+				channel.eventLoop()
+				       .execute(() -> doOpenStream(acquire));
+			}
+		}
+
+		void doOpenStream(StreamAcquire acquire) {
+			new Http2StreamChannelBootstrap(channel())
+					.handler(new H2StreamInitializer(acquire))
+					.open()
+					.addListener(f -> {
+						if (f.isSuccess()) {
+							Http2StreamChannel stream = (Http2StreamChannel) f.getNow();
+							if (log.isDebugEnabled()) {
+								log.debug(format(stream, "New HTTP/2 stream"));
+							}
+							stream.closeFuture()
+							      .addListener(ff -> pool.release(this));
+						}
+						else {
+							pool.release(this);
+							acquire.sink.error(f.cause());
+						}
+					});
+		}
+	}
+
+	/**
+	 * Initializes the stream pipeline, the {@link ChannelOperations} are created
+	 * by the reactive bridge once the stream is active.
+	 */
+	static final class H2StreamInitializer extends ChannelInitializer<Channel> {
+
+		final StreamAcquire acquire;
+
+		H2StreamInitializer(StreamAcquire acquire) {
+			this.acquire = acquire;
+		}
+
+		@Override
+		protected void initChannel(Channel ch) {
+			HttpClientConfig config = acquire.config;
+			if (config.loggingHandler() != null) {
+				ch.pipeline().addLast(NettyPipeline.LoggingHandler, config.loggingHandler());
+			}
+			HttpClientConfig.configureHttp2StreamPipeline(ch.pipeline(), config.acceptGzip, config.decoder,
+					config.metricsRecorder(), config.uriTagValue);
+			ChannelOperations.addReactiveBridge(ch, config.channelOperationsProvider(), acquire);
+		}
+	}
+
+	/**
+	 * A pending stream acquisition, observes the stream once it is opened.
+	 */
+	static final class StreamAcquire implements ConnectionObserver {
+
+		final MonoSink<Connection>    sink;
+		final ConnectionObserver      obs;
+		final HttpClientConfig        config;
+		final AddressResolverGroup<?> resolverGroup;
+
+		StreamAcquire(MonoSink<Connection> sink, ConnectionObserver obs, HttpClientConfig config,
+				@Nullable AddressResolverGroup<?> resolverGroup) {
+			this.sink = sink;
+			this.obs = obs;
+			this.config = config;
+			this.resolverGroup = resolverGroup;
+		}
+
+		@Override
+		public Context currentContext() {
+			return sink.currentContext();
+		}
+
+		@Override
+		@SuppressWarnings("FutureReturnValueIgnored")
+		public void onStateChange(Connection connection, State newState) {
+			if (log.isDebugEnabled()) {
+				log.debug(format(connection.channel(), "onStateChange({}, {})"), newState, connection);
+			}
+			if (newState == State.CONFIGURED) {
+				sink.success(connection);
+			}
+			else if (newState == State.DISCONNECTING && connection.channel().isActive()) {
+				//"FutureReturnValueIgnored" this is deliberate
+				connection.channel().close();
+			}
+			obs.onStateChange(connection, newState);
+		}
+
+		@Override
+		public void onUncaughtException(Connection connection, Throwable error) {
+			sink.error(error);
+			obs.onUncaughtException(connection, error);
+		}
+	}
+
+	/**
+	 * Observes the HTTP/2 connection until it is configured, afterwards the connection
+	 * events are not propagated to the streams.
+	 */
+	static final class ParentObserver implements ConnectionObserver {
+
+		static final ParentObserver INSTANCE = new ParentObserver();
+
+		@Override
+		public void onStateChange(Connection connection, State newState) {
+			if (log.isDebugEnabled()) {
+				log.debug(format(connection.channel(), "onStateChange({}, {})"), newState, connection);
+			}
+		}
+
+		@Override
+		public void onUncaughtException(Connection connection, Throwable error) {
+			if (log.isDebugEnabled()) {
+				log.debug(format(connection.channel(), "The HTTP/2 connection observed an error"), error);
+			}
+		}
+	}
+
+	static final class PoolKey {
+
+		final SocketAddress remoteAddress;
+		final int           channelHash;
+
+		PoolKey(SocketAddress remoteAddress, int channelHash) {
+			this.remoteAddress = remoteAddress;
+			this.channelHash = channelHash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			PoolKey poolKey = (PoolKey) o;
+			return channelHash == poolKey.channelHash &&
+					Objects.equals(remoteAddress, poolKey.remoteAddress);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(remoteAddress, channelHash);
+		}
+	}
+}
@@ -46,6 +46,7 @@ import reactor.netty.Connection;
 import reactor.netty.NettyOutbound;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.HttpResources;
+import reactor.netty.http.UriTagLimiter;
 import reactor.netty.http.websocket.WebsocketInbound;
 import reactor.netty.http.websocket.WebsocketOutbound;
 import reactor.netty.resources.ConnectionProvider;
@@ -983,6 +984,32 @@ public abstract class HttpClient extends ClientTransport<HttpClient, HttpClientC
 		}
 	}
 
+	/**
+	 * Whether to enable metrics to be collected and registered in Micrometer's
+	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry globalRegistry}
+	 * under the name {@link reactor.netty.Metrics#HTTP_CLIENT_PREFIX}, with an upper limit for the number
+	 * of the distinct {@link reactor.netty.Metrics#URI} tag values.
+	 * <p>{@code uriTagValue} function receives the actual uri and returns the uri tag value.
+	 * The first {@code maxUriTags} distinct values are used as is, every other value is collapsed into
+	 * {@link UriTagLimiter#OTHER}, so that uris with identifiers cannot create an unbounded number of meters.
+	 * The number of the collapsed values is counted by the
+	 * {@link reactor.netty.Metrics#URI_TAGS_COLLAPSED} counter.
+	 * <p>By default metrics are not enabled.
+	 *
+	 * @param enable true enables metrics collection; false disables it
+	 * @param uriTagValue a function that receives the actual uri and returns the uri tag value
+	 * that will be used for the metrics with {@link reactor.netty.Metrics#URI} tag
+	 * @param maxUriTags the maximum number of distinct uri tag values
+	 * @return a new {@link HttpClient}
+	 * @since 1.0.0
+	 */
+	public final HttpClient metrics(boolean enable, Function<String, String> uriTagValue, int maxUriTags) {
+		if (enable) {
+			return metrics(true, new UriTagLimiter(reactor.netty.Metrics.HTTP_CLIENT_PREFIX, uriTagValue, maxUriTags));
+		}
+		return metrics(false, uriTagValue);
+	}
+
 	/**
 	 * Removes any previously applied SSL configuration customization
 	 *
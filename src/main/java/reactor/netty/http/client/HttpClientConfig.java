@@ -16,6 +16,7 @@
 
 package reactor.netty.http.client;
 
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.Map;
 import java.util.Objects;
@@ -28,17 +29,40 @@ import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpClientUpgradeHandler;
 import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.codec.http.cookie.ClientCookieDecoder;
 import io.netty.handler.codec.http.cookie.ClientCookieEncoder;
+import io.netty.handler.codec.http2.Http2ClientUpgradeCodec;
+import io.netty.handler.codec.http2.Http2ConnectionHandler;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2FrameLogger;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.resolver.AddressResolverGroup;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
@@ -58,6 +82,10 @@ import reactor.netty.resources.LoopResources;
 import reactor.netty.tcp.SslProvider;
 import reactor.netty.tcp.TcpServer;
 import reactor.netty.transport.ClientTransportConfig;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+import static reactor.netty.ReactorNetty.format;
 
 /**
  * Encapsulate all necessary configuration for HTTP client transport. The public API is read-only.
@@ -345,6 +373,20 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		return super.resolverInternal();
 	}
 
+	/**
+	 * Return the {@link ConnectionProvider} that serves the requests. When HTTP/2 is enabled
+	 * the {@link Http2ConnectionProvider} of the configured {@link ConnectionProvider} multiplexes
+	 * the streams on the connections it provides.
+	 *
+	 * @return the {@link ConnectionProvider} that serves the requests
+	 */
+	ConnectionProvider httpConnectionProvider() {
+		if ((protocols & (h2 | h2c)) != 0) {
+			return Http2ConnectionProvider.of(connectionProvider());
+		}
+		return connectionProvider();
+	}
+
 	void deferredConf(Function<HttpClientConfig, Mono<HttpClientConfig>> deferrer) {
 		if (deferredConf != null){
 			deferredConf = deferredConf.andThen(deferredConf -> deferredConf.flatMap(deferrer));
@@ -386,6 +428,85 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		}
 	}
 
+	static void configureHttp2Pipeline(ChannelPipeline p, HttpResponseDecoderSpec decoder) {
+		p.remove(NettyPipeline.ReactiveBridge);
+
+		Http2FrameCodecBuilder http2FrameCodecBuilder =
+				Http2FrameCodecBuilder.forClient()
+				                      .validateHeaders(decoder.validateHeaders())
+				                      .initialSettings(Http2Settings.defaultSettings().pushEnabled(false));
+
+		if (p.get(NettyPipeline.LoggingHandler) != null) {
+			http2FrameCodecBuilder.frameLogger(new Http2FrameLogger(LogLevel.DEBUG,
+					"reactor.netty.http.client.h2"));
+		}
+
+		p.addLast(NettyPipeline.HttpCodec, http2FrameCodecBuilder.build())
+		 .addLast(new Http2MultiplexHandler(H2InboundStreamHandler.INSTANCE));
+
+		// The streams are read on demand, the connection itself must be read continuously
+		p.channel().config().setAutoRead(true);
+	}
+
+	static void configureHttp2StreamPipeline(ChannelPipeline p,
+			boolean acceptGzip,
+			HttpResponseDecoderSpec decoder,
+			@Nullable Supplier<? extends ChannelMetricsRecorder> metricsRecorder,
+			@Nullable Function<String, String> uriTagValue) {
+		p.addLast(NettyPipeline.HttpCodec, new Http2StreamFrameToHttpObjectCodec(false, decoder.validateHeaders()));
+
+		if (acceptGzip) {
+			p.addLast(NettyPipeline.HttpDecompressor, new HttpContentDecompressor());
+		}
+
+		if (metricsRecorder != null) {
+			ChannelMetricsRecorder channelMetricsRecorder = metricsRecorder.get();
+			if (channelMetricsRecorder instanceof HttpClientMetricsRecorder) {
+				p.addLast(NettyPipeline.HttpMetricsHandler,
+						new HttpClientMetricsHandler((HttpClientMetricsRecorder) channelMetricsRecorder, uriTagValue));
+			}
+		}
+
+		p.addLast(NettyPipeline.HttpTrafficHandler, H2StreamBridgeHandler.INSTANCE);
+	}
+
+	static void configureH2CUpgradePipeline(ChannelPipeline p,
+			HttpResponseDecoderSpec decoder,
+			ConnectionObserver observer,
+			@Nullable SocketAddress remoteAddress) {
+		HttpClientCodec httpClientCodec =
+				new HttpClientCodec(
+						decoder.maxInitialLineLength(),
+						decoder.maxHeaderSize(),
+						decoder.maxChunkSize(),
+						decoder.failOnMissingResponse,
+						decoder.validateHeaders(),
+						decoder.initialBufferSize(),
+						decoder.parseHttpAfterConnectRequest);
+
+		Http2FrameCodecBuilder http2FrameCodecBuilder =
+				Http2FrameCodecBuilder.forClient()
+				                      .validateHeaders(decoder.validateHeaders())
+				                      .initialSettings(Http2Settings.defaultSettings().pushEnabled(false));
+
+		if (p.get(NettyPipeline.LoggingHandler) != null) {
+			http2FrameCodecBuilder.frameLogger(new Http2FrameLogger(LogLevel.DEBUG,
+					"reactor.netty.http.client.h2"));
+		}
+
+		Http2ConnectionHandler http2FrameCodec = http2FrameCodecBuilder.build();
+
+		Http2ClientUpgradeCodec upgradeCodec =
+				new Http2ClientUpgradeCodec(http2FrameCodec,
+						new Http2MultiplexHandler(H2InboundStreamHandler.INSTANCE, H2UpgradeStreamHandler.INSTANCE));
+
+		p.addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.HttpCodec, httpClientCodec)
+		 .addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.H2CUpgradeHandler,
+				new HttpClientUpgradeHandler(httpClientCodec, upgradeCodec, H2C_UPGRADE_MAX_CONTENT_LENGTH))
+		 .addBefore(NettyPipeline.ReactiveBridge, NettyPipeline.HttpTrafficHandler,
+				new H2CUpgradeRequestHandler(observer, remoteAddress));
+	}
+
 	static int protocols(HttpProtocol... protocols) {
 		int _protocols = 0;
 
@@ -419,8 +540,17 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 
 	static final int h11orH2c = h11 | h2c;
 
+	static final int h11orH2 = h11 | h2;
+
+	/**
+	 * The maximum length of the aggregated response to the h2c upgrade request
+	 */
+	static final int H2C_UPGRADE_MAX_CONTENT_LENGTH = 65536;
+
 	static final LoggingHandler LOGGING_HANDLER = new LoggingHandler(HttpClient.class);
 
+	static final Logger log = Loggers.getLogger(HttpClientConfig.class);
+
 	/**
 	 * Default value whether the SSL debugging on the client side will be enabled/disabled,
 	 * fallback to SSL debugging disabled
@@ -455,6 +585,36 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		public void onChannelInit(ConnectionObserver observer, Channel channel, @Nullable SocketAddress remoteAddress) {
 			if (sslProvider != null) {
 				sslProvider.addSslHandler(channel, remoteAddress, SSL_DEBUG);
+
+				if ((protocols & h11orH2) == h11orH2) {
+					channel.pipeline()
+					       .addBefore(NettyPipeline.ReactiveBridge,
+					               NettyPipeline.HttpTrafficHandler,
+					               new H2OrHttp11Codec(decoder, observer));
+					return;
+				}
+
+				if ((protocols & h2) == h2) {
+					channel.pipeline()
+					       .addBefore(NettyPipeline.ReactiveBridge,
+					               NettyPipeline.HttpTrafficHandler,
+					               new H2Codec(decoder, observer));
+					return;
+				}
+			}
+			else {
+				if ((protocols & h11orH2c) == h11orH2c) {
+					configureH2CUpgradePipeline(channel.pipeline(), decoder, observer, remoteAddress);
+					return;
+				}
+
+				if ((protocols & h2c) == h2c) {
+					channel.pipeline()
+					       .addBefore(NettyPipeline.ReactiveBridge,
+					               NettyPipeline.HttpTrafficHandler,
+					               new H2Codec(decoder, observer));
+					return;
+				}
 			}
 
 			if ((protocols & h11) == h11) {
@@ -463,6 +623,197 @@ public final class HttpClientConfig extends ClientTransportConfig<HttpClientConf
 		}
 	}
 
+	/**
+	 * Configures the HTTP/2 pipeline once the connection is active, for TLS once the handshake
+	 * has completed and for the clear-text case when the HTTP/2 support is known in advance.
+	 */
+	static final class H2Codec extends ChannelInboundHandlerAdapter {
+
+		final HttpResponseDecoderSpec decoder;
+		final ConnectionObserver      observer;
+
+		H2Codec(HttpResponseDecoderSpec decoder, ConnectionObserver observer) {
+			this.decoder = decoder;
+			this.observer = observer;
+		}
+
+		@Override
+		public void channelActive(ChannelHandlerContext ctx) {
+			ChannelPipeline p = ctx.pipeline();
+			p.remove(this);
+			configureHttp2Pipeline(p, decoder);
+			observer.onStateChange(Connection.from(ctx.channel()), ConnectionObserver.State.CONFIGURED);
+		}
+	}
+
+	/**
+	 * Negotiates the protocol with ALPN. When the remote peer selects {@code http/1.1}
+	 * the connection is handed over without HTTP/2 codec so that
+	 * the {@link Http2ConnectionProvider} can fall back to HTTP/1.1.
+	 */
+	static final class H2OrHttp11Codec extends ApplicationProtocolNegotiationHandler {
+
+		final HttpResponseDecoderSpec decoder;
+		final ConnectionObserver      observer;
+
+		H2OrHttp11Codec(HttpResponseDecoderSpec decoder, ConnectionObserver observer) {
+			super(ApplicationProtocolNames.HTTP_1_1);
+			this.decoder = decoder;
+			this.observer = observer;
+		}
+
+		@Override
+		public void channelActive(ChannelHandlerContext ctx) {
+			// The connection is configured once the protocol is negotiated
+		}
+
+		@Override
+		public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+			ctx.fireExceptionCaught(cause);
+		}
+
+		@Override
+		@SuppressWarnings("FutureReturnValueIgnored")
+		protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) {
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.close();
+		}
+
+		@Override
+		protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+			if (log.isDebugEnabled()) {
+				log.debug(format(ctx.channel(), "Negotiated application-level protocol [" + protocol + "]"));
+			}
+
+			if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+				configureHttp2Pipeline(ctx.pipeline(), decoder);
+			}
+			else if (!ApplicationProtocolNames.HTTP_1_1.equals(protocol)) {
+				throw new IllegalStateException("unknown protocol: " + protocol);
+			}
+
+			observer.onStateChange(Connection.from(ctx.channel()), ConnectionObserver.State.CONFIGURED);
+		}
+	}
+
+	/**
+	 * Sends {@code OPTIONS *} with {@code Upgrade: h2c} once the connection is active and
+	 * hands over the connection when the remote peer has answered.
+	 */
+	static final class H2CUpgradeRequestHandler extends ChannelInboundHandlerAdapter {
+
+		final ConnectionObserver observer;
+		final String             host;
+
+		H2CUpgradeRequestHandler(ConnectionObserver observer, @Nullable SocketAddress remoteAddress) {
+			this.observer = observer;
+			if (remoteAddress instanceof InetSocketAddress) {
+				InetSocketAddress address = (InetSocketAddress) remoteAddress;
+				this.host = address.getHostString() + ":" + address.getPort();
+			}
+			else {
+				this.host = "localhost";
+			}
+		}
+
+		@Override
+		@SuppressWarnings("FutureReturnValueIgnored")
+		public void channelActive(ChannelHandlerContext ctx) {
+			DefaultFullHttpRequest upgradeRequest =
+					new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.OPTIONS, "*", Unpooled.EMPTY_BUFFER);
+			upgradeRequest.headers()
+			              .set(HttpHeaderNames.HOST, host);
+
+			if (log.isDebugEnabled()) {
+				log.debug(format(ctx.channel(), "Requesting an upgrade to h2c"));
+			}
+
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.writeAndFlush(upgradeRequest);
+			ctx.channel().config().setAutoRead(true);
+		}
+
+		@Override
+		public void channelRead(ChannelHandlerContext ctx, Object msg) {
+			// The response to the upgrade request is not exposed
+			ReferenceCountUtil.release(msg);
+		}
+
+		@Override
+		public void userEventTriggered(ChannelHandlerContext ctx, Object evt) {
+			if (evt == HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_SUCCESSFUL) {
+				ChannelPipeline p = ctx.pipeline();
+				p.remove(this);
+				p.remove(NettyPipeline.ReactiveBridge);
+				Connection connection = Connection.from(ctx.channel());
+				observer.onStateChange(connection, HttpClientState.UPGRADE_SUCCESSFUL);
+				observer.onStateChange(connection, ConnectionObserver.State.CONFIGURED);
+			}
+			else if (evt == HttpClientUpgradeHandler.UpgradeEvent.UPGRADE_REJECTED) {
+				ctx.channel().config().setAutoRead(false);
+				Connection connection = Connection.from(ctx.channel());
+				observer.onStateChange(connection, HttpClientState.UPGRADE_REJECTED);
+				observer.onStateChange(connection, ConnectionObserver.State.CONFIGURED);
+			}
+			else {
+				ctx.fireUserEventTriggered(evt);
+			}
+		}
+	}
+
+	/**
+	 * Rejects the streams initiated by the remote peer, server push is disabled.
+	 */
+	@ChannelHandler.Sharable
+	static final class H2InboundStreamHandler extends ChannelInboundHandlerAdapter {
+
+		static final H2InboundStreamHandler INSTANCE = new H2InboundStreamHandler();
+
+		@Override
+		@SuppressWarnings("FutureReturnValueIgnored")
+		public void handlerAdded(ChannelHandlerContext ctx) {
+			//"FutureReturnValueIgnored" this is deliberate
+			ctx.close();
+		}
+	}
+
+	/**
+	 * Consumes the response to the upgrade request, stream 1 after a successful h2c upgrade.
+	 */
+	@ChannelHandler.Sharable
+	static final class H2UpgradeStreamHandler extends ChannelInboundHandlerAdapter {
+
+		static final H2UpgradeStreamHandler INSTANCE = new H2UpgradeStreamHandler();
+
+		@Override
+		public void channelRead(ChannelHandlerContext ctx, Object msg) {
+			ReferenceCountUtil.release(msg);
+		}
+	}
+
+	/**
+	 * Wraps the outbound {@link ByteBuf} in {@link DefaultHttpContent} so that they are
+	 * understood by the {@link Http2StreamFrameToHttpObjectCodec}.
+	 */
+	@ChannelHandler.Sharable
+	static final class H2StreamBridgeHandler extends ChannelDuplexHandler {
+
+		static final H2StreamBridgeHandler INSTANCE = new H2StreamBridgeHandler();
+
+		@Override
+		@SuppressWarnings("FutureReturnValueIgnored")
+		public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+			if (msg instanceof ByteBuf) {
+				//"FutureReturnValueIgnored" this is deliberate
+				ctx.write(new DefaultHttpContent((ByteBuf) msg), promise);
+			}
+			else {
+				//"FutureReturnValueIgnored" this is deliberate
+				ctx.write(msg, promise);
+			}
+		}
+	}
+
 	static final class HttpClientDoOn implements ConnectionObserver {
 
 		final BiConsumer<? super HttpClientRequest, ? super Connection>  doAfterRequest;
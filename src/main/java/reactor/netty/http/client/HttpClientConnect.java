@@ -141,6 +141,7 @@ class HttpClientConnect extends HttpClient {
 								SslProvider.updateDefaultConfiguration(config.sslProvider, SslProvider.DefaultConfigurationType.TCP);
 						break;
 					case HttpClientConfig.h2:
+					case HttpClientConfig.h11orH2:
 						config.sslProvider =
 								SslProvider.updateDefaultConfiguration(config.sslProvider, SslProvider.DefaultConfigurationType.H2);
 				}
@@ -151,7 +152,9 @@ class HttpClientConnect extends HttpClient {
 				//append secure handler if needed
 				if (handler.toURI.isSecure()) {
 					if (_config.sslProvider == null) {
-						_config.sslProvider = HttpClientSecure.DEFAULT_HTTP_SSL_PROVIDER;
+						_config.sslProvider = (_config.protocols & HttpClientConfig.h2) == HttpClientConfig.h2 ?
+								HttpClientSecure.DEFAULT_HTTP2_SSL_PROVIDER :
+								HttpClientSecure.DEFAULT_HTTP_SSL_PROVIDER;
 					}
 				}
 				else {
@@ -186,7 +189,7 @@ class HttpClientConnect extends HttpClient {
 
 				AddressResolverGroup<?> resolver = _config.resolverInternal();
 
-				_config.connectionProvider()
+				_config.httpConnectionProvider()
 						.acquire(_config, observer, handler, resolver)
 						.subscribe(new ClientTransportSubscriber(sink));
 
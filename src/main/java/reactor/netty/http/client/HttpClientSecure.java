@@ -80,6 +80,14 @@ final class HttpClientSecure {
 	static final SslProvider DEFAULT_HTTP_SSL_PROVIDER =
 			SslProvider.addHandlerConfigurator(SslProvider.defaultClientProvider(), DEFAULT_HOSTNAME_VERIFICATION);
 
+	static final SslProvider DEFAULT_HTTP2_SSL_PROVIDER =
+			DEFAULT_HTTP2_CONTEXT == null ? DEFAULT_HTTP_SSL_PROVIDER :
+					SslProvider.addHandlerConfigurator(
+							SslProvider.builder()
+							           .sslContext(DEFAULT_HTTP2_CONTEXT)
+							           .build(),
+							DEFAULT_HOSTNAME_VERIFICATION);
+
 	static final Consumer<SslProvider.SslContextSpec> SSL_DEFAULT_SPEC_HTTP2 =
 			sslProviderBuilder -> sslProviderBuilder.sslContext(DEFAULT_HTTP2_CONTEXT);
 }
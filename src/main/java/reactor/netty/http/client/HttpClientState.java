@@ -69,5 +69,24 @@ public enum HttpClientState implements ConnectionObserver.State {
 		public String toString() {
 			return "[response_completed]";
 		}
+	},
+	/**
+	 * The request has been sent with an {@code Upgrade: h2c} header and the remote peer
+	 * did not switch protocols, the connection will continue with HTTP/1.1
+	 */
+	UPGRADE_REJECTED() {
+		@Override
+		public String toString() {
+			return "[upgrade_rejected]";
+		}
+	},
+	/**
+	 * The remote peer switched protocols, the connection has been upgraded to HTTP/2
+	 */
+	UPGRADE_SUCCESSFUL() {
+		@Override
+		public String toString() {
+			return "[upgrade_successful]";
+		}
 	}
 }
@@ -45,9 +45,12 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 	@Override
 	public void recordDataReceivedTime(SocketAddress remoteAddress, String uri, String method, String status, Duration time) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
-		Timer dataReceivedTime = dataReceivedTimeCache.computeIfAbsent(new MeterKey(uri, address, method, status),
-				key -> filter(dataReceivedTimeBuilder.tags(REMOTE_ADDRESS, address, URI, uri, METHOD, method, STATUS, status)
-				                                     .register(REGISTRY)));
+		Timer dataReceivedTime = dataReceivedTimeCache.get(lookupKey(uri, address, method, status));
+		if (dataReceivedTime == null) {
+			dataReceivedTime = cache(dataReceivedTimeCache, new MeterKey(uri, address, method, status),
+					filter(dataReceivedTimeBuilder.tags(REMOTE_ADDRESS, address, URI, uri, METHOD, method, STATUS, status)
+					                              .register(REGISTRY)));
+		}
 		if (dataReceivedTime != null) {
 			dataReceivedTime.record(time);
 		}
@@ -56,9 +59,12 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 	@Override
 	public void recordDataSentTime(SocketAddress remoteAddress, String uri, String method, Duration time) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
-		Timer dataSentTime = dataSentTimeCache.computeIfAbsent(new MeterKey(uri, address, method, null),
-				key -> filter(dataSentTimeBuilder.tags(REMOTE_ADDRESS, address, URI, uri, METHOD, method)
-				                                 .register(REGISTRY)));
+		Timer dataSentTime = dataSentTimeCache.get(lookupKey(uri, address, method, null));
+		if (dataSentTime == null) {
+			dataSentTime = cache(dataSentTimeCache, new MeterKey(uri, address, method, null),
+					filter(dataSentTimeBuilder.tags(REMOTE_ADDRESS, address, URI, uri, METHOD, method)
+					                          .register(REGISTRY)));
+		}
 		if (dataSentTime != null) {
 			dataSentTime.record(time);
 		}
@@ -67,9 +73,12 @@ final class MicrometerHttpClientMetricsRecorder extends MicrometerHttpMetricsRec
 	@Override
 	public void recordResponseTime(SocketAddress remoteAddress, String uri, String method, String status, Duration time) {
 		String address = Metrics.formatSocketAddress(remoteAddress);
-		Timer responseTime = responseTimeCache.computeIfAbsent(new MeterKey(uri, address, method, status),
-				key -> filter(responseTimeBuilder.tags(REMOTE_ADDRESS, address, URI, uri, METHOD, method, STATUS, status)
-				                                 .register(REGISTRY)));
+		Timer responseTime = responseTimeCache.get(lookupKey(uri, address, method, status));
+		if (responseTime == null) {
+			responseTime = cache(responseTimeCache, new MeterKey(uri, address, method, status),
+					filter(responseTimeBuilder.tags(REMOTE_ADDRESS, address, URI, uri, METHOD, method, STATUS, status)
+					                          .register(REGISTRY)));
+		}
 		if (responseTime != null) {
 			responseTime.record(time);
 		}
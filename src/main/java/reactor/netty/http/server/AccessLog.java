@@ -15,23 +15,49 @@
  */
 package reactor.netty.http.server;
 
-import reactor.util.Logger;
-import reactor.util.Loggers;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.FastThreadLocal;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
-final class AccessLog {
-	static final Logger log = Loggers.getLogger("reactor.netty.http.server.AccessLog");
+/**
+ * A fixed layout access log record, populated on the event loop and rendered by the
+ * {@link AccessLogWriter} thread once the response is written.
+ *
+ * @author Violeta Georgieva
+ */
+final class AccessLog implements AccessLogArgProvider {
 	static final DateTimeFormatter DATE_TIME_FORMATTER =
 			DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.US);
-	static final String COMMON_LOG_FORMAT =
-			"{} - {} [{}] \"{} {} {}\" {} {} {} {} ms";
 	static final String MISSING = "-";
 
-	final String zonedDateTime;
+	/**
+	 * The formatted date only changes once per second, it is cached per formatting thread
+	 */
+	static final FastThreadLocal<DateCache> DATE_CACHE = new FastThreadLocal<DateCache>() {
+		@Override
+		protected DateCache initialValue() {
+			return new DateCache();
+		}
+	};
+
+	final long startTime = System.currentTimeMillis();
+	final long startNanos = System.nanoTime();
+	long durationNanos = -1;
 
 	String address;
 	CharSequence method;
@@ -41,12 +67,10 @@ final class AccessLog {
 	CharSequence status;
 	long contentLength;
 	boolean chunked;
-	long startTime = System.currentTimeMillis();
 	int port;
-
-	AccessLog() {
-		this.zonedDateTime = ZonedDateTime.now().format(DATE_TIME_FORMATTER);
-	}
+	HttpHeaders requestHeaders;
+	Http2Headers requestHeadersH2;
+	Map<AsciiString, CharSequence> capturedHeaders;
 
 	AccessLog address(String address) {
 		this.address = Objects.requireNonNull(address, "address");
@@ -90,19 +114,152 @@ final class AccessLog {
 		return this;
 	}
 
+	AccessLog requestHeaders(HttpHeaders requestHeaders) {
+		this.requestHeaders = Objects.requireNonNull(requestHeaders, "requestHeaders");
+		return this;
+	}
+
+	AccessLog requestHeaders(Http2Headers requestHeaders) {
+		this.requestHeadersH2 = Objects.requireNonNull(requestHeaders, "requestHeaders");
+		return this;
+	}
+
 	AccessLog chunked(boolean chunked) {
 		this.chunked = chunked;
 		return this;
 	}
 
-	long duration() {
-		return System.currentTimeMillis() - startTime;
+	/**
+	 * Stop the clock, invoked on the event loop when the last byte of the response is written.
+	 * The given request headers are captured, the record is read by the writer thread afterwards.
+	 *
+	 * @param headerNames the lower case names of the request headers to capture,
+	 * or {@code null} to copy all request headers
+	 */
+	AccessLog complete(@Nullable Set<AsciiString> headerNames) {
+		this.durationNanos = System.nanoTime() - startNanos;
+		if (headerNames == null) {
+			if (requestHeaders != null) {
+				requestHeaders = requestHeaders.copy();
+			}
+			if (requestHeadersH2 != null) {
+				requestHeadersH2 = new DefaultHttp2Headers(false).add(requestHeadersH2);
+			}
+			return this;
+		}
+		if (headerNames.isEmpty()) {
+			capturedHeaders = Collections.emptyMap();
+		}
+		else {
+			capturedHeaders = new HashMap<>(headerNames.size() * 2);
+			for (AsciiString name : headerNames) {
+				CharSequence value = null;
+				if (requestHeaders != null) {
+					value = requestHeaders.get(name);
+				}
+				else if (requestHeadersH2 != null) {
+					value = requestHeadersH2.get(name);
+				}
+				if (value != null) {
+					capturedHeaders.put(name, value);
+				}
+			}
+		}
+		// do not retain the request headers of the connection
+		requestHeaders = null;
+		requestHeadersH2 = null;
+		return this;
+	}
+
+	@Override
+	public ZonedDateTime accessDateTime() {
+		return Instant.ofEpochMilli(startTime).atZone(ZoneId.systemDefault());
 	}
 
-	void log() {
-		if (log.isInfoEnabled()) {
-			log.info(COMMON_LOG_FORMAT, address, user, zonedDateTime,
-					method, uri, protocol, status, (contentLength > -1 ? contentLength : MISSING), port, duration());
+	@Override
+	public CharSequence accessDateTimeFormatted() {
+		return DATE_CACHE.get().format(startTime);
+	}
+
+	@Override
+	public long contentLength() {
+		return contentLength;
+	}
+
+	@Override
+	public long duration() {
+		return TimeUnit.NANOSECONDS.toMillis(durationNanos > -1 ? durationNanos : System.nanoTime() - startNanos);
+	}
+
+	@Override
+	@Nullable
+	public CharSequence method() {
+		return method;
+	}
+
+	@Override
+	public int port() {
+		return port;
+	}
+
+	@Override
+	@Nullable
+	public String protocol() {
+		return protocol;
+	}
+
+	@Override
+	@Nullable
+	public String remoteAddress() {
+		return address;
+	}
+
+	@Override
+	@Nullable
+	public CharSequence requestHeader(CharSequence name) {
+		Objects.requireNonNull(name, "name");
+		if (capturedHeaders != null) {
+			return capturedHeaders.isEmpty() ? null : capturedHeaders.get(AsciiString.of(name).toLowerCase());
+		}
+		if (requestHeaders != null) {
+			return requestHeaders.get(name);
+		}
+		if (requestHeadersH2 != null) {
+			return requestHeadersH2.get(AsciiString.of(name).toLowerCase());
+		}
+		return null;
+	}
+
+	@Override
+	@Nullable
+	public CharSequence status() {
+		return status;
+	}
+
+	@Override
+	@Nullable
+	public CharSequence uri() {
+		return uri;
+	}
+
+	@Override
+	public String user() {
+		return user;
+	}
+
+	static final class DateCache {
+
+		long   second = Long.MIN_VALUE;
+		String formatted;
+
+		String format(long millis) {
+			long second = millis / 1000;
+			if (second != this.second) {
+				this.formatted = DATE_TIME_FORMATTER.format(
+						Instant.ofEpochSecond(second).atZone(ZoneId.systemDefault()));
+				this.second = second;
+			}
+			return formatted;
 		}
 	}
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.time.ZonedDateTime;
+import javax.annotation.Nullable;
+
+/**
+ * A provider of the information about a completed HTTP exchange, used by an
+ * {@link AccessLogFormat} to render an access log record.
+ *
+ * @author Violeta Georgieva
+ * @since 1.0.0
+ */
+public interface AccessLogArgProvider {
+
+	/**
+	 * Return the date and time when the request was received.
+	 *
+	 * @return the date and time when the request was received
+	 */
+	ZonedDateTime accessDateTime();
+
+	/**
+	 * Return the date and time when the request was received, formatted as
+	 * {@code dd/MMM/yyyy:HH:mm:ss Z}.
+	 *
+	 * @return the formatted date and time when the request was received
+	 */
+	CharSequence accessDateTimeFormatted();
+
+	/**
+	 * Return the length of the response content in bytes or {@code -1} when unknown.
+	 *
+	 * @return the length of the response content in bytes or {@code -1} when unknown
+	 */
+	long contentLength();
+
+	/**
+	 * Return the time in milliseconds elapsed between receiving the request and writing the
+	 * last byte of the response.
+	 *
+	 * @return the time in milliseconds elapsed between receiving the request and writing the
+	 * last byte of the response
+	 */
+	long duration();
+
+	/**
+	 * Return the request method.
+	 *
+	 * @return the request method
+	 */
+	@Nullable
+	CharSequence method();
+
+	/**
+	 * Return the local port that received the request.
+	 *
+	 * @return the local port that received the request
+	 */
+	int port();
+
+	/**
+	 * Return the request protocol.
+	 *
+	 * @return the request protocol
+	 */
+	@Nullable
+	String protocol();
+
+	/**
+	 * Return the address of the remote peer.
+	 *
+	 * @return the address of the remote peer
+	 */
+	@Nullable
+	String remoteAddress();
+
+	/**
+	 * Return the value of the given request header or null.
+	 *
+	 * @param name the header name
+	 * @return the value of the given request header or null
+	 */
+	@Nullable
+	CharSequence requestHeader(CharSequence name);
+
+	/**
+	 * Return the response status.
+	 *
+	 * @return the response status
+	 */
+	@Nullable
+	CharSequence status();
+
+	/**
+	 * Return the request uri.
+	 *
+	 * @return the request uri
+	 */
+	@Nullable
+	CharSequence uri();
+
+	/**
+	 * Return the authenticated user or {@code "-"}.
+	 *
+	 * @return the authenticated user or {@code "-"}
+	 */
+	String user();
+}
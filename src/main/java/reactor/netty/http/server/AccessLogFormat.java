@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+
+/**
+ * Renders an access log record. The formats are invoked on the access log writer thread,
+ * never on the event loop.
+ *
+ * @author Violeta Georgieva
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface AccessLogFormat {
+
+	/**
+	 * The Common Log Format followed by the local port and the duration, e.g.
+	 * {@code 127.0.0.1 - - [10/Oct/2020:13:55:36 +0000] "GET / HTTP/1.1" 200 12 8080 3 ms}.
+	 * The additional fields are appended as {@code name="value"}.
+	 */
+	AccessLogFormat COMMON = new AccessLogFormats.BuiltIn("COMMON", AccessLogFormats::common);
+
+	/**
+	 * The Combined Log Format, e.g.
+	 * {@code 127.0.0.1 - - [10/Oct/2020:13:55:36 +0000] "GET / HTTP/1.1" 200 12 "-" "curl/7.64.1"}.
+	 * The additional fields are appended as {@code name="value"}.
+	 */
+	AccessLogFormat COMBINED = new AccessLogFormats.BuiltIn("COMBINED", AccessLogFormats::combined,
+			HttpHeaderNames.REFERER, HttpHeaderNames.USER_AGENT);
+
+	/**
+	 * A JSON object per record, the additional fields are added as members of the object.
+	 */
+	AccessLogFormat JSON = new AccessLogFormats.BuiltIn("JSON", AccessLogFormats::json);
+
+	/**
+	 * Append the record to the given {@link StringBuilder}, without a line separator.
+	 *
+	 * @param args the information about the completed HTTP exchange
+	 * @param fields the additional fields, in order of declaration
+	 * @param sb the {@link StringBuilder} to append to
+	 */
+	void format(AccessLogArgProvider args, Map<String, Object> fields, StringBuilder sb);
+
+	/**
+	 * Return the names of the request headers read by this format with
+	 * {@link AccessLogArgProvider#requestHeader(CharSequence)}. Only these headers are captured on the
+	 * event loop when the record is completed. By default {@code null}, all request headers are captured.
+	 *
+	 * @return the names of the request headers read by this format, or {@code null} for all of them
+	 */
+	@Nullable
+	default Set<? extends CharSequence> requestHeaders() {
+		return null;
+	}
+}
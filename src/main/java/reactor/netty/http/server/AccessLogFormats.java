@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+
+/**
+ * The built-in {@link AccessLogFormat} implementations.
+ *
+ * @author Violeta Georgieva
+ */
+final class AccessLogFormats {
+
+	/**
+	 * A built-in format, declaring the request headers it reads.
+	 */
+	static final class BuiltIn implements AccessLogFormat {
+
+		final String name;
+		final AccessLogFormat delegate;
+		final Set<CharSequence> requestHeaders;
+
+		BuiltIn(String name, AccessLogFormat delegate, CharSequence... requestHeaders) {
+			this.name = name;
+			this.delegate = delegate;
+			this.requestHeaders = requestHeaders.length == 0 ? Collections.emptySet() :
+					Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(requestHeaders)));
+		}
+
+		@Override
+		public void format(AccessLogArgProvider args, Map<String, Object> fields, StringBuilder sb) {
+			delegate.format(args, fields, sb);
+		}
+
+		@Override
+		public Set<CharSequence> requestHeaders() {
+			return requestHeaders;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	static void common(AccessLogArgProvider args, Map<String, Object> fields, StringBuilder sb) {
+		requestLine(args, sb);
+		sb.append(' ')
+		  .append(args.port())
+		  .append(' ')
+		  .append(args.duration())
+		  .append(" ms");
+		fields(fields, sb);
+	}
+
+	static void combined(AccessLogArgProvider args, Map<String, Object> fields, StringBuilder sb) {
+		requestLine(args, sb);
+		sb.append(" \"");
+		append(args.requestHeader(HttpHeaderNames.REFERER), sb);
+		sb.append("\" \"");
+		append(args.requestHeader(HttpHeaderNames.USER_AGENT), sb);
+		sb.append('"');
+		fields(fields, sb);
+	}
+
+	static void json(AccessLogArgProvider args, Map<String, Object> fields, StringBuilder sb) {
+		sb.append('{');
+		jsonMember("remoteAddress", args.remoteAddress(), sb).append(',');
+		jsonMember("user", args.user(), sb).append(',');
+		jsonMember("accessDateTime", args.accessDateTimeFormatted(), sb).append(',');
+		jsonMember("method", args.method(), sb).append(',');
+		jsonMember("uri", args.uri(), sb).append(',');
+		jsonMember("protocol", args.protocol(), sb).append(',');
+		jsonMember("status", args.status(), sb).append(',');
+		jsonMember("contentLength", args.contentLength() > -1 ? args.contentLength() : null, sb).append(',');
+		jsonMember("port", args.port(), sb).append(',');
+		jsonMember("duration", args.duration(), sb);
+		for (Map.Entry<String, Object> field : fields.entrySet()) {
+			sb.append(',');
+			jsonMember(field.getKey(), field.getValue(), sb);
+		}
+		sb.append('}');
+	}
+
+	static void requestLine(AccessLogArgProvider args, StringBuilder sb) {
+		append(args.remoteAddress(), sb);
+		sb.append(" - ")
+		  .append(args.user())
+		  .append(" [")
+		  .append(args.accessDateTimeFormatted())
+		  .append("] \"")
+		  .append(args.method())
+		  .append(' ')
+		  .append(args.uri())
+		  .append(' ')
+		  .append(args.protocol())
+		  .append("\" ")
+		  .append(args.status())
+		  .append(' ');
+		if (args.contentLength() > -1) {
+			sb.append(args.contentLength());
+		}
+		else {
+			sb.append(MISSING);
+		}
+	}
+
+	static void fields(Map<String, Object> fields, StringBuilder sb) {
+		for (Map.Entry<String, Object> field : fields.entrySet()) {
+			sb.append(' ')
+			  .append(field.getKey())
+			  .append("=\"");
+			append(field.getValue(), sb);
+			sb.append('"');
+		}
+	}
+
+	static void append(@Nullable Object value, StringBuilder sb) {
+		if (value == null) {
+			sb.append(MISSING);
+		}
+		else {
+			sb.append(value);
+		}
+	}
+
+	static StringBuilder jsonMember(String name, @Nullable Object value, StringBuilder sb) {
+		jsonString(name, sb).append(':');
+		if (value == null) {
+			sb.append("null");
+		}
+		else if (value instanceof Number || value instanceof Boolean) {
+			sb.append(value);
+		}
+		else {
+			jsonString(value.toString(), sb);
+		}
+		return sb;
+	}
+
+	static StringBuilder jsonString(CharSequence value, StringBuilder sb) {
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					sb.append("\\\"");
+					break;
+				case '\\':
+					sb.append("\\\\");
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				case '\r':
+					sb.append("\\r");
+					break;
+				case '\t':
+					sb.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						sb.append(String.format("\\u%04x", (int) c));
+					}
+					else {
+						sb.append(c);
+					}
+			}
+		}
+		return sb.append('"');
+	}
+
+	static final String MISSING = "-";
+}
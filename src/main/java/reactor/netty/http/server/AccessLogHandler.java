@@ -33,8 +33,14 @@ import io.netty.handler.codec.http.LastHttpContent;
  */
 final class AccessLogHandler extends ChannelDuplexHandler {
 
+	final AccessLogWriter writer;
+
 	AccessLog accessLog = new AccessLog();
 
+	AccessLogHandler(AccessLogWriter writer) {
+		this.writer = writer;
+	}
+
 	@Override
 	public void channelRead(ChannelHandlerContext ctx, Object msg) {
 		if (msg instanceof HttpRequest) {
@@ -46,7 +52,8 @@ final class AccessLogHandler extends ChannelDuplexHandler {
 			        .port(channel.localAddress().getPort())
 			        .method(request.method().name())
 			        .uri(request.uri())
-			        .protocol(request.protocolVersion().text());
+			        .protocol(request.protocolVersion().text())
+			        .requestHeaders(request.headers());
 		}
 		ctx.fireChannelRead(msg);
 	}
@@ -73,10 +80,11 @@ final class AccessLogHandler extends ChannelDuplexHandler {
 		}
 		if (msg instanceof LastHttpContent) {
 			accessLog.increaseContentLength(((LastHttpContent) msg).content().readableBytes());
+			final AccessLog accessLog = this.accessLog;
 			ctx.write(msg, promise.unvoid())
 			   .addListener(future -> {
-			       if (future.isSuccess()) {
-			           accessLog.log();
+			       if (future.isSuccess() && writer.isEnabled()) {
+			           writer.offer(accessLog.complete(writer.requestHeaders()));
 			       }
 			   });
 			return;
@@ -29,8 +29,14 @@ import io.netty.handler.codec.http2.Http2HeadersFrame;
 final class AccessLogHandlerH2 extends ChannelDuplexHandler {
 	static final String H2_PROTOCOL_NAME = "HTTP/2.0";
 
+	final AccessLogWriter writer;
+
 	AccessLog accessLog = new AccessLog();
 
+	AccessLogHandlerH2(AccessLogWriter writer) {
+		this.writer = writer;
+	}
+
 	@Override
 	public void channelRead(ChannelHandlerContext ctx, Object msg) {
 		if (msg instanceof Http2HeadersFrame){
@@ -44,7 +50,8 @@ final class AccessLogHandlerH2 extends ChannelDuplexHandler {
 			        .port(channel.localAddress().getPort())
 			        .method(headers.method())
 			        .uri(headers.path())
-			        .protocol(H2_PROTOCOL_NAME);
+			        .protocol(H2_PROTOCOL_NAME)
+			        .requestHeaders(headers);
 		}
 		ctx.fireChannelRead(msg);
 	}
@@ -68,10 +75,11 @@ final class AccessLogHandlerH2 extends ChannelDuplexHandler {
 			accessLog.increaseContentLength(data.content().readableBytes());
 		}
 		if (lastContent) {
+			final AccessLog accessLog = this.accessLog;
 			ctx.write(msg, promise.unvoid())
 			   .addListener(future -> {
-			       if (future.isSuccess()) {
-			           accessLog.log();
+			       if (future.isSuccess() && writer.isEnabled()) {
+			           writer.offer(accessLog.complete(writer.requestHeaders()));
 			       }
 			   });
 			return;
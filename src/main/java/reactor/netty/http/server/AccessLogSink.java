@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The destination of the access log records rendered by an {@link AccessLogWriter}.
+ * A sink is invoked only from the writer thread, one batch at a time, except for
+ * {@link #isEnabled()} which may be invoked from any thread.
+ *
+ * @author Violeta Georgieva
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface AccessLogSink {
+
+	/**
+	 * A sink that logs every record with level {@code INFO} using the
+	 * {@code reactor.netty.http.server.AccessLog} logger.
+	 *
+	 * @return a sink that logs every record with level {@code INFO}
+	 */
+	static AccessLogSink logger() {
+		return AccessLogSinks.LOGGER;
+	}
+
+	/**
+	 * A sink that appends every record as a line to the given file. The file is created
+	 * if it does not exist and is flushed after every batch.
+	 *
+	 * @param path the file to append to
+	 * @return a sink that appends every record as a line to the given file
+	 */
+	static AccessLogSink file(Path path) {
+		return new AccessLogSinks.FileSink(Objects.requireNonNull(path, "path"));
+	}
+
+	/**
+	 * Write a batch of records, in the order they were completed.
+	 *
+	 * @param records the records, without line separators
+	 * @throws IOException when the records cannot be written, the batch is discarded
+	 */
+	void write(List<? extends CharSequence> records) throws IOException;
+
+	/**
+	 * Return whether this sink writes the records, by default {@code true}. While the sink
+	 * is disabled, the completed records are discarded without being rendered.
+	 *
+	 * @return {@code true} if this sink writes the records
+	 */
+	default boolean isEnabled() {
+		return true;
+	}
+
+	/**
+	 * Release the resources held by this sink, invoked once the {@link AccessLogWriter}
+	 * is disposed and all pending records are written.
+	 *
+	 * @throws IOException when the resources cannot be released
+	 */
+	default void close() throws IOException {
+	}
+}
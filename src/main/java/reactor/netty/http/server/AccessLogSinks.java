@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * The built-in {@link AccessLogSink} implementations.
+ *
+ * @author Violeta Georgieva
+ */
+final class AccessLogSinks {
+
+	static final Logger log = Loggers.getLogger("reactor.netty.http.server.AccessLog");
+
+	static final AccessLogSink LOGGER = new LoggerSink();
+
+	static final class LoggerSink implements AccessLogSink {
+
+		@Override
+		public void write(List<? extends CharSequence> records) {
+			for (CharSequence record : records) {
+				log.info(record.toString());
+			}
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return log.isInfoEnabled();
+		}
+
+		@Override
+		public String toString() {
+			return "AccessLogSink{logger=" + log.getName() + '}';
+		}
+	}
+
+	static final class FileSink implements AccessLogSink {
+
+		final Path path;
+
+		Writer writer;
+
+		FileSink(Path path) {
+			this.path = path;
+		}
+
+		@Override
+		public void write(List<? extends CharSequence> records) throws IOException {
+			Writer writer = this.writer;
+			if (writer == null) {
+				writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+						StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+				this.writer = writer;
+			}
+			for (CharSequence record : records) {
+				writer.append(record)
+				      .append('\n');
+			}
+			writer.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			Writer writer = this.writer;
+			if (writer != null) {
+				this.writer = null;
+				writer.close();
+			}
+		}
+
+		@Override
+		public String toString() {
+			return "AccessLogSink{file=" + path + '}';
+		}
+	}
+}
@@ -0,0 +1,454 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import io.netty.util.AsciiString;
+import io.netty.util.concurrent.FastThreadLocalThread;
+import io.netty.util.internal.PlatformDependent;
+import reactor.core.Disposable;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * Writes the access log records of an {@link HttpServer} without blocking the event loop.
+ * <p>The event loop hands every completed record to a bounded lock-free ring buffer. A single
+ * background thread drains the buffer in batches, renders the records with the configured
+ * {@link AccessLogFormat} and writes them to the configured {@link AccessLogSink}. When the
+ * buffer is full the record is dropped and counted, see {@link #droppedRecords()}. While the sink
+ * is not {@link AccessLogSink#isEnabled() enabled}, the records are neither queued nor rendered.
+ * <p>Only the request headers read by the format, see {@link AccessLogFormat#requestHeaders()},
+ * and the ones declared with {@link Builder#requestHeaders(CharSequence...)} are captured on the event loop.
+ * <p>The writer thread is started when the first record is offered and is stopped on {@link #dispose()},
+ * after the pending records are written.
+ *
+ * @author Violeta Georgieva
+ * @since 1.0.0
+ */
+public final class AccessLogWriter implements Disposable {
+
+	/**
+	 * Creates a builder for {@link AccessLogWriter}.
+	 *
+	 * @return a new {@link AccessLogWriter.Builder}
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Creates a new {@link AccessLogWriter} with the {@link AccessLogFormat#COMMON} format
+	 * and the {@link AccessLogSink#logger()} sink.
+	 *
+	 * @return a new {@link AccessLogWriter}
+	 */
+	public static AccessLogWriter create() {
+		return builder().build();
+	}
+
+	final AccessLogFormat format;
+	final AccessLogSink sink;
+	final Map<String, Function<? super AccessLogArgProvider, ?>> fields;
+	final Set<AsciiString> requestHeaders;
+	final int batchSize;
+	final Queue<AccessLogArgProvider> queue;
+
+	volatile long droppedRecords;
+	static final AtomicLongFieldUpdater<AccessLogWriter> DROPPED_RECORDS =
+			AtomicLongFieldUpdater.newUpdater(AccessLogWriter.class, "droppedRecords");
+
+	volatile int state;
+	static final AtomicIntegerFieldUpdater<AccessLogWriter> STATE =
+			AtomicIntegerFieldUpdater.newUpdater(AccessLogWriter.class, "state");
+
+	volatile boolean parked;
+
+	Thread thread;
+
+	AccessLogWriter(Builder builder) {
+		this.format = builder.format;
+		this.sink = builder.sink;
+		this.fields = builder.fields.isEmpty() ? Collections.emptyMap() : new LinkedHashMap<>(builder.fields);
+		this.requestHeaders = requestHeaders(format.requestHeaders(), builder.requestHeaders);
+		this.batchSize = builder.batchSize;
+		this.queue = PlatformDependent.newFixedMpscQueue(builder.bufferSize);
+	}
+
+	/**
+	 * Return the number of records dropped because the buffer was full or the writer was disposed.
+	 *
+	 * @return the number of dropped records
+	 */
+	public long droppedRecords() {
+		return droppedRecords;
+	}
+
+	@Override
+	public void dispose() {
+		for (;;) {
+			int state = this.state;
+			if (state == DISPOSED) {
+				return;
+			}
+			if (STATE.compareAndSet(this, state, DISPOSED)) {
+				if (state == RUNNING) {
+					Thread thread;
+					synchronized (this) {
+						// start() has returned, the thread is started
+						thread = this.thread;
+					}
+					LockSupport.unpark(thread);
+					try {
+						thread.join(TimeUnit.SECONDS.toMillis(DISPOSE_TIMEOUT_SECONDS));
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				else {
+					closeSink();
+				}
+				return;
+			}
+		}
+	}
+
+	@Override
+	public boolean isDisposed() {
+		return state == DISPOSED;
+	}
+
+	@Override
+	public String toString() {
+		return "AccessLogWriter{format=" + format + ", sink=" + sink + ", fields=" + fields.keySet() + '}';
+	}
+
+	/**
+	 * Return whether the sink writes the records, invoked on the event loop before
+	 * completing a record.
+	 *
+	 * @return {@code true} if the sink writes the records
+	 */
+	boolean isEnabled() {
+		return sink.isEnabled();
+	}
+
+	/**
+	 * Return the lower case names of the request headers to capture when a record is completed,
+	 * or {@code null} when all request headers have to be captured.
+	 *
+	 * @return the names of the request headers to capture, or {@code null} for all of them
+	 */
+	@Nullable
+	Set<AsciiString> requestHeaders() {
+		return requestHeaders;
+	}
+
+	/**
+	 * Hand a completed record to the writer thread, invoked on the event loop.
+	 *
+	 * @param record the completed record
+	 */
+	void offer(AccessLogArgProvider record) {
+		int state = this.state;
+		if (state == DISPOSED || !queue.offer(record)) {
+			DROPPED_RECORDS.incrementAndGet(this);
+			return;
+		}
+		if (state == CREATED) {
+			start();
+		}
+		else if (parked) {
+			LockSupport.unpark(thread);
+		}
+	}
+
+	void start() {
+		synchronized (this) {
+			if (state != CREATED) {
+				return;
+			}
+			Thread thread = new FastThreadLocalThread(this::run, THREAD_NAME);
+			thread.setDaemon(true);
+			this.thread = thread;
+			// the thread is published before the state, so that offer() can unpark it
+			if (STATE.compareAndSet(this, CREATED, RUNNING)) {
+				thread.start();
+			}
+		}
+	}
+
+	void run() {
+		List<String> batch = new ArrayList<>(batchSize);
+		StringBuilder sb = new StringBuilder(256);
+		Map<String, Object> values = fields.isEmpty() ? Collections.emptyMap() : new LinkedHashMap<>();
+		long reportedDropped = 0;
+		long reportedTime = 0;
+		for (;;) {
+			AccessLogArgProvider record;
+			if (sink.isEnabled()) {
+				while (batch.size() < batchSize && (record = queue.poll()) != null) {
+					batch.add(render(record, sb, values));
+				}
+			}
+			else {
+				// the sink was disabled after the records were queued, do not render them
+				while (queue.poll() != null) {
+					// discard
+				}
+			}
+			if (!batch.isEmpty()) {
+				write(batch);
+				batch.clear();
+				continue;
+			}
+
+			long dropped = droppedRecords;
+			if (dropped != reportedDropped && log.isWarnEnabled()) {
+				long now = System.nanoTime();
+				if (now - reportedTime >= DROPPED_REPORT_INTERVAL_NANOS) {
+					log.warn("{} access log records were dropped because the buffer was full, {} in total",
+							dropped - reportedDropped, dropped);
+					reportedDropped = dropped;
+					reportedTime = now;
+				}
+			}
+
+			if (state == DISPOSED) {
+				if (queue.isEmpty()) {
+					break;
+				}
+				continue;
+			}
+			parked = true;
+			if (queue.isEmpty() && state != DISPOSED) {
+				LockSupport.parkNanos(this, PARK_NANOS);
+			}
+			parked = false;
+		}
+		closeSink();
+	}
+
+	String render(AccessLogArgProvider record, StringBuilder sb, Map<String, Object> values) {
+		sb.setLength(0);
+		try {
+			if (!fields.isEmpty()) {
+				values.clear();
+				for (Map.Entry<String, Function<? super AccessLogArgProvider, ?>> field : fields.entrySet()) {
+					values.put(field.getKey(), field.getValue().apply(record));
+				}
+			}
+			format.format(record, values, sb);
+		}
+		catch (Throwable t) {
+			log.error("Failed to format the access log record", t);
+		}
+		return sb.toString();
+	}
+
+	void write(List<String> batch) {
+		try {
+			sink.write(batch);
+		}
+		catch (Throwable t) {
+			log.error("Failed to write " + batch.size() + " access log records", t);
+		}
+	}
+
+	void closeSink() {
+		try {
+			sink.close();
+		}
+		catch (Throwable t) {
+			log.error("Failed to close the access log sink", t);
+		}
+	}
+
+	@Nullable
+	static Set<AsciiString> requestHeaders(@Nullable Set<? extends CharSequence> formatHeaders,
+			Set<CharSequence> fieldHeaders) {
+		if (formatHeaders == null) {
+			return null;
+		}
+		if (formatHeaders.isEmpty() && fieldHeaders.isEmpty()) {
+			return Collections.emptySet();
+		}
+		Set<AsciiString> names = new HashSet<>();
+		for (CharSequence name : formatHeaders) {
+			names.add(AsciiString.of(name).toLowerCase());
+		}
+		for (CharSequence name : fieldHeaders) {
+			names.add(AsciiString.of(name).toLowerCase());
+		}
+		return Collections.unmodifiableSet(names);
+	}
+
+	/**
+	 * Return the shared {@link AccessLogWriter} used when the access log is enabled
+	 * without an explicit writer.
+	 *
+	 * @return the shared {@link AccessLogWriter}
+	 */
+	static AccessLogWriter defaultWriter() {
+		return DefaultWriter.INSTANCE;
+	}
+
+	/**
+	 * Builder for {@link AccessLogWriter}.
+	 */
+	public static final class Builder {
+
+		AccessLogFormat format = AccessLogFormat.COMMON;
+		AccessLogSink sink = AccessLogSink.logger();
+		final Map<String, Function<? super AccessLogArgProvider, ?>> fields = new LinkedHashMap<>();
+		final Set<CharSequence> requestHeaders = new LinkedHashSet<>();
+		int bufferSize = DEFAULT_BUFFER_SIZE;
+		int batchSize = DEFAULT_BATCH_SIZE;
+
+		Builder() {
+		}
+
+		/**
+		 * The format used to render the records, by default {@link AccessLogFormat#COMMON}.
+		 *
+		 * @param format the format used to render the records
+		 * @return {@literal this}
+		 * @throws NullPointerException if format is null
+		 */
+		public Builder format(AccessLogFormat format) {
+			this.format = Objects.requireNonNull(format, "format");
+			return this;
+		}
+
+		/**
+		 * The destination of the rendered records, by default {@link AccessLogSink#logger()}.
+		 *
+		 * @param sink the destination of the rendered records
+		 * @return {@literal this}
+		 * @throws NullPointerException if sink is null
+		 */
+		public Builder sink(AccessLogSink sink) {
+			this.sink = Objects.requireNonNull(sink, "sink");
+			return this;
+		}
+
+		/**
+		 * Add a field to every record. The value is computed on the writer thread and is
+		 * rendered after the standard fields, in order of declaration. The request headers read by
+		 * the field have to be declared with {@link #requestHeaders(CharSequence...)}.
+		 *
+		 * @param name the field name
+		 * @param value a function computing the field value from the record
+		 * @return {@literal this}
+		 * @throws NullPointerException if name or/and value are null
+		 */
+		public Builder field(String name, Function<? super AccessLogArgProvider, ?> value) {
+			fields.put(Objects.requireNonNull(name, "name"), Objects.requireNonNull(value, "value"));
+			return this;
+		}
+
+		/**
+		 * Declare the request headers read by the fields with {@link AccessLogArgProvider#requestHeader(CharSequence)}.
+		 * Only these headers and the ones read by the format are captured when a record is completed,
+		 * the other request headers are not available to the fields.
+		 *
+		 * @param names the names of the request headers read by the fields
+		 * @return {@literal this}
+		 * @throws NullPointerException if names or/and one of the names are null
+		 */
+		public Builder requestHeaders(CharSequence... names) {
+			Objects.requireNonNull(names, "names");
+			for (CharSequence name : names) {
+				requestHeaders.add(Objects.requireNonNull(name, "name"));
+			}
+			return this;
+		}
+
+		/**
+		 * The maximum number of records waiting to be written, by default {@code 8192}.
+		 * When the buffer is full the records are dropped.
+		 *
+		 * @param bufferSize the maximum number of records waiting to be written
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if bufferSize is not positive
+		 */
+		public Builder bufferSize(int bufferSize) {
+			if (bufferSize <= 0) {
+				throw new IllegalArgumentException("bufferSize must be positive, provided: " + bufferSize);
+			}
+			this.bufferSize = bufferSize;
+			return this;
+		}
+
+		/**
+		 * The maximum number of records handed to the sink at once, by default {@code 256}.
+		 *
+		 * @param batchSize the maximum number of records handed to the sink at once
+		 * @return {@literal this}
+		 * @throws IllegalArgumentException if batchSize is not positive
+		 */
+		public Builder batchSize(int batchSize) {
+			if (batchSize <= 0) {
+				throw new IllegalArgumentException("batchSize must be positive, provided: " + batchSize);
+			}
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link AccessLogWriter}.
+		 *
+		 * @return a new {@link AccessLogWriter}
+		 */
+		public AccessLogWriter build() {
+			return new AccessLogWriter(this);
+		}
+	}
+
+	static final class DefaultWriter {
+		static final AccessLogWriter INSTANCE = create();
+	}
+
+	static final Logger log = Loggers.getLogger(AccessLogWriter.class);
+
+	static final int CREATED = 0;
+	static final int RUNNING = 1;
+	static final int DISPOSED = 2;
+
+	static final int DEFAULT_BUFFER_SIZE = 8192;
+	static final int DEFAULT_BATCH_SIZE = 256;
+
+	static final long DISPOSE_TIMEOUT_SECONDS = 10;
+	static final long DROPPED_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+	static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+	static final String THREAD_NAME = "reactor-http-access-log";
+}
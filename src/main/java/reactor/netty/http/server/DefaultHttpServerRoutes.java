@@ -16,10 +16,11 @@
 
 package reactor.netty.http.server;
 
-import java.net.URI;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -28,6 +29,8 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import javax.annotation.Nullable;
 
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
 import org.reactivestreams.Publisher;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
@@ -41,32 +44,23 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 	private final CopyOnWriteArrayList<HttpRouteHandler> handlers =
 			new CopyOnWriteArrayList<>();
 
-	@Override
-	public HttpServerRoutes directory(String uri, Path directory,
-			Function<HttpServerResponse, HttpServerResponse> interceptor) {
-		Objects.requireNonNull(directory, "directory");
-		return route(HttpPredicate.prefix(uri), (req, resp) -> {
+	private final boolean compiled;
 
-			String prefix = URI.create(req.uri())
-			                   .getPath()
-			                   .replaceFirst(uri, "");
+	private volatile CompiledRoutes compiledRoutes;
 
-			if(prefix.charAt(0) == '/'){
-				prefix = prefix.substring(1);
-			}
-
-			Path p = directory.resolve(prefix);
-			if (Files.isReadable(p)) {
+	DefaultHttpServerRoutes() {
+		this(false);
+	}
 
-				if (interceptor != null) {
-					return interceptor.apply(resp)
-					                  .sendFile(p);
-				}
-				return resp.sendFile(p);
-			}
+	DefaultHttpServerRoutes(boolean compiled) {
+		this.compiled = compiled;
+	}
 
-			return resp.sendNotFound();
-		});
+	@Override
+	public HttpServerRoutes directory(String uri, Path directory,
+			Function<HttpServerResponse, HttpServerResponse> interceptor) {
+		Objects.requireNonNull(directory, "directory");
+		return route(HttpPredicate.prefix(uri), new StaticResourceHandler(uri, directory, interceptor));
 	}
 
 	@Override
@@ -83,19 +77,29 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		else {
 			handlers.add(new HttpRouteHandler(condition, handler, null));
 		}
+		if (compiled) {
+			synchronized (this) {
+				compiledRoutes = null;
+			}
+		}
 		return this;
 	}
 
 	@Override
 	public Publisher<Void> apply(HttpServerRequest request, HttpServerResponse response) {
+		if (compiled) {
+			return applyCompiled(request, response);
+		}
+
 		final Iterator<HttpRouteHandler> iterator = handlers.iterator();
 		HttpRouteHandler cursor;
 
 		try {
 			while (iterator.hasNext()) {
 				cursor = iterator.next();
-				if (cursor.test(request)) {
-					return cursor.apply(request, response);
+				Map<String, String> params = cursor.match(request);
+				if (params != null) {
+					return cursor.apply(request, response, params);
 				}
 			}
 		}
@@ -107,34 +111,329 @@ final class DefaultHttpServerRoutes implements HttpServerRoutes {
 		return response.sendNotFound();
 	}
 
+	Publisher<Void> applyCompiled(HttpServerRequest request, HttpServerResponse response) {
+		CompiledRoutes routes = compiledRoutes;
+		if (routes == null) {
+			synchronized (this) {
+				routes = compiledRoutes;
+				if (routes == null) {
+					compiledRoutes = routes = new CompiledRoutes(handlers);
+				}
+			}
+		}
+
+		try {
+			RouteMatch match = routes.find(request);
+			if (match.handler != null) {
+				return match.handler.apply(request, response, match.params);
+			}
+		}
+		catch (Throwable t) {
+			Exceptions.throwIfJvmFatal(t);
+			return Mono.error(t); //500
+		}
+
+		return response.sendNotFound();
+	}
+
 	/**
+	 * A snapshot of the registered routes where the {@link HttpPredicate} routes, with a
+	 * template made of literal segments, whole-segment {@code {var}} captures and a
+	 * trailing {@code **} or {@code {var}**} capture, are indexed in a tree of path
+	 * segments keyed by method. The remaining routes are tested one by one, as with the
+	 * default router. Routes keep their precedence in order of declaration.
+	 * <p>Literal segments are compared as is, e.g. {@code .} is not a wildcard.
 	 */
-	static final class HttpRouteHandler
-			implements BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>>,
-			           Predicate<HttpServerRequest> {
+	static final class CompiledRoutes {
+
+		final Map<HttpMethod, RouteNode> methodTrees = new HashMap<>();
+		final RouteNode                  anyMethodTree = new RouteNode();
+		final List<RouteEntry>           fallback = new ArrayList<>();
+
+		int captures;
+
+		CompiledRoutes(List<HttpRouteHandler> handlers) {
+			int index = 0;
+			for (HttpRouteHandler handler : handlers) {
+				if (!(handler.condition instanceof HttpPredicate) ||
+						!add((HttpPredicate) handler.condition, index, handler)) {
+					fallback.add(new RouteEntry(index, handler, null));
+				}
+				index++;
+			}
+		}
+
+		RouteMatch find(HttpServerRequest request) {
+			RouteMatch match = new RouteMatch(request, captures);
+			if (!methodTrees.isEmpty() || anyMethodTree.hasRoutes) {
+				String path = HttpPredicate.UriPathTemplate.filterQueryParams(
+						HttpPredicate.UriPathTemplate.filterHostAndPort(request.uri()));
+				if (!path.isEmpty() && path.charAt(0) == '/') {
+					RouteNode tree = methodTrees.get(request.method());
+					if (tree != null) {
+						tree.find(path, 1, 0, match);
+					}
+					anyMethodTree.find(path, 1, 0, match);
+				}
+			}
+
+			for (RouteEntry entry : fallback) {
+				if (entry.index > match.index) {
+					break;
+				}
+				Map<String, String> params = entry.handler.match(request);
+				if (params != null) {
+					match.handler = entry.handler;
+					match.params = params;
+					break;
+				}
+			}
+			return match;
+		}
+
+		boolean add(HttpPredicate predicate, int index, HttpRouteHandler handler) {
+			if (predicate.uri == null) {
+				return false;
+			}
+			String path = HttpPredicate.UriPathTemplate.filterQueryParams(
+					HttpPredicate.UriPathTemplate.filterHostAndPort(predicate.uri));
+			if (path.isEmpty() || path.charAt(0) != '/') {
+				return false;
+			}
 
-		final Predicate<? super HttpServerRequest>          condition;
+			List<String> segments = new ArrayList<>();
+			int start = 1;
+			int end;
+			do {
+				end = path.indexOf('/', start);
+				if (end == -1) {
+					end = path.length();
+				}
+				String segment = path.substring(start, end);
+				if (isSplat(segment)) {
+					if (end != path.length()) {
+						return false;
+					}
+				}
+				else if (!isVariable(segment) && !isLiteral(segment)) {
+					return false;
+				}
+				segments.add(segment);
+				start = end + 1;
+			}
+			while (end < path.length());
+
+			RouteNode node;
+			if (predicate.method == null) {
+				node = anyMethodTree;
+			}
+			else {
+				node = methodTrees.computeIfAbsent(predicate.method, m -> new RouteNode());
+			}
+			node.hasRoutes = true;
+
+			List<String> names = new ArrayList<>();
+			for (String segment : segments) {
+				if (isSplat(segment)) {
+					if (segment.length() > 2) {
+						names.add(segment.substring(1, segment.length() - 3));
+					}
+					node.splats.add(newEntry(index, handler, names));
+					return true;
+				}
+				else if (isVariable(segment)) {
+					names.add(segment.substring(1, segment.length() - 1));
+					if (node.variable == null) {
+						node.variable = new RouteNode();
+					}
+					node = node.variable;
+				}
+				else {
+					node = node.literals.computeIfAbsent(segment, s -> new RouteNode());
+				}
+			}
+			node.routes.add(newEntry(index, handler, names));
+			return true;
+		}
+
+		RouteEntry newEntry(int index, HttpRouteHandler handler, List<String> names) {
+			captures = Math.max(captures, names.size());
+			return new RouteEntry(index, handler, names.toArray(new String[0]));
+		}
+
+		static boolean isLiteral(String segment) {
+			for (int i = 0; i < segment.length(); i++) {
+				if (REGEX_CHARS.indexOf(segment.charAt(i)) != -1) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		static boolean isSplat(String segment) {
+			return "**".equals(segment) ||
+					(segment.endsWith("**") && isVariable(segment.substring(0, segment.length() - 2)));
+		}
+
+		static boolean isVariable(String segment) {
+			int length = segment.length();
+			return length > 2 &&
+					segment.charAt(0) == '{' &&
+					segment.indexOf('}') == length - 1 &&
+					segment.lastIndexOf('{') == 0;
+		}
+
+		static final String REGEX_CHARS = "\\[]{}()*+?^$|";
+	}
+
+	static final class RouteNode {
+
+		final Map<String, RouteNode> literals = new HashMap<>();
+		final List<RouteEntry>       routes = new ArrayList<>();
+		final List<RouteEntry>       splats = new ArrayList<>();
+
+		RouteNode variable;
+		boolean   hasRoutes;
+
+		/**
+		 * Find the routes matching the path segments starting at {@code start}. When all
+		 * segments are consumed, {@code start} is past the end of the path. The bounds of
+		 * the {@code depth} segments matched by variables so far are kept in the
+		 * {@link RouteMatch}.
+		 */
+		void find(String path, int start, int depth, RouteMatch match) {
+			int length = path.length();
+			if (start > length) {
+				match.offer(routes, path);
+				return;
+			}
+
+			if (!splats.isEmpty()) {
+				match.capture(depth, start, length);
+				match.offer(splats, path);
+			}
+
+			int end = path.indexOf('/', start);
+			if (end == -1) {
+				end = length;
+			}
+
+			if (!literals.isEmpty()) {
+				RouteNode literal = literals.get(path.substring(start, end));
+				if (literal != null) {
+					literal.find(path, end + 1, depth, match);
+				}
+			}
+
+			if (variable != null) {
+				match.capture(depth, start, end);
+				variable.find(path, end + 1, depth + 1, match);
+			}
+		}
+	}
+
+	static final class RouteEntry {
+
+		final int              index;
+		final HttpRouteHandler handler;
+		final HttpVersion      protocol;
+		final String[]         names;
+
+		RouteEntry(int index, HttpRouteHandler handler, @Nullable String[] names) {
+			this.index = index;
+			this.handler = handler;
+			this.protocol = handler.condition instanceof HttpPredicate ?
+					((HttpPredicate) handler.condition).protocol : null;
+			this.names = names;
+		}
+	}
+
+	/**
+	 * Keeps the route declared first among the routes found so far, together with the
+	 * path parameters captured for it.
+	 */
+	static final class RouteMatch {
+
+		final HttpServerRequest request;
+		final int[]             starts;
+		final int[]             ends;
+
+		int                 index = Integer.MAX_VALUE;
+		HttpRouteHandler    handler;
+		Map<String, String> params;
+
+		RouteMatch(HttpServerRequest request, int captures) {
+			this.request = request;
+			this.starts = new int[captures];
+			this.ends = new int[captures];
+		}
+
+		void capture(int depth, int start, int end) {
+			if (depth < starts.length) {
+				starts[depth] = start;
+				ends[depth] = end;
+			}
+		}
+
+		void offer(List<RouteEntry> entries, String path) {
+			for (int i = 0; i < entries.size(); i++) {
+				RouteEntry entry = entries.get(i);
+				if (entry.index >= index) {
+					return;
+				}
+				if (entry.protocol == null || entry.protocol.equals(request.version())) {
+					index = entry.index;
+					handler = entry.handler;
+					params = captured(entry.names, path);
+					return;
+				}
+			}
+		}
+
+		Map<String, String> captured(String[] names, String path) {
+			if (names.length == 0) {
+				return PathParams.EMPTY;
+			}
+			String[] values = new String[names.length];
+			for (int i = 0; i < names.length; i++) {
+				values[i] = path.substring(starts[i], ends[i]);
+			}
+			return new PathParams(names, values);
+		}
+	}
+
+	/**
+	 */
+	static final class HttpRouteHandler {
+
+		final Predicate<? super HttpServerRequest> condition;
 		final BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>>
-		                                                    handler;
-		final Function<? super String, Map<String, String>> resolver;
+		                                           handler;
+		final HttpPredicate                        predicate;
 
 		HttpRouteHandler(Predicate<? super HttpServerRequest> condition,
 				BiFunction<? super HttpServerRequest, ? super HttpServerResponse, ? extends Publisher<Void>> handler,
-				@Nullable Function<? super String, Map<String, String>> resolver) {
+				@Nullable HttpPredicate predicate) {
 			this.condition = Objects.requireNonNull(condition, "condition");
 			this.handler = Objects.requireNonNull(handler, "handler");
-			this.resolver = resolver;
+			this.predicate = predicate;
 		}
 
-		@Override
-		public Publisher<Void> apply(HttpServerRequest request,
-				HttpServerResponse response) {
-			return handler.apply(request.paramsResolver(resolver), response);
+		Publisher<Void> apply(HttpServerRequest request, HttpServerResponse response,
+				Map<String, String> params) {
+			return handler.apply(request.paramsResolver(uri -> params), response);
 		}
 
-		@Override
-		public boolean test(HttpServerRequest o) {
-			return condition.test(o);
+		/**
+		 * Returns the path parameters, possibly empty, or {@code null} if the request
+		 * does not match this route.
+		 */
+		@Nullable
+		Map<String, String> match(HttpServerRequest request) {
+			if (predicate != null) {
+				return predicate.testAndCapture(request);
+			}
+			return condition.test(request) ? PathParams.EMPTY : null;
 		}
 	}
 
@@ -233,6 +233,21 @@ final class HttpPredicate
 				key.method())) && (template == null || template.matches(key.uri()));
 	}
 
+	/**
+	 * Tests the given request and captures the path parameters with a single match.
+	 *
+	 * @param key the request to test
+	 * @return the path parameters, possibly empty, or {@code null} if there is no match
+	 */
+	@Nullable
+	final Map<String, String> testAndCapture(HttpServerRequest key) {
+		if ((protocol != null && !protocol.equals(key.version())) || (method != null && !method.equals(
+				key.method()))) {
+			return null;
+		}
+		return template == null ? PathParams.EMPTY : template.capture(key.uri());
+	}
+
 	/**
 	 * Represents a URI template. A URI template is a URI-like String that contains
 	 * variables enclosed by braces (<code>{</code>, <code>}</code>), which can be
@@ -260,6 +275,8 @@ final class HttpPredicate
 
 		private final List<String> pathVariables = new ArrayList<>();
 
+		private final String[] pathVariableNames;
+
 		private final Pattern uriPattern;
 
 		private static String getNameSplatReplacement(String name) {
@@ -331,6 +348,7 @@ final class HttpPredicate
 			}
 
 			this.uriPattern = Pattern.compile(s + "$");
+			this.pathVariableNames = pathVariables.toArray(new String[0]);
 		}
 
 		/**
@@ -368,6 +386,31 @@ final class HttpPredicate
 			return pathParameters;
 		}
 
+		/**
+		 * Matches the template against the given {@code uri} returning an immutable map
+		 * of path parameters extracted from the uri, keyed by the names in the template.
+		 *
+		 * @param uri The uri to match
+		 *
+		 * @return the path parameters, possibly empty, or {@code null} if the uri does
+		 * not match
+		 */
+		@Nullable
+		final Map<String, String> capture(String uri) {
+			Matcher m = matcher(uri);
+			if (!m.matches()) {
+				return null;
+			}
+			if (pathVariableNames.length == 0) {
+				return PathParams.EMPTY;
+			}
+			String[] values = new String[pathVariableNames.length];
+			for (int i = 0; i < values.length; i++) {
+				values[i] = m.group(i + 1);
+			}
+			return new PathParams(pathVariableNames, values);
+		}
+
 		private Matcher matcher(String uri) {
 			uri = filterQueryParams(filterHostAndPort(uri));
 			return uriPattern.matcher(uri);
@@ -31,6 +31,7 @@ import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.UriTagLimiter;
 import reactor.netty.tcp.SslProvider;
 import reactor.netty.transport.ServerTransport;
 import reactor.util.Logger;
@@ -68,6 +69,40 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		return HttpServerBind.INSTANCE;
 	}
 
+	/**
+	 * Specifies whether the access log is enabled. When enabled, the records are written with
+	 * {@link AccessLogFormat#COMMON} format to the {@code reactor.netty.http.server.AccessLog}
+	 * logger by a shared {@link AccessLogWriter}.
+	 * By default the access log is enabled with the {@code reactor.netty.http.server.accessLogEnabled}
+	 * system property.
+	 *
+	 * @param enable if true the access log is enabled, otherwise disabled
+	 * @return a new {@link HttpServer}
+	 * @since 1.0.0
+	 */
+	public final HttpServer accessLog(boolean enable) {
+		HttpServer dup = duplicate();
+		dup.configuration().accessLog = enable ? AccessLogWriter.defaultWriter() : null;
+		return dup;
+	}
+
+	/**
+	 * Enable the access log and write the records with the given {@link AccessLogWriter}.
+	 * The records are handed to the writer without blocking the event loop, the writer
+	 * is responsible for formatting and writing them.
+	 * The {@link AccessLogWriter} is not disposed together with the server.
+	 *
+	 * @param writer the {@link AccessLogWriter} that writes the records
+	 * @return a new {@link HttpServer}
+	 * @since 1.0.0
+	 */
+	public final HttpServer accessLog(AccessLogWriter writer) {
+		Objects.requireNonNull(writer, "writer");
+		HttpServer dup = duplicate();
+		dup.configuration().accessLog = writer;
+		return dup;
+	}
+
 	/**
 	 * Enable GZip response compression if the client request presents accept encoding
 	 * headers and the provided {@link java.util.function.Predicate} matches.
@@ -262,6 +297,32 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 		}
 	}
 
+	/**
+	 * Whether to enable metrics to be collected and registered in Micrometer's
+	 * {@link io.micrometer.core.instrument.Metrics#globalRegistry globalRegistry}
+	 * under the name {@link reactor.netty.Metrics#HTTP_SERVER_PREFIX}, with an upper limit for the number
+	 * of the distinct {@link reactor.netty.Metrics#URI} tag values.
+	 * <p>{@code uriTagValue} function receives the actual uri and returns the uri tag value.
+	 * The first {@code maxUriTags} distinct values are used as is, every other value is collapsed into
+	 * {@link UriTagLimiter#OTHER}, so that uris with identifiers cannot create an unbounded number of meters.
+	 * The number of the collapsed values is counted by the
+	 * {@link reactor.netty.Metrics#URI_TAGS_COLLAPSED} counter.
+	 * <p>By default metrics are not enabled.
+	 *
+	 * @param enable true enables metrics collection; false disables it
+	 * @param uriTagValue a function that receives the actual uri and returns the uri tag value
+	 * that will be used for the metrics with {@link reactor.netty.Metrics#URI} tag
+	 * @param maxUriTags the maximum number of distinct uri tag values
+	 * @return a new {@link HttpServer}
+	 * @since 1.0.0
+	 */
+	public final HttpServer metrics(boolean enable, Function<String, String> uriTagValue, int maxUriTags) {
+		if (enable) {
+			return metrics(true, new UriTagLimiter(reactor.netty.Metrics.HTTP_SERVER_PREFIX, uriTagValue, maxUriTags));
+		}
+		return metrics(false, uriTagValue);
+	}
+
 	/**
 	 * Removes any previously applied SSL configuration customization
 	 *
@@ -336,8 +397,23 @@ public abstract class HttpServer extends ServerTransport<HttpServer, HttpServerC
 	 * @return a new {@link HttpServer} starting the router on subscribe
 	 */
 	public final HttpServer route(Consumer<? super HttpServerRoutes> routesBuilder) {
+		return route(routesBuilder, false);
+	}
+
+	/**
+	 * Define routes for the server through the provided {@link HttpServerRoutes} builder.
+	 * When {@code compiled} is {@code true}, the routes declared with a path template are
+	 * looked up in a tree of path segments instead of being tested one by one.
+	 *
+	 * @param routesBuilder provides a route builder to be mutated in order to define routes.
+	 * @param compiled whether the routes declared with a path template are indexed
+	 * @return a new {@link HttpServer} starting the router on subscribe
+	 * @see HttpServerRoutes#newRoutes(boolean)
+	 * @since 1.0.0
+	 */
+	public final HttpServer route(Consumer<? super HttpServerRoutes> routesBuilder, boolean compiled) {
 		Objects.requireNonNull(routesBuilder, "routeBuilder");
-		HttpServerRoutes routes = HttpServerRoutes.newRoutes();
+		HttpServerRoutes routes = HttpServerRoutes.newRoutes(compiled);
 		routesBuilder.accept(routes);
 		return handle(routes);
 	}
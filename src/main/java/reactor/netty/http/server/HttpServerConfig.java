@@ -75,6 +75,17 @@ import static reactor.netty.ReactorNetty.format;
  */
 public final class HttpServerConfig extends ServerTransportConfig<HttpServerConfig> {
 
+	/**
+	 * Return the configured {@link AccessLogWriter} or null when the access log is disabled.
+	 *
+	 * @return the configured {@link AccessLogWriter} or null when the access log is disabled
+	 * @since 1.0.0
+	 */
+	@Nullable
+	public AccessLogWriter accessLog() {
+		return accessLog;
+	}
+
 	/**
 	 * Return the configured compression predicate or null.
 	 *
@@ -187,6 +198,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 	// Protected/Package private write API
 
+	AccessLogWriter                                    accessLog;
 	BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate;
 	ServerCookieDecoder                                cookieDecoder;
 	ServerCookieEncoder                                cookieEncoder;
@@ -200,6 +212,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 	HttpServerConfig(Map<ChannelOption<?>, ?> options, Map<ChannelOption<?>, ?> childOptions, Supplier<? extends SocketAddress> localAddress) {
 		super(options, childOptions, localAddress);
+		this.accessLog = ACCESS_LOG ? AccessLogWriter.defaultWriter() : null;
 		this.cookieDecoder = ServerCookieDecoder.STRICT;
 		this.cookieEncoder = ServerCookieEncoder.STRICT;
 		this.decoder = new HttpRequestDecoderSpec();
@@ -211,6 +224,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 	HttpServerConfig(HttpServerConfig parent) {
 		super(parent);
+		this.accessLog = parent.accessLog;
 		this.compressPredicate = parent.compressPredicate;
 		this.cookieDecoder = parent.cookieDecoder;
 		this.cookieEncoder = parent.cookieEncoder;
@@ -241,7 +255,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	@Override
 	protected ChannelPipelineConfigurer defaultOnChannelInit() {
 		return super.defaultOnChannelInit()
-		            .then(new HttpServerChannelInitializer(compressPredicate, cookieDecoder, cookieEncoder,
+		            .then(new HttpServerChannelInitializer(accessLog, compressPredicate, cookieDecoder, cookieEncoder,
 		                decoder, forwarded, metricsRecorder(), minCompressionSize, channelOperationsProvider(),
 		                    protocols, proxyProtocolSupportType, sslProvider, uriTagValue));
 	}
@@ -251,12 +265,12 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		super.metricsRecorder(metricsRecorder);
 	}
 
-	static void addStreamHandlers(Channel ch, ChannelOperations.OnSetup opsFactory,
+	static void addStreamHandlers(Channel ch, @Nullable AccessLogWriter accessLog, ChannelOperations.OnSetup opsFactory,
 			ConnectionObserver listener, boolean readForwardHeaders,
 			ServerCookieEncoder encoder, ServerCookieDecoder decoder) {
-		if (ACCESS_LOG) {
+		if (accessLog != null) {
 			ch.pipeline()
-			  .addLast(NettyPipeline.AccessLogHandler, new AccessLogHandlerH2());
+			  .addLast(NettyPipeline.AccessLogHandler, new AccessLogHandlerH2(accessLog));
 		}
 		ch.pipeline()
 		  .addLast(new Http2StreamFrameToHttpObjectCodec(true))
@@ -302,6 +316,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	}
 
 	static void configureH2Pipeline(ChannelPipeline p,
+			@Nullable AccessLogWriter accessLog,
 			ServerCookieDecoder cookieDecoder,
 			ServerCookieEncoder cookieEncoder,
 			boolean forwarded,
@@ -321,10 +336,11 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		}
 
 		p.addLast(NettyPipeline.HttpCodec, http2FrameCodecBuilder.build())
-		 .addLast(new Http2MultiplexHandler(new H2Codec(opsFactory, listener, forwarded, cookieEncoder, cookieDecoder)));
+		 .addLast(new Http2MultiplexHandler(new H2Codec(accessLog, opsFactory, listener, forwarded, cookieEncoder, cookieDecoder)));
 	}
 
 	static void configureHttp11OrH2CleartextPipeline(ChannelPipeline p,
+			@Nullable AccessLogWriter accessLog,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 			ServerCookieDecoder cookieDecoder,
 			ServerCookieEncoder cookieEncoder,
@@ -340,7 +356,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 						decoder.maxChunkSize(), decoder.validateHeaders(), decoder.initialBufferSize());
 
 		Http11OrH2CleartextCodec
-				upgrader = new Http11OrH2CleartextCodec(cookieDecoder, cookieEncoder, p.get(NettyPipeline.LoggingHandler) != null,
+				upgrader = new Http11OrH2CleartextCodec(accessLog, cookieDecoder, cookieEncoder, p.get(NettyPipeline.LoggingHandler) != null,
 						forwarded, listener, opsFactory, decoder.validateHeaders());
 
 		ChannelHandler http2ServerHandler = new H2CleartextCodec(upgrader);
@@ -355,8 +371,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		            NettyPipeline.HttpTrafficHandler,
 		            new HttpTrafficHandler(listener, forwarded, compressPredicate, cookieEncoder, cookieDecoder));
 
-		if (ACCESS_LOG) {
-			p.addAfter(NettyPipeline.H2CUpgradeHandler, NettyPipeline.AccessLogHandler, new AccessLogHandler());
+		if (accessLog != null) {
+			p.addAfter(NettyPipeline.H2CUpgradeHandler, NettyPipeline.AccessLogHandler, new AccessLogHandler(accessLog));
 		}
 
 		boolean alwaysCompress = compressPredicate == null && minCompressionSize == 0;
@@ -380,6 +396,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	}
 
 	static void configureHttp11Pipeline(ChannelPipeline p,
+			@Nullable AccessLogWriter accessLog,
 			@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 			ServerCookieDecoder cookieDecoder,
 			ServerCookieEncoder cookieEncoder,
@@ -397,8 +414,8 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		            NettyPipeline.HttpTrafficHandler,
 		            new HttpTrafficHandler(listener, forwarded, compressPredicate, cookieEncoder, cookieDecoder));
 
-		if (ACCESS_LOG) {
-			p.addAfter(NettyPipeline.HttpCodec, NettyPipeline.AccessLogHandler, new AccessLogHandler());
+		if (accessLog != null) {
+			p.addAfter(NettyPipeline.HttpCodec, NettyPipeline.AccessLogHandler, new AccessLogHandler(accessLog));
 		}
 
 		boolean alwaysCompress = compressPredicate == null && minCompressionSize == 0;
@@ -487,14 +504,16 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 	static final class H2Codec extends ChannelInitializer<Channel> {
 
+		final AccessLogWriter           accessLog;
 		final boolean                   forwarded;
 		final ConnectionObserver        listener;
 		final ServerCookieEncoder       cookieEncoder;
 		final ServerCookieDecoder       cookieDecoder;
 		final ChannelOperations.OnSetup opsFactory;
 
-		H2Codec(ChannelOperations.OnSetup opsFactory,ConnectionObserver listener, boolean forwarded,
-				ServerCookieEncoder encoder, ServerCookieDecoder decoder) {
+		H2Codec(@Nullable AccessLogWriter accessLog, ChannelOperations.OnSetup opsFactory, ConnectionObserver listener,
+				boolean forwarded, ServerCookieEncoder encoder, ServerCookieDecoder decoder) {
+			this.accessLog = accessLog;
 			this.forwarded = forwarded;
 			this.listener = listener;
 			this.cookieEncoder = encoder;
@@ -504,7 +523,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 		@Override
 		protected void initChannel(Channel ch) {
-			addStreamHandlers(ch, opsFactory, listener, forwarded, cookieEncoder, cookieDecoder);
+			addStreamHandlers(ch, accessLog, opsFactory, listener, forwarded, cookieEncoder, cookieDecoder);
 		}
 	}
 
@@ -512,6 +531,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 	static final class Http11OrH2CleartextCodec extends ChannelInitializer<Channel>
 			implements HttpServerUpgradeHandler.UpgradeCodecFactory {
 
+		final AccessLogWriter           accessLog;
 		final ServerCookieDecoder       cookieDecoder;
 		final ServerCookieEncoder       cookieEncoder;
 		final boolean                   forwarded;
@@ -520,6 +540,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final ChannelOperations.OnSetup opsFactory;
 
 		Http11OrH2CleartextCodec(
+				@Nullable AccessLogWriter accessLog,
 				ServerCookieDecoder cookieDecoder,
 				ServerCookieEncoder cookieEncoder,
 				boolean debug,
@@ -527,6 +548,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				ConnectionObserver listener,
 				ChannelOperations.OnSetup opsFactory,
 				boolean validate) {
+			this.accessLog = accessLog;
 			this.cookieDecoder = cookieDecoder;
 			this.cookieEncoder = cookieEncoder;
 			this.forwarded = forwarded;
@@ -550,7 +572,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		 */
 		@Override
 		protected void initChannel(Channel ch) {
-			addStreamHandlers(ch, opsFactory, listener, forwarded, cookieEncoder, cookieDecoder);
+			addStreamHandlers(ch, accessLog, opsFactory, listener, forwarded, cookieEncoder, cookieDecoder);
 		}
 
 		@Override
@@ -567,6 +589,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 	static final class Http11OrH2Codec extends ApplicationProtocolNegotiationHandler {
 
+		final AccessLogWriter                                    accessLog;
 		final BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate;
 		final ServerCookieDecoder                                cookieDecoder;
 		final ServerCookieEncoder                                cookieEncoder;
@@ -579,6 +602,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final Function<String, String>                           uriTagValue;
 
 		Http11OrH2Codec(
+				@Nullable AccessLogWriter accessLog,
 				@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 				ServerCookieDecoder cookieDecoder,
 				ServerCookieEncoder cookieEncoder,
@@ -590,6 +614,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				ChannelOperations.OnSetup opsFactory,
 				@Nullable Function<String, String> uriTagValue) {
 			super(ApplicationProtocolNames.HTTP_1_1);
+			this.accessLog = accessLog;
 			this.compressPredicate = compressPredicate;
 			this.cookieDecoder = cookieDecoder;
 			this.cookieEncoder = cookieEncoder;
@@ -607,12 +632,12 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 			ChannelPipeline p = ctx.pipeline();
 
 			if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
-				configureH2Pipeline(p, cookieDecoder, cookieEncoder,forwarded, listener, opsFactory, decoder.validateHeaders());
+				configureH2Pipeline(p, accessLog, cookieDecoder, cookieEncoder,forwarded, listener, opsFactory, decoder.validateHeaders());
 				return;
 			}
 
 			if (ApplicationProtocolNames.HTTP_1_1.equals(protocol)) {
-				configureHttp11Pipeline(p, compressPredicate, cookieDecoder, cookieEncoder, decoder, forwarded,
+				configureHttp11Pipeline(p, accessLog, compressPredicate, cookieDecoder, cookieEncoder, decoder, forwarded,
 						listener, metricsRecorder, minCompressionSize, uriTagValue);
 				return;
 			}
@@ -623,6 +648,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 
 	static final class HttpServerChannelInitializer implements ChannelPipelineConfigurer {
 
+		final AccessLogWriter                                    accessLog;
 		final BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate;
 		final ServerCookieDecoder                                cookieDecoder;
 		final ServerCookieEncoder                                cookieEncoder;
@@ -637,6 +663,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 		final Function<String, String>                           uriTagValue;
 
 		HttpServerChannelInitializer(
+				@Nullable AccessLogWriter accessLog,
 				@Nullable BiPredicate<HttpServerRequest, HttpServerResponse> compressPredicate,
 				ServerCookieDecoder cookieDecoder,
 				ServerCookieEncoder cookieEncoder,
@@ -649,6 +676,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				ProxyProtocolSupportType proxyProtocolSupportType,
 				@Nullable SslProvider sslProvider,
 				@Nullable Function<String, String> uriTagValue) {
+			this.accessLog = accessLog;
 			this.compressPredicate = compressPredicate;
 			this.cookieDecoder = cookieDecoder;
 			this.cookieEncoder = cookieEncoder;
@@ -673,6 +701,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				if ((protocols & h11orH2) == h11orH2) {
 					channel.pipeline()
 					       .addLast(new Http11OrH2Codec(
+					               accessLog,
 					               compressPredicate(compressPredicate, minCompressionSize),
 					               cookieDecoder,
 					               cookieEncoder,
@@ -687,6 +716,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				else if ((protocols & h11) == h11) {
 					configureHttp11Pipeline(
 							channel.pipeline(),
+							accessLog,
 							compressPredicate(compressPredicate, minCompressionSize),
 							cookieDecoder,
 							cookieEncoder,
@@ -700,6 +730,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				else if ((protocols & h2) == h2) {
 					configureH2Pipeline(
 							channel.pipeline(),
+							accessLog,
 							cookieDecoder,
 							cookieEncoder,
 							forwarded,
@@ -712,6 +743,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				if ((protocols & h11orH2c) == h11orH2c) {
 					configureHttp11OrH2CleartextPipeline(
 							channel.pipeline(),
+							accessLog,
 							compressPredicate(compressPredicate, minCompressionSize),
 							cookieDecoder,
 							cookieEncoder,
@@ -726,6 +758,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				else if ((protocols & h11) == h11) {
 					configureHttp11Pipeline(
 							channel.pipeline(),
+							accessLog,
 							compressPredicate(compressPredicate, minCompressionSize),
 							cookieDecoder,
 							cookieEncoder,
@@ -739,6 +772,7 @@ public final class HttpServerConfig extends ServerTransportConfig<HttpServerConf
 				else if ((protocols & h2c) == h2c) {
 					configureH2Pipeline(
 							channel.pipeline(),
+							accessLog,
 							cookieDecoder,
 							cookieEncoder,
 							forwarded,
@@ -102,6 +102,9 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	final BiPredicate<HttpServerRequest, HttpServerResponse> compressionPredicate;
 
 	Function<? super String, Map<String, String>> paramsResolver;
+	Map<String, String>                           params;
+	boolean                                       paramsResolved;
+	Map<String, List<String>>                     queryParams;
 
 	HttpServerOperations(HttpServerOperations replaced) {
 		super(replaced);
@@ -110,6 +113,9 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 		this.responseHeaders = replaced.responseHeaders;
 		this.nettyResponse = replaced.nettyResponse;
 		this.paramsResolver = replaced.paramsResolver;
+		this.params = replaced.params;
+		this.paramsResolved = replaced.paramsResolved;
+		this.queryParams = replaced.queryParams;
 		this.nettyRequest = replaced.nettyRequest;
 		this.path = replaced.path;
 		this.compressionPredicate = replaced.compressionPredicate;
@@ -263,25 +269,38 @@ class HttpServerOperations extends HttpOperations<HttpServerRequest, HttpServerR
 	@Nullable
 	public String param(CharSequence key) {
 		Objects.requireNonNull(key, "key");
-		Map<String, String> params = null;
-		if (paramsResolver != null) {
-			params = this.paramsResolver.apply(uri());
-		}
+		Map<String, String> params = params();
 		return null != params ? params.get(key) : null;
 	}
 
 	@Override
 	@Nullable
 	public Map<String, String> params() {
-		return null != paramsResolver ? paramsResolver.apply(uri()) : null;
+		if (!paramsResolved) {
+			params = null != paramsResolver ? PathParams.copyOf(paramsResolver.apply(uri())) : null;
+			paramsResolved = true;
+		}
+		return params;
 	}
 
 	@Override
 	public HttpServerRequest paramsResolver(Function<? super String, Map<String, String>> headerResolver) {
 		this.paramsResolver = headerResolver;
+		this.params = null;
+		this.paramsResolved = false;
 		return this;
 	}
 
+	@Override
+	public Map<String, List<String>> queryParams() {
+		Map<String, List<String>> queryParams = this.queryParams;
+		if (queryParams == null) {
+			queryParams = HttpServerRequest.super.queryParams();
+			this.queryParams = queryParams;
+		}
+		return queryParams;
+	}
+
 	@Override
 	public Flux<?> receiveObject() {
 		// Handle the 'Expect: 100-continue' header if necessary.
@@ -17,6 +17,8 @@
 package reactor.netty.http.server;
 
 import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -24,6 +26,7 @@ import javax.annotation.Nullable;
 
 import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.QueryStringDecoder;
 import reactor.core.publisher.Flux;
 import reactor.netty.Connection;
 import reactor.netty.NettyInbound;
@@ -52,13 +55,25 @@ public interface HttpServerRequest extends NettyInbound, HttpInfos {
 	String param(CharSequence key);
 
 	/**
-	 * Returns the param captured key/value map
+	 * Returns the param captured key/value map. The params are resolved once per request,
+	 * the returned map is immutable.
 	 *
 	 * @return the param captured key/value map
 	 */
 	@Nullable
 	Map<String, String> params();
 
+	/**
+	 * Returns the query parameters of the request uri, decoded and keyed by name. The
+	 * map is parsed on first access and cached for the lifetime of the request.
+	 *
+	 * @return the query parameters, never {@code null}
+	 * @since 1.0.0
+	 */
+	default Map<String, List<String>> queryParams() {
+		return Collections.unmodifiableMap(new QueryStringDecoder(uri()).parameters());
+	}
+
 	/**
 	 * @param headerResolver provide a params
 	 *
@@ -52,6 +52,23 @@ public interface HttpServerRoutes extends
 		return new DefaultHttpServerRoutes();
 	}
 
+	/**
+	 * Returns a new routing registry {@link HttpServerRoutes}. When {@code compiled} is
+	 * {@code true}, the routes declared with a path template are looked up in a tree of
+	 * path segments, keyed by HTTP method, instead of being tested one by one.
+	 * Templates made of literal segments, whole-segment {@code {var}} captures and a
+	 * trailing {@code **} or {@code {var}**} capture are supported, all the other routes
+	 * are tested in order of declaration as with {@link #newRoutes()}. Literal segments
+	 * are compared as is, e.g. {@code .} is not a wildcard.
+	 *
+	 * @param compiled whether the routes declared with a path template are indexed
+	 * @return a new routing registry {@link HttpServerRoutes}
+	 * @since 1.0.0
+	 */
+	static HttpServerRoutes newRoutes(boolean compiled) {
+		return new DefaultHttpServerRoutes(compiled);
+	}
+
 	/**
 	 * Listens for HTTP DELETE on the passed path to be used as a routing condition.
 	 * Incoming connections will query the internal registry to invoke the matching
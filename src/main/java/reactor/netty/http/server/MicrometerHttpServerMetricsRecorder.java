@@ -44,9 +44,12 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataReceivedTime(String uri, String method, Duration time) {
-		Timer dataReceivedTime = dataReceivedTimeCache.computeIfAbsent(new MeterKey(uri, null, method, null),
-				key -> filter(dataReceivedTimeBuilder.tags(URI, uri, METHOD, method)
-				                                     .register(REGISTRY)));
+		Timer dataReceivedTime = dataReceivedTimeCache.get(lookupKey(uri, null, method, null));
+		if (dataReceivedTime == null) {
+			dataReceivedTime = cache(dataReceivedTimeCache, new MeterKey(uri, null, method, null),
+					filter(dataReceivedTimeBuilder.tags(URI, uri, METHOD, method)
+					                              .register(REGISTRY)));
+		}
 		if (dataReceivedTime != null) {
 			dataReceivedTime.record(time);
 		}
@@ -54,9 +57,12 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataSentTime(String uri, String method, String status, Duration time) {
-		Timer dataSentTime = dataSentTimeCache.computeIfAbsent(new MeterKey(uri, null, method, status),
-				key -> filter(dataSentTimeBuilder.tags(URI, uri, METHOD, method, STATUS, status)
-				                                 .register(REGISTRY)));
+		Timer dataSentTime = dataSentTimeCache.get(lookupKey(uri, null, method, status));
+		if (dataSentTime == null) {
+			dataSentTime = cache(dataSentTimeCache, new MeterKey(uri, null, method, status),
+					filter(dataSentTimeBuilder.tags(URI, uri, METHOD, method, STATUS, status)
+					                          .register(REGISTRY)));
+		}
 		if (dataSentTime != null) {
 			dataSentTime.record(time);
 		}
@@ -64,9 +70,12 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordResponseTime(String uri, String method, String status, Duration time) {
-		Timer responseTime = responseTimeCache.computeIfAbsent(new MeterKey(uri, null, method, status),
-				key -> filter(responseTimeBuilder.tags(URI, uri, METHOD, method, STATUS, status)
-				                                 .register(REGISTRY)));
+		Timer responseTime = responseTimeCache.get(lookupKey(uri, null, method, status));
+		if (responseTime == null) {
+			responseTime = cache(responseTimeCache, new MeterKey(uri, null, method, status),
+					filter(responseTimeBuilder.tags(URI, uri, METHOD, method, STATUS, status)
+					                          .register(REGISTRY)));
+		}
 		if (responseTime != null) {
 			responseTime.record(time);
 		}
@@ -74,9 +83,12 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataReceived(SocketAddress remoteAddress, String uri, long bytes) {
-		DistributionSummary dataReceived = dataReceivedCache.computeIfAbsent(new MeterKey(uri, null, null, null),
-				key -> filter(dataReceivedBuilder.tags(URI, uri)
-				                                 .register(REGISTRY)));
+		DistributionSummary dataReceived = dataReceivedCache.get(lookupKey(uri, null, null, null));
+		if (dataReceived == null) {
+			dataReceived = cache(dataReceivedCache, new MeterKey(uri, null, null, null),
+					filter(dataReceivedBuilder.tags(URI, uri)
+					                          .register(REGISTRY)));
+		}
 		if (dataReceived != null) {
 			dataReceived.record(bytes);
 		}
@@ -84,9 +96,12 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void recordDataSent(SocketAddress remoteAddress, String uri, long bytes) {
-		DistributionSummary dataSent = dataSentCache.computeIfAbsent(new MeterKey(uri, null, null, null),
-				key -> filter(dataSentBuilder.tags(URI, uri)
-				                             .register(REGISTRY)));
+		DistributionSummary dataSent = dataSentCache.get(lookupKey(uri, null, null, null));
+		if (dataSent == null) {
+			dataSent = cache(dataSentCache, new MeterKey(uri, null, null, null),
+					filter(dataSentBuilder.tags(URI, uri)
+					                      .register(REGISTRY)));
+		}
 		if (dataSent != null) {
 			dataSent.record(bytes);
 		}
@@ -94,9 +109,12 @@ final class MicrometerHttpServerMetricsRecorder extends MicrometerHttpMetricsRec
 
 	@Override
 	public void incrementErrorsCount(SocketAddress remoteAddress, String uri) {
-		Counter errors = errorsCache.computeIfAbsent(new MeterKey(uri, null, null, null),
-				key -> filter(errorsBuilder.tags(URI, uri)
-				                           .register(REGISTRY)));
+		Counter errors = errorsCache.get(lookupKey(uri, null, null, null));
+		if (errors == null) {
+			errors = cache(errorsCache, new MeterKey(uri, null, null, null),
+					filter(errorsBuilder.tags(URI, uri)
+					                    .register(REGISTRY)));
+		}
 		if (errors != null) {
 			errors.increment();
 		}
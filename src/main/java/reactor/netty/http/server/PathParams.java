@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable map of the path parameters captured for a request, backed by arrays of
+ * keys and values. Requests usually have few parameters so the keys are looked up with a
+ * linear scan.
+ *
+ * @author Violeta Georgieva
+ */
+final class PathParams extends AbstractMap<String, String> {
+
+	/**
+	 * Return an immutable copy of the given parameters, or {@code null} if the given parameters are {@code null}.
+	 *
+	 * @param params the parameters to copy
+	 * @return an immutable copy of the given parameters, or {@code null} if the given parameters are {@code null}
+	 */
+	@Nullable
+	static Map<String, String> copyOf(@Nullable Map<String, String> params) {
+		if (params == null) {
+			return null;
+		}
+		if (params.isEmpty()) {
+			return EMPTY;
+		}
+		if (params instanceof PathParams) {
+			return params;
+		}
+		String[] keys = new String[params.size()];
+		String[] values = new String[keys.length];
+		int i = 0;
+		for (Map.Entry<String, String> entry : params.entrySet()) {
+			keys[i] = entry.getKey();
+			values[i++] = entry.getValue();
+		}
+		return new PathParams(keys, values);
+	}
+
+	final String[] keys;
+	final String[] values;
+
+	PathParams(String[] keys, String[] values) {
+		this.keys = keys;
+		this.values = values;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) != -1;
+	}
+
+	@Override
+	@Nullable
+	public String get(Object key) {
+		int i = indexOf(key);
+		return i != -1 ? values[i] : null;
+	}
+
+	@Override
+	public int size() {
+		return keys.length;
+	}
+
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		return new AbstractSet<Entry<String, String>>() {
+
+			@Override
+			public Iterator<Entry<String, String>> iterator() {
+				return new Iterator<Entry<String, String>>() {
+
+					int index;
+
+					@Override
+					public boolean hasNext() {
+						return index < keys.length;
+					}
+
+					@Override
+					public Entry<String, String> next() {
+						if (index >= keys.length) {
+							throw new NoSuchElementException();
+						}
+						Entry<String, String> entry = new SimpleImmutableEntry<>(keys[index], values[index]);
+						index++;
+						return entry;
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return keys.length;
+			}
+		};
+	}
+
+	int indexOf(@Nullable Object key) {
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i].equals(key)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	static final PathParams EMPTY = new PathParams(new String[0], new String[0]);
+}
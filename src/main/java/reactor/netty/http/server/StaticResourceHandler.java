@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DateFormatter;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.ReactorNetty;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * Serves the files of a directory. The metadata of the recently served files is cached and
+ * revalidated at most once per second, the small files are read once and served from
+ * memory without accessing the file system. The revalidation and the loading of the files
+ * block, they are performed on {@link Schedulers#boundedElastic()} and never on the event loop.
+ * Pre-compressed {@code .br} and {@code .gz} variants
+ * are served when accepted by the client. Conditional requests ({@code If-None-Match},
+ * {@code If-Modified-Since}) and single byte ranges ({@code Range}, {@code If-Range}) are supported.
+ *
+ * @author Violeta Georgieva
+ */
+final class StaticResourceHandler implements BiFunction<HttpServerRequest, HttpServerResponse, Publisher<Void>> {
+
+	final String                                               uri;
+	final Path                                                 directory;
+	@Nullable
+	final Function<HttpServerResponse, HttpServerResponse>     interceptor;
+	final Map<Path, FileEntry>                                 cache;
+
+	StaticResourceHandler(String uri, Path directory,
+			@Nullable Function<HttpServerResponse, HttpServerResponse> interceptor) {
+		this.uri = uri;
+		this.directory = directory.toAbsolutePath().normalize();
+		this.interceptor = interceptor;
+		this.cache = new LinkedHashMap<Path, FileEntry>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Path, FileEntry> eldest) {
+				return size() > FILE_CACHE_SIZE;
+			}
+		};
+	}
+
+	@Override
+	public Publisher<Void> apply(HttpServerRequest request, HttpServerResponse response) {
+		String prefix = URI.create(request.uri())
+		                   .getPath()
+		                   .replaceFirst(uri, "");
+
+		if (!prefix.isEmpty() && prefix.charAt(0) == '/') {
+			prefix = prefix.substring(1);
+		}
+
+		Path path = directory.resolve(prefix).normalize();
+		if (!path.startsWith(directory)) {
+			return response.sendNotFound();
+		}
+
+		FileEntry entry;
+		synchronized (cache) {
+			entry = cache.get(path);
+		}
+		if (entry != null && System.nanoTime() - entry.validUntil < 0) {
+			return send(request, response, entry);
+		}
+		return Mono.fromCallable(() -> send(request, response, revalidate(path, entry)))
+		           .subscribeOn(Schedulers.boundedElastic())
+		           .flatMap(Mono::from);
+	}
+
+	Publisher<Void> send(HttpServerRequest request, HttpServerResponse response, @Nullable FileEntry entry) {
+		if (entry == null) {
+			return response.sendNotFound();
+		}
+		if (interceptor != null) {
+			response = interceptor.apply(response);
+		}
+		return send(request.requestHeaders(), response, entry);
+	}
+
+	/**
+	 * Revalidate the cached entry of a file or load it, this accesses the file system and blocks.
+	 *
+	 * @param path the file
+	 * @param entry the cached entry if any
+	 * @return the up to date entry or null when the file cannot be served
+	 */
+	@Nullable
+	FileEntry revalidate(Path path, @Nullable FileEntry entry) {
+		FileEntry loaded = load(path, entry, null, System.nanoTime());
+		if (loaded != entry) {
+			synchronized (cache) {
+				if (loaded == null) {
+					cache.remove(path);
+				}
+				else {
+					cache.put(path, loaded);
+				}
+			}
+		}
+		return loaded;
+	}
+
+	static Publisher<Void> send(HttpHeaders requestHeaders, HttpServerResponse response, FileEntry entry) {
+		String range = requestHeaders.get(HttpHeaderNames.RANGE);
+
+		FileEntry selected = entry;
+		if (entry.br != null || entry.gzip != null) {
+			response.addHeader(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+			String acceptEncoding = requestHeaders.get(HttpHeaderNames.ACCEPT_ENCODING);
+			// the byte ranges are served from the identity representation only
+			if (range == null && acceptEncoding != null) {
+				if (entry.br != null && accepts(acceptEncoding, BR)) {
+					selected = entry.br;
+				}
+				else if (entry.gzip != null && accepts(acceptEncoding, GZIP)) {
+					selected = entry.gzip;
+				}
+			}
+		}
+		if (selected.encoding != null) {
+			response.header(HttpHeaderNames.CONTENT_ENCODING, selected.encoding);
+		}
+
+		response.header(HttpHeaderNames.ETAG, selected.etag)
+		        .header(HttpHeaderNames.LAST_MODIFIED, selected.lastModifiedDate)
+		        .header(HttpHeaderNames.ACCEPT_RANGES, BYTES);
+
+		if (isNotModified(requestHeaders, selected)) {
+			return response.status(HttpResponseStatus.NOT_MODIFIED)
+			               .send();
+		}
+
+		long position = 0;
+		long count = selected.size;
+		if (range != null && selected == entry && isRangeApplicable(requestHeaders, entry)) {
+			long[] byteRange = parseRange(range, entry.size);
+			if (byteRange == UNSATISFIABLE) {
+				return response.status(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+				               .header(HttpHeaderNames.CONTENT_RANGE, "bytes */" + entry.size)
+				               .send();
+			}
+			if (byteRange != null) {
+				position = byteRange[0];
+				count = byteRange[1] - byteRange[0] + 1;
+				response.status(HttpResponseStatus.PARTIAL_CONTENT)
+				        .header(HttpHeaderNames.CONTENT_RANGE,
+				                "bytes " + byteRange[0] + "-" + byteRange[1] + "/" + entry.size);
+			}
+		}
+
+		response.header(HttpHeaderNames.CONTENT_LENGTH, Long.toString(count));
+		if (count == 0) {
+			return response.send();
+		}
+		if (selected.content != null) {
+			ByteBuffer content = selected.content.duplicate();
+			content.position((int) position)
+			       .limit((int) (position + count));
+			return response.sendObject(Unpooled.wrappedBuffer(content));
+		}
+		return response.sendFile(selected.path, position, count);
+	}
+
+	static boolean accepts(String acceptEncoding, String encoding) {
+		for (String value : acceptEncoding.split(",")) {
+			int index = value.indexOf(';');
+			String name = (index < 0 ? value : value.substring(0, index)).trim();
+			if (name.equalsIgnoreCase(encoding)) {
+				// q=0 means not acceptable
+				return index < 0 || !value.substring(index + 1).replace(" ", "").matches("q=0(\\.0{0,3})?");
+			}
+		}
+		return false;
+	}
+
+	static boolean isNotModified(HttpHeaders requestHeaders, FileEntry entry) {
+		String ifNoneMatch = requestHeaders.get(HttpHeaderNames.IF_NONE_MATCH);
+		if (ifNoneMatch != null) {
+			for (String value : ifNoneMatch.split(",")) {
+				String etag = value.trim();
+				if (etag.startsWith("W/")) {
+					etag = etag.substring(2);
+				}
+				if ("*".equals(etag) || entry.etag.equals(etag)) {
+					return true;
+				}
+			}
+			// If-Modified-Since is ignored when If-None-Match is present
+			return false;
+		}
+		String value = requestHeaders.get(HttpHeaderNames.IF_MODIFIED_SINCE);
+		if (value == null) {
+			return false;
+		}
+		Date ifModifiedSince = DateFormatter.parseHttpDate(value);
+		return ifModifiedSince != null && entry.lastModified / 1000 <= ifModifiedSince.getTime() / 1000;
+	}
+
+	static boolean isRangeApplicable(HttpHeaders requestHeaders, FileEntry entry) {
+		String ifRange = requestHeaders.get(HttpHeaderNames.IF_RANGE);
+		if (ifRange == null) {
+			return true;
+		}
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			return entry.etag.equals(ifRange);
+		}
+		Date date = DateFormatter.parseHttpDate(ifRange);
+		return date != null && entry.lastModified / 1000 == date.getTime() / 1000;
+	}
+
+	/**
+	 * Parse a single byte range, multiple ranges are not supported and the whole content is served.
+	 *
+	 * @param range the {@code Range} header value
+	 * @param size the size of the content
+	 * @return the first and the last positions of the range (inclusive), {@link #UNSATISFIABLE}
+	 * when the range cannot be satisfied or null when the range is not supported
+	 */
+	@Nullable
+	static long[] parseRange(String range, long size) {
+		if (!range.startsWith(BYTES_UNIT) || range.indexOf(',') >= 0) {
+			return null;
+		}
+		String spec = range.substring(BYTES_UNIT.length()).trim();
+		int index = spec.indexOf('-');
+		if (index < 0) {
+			return null;
+		}
+		try {
+			long first;
+			long last;
+			if (index == 0) {
+				long suffix = Long.parseLong(spec.substring(1));
+				if (suffix <= 0 || size == 0) {
+					return UNSATISFIABLE;
+				}
+				first = Math.max(0, size - suffix);
+				last = size - 1;
+			}
+			else {
+				first = Long.parseLong(spec.substring(0, index));
+				last = index == spec.length() - 1 ? Long.MAX_VALUE : Long.parseLong(spec.substring(index + 1));
+				if (first < 0 || last < first) {
+					return null;
+				}
+				if (first >= size) {
+					return UNSATISFIABLE;
+				}
+			}
+			return new long[] {first, Math.min(last, size - 1)};
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	@Nullable
+	static FileEntry load(Path path, @Nullable FileEntry previous, @Nullable String encoding, long now) {
+		BasicFileAttributes attributes;
+		try {
+			attributes = Files.readAttributes(path, BasicFileAttributes.class);
+		}
+		catch (IOException e) {
+			return null;
+		}
+		if (!attributes.isRegularFile() || !Files.isReadable(path)) {
+			return null;
+		}
+
+		FileEntry br = null;
+		FileEntry gzip = null;
+		if (encoding == null) {
+			String name = path.getFileName().toString();
+			br = load(path.resolveSibling(name + ".br"), previous != null ? previous.br : null, BR, now);
+			gzip = load(path.resolveSibling(name + ".gz"), previous != null ? previous.gzip : null, GZIP, now);
+		}
+
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		if (previous != null && previous.size == size && previous.lastModified == lastModified &&
+				previous.br == br && previous.gzip == gzip) {
+			previous.validUntil = now + REVALIDATE_INTERVAL;
+			return previous;
+		}
+		return new FileEntry(path, size, lastModified, encoding, br, gzip, now + REVALIDATE_INTERVAL);
+	}
+
+	/**
+	 * Read a small file in memory. The content is copied rather than memory-mapped, a mapped
+	 * file truncated in place would crash the process when served.
+	 *
+	 * @param path the file
+	 * @param size the size of the file
+	 * @return the content of the file or null when it is served from the file system
+	 */
+	@Nullable
+	static ByteBuffer read(Path path, long size) {
+		if (size == 0 || size > FILE_IN_MEMORY_THRESHOLD) {
+			return null;
+		}
+		try (FileChannel fc = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer content = ByteBuffer.allocateDirect((int) size);
+			while (content.hasRemaining() && fc.read(content) >= 0) {
+				// read until the end of the content
+			}
+			if (content.hasRemaining() || fc.size() != size) {
+				// the file changed since its attributes were read, the next revalidation loads it again
+				return null;
+			}
+			content.flip();
+			return content.asReadOnlyBuffer();
+		}
+		catch (IOException e) {
+			if (log.isDebugEnabled()) {
+				log.debug("Cannot read file {}, serving it from the file system", path, e);
+			}
+			return null;
+		}
+	}
+
+	static final class FileEntry {
+
+		final Path       path;
+		final long       size;
+		final long       lastModified;
+		final String     lastModifiedDate;
+		final String     etag;
+		@Nullable
+		final String     encoding;
+		@Nullable
+		final FileEntry  br;
+		@Nullable
+		final FileEntry  gzip;
+		@Nullable
+		final ByteBuffer content;
+
+		volatile long validUntil;
+
+		FileEntry(Path path, long size, long lastModified, @Nullable String encoding,
+				@Nullable FileEntry br, @Nullable FileEntry gzip, long validUntil) {
+			this.path = path;
+			this.size = size;
+			this.lastModified = lastModified;
+			this.lastModifiedDate = DateFormatter.format(new Date(lastModified));
+			this.etag = "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(size) +
+					(encoding != null ? "-" + encoding : "") + "\"";
+			this.encoding = encoding;
+			this.br = br;
+			this.gzip = gzip;
+			this.content = read(path, size);
+			this.validUntil = validUntil;
+		}
+	}
+
+	static final String BR         = "br";
+	static final String BYTES      = "bytes";
+	static final String BYTES_UNIT = "bytes=";
+	static final String GZIP       = "gzip";
+
+	static final long[] UNSATISFIABLE = new long[0];
+
+	static final long REVALIDATE_INTERVAL = Duration.ofSeconds(1).toNanos();
+
+	static final int FILE_CACHE_SIZE =
+			Integer.parseInt(System.getProperty(ReactorNetty.FILE_CACHE_SIZE, "1024"));
+
+	static final long FILE_IN_MEMORY_THRESHOLD =
+			Long.parseLong(System.getProperty(ReactorNetty.FILE_IN_MEMORY_THRESHOLD, "65536"));
+
+	static final Logger log = Loggers.getLogger(StaticResourceHandler.class);
+}
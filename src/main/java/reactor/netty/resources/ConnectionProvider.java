@@ -74,6 +74,13 @@ public interface ConnectionProvider extends Disposable {
 			ReactorNetty.POOL_MAX_IDLE_TIME,
 			"-1"));
 
+	/**
+	 * Default interval (milliseconds) of the background eviction, fallback - the background eviction is disabled.
+	 */
+	long DEFAULT_POOL_EVICTION_INTERVAL = Long.parseLong(System.getProperty(
+			ReactorNetty.POOL_EVICTION_INTERVAL,
+			"0"));
+
 	/**
 	 * The connection selection is first in, first out.
 	 */
@@ -199,6 +206,30 @@ public interface ConnectionProvider extends Disposable {
 		return Mono.empty();
 	}
 
+	/**
+	 * Return the time after which an idle connection to the given remote address is closed.
+	 *
+	 * @param remoteAddress the remote address
+	 * @return the time after which an idle connection is closed or {@code null} when the idle connections are kept
+	 * @since 1.0.0
+	 */
+	@Nullable
+	default Duration maxIdleTime(SocketAddress remoteAddress) {
+		return null;
+	}
+
+	/**
+	 * Return the time after which a connection to the given remote address is closed.
+	 *
+	 * @param remoteAddress the remote address
+	 * @return the time after which a connection is closed or {@code null} when the connections are kept
+	 * @since 1.0.0
+	 */
+	@Nullable
+	default Duration maxLifeTime(SocketAddress remoteAddress) {
+		return null;
+	}
+
 	/**
 	 * Build a {@link ConnectionProvider} to cache and reuse a fixed maximum number of
 	 * {@link Connection}. Further connections will be pending acquisition depending on
@@ -274,6 +305,7 @@ public interface ConnectionProvider extends Disposable {
 		Duration pendingAcquireTimeout  = Duration.ofMillis(DEFAULT_POOL_ACQUIRE_TIMEOUT);
 		Duration maxIdleTime;
 		Duration maxLifeTime;
+		Duration evictionInterval       = Duration.ofMillis(DEFAULT_POOL_EVICTION_INTERVAL);
 		boolean  metricsEnabled;
 		Function<PoolBuilder<PooledConnectionProvider.PooledConnection, ?>,
 				InstrumentedPool<PooledConnectionProvider.PooledConnection>> leasingStrategy;
@@ -368,6 +400,27 @@ public interface ConnectionProvider extends Disposable {
 			return get();
 		}
 
+		/**
+		 * Set the options to use for configuring {@link ConnectionProvider} background eviction (resolution: ms).
+		 * When enabled, the connection pool is regularly checked, on one of its event loops, for idle connections
+		 * that exceeded {@link #maxIdleTime(Duration)} and connections that exceeded {@link #maxLifeTime(Duration)}
+		 * and these connections are closed without waiting for the next acquisition.
+		 * Default to {@link #DEFAULT_POOL_EVICTION_INTERVAL}, {@link Duration#ZERO} disables the background eviction.
+		 *
+		 * @param evictionInterval the interval between two background evictions (resolution: ms)
+		 * @return {@literal this}
+		 * @throws NullPointerException if evictionInterval is null
+		 * @throws IllegalArgumentException if evictionInterval is negative
+		 */
+		public final SPEC evictInBackground(Duration evictionInterval) {
+			Objects.requireNonNull(evictionInterval, "evictionInterval");
+			if (evictionInterval.isNegative()) {
+				throw new IllegalArgumentException("Eviction interval must be positive or zero");
+			}
+			this.evictionInterval = evictionInterval;
+			return get();
+		}
+
 		/**
 		 * Whether to enable metrics to be collected and registered in Micrometer's
 		 * {@link io.micrometer.core.instrument.Metrics#globalRegistry globalRegistry}
@@ -31,7 +31,7 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 interface DefaultLoop {
 
 	default EventLoopGroup newEventLoopGroup(int threads, ThreadFactory factory) {
-		throw new IllegalStateException("Missing Epoll/KQueue on current system");
+		throw new IllegalStateException("Missing Epoll/KQueue/io_uring on current system");
 	}
 
 	default Class<? extends ServerChannel> getServerChannel(EventLoopGroup group) {
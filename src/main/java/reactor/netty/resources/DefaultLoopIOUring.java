@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import java.lang.reflect.Constructor;
+import java.util.concurrent.ThreadFactory;
+import javax.annotation.Nullable;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import reactor.netty.ReactorNetty;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+
+/**
+ * {@link DefaultLoop} backed by the io_uring transport from Netty's incubator
+ * ({@code io.netty.incubator:netty-incubator-transport-native-io_uring}).
+ * The transport is an incubator module that is released independently of Netty,
+ * that's why it is accessed reflectively and used only when it is explicitly enabled
+ * with {@link ReactorNetty#NATIVE_IO_URING}, present on the classpath and supported by the kernel.
+ *
+ * @author Violeta Georgieva
+ */
+final class DefaultLoopIOUring implements DefaultLoop {
+
+	static final Logger log = Loggers.getLogger(DefaultLoopIOUring.class);
+
+	/**
+	 * The package of the io_uring transport from Netty's incubator
+	 */
+	static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring.";
+
+	private static final DefaultLoopIOUring INSTANCE =
+			load(Boolean.parseBoolean(System.getProperty(ReactorNetty.NATIVE_IO_URING, "false")), IO_URING_PACKAGE);
+
+	static {
+		if (log.isDebugEnabled()) {
+			log.debug("Default io_uring support : " + (INSTANCE != null));
+		}
+	}
+
+	public static boolean hasIOUring() {
+		return INSTANCE != null;
+	}
+
+	@Nullable
+	static DefaultLoopIOUring getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Load the io_uring transport classes from the given package.
+	 *
+	 * @param enabled whether io_uring is enabled with {@link ReactorNetty#NATIVE_IO_URING}
+	 * @param packageName the package of the io_uring transport
+	 * @return the io_uring {@link DefaultLoop} or {@code null} when io_uring is disabled, missing or not supported
+	 */
+	@Nullable
+	static DefaultLoopIOUring load(boolean enabled, String packageName) {
+		if (!enabled) {
+			return null;
+		}
+		try {
+			Class<?> ioUringClass = Class.forName(packageName + "IOUring");
+			if ((Boolean) ioUringClass.getMethod("isAvailable").invoke(null)) {
+				return new DefaultLoopIOUring(
+						Class.forName(packageName + "IOUringEventLoopGroup")
+						     .asSubclass(EventLoopGroup.class)
+						     .getConstructor(int.class, ThreadFactory.class),
+						Class.forName(packageName + "IOUringServerSocketChannel")
+						     .asSubclass(ServerChannel.class),
+						Class.forName(packageName + "IOUringSocketChannel")
+						     .asSubclass(Channel.class),
+						Class.forName(packageName + "IOUringDatagramChannel")
+						     .asSubclass(DatagramChannel.class));
+			}
+			else if (log.isDebugEnabled()) {
+				log.debug("io_uring is not supported by the current system: {}",
+						ioUringClass.getMethod("unavailabilityCause").invoke(null));
+			}
+		}
+		catch (Throwable t) {
+			// the incubator transport is missing or incompatible with the current Netty version
+			if (log.isDebugEnabled()) {
+				log.debug("io_uring transport cannot be loaded, falling back to the default native transport", t);
+			}
+		}
+		return null;
+	}
+
+	final Constructor<? extends EventLoopGroup> eventLoopGroupConstructor;
+	final Class<? extends ServerChannel> serverChannel;
+	final Class<? extends Channel> channel;
+	final Class<? extends DatagramChannel> datagramChannel;
+
+	DefaultLoopIOUring(Constructor<? extends EventLoopGroup> eventLoopGroupConstructor,
+			Class<? extends ServerChannel> serverChannel,
+			Class<? extends Channel> channel,
+			Class<? extends DatagramChannel> datagramChannel) {
+		this.eventLoopGroupConstructor = eventLoopGroupConstructor;
+		this.serverChannel = serverChannel;
+		this.channel = channel;
+		this.datagramChannel = datagramChannel;
+	}
+
+	@Override
+	public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory factory) {
+		try {
+			return eventLoopGroupConstructor.newInstance(threads, factory);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Cannot create io_uring EventLoopGroup", e);
+		}
+	}
+
+	@Override
+	public Class<? extends ServerChannel> getServerChannel(EventLoopGroup group) {
+		return useIOUring(group) ? serverChannel : NioServerSocketChannel.class;
+	}
+
+	@Override
+	public Class<? extends Channel> getChannel(EventLoopGroup group) {
+		return useIOUring(group) ? channel : NioSocketChannel.class;
+	}
+
+	@Override
+	public Class<? extends DatagramChannel> getDatagramChannel(EventLoopGroup group) {
+		return useIOUring(group) ? datagramChannel : NioDatagramChannel.class;
+	}
+
+	@Override
+	public String getName() {
+		return "io_uring";
+	}
+
+	private boolean useIOUring(EventLoopGroup group) {
+		if (group instanceof ColocatedEventLoopGroup) {
+			group = ((ColocatedEventLoopGroup) group).get();
+		}
+		return eventLoopGroupConstructor.getDeclaringClass().isInstance(group);
+	}
+}
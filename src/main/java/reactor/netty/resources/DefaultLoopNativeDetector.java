@@ -15,26 +15,31 @@
  */
 package reactor.netty.resources;
 
+import javax.annotation.Nullable;
+
 /**
  * @author Violeta Georgieva
  */
 final class DefaultLoopNativeDetector {
 
-	private static final DefaultLoop INSTANCE;
+	private static final DefaultLoop INSTANCE = detect(DefaultLoopIOUring.getInstance());
+
+	public static DefaultLoop getInstance() {
+		return INSTANCE;
+	}
 
-	static {
+	static DefaultLoop detect(@Nullable DefaultLoopIOUring ioUring) {
 		if (DefaultLoopKQueue.hasKQueue()) {
-			INSTANCE = new DefaultLoopKQueue();
+			return new DefaultLoopKQueue();
+		}
+		else if (ioUring != null) {
+			return ioUring;
 		}
 		else if (DefaultLoopEpoll.hasEpoll()) {
-			INSTANCE = new DefaultLoopEpoll();
+			return new DefaultLoopEpoll();
 		}
 		else {
-			INSTANCE = new DefaultLoop() {};
+			return new DefaultLoop() {};
 		}
 	}
-
-	public static DefaultLoop getInstance() {
-		return INSTANCE;
-	}
 }
@@ -55,7 +55,7 @@ public interface LoopResources extends Disposable {
 			"" + -1));
 
 	/**
-	 * Default value whether the native transport (epoll, kqueue) will be preferred,
+	 * Default value whether the native transport (epoll, kqueue, io_uring) will be preferred,
 	 * fallback it will be preferred when available
 	 */
 	boolean DEFAULT_NATIVE = Boolean.parseBoolean(System.getProperty(
@@ -261,6 +261,6 @@ public interface LoopResources extends Disposable {
 	 * @return true if should default to native {@link EventLoopGroup} and {@link Channel}
 	 */
 	default boolean preferNative() {
-		return DefaultLoopEpoll.hasEpoll() || DefaultLoopKQueue.hasKQueue();
+		return DefaultLoopEpoll.hasEpoll() || DefaultLoopKQueue.hasKQueue() || DefaultLoopIOUring.hasIOUring();
 	}
 }
@@ -27,7 +27,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -36,6 +40,7 @@ import javax.annotation.Nullable;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoop;
 import io.netty.resolver.AddressResolverGroup;
 import io.netty.util.AttributeKey;
 import io.netty.util.internal.PlatformDependent;
@@ -140,14 +145,26 @@ final class PooledConnectionProvider implements ConnectionProvider {
 					log.debug("Creating a new client pool [{}] for [{}]", poolFactory, remoteAddress);
 				}
 
-				InstrumentedPool<PooledConnection> newPool =
-						new PooledConnectionAllocator(config, poolFactory, remoteAddress, resolverGroup).pool;
+				PooledConnectionAllocator allocator =
+						new PooledConnectionAllocator(config, poolFactory, remoteAddress, resolverGroup);
+				InstrumentedPool<PooledConnection> newPool = allocator.pool;
 
+				Runnable onEviction = null;
 				if (poolFactory.metricsEnabled || config.metricsRecorder() != null) {
 					PooledConnectionProviderMetrics.registerMetrics(name,
 							poolKey.hashCode() + "",
 							Metrics.formatSocketAddress(remoteAddress),
 							newPool.metrics());
+					if (poolFactory.evictionInterval > 0) {
+						onEviction = PooledConnectionProviderMetrics.registerEvictionMetrics(name,
+								poolKey.hashCode() + "",
+								Metrics.formatSocketAddress(remoteAddress));
+					}
+				}
+
+				if (poolFactory.evictionInterval > 0) {
+					allocator.evictInBackground(config.loopResources().onClient(config.isPreferNative()).next(),
+							onEviction);
 				}
 				return newPool;
 			});
@@ -179,6 +196,20 @@ final class PooledConnectionProvider implements ConnectionProvider {
 		                                             .allMatch(Disposable::isDisposed);
 	}
 
+	@Override
+	@Nullable
+	public Duration maxIdleTime(SocketAddress remoteAddress) {
+		long maxIdleTime = poolFactoryPerRemoteHost.getOrDefault(remoteAddress, defaultPoolFactory).maxIdleTime;
+		return maxIdleTime != -1 ? Duration.ofMillis(maxIdleTime) : null;
+	}
+
+	@Override
+	@Nullable
+	public Duration maxLifeTime(SocketAddress remoteAddress) {
+		long maxLifeTime = poolFactoryPerRemoteHost.getOrDefault(remoteAddress, defaultPoolFactory).maxLifeTime;
+		return maxLifeTime != -1 ? Duration.ofMillis(maxLifeTime) : null;
+	}
+
 	static void disposableAcquire(DisposableAcquire disposableAcquire) {
 		Mono<PooledRef<PooledConnection>> mono =
 				disposableAcquire.pool.acquire(Duration.ofMillis(disposableAcquire.pendingAcquireTimeout));
@@ -190,21 +221,88 @@ final class PooledConnectionProvider implements ConnectionProvider {
 	static final AttributeKey<ConnectionObserver> OWNER =
 			AttributeKey.valueOf("connectionOwner");
 
-	final static class PooledConnectionAllocator {
+	final static class PooledConnectionAllocator implements Runnable {
 
 		final TransportConfig config;
+		final PoolFactory poolFactory;
 		final InstrumentedPool<PooledConnection> pool;
 		final SocketAddress remoteAddress;
 		final AddressResolverGroup<?> resolver;
+		final Set<PooledConnection> connections;
+
+		Runnable onEviction;
+		ScheduledFuture<?> evictionTask;
 
 		PooledConnectionAllocator(TransportConfig config, PoolFactory provider, SocketAddress remoteAddress,
 				AddressResolverGroup<?> resolver) {
 			this.config = config;
+			this.poolFactory = provider;
 			this.remoteAddress = remoteAddress;
 			this.resolver = resolver;
+			this.connections = provider.evictionInterval > 0 ? ConcurrentHashMap.newKeySet() : null;
 			this.pool = provider.newPool(connectChannel());
 		}
 
+		/**
+		 * Schedule the background eviction on the given event loop.
+		 *
+		 * @param eventLoop the event loop that runs the background eviction
+		 * @param onEviction invoked for every evicted connection or null
+		 */
+		void evictInBackground(EventLoop eventLoop, @Nullable Runnable onEviction) {
+			this.onEviction = onEviction;
+			this.evictionTask = eventLoop.scheduleAtFixedRate(this, poolFactory.evictionInterval,
+					poolFactory.evictionInterval, TimeUnit.MILLISECONDS);
+		}
+
+		/**
+		 * Run the background eviction, the connections are checked on their own event loop
+		 * so that the check does not race with the acquisition.
+		 */
+		@Override
+		public void run() {
+			if (pool.isDisposed()) {
+				evictionTask.cancel(false);
+				return;
+			}
+			for (PooledConnection connection : connections) {
+				EventLoop eventLoop = connection.channel.eventLoop();
+				if (eventLoop.inEventLoop()) {
+					evictIfExpired(connection);
+				}
+				else {
+					eventLoop.execute(() -> evictIfExpired(connection));
+				}
+			}
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void evictIfExpired(PooledConnection connection) {
+			Channel channel = connection.channel;
+			PooledRef<PooledConnection> pooledRef = connection.pooledRef;
+			// Only the connections released to the pool are evicted
+			if (pooledRef == null || !channel.isActive() ||
+					channel.attr(OWNER).get() != ConnectionObserver.emptyListener()) {
+				return;
+			}
+
+			PooledRefMetadata metadata = pooledRef.metadata();
+			if ((poolFactory.maxIdleTime != -1 && metadata.idleTime() >= poolFactory.maxIdleTime) ||
+					(poolFactory.maxLifeTime != -1 && metadata.lifeTime() >= poolFactory.maxLifeTime)) {
+				if (log.isDebugEnabled()) {
+					log.debug(format(channel, "Evicting idle channel in background, idle time {}ms, life time {}ms"),
+							metadata.idleTime(), metadata.lifeTime());
+				}
+				// The closed channel is removed from the pool by the eviction predicate,
+				// with the next acquisition, without attempting to use it
+				//"FutureReturnValueIgnored" this is deliberate
+				channel.close();
+				if (onEviction != null) {
+					onEviction.run();
+				}
+			}
+		}
+
 		Publisher<PooledConnection> connectChannel() {
 			return Mono.create(sink -> {
 				PooledConnectionInitializer initializer = new PooledConnectionInitializer(sink);
@@ -234,6 +332,12 @@ final class PooledConnectionProvider implements ConnectionProvider {
 
 				this.pooledConnection = pooledConnection;
 
+				if (connections != null) {
+					connections.add(pooledConnection);
+					ch.closeFuture()
+					  .addListener(f -> connections.remove(pooledConnection));
+				}
+
 				pooledConnection.bind();
 
 				ch.pipeline()
@@ -253,6 +357,12 @@ final class PooledConnectionProvider implements ConnectionProvider {
 
 			@Override
 			public void onNext(Channel channel) {
+				PooledConnection pooledConnection = this.pooledConnection;
+				if (pooledConnection.channel != channel) {
+					// When the remote address resolves to several addresses, the connected channel
+					// is not necessarily the last one that has been initialized
+					pooledConnection = (PooledConnection) Connection.from(channel);
+				}
 				sink.success(pooledConnection);
 			}
 
@@ -665,6 +775,7 @@ final class PooledConnectionProvider implements ConnectionProvider {
 		final long        pendingAcquireTimeout;
 		final long        maxIdleTime;
 		final long        maxLifeTime;
+		final long        evictionInterval;
 		final boolean     metricsEnabled;
 		final Function<PoolBuilder<PooledConnectionProvider.PooledConnection, ?>,
 				InstrumentedPool<PooledConnectionProvider.PooledConnection>> leasingStrategy;
@@ -676,6 +787,7 @@ final class PooledConnectionProvider implements ConnectionProvider {
 			this.pendingAcquireTimeout = conf.pendingAcquireTimeout.toMillis();
 			this.maxIdleTime = conf.maxIdleTime != null ? conf.maxIdleTime.toMillis() : -1;
 			this.maxLifeTime = conf.maxLifeTime != null ? conf.maxLifeTime.toMillis() : -1;
+			this.evictionInterval = conf.evictionInterval.toMillis();
 			this.metricsEnabled = conf.metricsEnabled;
 			this.leasingStrategy = conf.leasingStrategy;
 		}
@@ -699,6 +811,7 @@ final class PooledConnectionProvider implements ConnectionProvider {
 					", pendingAcquireTimeout=" + pendingAcquireTimeout +
 					", maxIdleTime=" + maxIdleTime +
 					", maxLifeTime=" + maxLifeTime +
+					", evictionInterval=" + evictionInterval +
 					", metricsEnabled=" + metricsEnabled +
 					'}';
 		}
@@ -15,11 +15,13 @@
  */
 package reactor.netty.resources;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import reactor.pool.InstrumentedPool;
 
 import static reactor.netty.Metrics.ACTIVE_CONNECTIONS;
 import static reactor.netty.Metrics.CONNECTION_PROVIDER_PREFIX;
+import static reactor.netty.Metrics.EVICTED_CONNECTIONS;
 import static reactor.netty.Metrics.ID;
 import static reactor.netty.Metrics.IDLE_CONNECTIONS;
 import static reactor.netty.Metrics.PENDING_CONNECTIONS;
@@ -57,4 +59,13 @@ final class PooledConnectionProviderMetrics {
 		     .tags(tags)
 		     .register(REGISTRY);
 	}
+
+	static Runnable registerEvictionMetrics(String poolName, String id, String remoteAddress) {
+		Counter counter =
+				Counter.builder(CONNECTION_PROVIDER_PREFIX + EVICTED_CONNECTIONS)
+				       .description("The number of the connections closed by the background eviction")
+				       .tags(ID, id, REMOTE_ADDRESS, remoteAddress, NAME, poolName)
+				       .register(REGISTRY);
+		return counter::increment;
+	}
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import javax.annotation.Nullable;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+
+/**
+ * Rotates the session ticket keys of an OpenSSL server {@link io.netty.handler.ssl.SslContext}.
+ * The rotation is checked lazily when a new {@link io.netty.handler.ssl.SslHandler} is configured,
+ * i.e. before every handshake, the tickets can be resumed only during a handshake.
+ * The tickets are issued with the current key, the previous key is kept for one more interval
+ * so that the tickets issued before the last rotation can still be resumed. When the server was
+ * idle for longer than that, the previous key has expired and only the new key is set.
+ *
+ * @author Violeta Georgieva
+ */
+final class SessionTicketKeys {
+
+	final OpenSslSessionContext sessionContext;
+	final long                  rotationIntervalNanos;
+	final SecureRandom          random = new SecureRandom();
+
+	volatile OpenSslSessionTicketKey current;
+	@Nullable
+	volatile OpenSslSessionTicketKey previous;
+	volatile long                    nextRotation;
+
+	SessionTicketKeys(OpenSslSessionContext sessionContext, Duration rotationInterval) {
+		this.sessionContext = sessionContext;
+		this.rotationIntervalNanos = rotationInterval.toNanos();
+		this.current = newKey();
+		sessionContext.setTicketKeys(current);
+		this.nextRotation = System.nanoTime() + rotationIntervalNanos;
+	}
+
+	void rotateIfNeeded() {
+		if (System.nanoTime() - nextRotation < 0) {
+			return;
+		}
+		// the keys are read and set together, so that concurrent rotations cannot reorder them
+		synchronized (this) {
+			long now = System.nanoTime();
+			long next = nextRotation;
+			if (now - next >= 0) {
+				nextRotation = now + rotationIntervalNanos;
+				// the current key stopped issuing tickets when it was due,
+				// it decrypts them for one more interval
+				rotate(now - next < rotationIntervalNanos);
+			}
+		}
+	}
+
+	void rotate(boolean keepCurrent) {
+		OpenSslSessionTicketKey previous = keepCurrent ? current : null;
+		OpenSslSessionTicketKey next = newKey();
+		this.previous = previous;
+		this.current = next;
+		if (previous != null) {
+			sessionContext.setTicketKeys(next, previous);
+		}
+		else {
+			sessionContext.setTicketKeys(next);
+		}
+	}
+
+	OpenSslSessionTicketKey newKey() {
+		byte[] name = new byte[OpenSslSessionTicketKey.NAME_SIZE];
+		byte[] hmacKey = new byte[OpenSslSessionTicketKey.HMAC_KEY_SIZE];
+		byte[] aesKey = new byte[OpenSslSessionTicketKey.AES_KEY_SIZE];
+		random.nextBytes(name);
+		random.nextBytes(hmacKey);
+		random.nextBytes(aesKey);
+		return new OpenSslSessionTicketKey(name, hmacKey, aesKey);
+	}
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import java.net.IDN;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.ssl.SniHandler;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.Future;
+import reactor.netty.NettyPipeline;
+
+/**
+ * Holds the server name indication (SNI) mappings of a {@link SslProvider}.
+ * The mappings are shared by all {@link SslProvider} instances derived from the configured one
+ * and can be replaced at runtime, the new mappings are used for the next TLS handshakes.
+ *
+ * @author Violeta Georgieva
+ * @since 1.0.0
+ */
+final class SniProvider {
+
+	volatile Mappings mappings;
+
+	SniProvider(Map<String, Consumer<? super SslProvider.SslContextSpec>> confPerDomainName) {
+		this.mappings = new Mappings(build(confPerDomainName), Collections.emptyMap());
+	}
+
+	/**
+	 * Return the {@link SslProvider} configured for the given host name
+	 * or the default one when there is no mapping for it.
+	 *
+	 * @param hostname the host name sent with the TLS {@code ClientHello}
+	 * @param defaultProvider the {@link SslProvider} to use when there is no mapping
+	 * @return the {@link SslProvider} configured for the given host name
+	 */
+	SslProvider map(@Nullable String hostname, SslProvider defaultProvider) {
+		if (hostname == null) {
+			return defaultProvider;
+		}
+		Map<String, SslProvider> providers = mappings.get(defaultProvider.type);
+		if (providers.isEmpty()) {
+			return defaultProvider;
+		}
+		String normalized = normalize(hostname);
+		SslProvider provider = providers.get(normalized);
+		if (provider == null) {
+			int index = normalized.indexOf('.');
+			if (index != -1) {
+				provider = providers.get("*" + normalized.substring(index));
+			}
+		}
+		return provider != null ? provider : defaultProvider;
+	}
+
+	/**
+	 * Make sure that the mappings are available with the given default configuration type,
+	 * the {@link SslProvider} instances are built upfront and not on the TLS handshake path.
+	 *
+	 * @param type the default configuration type
+	 */
+	synchronized void registerType(SslProvider.DefaultConfigurationType type) {
+		Mappings current = mappings;
+		if (current.derived.containsKey(type)) {
+			return;
+		}
+		Map<SslProvider.DefaultConfigurationType, Map<String, SslProvider>> derived = new EnumMap<>(SslProvider.DefaultConfigurationType.class);
+		derived.putAll(current.derived);
+		derived.put(type, derive(current.providers, type));
+		mappings = new Mappings(current.providers, derived);
+	}
+
+	/**
+	 * Replace all mappings, the {@link SslProvider} instances are built before the mappings are swapped.
+	 *
+	 * @param confPerDomainName the new mappings
+	 */
+	synchronized void update(Map<String, Consumer<? super SslProvider.SslContextSpec>> confPerDomainName) {
+		Map<String, SslProvider> providers = build(confPerDomainName);
+		Map<SslProvider.DefaultConfigurationType, Map<String, SslProvider>> derived = new EnumMap<>(SslProvider.DefaultConfigurationType.class);
+		for (SslProvider.DefaultConfigurationType type : mappings.derived.keySet()) {
+			derived.put(type, derive(providers, type));
+		}
+		mappings = new Mappings(providers, derived);
+	}
+
+	static Map<String, SslProvider> build(Map<String, Consumer<? super SslProvider.SslContextSpec>> confPerDomainName) {
+		Objects.requireNonNull(confPerDomainName, "confPerDomainName");
+		Map<String, SslProvider> providers = new HashMap<>(confPerDomainName.size());
+		confPerDomainName.forEach((domainName, conf) -> {
+			Objects.requireNonNull(conf, "sslProviderBuilder");
+			SslProvider.Build builder = new SslProvider.Build();
+			conf.accept(builder);
+			providers.put(normalizeDomainName(domainName), builder.build());
+		});
+		return providers;
+	}
+
+	static Map<String, SslProvider> derive(Map<String, SslProvider> providers, SslProvider.DefaultConfigurationType type) {
+		Map<String, SslProvider> derived = new HashMap<>(providers.size());
+		providers.forEach((domainName, provider) ->
+				derived.put(domainName, provider.type != null ? provider : new SslProvider(provider, type)));
+		return derived;
+	}
+
+	static String normalize(String hostname) {
+		return IDN.toASCII(hostname, IDN.ALLOW_UNASSIGNED).toLowerCase(Locale.US);
+	}
+
+	static String normalizeDomainName(String domainName) {
+		Objects.requireNonNull(domainName, "domainName");
+		int wildcard = domainName.indexOf('*');
+		if (wildcard != -1 && (wildcard != 0 || !domainName.startsWith("*.") || domainName.indexOf('*', 1) != -1)) {
+			throw new IllegalArgumentException("Wildcard is supported only as a leading '*.' label, was: " + domainName);
+		}
+		return normalize(domainName);
+	}
+
+	static final class Mappings {
+		final Map<String, SslProvider> providers;
+		final Map<SslProvider.DefaultConfigurationType, Map<String, SslProvider>> derived;
+
+		Mappings(Map<String, SslProvider> providers,
+				Map<SslProvider.DefaultConfigurationType, Map<String, SslProvider>> derived) {
+			this.providers = providers;
+			this.derived = derived;
+		}
+
+		Map<String, SslProvider> get(@Nullable SslProvider.DefaultConfigurationType type) {
+			if (type == null) {
+				return providers;
+			}
+			Map<String, SslProvider> result = derived.get(type);
+			return result != null ? result : providers;
+		}
+	}
+
+	/**
+	 * Selects the {@link SslProvider} based on the host name sent with the TLS {@code ClientHello}
+	 * and replaces itself with a {@link SslHandler} configured by it.
+	 */
+	static final class ReactorSniHandler extends SniHandler {
+
+		final SniProvider sniProvider;
+		final SslProvider defaultProvider;
+
+		SslProvider selected;
+		SslContextHolder.Entry selectedEntry;
+
+		ReactorSniHandler(SniProvider sniProvider, SslProvider defaultProvider) {
+			super(hostname -> sniProvider.map(hostname, defaultProvider).getSslContext());
+			this.sniProvider = sniProvider;
+			this.defaultProvider = defaultProvider;
+		}
+
+		@Override
+		protected Future<SslContext> lookup(ChannelHandlerContext ctx, String hostname) {
+			selected = sniProvider.map(hostname, defaultProvider);
+			// the same snapshot configures the SslHandler, the SslContext can be replaced concurrently
+			selectedEntry = selected.sslContextHolder.get(selected.type);
+			return ctx.executor().newSucceededFuture(selectedEntry.sslContext);
+		}
+
+		@Override
+		protected SslHandler newSslHandler(SslContext context, ByteBufAllocator allocator) {
+			SslHandler sslHandler = super.newSslHandler(context, allocator);
+			if (selected != null && selectedEntry != null && selectedEntry.sslContext == context) {
+				selected.configure(sslHandler, selectedEntry);
+			}
+			else {
+				(selected != null ? selected : defaultProvider).configure(sslHandler);
+			}
+			return sslHandler;
+		}
+
+		@Override
+		protected void replaceHandler(ChannelHandlerContext ctx, String hostname, SslContext sslContext) {
+			SslHandler sslHandler = null;
+			try {
+				sslHandler = newSslHandler(sslContext, ctx.alloc());
+				// Keep the name so that the handlers added relative to the SslHandler stay in place
+				ctx.pipeline().replace(this, NettyPipeline.SslHandler, sslHandler);
+				sslHandler = null;
+			}
+			finally {
+				if (sslHandler != null) {
+					ReferenceCountUtil.safeRelease(sslHandler.engine());
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.tcp;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+
+import io.netty.handler.ssl.SslContext;
+
+/**
+ * Holds the {@link SslContext} of a {@link SslProvider}.
+ * The {@link SslContext} is shared by all {@link SslProvider} instances derived from the configured one
+ * and can be replaced at runtime, the new {@link SslContext} is used for the next TLS handshakes,
+ * the established connections are not affected.
+ * The {@link SslContext} instances are read without locking, the updates are serialized and
+ * all {@link SslContext} instances are built before they are swapped.
+ *
+ * @author Violeta Georgieva
+ * @since 1.0.0
+ */
+final class SslContextHolder {
+
+	final SslProvider.DefaultConfigurationType baseType;
+	final Function<? super SslContext, SessionTicketKeys> sessionContextConfigurer;
+
+	volatile Contexts contexts;
+
+	/**
+	 * @param baseType the default configuration type of the configured {@link SslProvider}
+	 * @param source builds the {@link SslContext} for a given default configuration type
+	 * @param sessionContextConfigurer applies the session settings to a new {@link SslContext}
+	 */
+	SslContextHolder(@Nullable SslProvider.DefaultConfigurationType baseType,
+			Function<SslProvider.DefaultConfigurationType, SslContext> source,
+			Function<? super SslContext, SessionTicketKeys> sessionContextConfigurer) {
+		this.baseType = baseType;
+		this.sessionContextConfigurer = sessionContextConfigurer;
+		this.contexts = new Contexts(source, newEntry(source.apply(baseType), null), Collections.emptyMap());
+	}
+
+	/**
+	 * Return the current {@link SslContext} for the given default configuration type.
+	 *
+	 * @param type the default configuration type
+	 * @return the current {@link SslContext} for the given default configuration type
+	 */
+	Entry get(@Nullable SslProvider.DefaultConfigurationType type) {
+		Contexts current = contexts;
+		if (type == baseType) {
+			return current.base;
+		}
+		Entry entry = current.derived.get(type);
+		return entry != null ? entry : current.base;
+	}
+
+	/**
+	 * Make sure that a {@link SslContext} is available with the given default configuration type,
+	 * the {@link SslContext} is built upfront and not on the TLS handshake path.
+	 *
+	 * @param type the default configuration type
+	 */
+	synchronized void registerType(SslProvider.DefaultConfigurationType type) {
+		Contexts current = contexts;
+		if (type == baseType || current.derived.containsKey(type)) {
+			return;
+		}
+		Map<SslProvider.DefaultConfigurationType, Entry> derived = new EnumMap<>(SslProvider.DefaultConfigurationType.class);
+		derived.putAll(current.derived);
+		derived.put(type, newEntry(current.source.apply(type), current.base));
+		contexts = new Contexts(current.source, current.base, derived);
+	}
+
+	/**
+	 * Replace the {@link SslContext} for all registered default configuration types,
+	 * the {@link SslContext} instances are built before they are swapped.
+	 *
+	 * @param source builds the {@link SslContext} for a given default configuration type
+	 */
+	synchronized void update(Function<SslProvider.DefaultConfigurationType, SslContext> source) {
+		Entry base = newEntry(source.apply(baseType), null);
+		Map<SslProvider.DefaultConfigurationType, Entry> derived = new EnumMap<>(SslProvider.DefaultConfigurationType.class);
+		for (SslProvider.DefaultConfigurationType type : contexts.derived.keySet()) {
+			derived.put(type, newEntry(source.apply(type), base));
+		}
+		contexts = new Contexts(source, base, derived);
+	}
+
+	Entry newEntry(SslContext sslContext, @Nullable Entry base) {
+		if (base != null && base.sslContext == sslContext) {
+			return base;
+		}
+		return new Entry(sslContext, sessionContextConfigurer.apply(sslContext));
+	}
+
+	static final class Contexts {
+		final Function<SslProvider.DefaultConfigurationType, SslContext> source;
+		final Entry base;
+		final Map<SslProvider.DefaultConfigurationType, Entry> derived;
+
+		Contexts(Function<SslProvider.DefaultConfigurationType, SslContext> source,
+				Entry base,
+				Map<SslProvider.DefaultConfigurationType, Entry> derived) {
+			this.source = source;
+			this.base = base;
+			this.derived = derived;
+		}
+	}
+
+	static final class Entry {
+		final SslContext sslContext;
+		final SessionTicketKeys sessionTicketKeys;
+
+		Entry(SslContext sslContext, @Nullable SessionTicketKeys sessionTicketKeys) {
+			this.sslContext = sslContext;
+			this.sessionTicketKeys = sessionTicketKeys;
+		}
+	}
+}
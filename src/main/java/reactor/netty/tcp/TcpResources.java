@@ -183,6 +183,18 @@ public class TcpResources implements ConnectionProvider, LoopResources {
 		return defaultLoops.isDisposed() && defaultProvider.isDisposed();
 	}
 
+	@Override
+	@Nullable
+	public Duration maxIdleTime(SocketAddress remoteAddress) {
+		return defaultProvider.maxIdleTime(remoteAddress);
+	}
+
+	@Override
+	@Nullable
+	public Duration maxLifeTime(SocketAddress remoteAddress) {
+		return defaultProvider.maxLifeTime(remoteAddress);
+	}
+
 	@Override
 	public Class<? extends Channel> onChannel(EventLoopGroup group) {
 		return defaultLoops.onChannel(group);
@@ -17,18 +17,25 @@ package reactor.netty.transport;
 
 import io.netty.resolver.AddressResolver;
 import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.HostsFileEntriesResolver;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.util.NetUtil;
 import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import reactor.netty.channel.ChannelMetricsRecorder;
 
 import javax.annotation.Nullable;
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.List;
 import java.util.function.Supplier;
 
 import static reactor.netty.Metrics.ERROR;
+import static reactor.netty.Metrics.HIT;
+import static reactor.netty.Metrics.MISS;
 import static reactor.netty.Metrics.SUCCESS;
 
 /**
@@ -40,10 +47,18 @@ final class AddressResolverGroupMetrics extends AddressResolverGroup<SocketAddre
 
 	final ChannelMetricsRecorder recorder;
 
+	/**
+	 * The non-blocking DNS resolver completes the resolution synchronously only when
+	 * it is served from the cache, the hosts file or the address is an IP literal,
+	 * otherwise a DNS query is sent. The last two cases are not recorded.
+	 */
+	final boolean recordCacheStatus;
+
 	AddressResolverGroupMetrics(AddressResolverGroup<SocketAddress> resolverGroup,
 			@Nullable ChannelMetricsRecorder recorder) {
 		this.resolverGroup = resolverGroup;
 		this.recorder = recorder;
+		this.recordCacheStatus = ((AddressResolverGroup<?>) resolverGroup) instanceof DnsAddressResolverGroup;
 	}
 
 	@Override
@@ -89,20 +104,35 @@ final class AddressResolverGroupMetrics extends AddressResolverGroup<SocketAddre
 
 			Future<SocketAddress> resolveInternal(SocketAddress address, Supplier<Future<SocketAddress>> resolver) {
 				long resolveTimeStart = System.nanoTime();
-				return resolver.get()
-				               .addListener(
-				                   future -> record(resolveTimeStart,
-				                                    future.isSuccess() ? SUCCESS : ERROR,
-				                                    address));
+				Future<SocketAddress> resolveFuture = resolver.get();
+				if (recordCacheStatus && isDnsLookup(address)) {
+					recorder.incrementAddressResolverCacheCount(address, resolveFuture.isDone() ? HIT : MISS);
+				}
+				return resolveFuture.addListener(
+				        future -> record(resolveTimeStart,
+				                         future.isSuccess() ? SUCCESS : ERROR,
+				                         address));
 			}
 
 			Future<List<SocketAddress>> resolveAllInternal(SocketAddress address, Supplier<Future<List<SocketAddress>>> resolver) {
 				long resolveTimeStart = System.nanoTime();
-				return resolver.get()
-				               .addListener(
-				                   future -> record(resolveTimeStart,
-				                                    future.isSuccess() ? SUCCESS : ERROR,
-				                                    address));
+				Future<List<SocketAddress>> resolveFuture = resolver.get();
+				if (recordCacheStatus && isDnsLookup(address)) {
+					recorder.incrementAddressResolverCacheCount(address, resolveFuture.isDone() ? HIT : MISS);
+				}
+				return resolveFuture.addListener(
+				        future -> record(resolveTimeStart,
+				                         future.isSuccess() ? SUCCESS : ERROR,
+				                         address));
+			}
+
+			boolean isDnsLookup(SocketAddress address) {
+				if (!(address instanceof InetSocketAddress) || !((InetSocketAddress) address).isUnresolved()) {
+					return false;
+				}
+				String host = ((InetSocketAddress) address).getHostString();
+				return !NetUtil.isValidIpV4Address(host) && !NetUtil.isValidIpV6Address(host) &&
+						HostsFileEntriesResolver.DEFAULT.address(host, ResolvedAddressTypes.IPV4_PREFERRED) == null;
 			}
 
 			void record(long resolveTimeStart, String status, SocketAddress remoteAddress) {
@@ -215,4 +215,22 @@ public abstract class ClientTransport<T extends ClientTransport<T, CONF>,
 		dup.configuration().resolver = resolver;
 		return dup;
 	}
+
+	/**
+	 * Apply a DNS resolver configuration. The non-blocking DNS resolver is used by default,
+	 * this callback tunes it and replaces any {@link AddressResolverGroup} set via
+	 * {@link #resolver(AddressResolverGroup)}.
+	 *
+	 * @param nameResolverSpec the DNS resolver configuration callback
+	 * @return a new {@link ClientTransport} reference
+	 */
+	public final T resolver(Consumer<NameResolverProvider.NameResolverSpec> nameResolverSpec) {
+		Objects.requireNonNull(nameResolverSpec, "nameResolverSpec");
+		T dup = duplicate();
+		NameResolverProvider.Build builder = (NameResolverProvider.Build) NameResolverProvider.builder();
+		nameResolverSpec.accept(builder);
+		dup.configuration().nameResolverProvider = builder.build();
+		dup.configuration().resolver = null;
+		return dup;
+	}
 }
\ No newline at end of file
@@ -28,7 +28,6 @@ import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ReflectiveChannelFactory;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.resolver.AddressResolverGroup;
-import io.netty.resolver.DefaultAddressResolverGroup;
 import reactor.netty.ChannelPipelineConfigurer;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
@@ -48,7 +47,7 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 
 	@Override
 	public int channelHash() {
-		return Objects.hash(super.channelHash(), proxyProvider, resolver);
+		return Objects.hash(super.channelHash(), nameResolverProvider, proxyProvider, resolver);
 	}
 
 	/**
@@ -90,6 +89,16 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 		return doOnDisconnected;
 	}
 
+	/**
+	 * Return the {@link NameResolverProvider} that is used when no custom
+	 * {@link AddressResolverGroup} is configured
+	 *
+	 * @return the {@link NameResolverProvider}
+	 */
+	public final NameResolverProvider nameResolverProvider() {
+		return nameResolverProvider;
+	}
+
 	/**
 	 * Return true if that {@link ClientTransportConfig} is configured with a proxy
 	 *
@@ -119,12 +128,16 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 	}
 
 	/**
-	 * Return the {@link AddressResolverGroup}
+	 * Return the {@link AddressResolverGroup}. When no custom {@link AddressResolverGroup}
+	 * is configured, the group provided by {@link #nameResolverProvider()} is returned.
 	 *
 	 * @return the {@link AddressResolverGroup}
 	 */
 	public final AddressResolverGroup<?> resolver() {
-		return resolver;
+		if (resolver != null) {
+			return resolver;
+		}
+		return nameResolverProvider.resolverGroup(loopResources(), isPreferNative());
 	}
 
 
@@ -135,6 +148,7 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 	Consumer<? super CONF>            doOnConnect;
 	Consumer<? super Connection>      doOnConnected;
 	Consumer<? super Connection>      doOnDisconnected;
+	NameResolverProvider              nameResolverProvider;
 	ProxyProvider                     proxyProvider;
 	Supplier<? extends SocketAddress> remoteAddress;
 	AddressResolverGroup<?>           resolver;
@@ -144,7 +158,7 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 		super(options);
 		this.connectionProvider = Objects.requireNonNull(connectionProvider, "connectionProvider");
 		this.remoteAddress = Objects.requireNonNull(remoteAddress, "remoteAddress");
-		this.resolver = DefaultAddressResolverGroup.INSTANCE;
+		this.nameResolverProvider = NameResolverProvider.DEFAULT;
 	}
 
 	protected ClientTransportConfig(ClientTransportConfig<CONF> parent) {
@@ -153,6 +167,7 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 		this.doOnConnect = parent.doOnConnect;
 		this.doOnConnected = parent.doOnConnected;
 		this.doOnDisconnected = parent.doOnDisconnected;
+		this.nameResolverProvider = parent.nameResolverProvider;
 		this.proxyProvider = parent.proxyProvider;
 		this.remoteAddress = parent.remoteAddress;
 		this.resolver = parent.resolver;
@@ -188,13 +203,14 @@ public abstract class ClientTransportConfig<CONF extends TransportConfig> extend
 
 	@SuppressWarnings("unchecked")
 	protected AddressResolverGroup<?> resolverInternal() {
+		AddressResolverGroup<?> resolverGroup = resolver();
 		if (metricsRecorder != null) {
 			return new AddressResolverGroupMetrics(
-					(AddressResolverGroup<SocketAddress>) resolver,
+					(AddressResolverGroup<SocketAddress>) resolverGroup,
 					Objects.requireNonNull(metricsRecorder.get(), "Metrics recorder supplier returned null"));
 		}
 		else {
-			return resolver;
+			return resolverGroup;
 		}
 	}
 
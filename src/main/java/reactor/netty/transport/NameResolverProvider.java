@@ -0,0 +1,548 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentMap;
+
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.DnsServerAddressStreamProvider;
+import io.netty.resolver.dns.DnsServerAddressStreamProviders;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
+import io.netty.util.internal.PlatformDependent;
+import reactor.netty.resources.LoopResources;
+
+import javax.annotation.Nullable;
+
+/**
+ * Non-blocking DNS resolver configuration backed by Netty's {@code DnsNameResolver}.
+ * Resolved records are cached according to their TTL, failures are cached according to
+ * {@link NameResolverSpec#cacheNegativeTimeToLive(Duration)}, and unless configured otherwise
+ * the search domains and {@code ndots} are taken from {@code /etc/resolv.conf}.
+ *
+ * @author Violeta Georgieva
+ * @since 1.0.0
+ */
+public final class NameResolverProvider {
+
+	/**
+	 * Creates a builder for {@link NameResolverProvider}
+	 *
+	 * @return a new NameResolverProvider builder
+	 */
+	public static NameResolverSpec builder() {
+		return new Build();
+	}
+
+	/**
+	 * Return the configured max time to live of the cached DNS resource records
+	 *
+	 * @return the configured max time to live of the cached DNS resource records
+	 */
+	public Duration cacheMaxTimeToLive() {
+		return cacheMaxTimeToLive;
+	}
+
+	/**
+	 * Return the configured min time to live of the cached DNS resource records
+	 *
+	 * @return the configured min time to live of the cached DNS resource records
+	 */
+	public Duration cacheMinTimeToLive() {
+		return cacheMinTimeToLive;
+	}
+
+	/**
+	 * Return the configured time to live of the cached failed DNS queries
+	 *
+	 * @return the configured time to live of the cached failed DNS queries
+	 */
+	public Duration cacheNegativeTimeToLive() {
+		return cacheNegativeTimeToLive;
+	}
+
+	/**
+	 * Return {@code true} if an optional record is not automatically included in DNS queries
+	 *
+	 * @return {@code true} if an optional record is not automatically included in DNS queries
+	 */
+	public boolean isDisableOptionalRecord() {
+		return disableOptionalRecord;
+	}
+
+	/**
+	 * Return {@code true} if the resolver will not send a DNS query with the RD (recursion desired) flag set
+	 *
+	 * @return {@code true} if the resolver will not send a DNS query with the RD (recursion desired) flag set
+	 */
+	public boolean isDisableRecursionDesired() {
+		return disableRecursionDesired;
+	}
+
+	/**
+	 * Return the configured capacity of the datagram packet buffer
+	 *
+	 * @return the configured capacity of the datagram packet buffer
+	 */
+	public int maxPayloadSize() {
+		return maxPayloadSize;
+	}
+
+	/**
+	 * Return the configured maximum allowed number of DNS queries to send when resolving a host name
+	 *
+	 * @return the configured maximum allowed number of DNS queries to send when resolving a host name
+	 */
+	public int maxQueriesPerResolve() {
+		return maxQueriesPerResolve;
+	}
+
+	/**
+	 * Return the configured number of dots which must appear in a name before an initial absolute query is made.
+	 * {@code -1} means the value is taken from {@code /etc/resolv.conf}
+	 *
+	 * @return the configured number of dots which must appear in a name before an initial absolute query is made
+	 */
+	public int ndots() {
+		return ndots;
+	}
+
+	/**
+	 * Return the configured timeout of each DNS query performed by this resolver
+	 *
+	 * @return the configured timeout of each DNS query performed by this resolver
+	 */
+	public Duration queryTimeout() {
+		return queryTimeout;
+	}
+
+	/**
+	 * Return the configured list of the protocol families of the address resolved
+	 * or null if the default will be used
+	 *
+	 * @return the configured list of the protocol families of the address resolved
+	 * or null if the default will be used
+	 */
+	@Nullable
+	public ResolvedAddressTypes resolvedAddressTypes() {
+		return resolvedAddressTypes;
+	}
+
+	/**
+	 * Return {@code true} if {@link RoundRobinDnsAddressResolverGroup} is in use
+	 *
+	 * @return {@code true} if {@link RoundRobinDnsAddressResolverGroup} is in use
+	 */
+	public boolean isRoundRobinSelection() {
+		return roundRobinSelection;
+	}
+
+	/**
+	 * Return the configured list of search domains or null if the list from
+	 * {@code /etc/resolv.conf} will be used
+	 *
+	 * @return the configured list of search domains or null if the list from
+	 * {@code /etc/resolv.conf} will be used
+	 */
+	@Nullable
+	public List<String> searchDomains() {
+		return searchDomains;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+		NameResolverProvider that = (NameResolverProvider) o;
+		return disableOptionalRecord == that.disableOptionalRecord &&
+				disableRecursionDesired == that.disableRecursionDesired &&
+				maxPayloadSize == that.maxPayloadSize &&
+				maxQueriesPerResolve == that.maxQueriesPerResolve &&
+				ndots == that.ndots &&
+				roundRobinSelection == that.roundRobinSelection &&
+				cacheMaxTimeToLive.equals(that.cacheMaxTimeToLive) &&
+				cacheMinTimeToLive.equals(that.cacheMinTimeToLive) &&
+				cacheNegativeTimeToLive.equals(that.cacheNegativeTimeToLive) &&
+				nameServerProvider.equals(that.nameServerProvider) &&
+				queryTimeout.equals(that.queryTimeout) &&
+				resolvedAddressTypes == that.resolvedAddressTypes &&
+				Objects.equals(searchDomains, that.searchDomains);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(cacheMaxTimeToLive, cacheMinTimeToLive, cacheNegativeTimeToLive, disableOptionalRecord,
+				disableRecursionDesired, maxPayloadSize, maxQueriesPerResolve, nameServerProvider, ndots, queryTimeout,
+				resolvedAddressTypes, roundRobinSelection, searchDomains);
+	}
+
+	/**
+	 * Provides the {@link AddressResolverGroup} for the given {@link LoopResources}.
+	 * The resolver group, and thus the DNS cache, is created once per datagram channel type
+	 * and shared by all clients configured with an equal {@link NameResolverProvider},
+	 * so that configuring the same resolver again does not create new resolvers.
+	 *
+	 * @param loopResources the loop resources
+	 * @param preferNative should prefer running on epoll or kqueue instead of java NIO
+	 * @return the {@link AddressResolverGroup}
+	 */
+	AddressResolverGroup<?> resolverGroup(LoopResources loopResources, boolean preferNative) {
+		Class<? extends DatagramChannel> channelType =
+				loopResources.onDatagramChannel(loopResources.onClient(preferNative));
+		return RESOLVER_GROUPS.computeIfAbsent(this, provider -> PlatformDependent.newConcurrentHashMap())
+		                      .computeIfAbsent(channelType, this::newResolverGroup);
+	}
+
+	AddressResolverGroup<?> newResolverGroup(Class<? extends DatagramChannel> channelType) {
+		DnsNameResolverBuilder builder = new DnsNameResolverBuilder()
+				.channelType(channelType)
+				.resolveCache(new DefaultDnsCache(
+						toSeconds(cacheMinTimeToLive), toSeconds(cacheMaxTimeToLive), toSeconds(cacheNegativeTimeToLive)))
+				.queryTimeoutMillis(queryTimeout.toMillis())
+				.maxQueriesPerResolve(maxQueriesPerResolve)
+				.maxPayloadSize(maxPayloadSize)
+				.optResourceEnabled(!disableOptionalRecord)
+				.recursionDesired(!disableRecursionDesired)
+				.nameServerProvider(nameServerProvider)
+				.ndots(ndots);
+		if (resolvedAddressTypes != null) {
+			builder.resolvedAddressTypes(resolvedAddressTypes);
+		}
+		if (searchDomains != null) {
+			builder.searchDomains(searchDomains);
+		}
+		return roundRobinSelection ? new RoundRobinDnsAddressResolverGroup(builder) : new DnsAddressResolverGroup(builder);
+	}
+
+	static int toSeconds(Duration duration) {
+		return (int) Math.min(Integer.MAX_VALUE, duration.getSeconds());
+	}
+
+	final Duration cacheMaxTimeToLive;
+	final Duration cacheMinTimeToLive;
+	final Duration cacheNegativeTimeToLive;
+	final boolean disableOptionalRecord;
+	final boolean disableRecursionDesired;
+	final int maxPayloadSize;
+	final int maxQueriesPerResolve;
+	final DnsServerAddressStreamProvider nameServerProvider;
+	final int ndots;
+	final Duration queryTimeout;
+	final ResolvedAddressTypes resolvedAddressTypes;
+	final boolean roundRobinSelection;
+	final List<String> searchDomains;
+
+	NameResolverProvider(Build build) {
+		this.cacheMaxTimeToLive = build.cacheMaxTimeToLive;
+		this.cacheMinTimeToLive = build.cacheMinTimeToLive;
+		this.cacheNegativeTimeToLive = build.cacheNegativeTimeToLive;
+		this.disableOptionalRecord = build.disableOptionalRecord;
+		this.disableRecursionDesired = build.disableRecursionDesired;
+		this.maxPayloadSize = build.maxPayloadSize;
+		this.maxQueriesPerResolve = build.maxQueriesPerResolve;
+		this.nameServerProvider = build.nameServerProvider;
+		this.ndots = build.ndots;
+		this.queryTimeout = build.queryTimeout;
+		this.resolvedAddressTypes = build.resolvedAddressTypes;
+		this.roundRobinSelection = build.roundRobinSelection;
+		this.searchDomains = build.searchDomains;
+	}
+
+	static final NameResolverProvider DEFAULT = new Build().build();
+
+	/**
+	 * The resolver groups per configuration and datagram channel type
+	 */
+	static final ConcurrentMap<NameResolverProvider, ConcurrentMap<Class<? extends DatagramChannel>, AddressResolverGroup<?>>>
+			RESOLVER_GROUPS = PlatformDependent.newConcurrentHashMap();
+
+	static final class Build implements NameResolverSpec {
+		static final Duration DEFAULT_CACHE_MAX_TIME_TO_LIVE = Duration.ofSeconds(Integer.MAX_VALUE);
+		static final Duration DEFAULT_CACHE_MIN_TIME_TO_LIVE = Duration.ofSeconds(0);
+		static final Duration DEFAULT_CACHE_NEGATIVE_TIME_TO_LIVE = Duration.ofSeconds(0);
+		static final int DEFAULT_MAX_PAYLOAD_SIZE = 4096;
+		static final int DEFAULT_MAX_QUERIES_PER_RESOLVE = 16;
+		static final int DEFAULT_NDOTS = -1;
+		static final Duration DEFAULT_QUERY_TIMEOUT = Duration.ofSeconds(5);
+
+		Duration cacheMaxTimeToLive = DEFAULT_CACHE_MAX_TIME_TO_LIVE;
+		Duration cacheMinTimeToLive = DEFAULT_CACHE_MIN_TIME_TO_LIVE;
+		Duration cacheNegativeTimeToLive = DEFAULT_CACHE_NEGATIVE_TIME_TO_LIVE;
+		boolean disableOptionalRecord;
+		boolean disableRecursionDesired;
+		int maxPayloadSize = DEFAULT_MAX_PAYLOAD_SIZE;
+		int maxQueriesPerResolve = DEFAULT_MAX_QUERIES_PER_RESOLVE;
+		DnsServerAddressStreamProvider nameServerProvider = DnsServerAddressStreamProviders.platformDefault();
+		int ndots = DEFAULT_NDOTS;
+		Duration queryTimeout = DEFAULT_QUERY_TIMEOUT;
+		ResolvedAddressTypes resolvedAddressTypes;
+		boolean roundRobinSelection;
+		List<String> searchDomains;
+
+		@Override
+		public NameResolverSpec cacheMaxTimeToLive(Duration cacheMaxTimeToLive) {
+			this.cacheMaxTimeToLive = checkNotNegative(cacheMaxTimeToLive, "cacheMaxTimeToLive");
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec cacheMinTimeToLive(Duration cacheMinTimeToLive) {
+			this.cacheMinTimeToLive = checkNotNegative(cacheMinTimeToLive, "cacheMinTimeToLive");
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec cacheNegativeTimeToLive(Duration cacheNegativeTimeToLive) {
+			this.cacheNegativeTimeToLive = checkNotNegative(cacheNegativeTimeToLive, "cacheNegativeTimeToLive");
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec disableOptionalRecord(boolean disable) {
+			this.disableOptionalRecord = disable;
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec disableRecursionDesired(boolean disable) {
+			this.disableRecursionDesired = disable;
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec maxPayloadSize(int maxPayloadSize) {
+			if (maxPayloadSize < 1) {
+				throw new IllegalArgumentException("maxPayloadSize must be positive");
+			}
+			this.maxPayloadSize = maxPayloadSize;
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec maxQueriesPerResolve(int maxQueriesPerResolve) {
+			if (maxQueriesPerResolve < 1) {
+				throw new IllegalArgumentException("maxQueriesPerResolve must be positive");
+			}
+			this.maxQueriesPerResolve = maxQueriesPerResolve;
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec nameServerProvider(DnsServerAddressStreamProvider nameServerProvider) {
+			this.nameServerProvider = Objects.requireNonNull(nameServerProvider, "nameServerProvider");
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec ndots(int ndots) {
+			if (ndots < -1) {
+				throw new IllegalArgumentException("ndots must be greater or equal to -1");
+			}
+			this.ndots = ndots;
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec queryTimeout(Duration queryTimeout) {
+			this.queryTimeout = checkNotNegative(queryTimeout, "queryTimeout");
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec resolvedAddressTypes(ResolvedAddressTypes resolvedAddressTypes) {
+			this.resolvedAddressTypes = Objects.requireNonNull(resolvedAddressTypes, "resolvedAddressTypes");
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec roundRobinSelection(boolean enable) {
+			this.roundRobinSelection = enable;
+			return this;
+		}
+
+		@Override
+		public NameResolverSpec searchDomains(List<String> searchDomains) {
+			Objects.requireNonNull(searchDomains, "searchDomains");
+			this.searchDomains = Collections.unmodifiableList(new ArrayList<>(searchDomains));
+			return this;
+		}
+
+		@Override
+		public NameResolverProvider build() {
+			return new NameResolverProvider(this);
+		}
+
+		static Duration checkNotNegative(Duration duration, String name) {
+			Objects.requireNonNull(duration, name);
+			if (duration.isNegative()) {
+				throw new IllegalArgumentException(name + " must not be negative");
+			}
+			return duration;
+		}
+	}
+
+	public interface NameResolverSpec {
+
+		/**
+		 * Build a new {@link NameResolverProvider}
+		 *
+		 * @return a new {@link NameResolverProvider}
+		 */
+		NameResolverProvider build();
+
+		/**
+		 * Sets the max time to live of the cached DNS resource records (resolution: seconds).
+		 * If the time to live of the DNS resource record returned by the DNS server is greater
+		 * than this max time to live, this resolver will ignore the time to live from
+		 * the DNS server and will use this max time to live.
+		 * Default to {@link Integer#MAX_VALUE} seconds.
+		 *
+		 * @param cacheMaxTimeToLive the maximum time to live (resolution: seconds)
+		 * @return {@code this}
+		 */
+		NameResolverSpec cacheMaxTimeToLive(Duration cacheMaxTimeToLive);
+
+		/**
+		 * Sets the min time to live of the cached DNS resource records (resolution: seconds).
+		 * If the time to live of the DNS resource record returned by the DNS server is less
+		 * than this min time to live, this resolver will ignore the time to live from
+		 * the DNS server and will use this min time to live.
+		 * Default to 0 seconds.
+		 *
+		 * @param cacheMinTimeToLive the minimum time to live (resolution: seconds)
+		 * @return {@code this}
+		 */
+		NameResolverSpec cacheMinTimeToLive(Duration cacheMinTimeToLive);
+
+		/**
+		 * Sets the time to live of the cache for the failed DNS queries (resolution: seconds).
+		 * Default to 0 seconds, i.e. failures are not cached.
+		 *
+		 * @param cacheNegativeTimeToLive the time to live of the cache for the failed
+		 * DNS queries (resolution: seconds)
+		 * @return {@code this}
+		 */
+		NameResolverSpec cacheNegativeTimeToLive(Duration cacheNegativeTimeToLive);
+
+		/**
+		 * Disables the automatic inclusion of an optional record that tries to give a hint
+		 * to the remote DNS server about how much data the resolver can read per response.
+		 * By default this is enabled.
+		 *
+		 * @param disable true if an optional record is not included
+		 * @return {@code this}
+		 */
+		NameResolverSpec disableOptionalRecord(boolean disable);
+
+		/**
+		 * Specifies whether this resolver has to send a DNS query with the RD (recursion desired) flag set.
+		 * By default this is enabled.
+		 *
+		 * @param disable true if RD flag is not set
+		 * @return {@code this}
+		 */
+		NameResolverSpec disableRecursionDesired(boolean disable);
+
+		/**
+		 * Sets the capacity of the datagram packet buffer (in bytes).
+		 * Default to 4096.
+		 *
+		 * @param maxPayloadSize the capacity of the datagram packet buffer
+		 * @return {@code this}
+		 */
+		NameResolverSpec maxPayloadSize(int maxPayloadSize);
+
+		/**
+		 * Sets the maximum allowed number of DNS queries to send when resolving a host name.
+		 * Default to 16.
+		 *
+		 * @param maxQueriesPerResolve the max number of queries
+		 * @return {@code this}
+		 */
+		NameResolverSpec maxQueriesPerResolve(int maxQueriesPerResolve);
+
+		/**
+		 * Sets the {@link DnsServerAddressStreamProvider} that is used to determine the name servers
+		 * for each hostname lookup. Default to the name servers configured for the platform
+		 * (i.e. {@code /etc/resolv.conf} on Unix).
+		 *
+		 * @param nameServerProvider the {@link DnsServerAddressStreamProvider}
+		 * @return {@code this}
+		 */
+		NameResolverSpec nameServerProvider(DnsServerAddressStreamProvider nameServerProvider);
+
+		/**
+		 * Sets the number of dots which must appear in a name before an initial absolute query is made.
+		 * Default to -1, i.e. the value is taken from {@code /etc/resolv.conf}.
+		 *
+		 * @param ndots the ndots value
+		 * @return {@code this}
+		 */
+		NameResolverSpec ndots(int ndots);
+
+		/**
+		 * Sets the timeout of each DNS query performed by this resolver (resolution: milliseconds).
+		 * Default to 5 seconds.
+		 *
+		 * @param queryTimeout the query timeout (resolution: milliseconds)
+		 * @return {@code this}
+		 */
+		NameResolverSpec queryTimeout(Duration queryTimeout);
+
+		/**
+		 * Sets the list of the protocol families of the address resolved.
+		 * By default the value depends on the IPv4/IPv6 support of the platform.
+		 *
+		 * @param resolvedAddressTypes the address types
+		 * @return {@code this}
+		 */
+		NameResolverSpec resolvedAddressTypes(ResolvedAddressTypes resolvedAddressTypes);
+
+		/**
+		 * Enables an {@link AddressResolverGroup} of {@link DnsAddressResolverGroup}s that supports
+		 * random selection of destination addresses if multiple are provided by the nameserver.
+		 * This is ideal for use in applications that use a pool of connections, for which
+		 * connecting to a single resolved address would be inefficient.
+		 * By default this is disabled.
+		 *
+		 * @param enable true if {@link RoundRobinDnsAddressResolverGroup} should be used
+		 * @return {@code this}
+		 */
+		NameResolverSpec roundRobinSelection(boolean enable);
+
+		/**
+		 * Sets the list of search domains of the resolver.
+		 * By default the search domains are taken from {@code /etc/resolv.conf}.
+		 *
+		 * @param searchDomains the search domains
+		 * @return {@code this}
+		 */
+		NameResolverSpec searchDomains(List<String> searchDomains);
+	}
+}
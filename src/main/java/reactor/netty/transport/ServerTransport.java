@@ -20,11 +20,13 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
@@ -35,17 +37,23 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.MonoSink;
 import reactor.core.publisher.Operators;
+import reactor.core.publisher.SignalType;
 import reactor.netty.ChannelBindException;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
 import reactor.netty.DisposableServer;
+import reactor.netty.FutureMono;
 import reactor.netty.channel.AbortedException;
 import reactor.netty.channel.ChannelOperations;
 import reactor.netty.resources.ConnectionProvider;
@@ -96,10 +104,29 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 			ConnectionObserver childObs =
 					new ChildObserver(config.defaultChildObserver().then(config.childObserver()));
 			DisposableBind disposableServer = new DisposableBind(sink, config, local);
-			Acceptor acceptor = new Acceptor(config.childEventLoopGroup(), config.channelInitializer(childObs, null, true),
-					config.childOptions, config.childAttrs);
-			TransportConnector.bind(config, new AcceptorInitializer(acceptor), local)
-			                  .subscribe(disposableServer);
+			ChannelHandler childHandler = config.channelInitializer(childObs, null, true);
+			List<EventLoop> loops = reusePortLoops(config);
+			if (loops.isEmpty()) {
+				Acceptor acceptor = new Acceptor(config.childEventLoopGroup(), childHandler,
+						config.childOptions, config.childAttrs, false);
+				TransportConnector.bind(config, new AcceptorInitializer(acceptor, false), local)
+				                  .subscribe(disposableServer);
+			}
+			else {
+				// the child connections stay on the event loop that accepted them
+				// when the acceptors run on the child event loops
+				boolean colocated = config.eventLoopGroup() == config.childEventLoopGroup();
+				Supplier<AcceptorInitializer> initializer = () ->
+						new AcceptorInitializer(new Acceptor(config.childEventLoopGroup(), childHandler,
+								config.childOptions, config.childAttrs, colocated), true);
+				// bind the first channel to resolve the port (e.g. when port 0 is configured),
+				// then bind the rest of the channels to the resolved address
+				TransportConnector.bind(config, initializer.get(), local, loops.get(0))
+				                  .flatMap(channel -> bindReusePort(config, initializer, channel, loops.subList(1, loops.size()))
+				                          .doOnNext(channels -> disposableServer.reusePortChannels = channels)
+				                          .thenReturn(channel))
+				                  .subscribe(disposableServer);
+			}
 		});
 
 		if (config.doOnBind() != null) {
@@ -312,23 +339,92 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		return bindAddress(() -> AddressUtils.updatePort(configuration().bindAddress(), port));
 	}
 
+	/**
+	 * Bind one server channel per event loop to the same address using {@code SO_REUSEPORT},
+	 * the kernel load-balances the incoming connections between them instead of accepting all connections
+	 * on a single event loop. All server channels are managed by the same {@link DisposableServer}.
+	 * Supported only by the Epoll transport, otherwise a single server channel is bound.
+	 * By default a single server channel is bound.
+	 *
+	 * @param reusePort true to bind one server channel per event loop with {@code SO_REUSEPORT}
+	 * @return a new {@link ServerTransport} reference
+	 */
+	public final T reusePort(boolean reusePort) {
+		if (reusePort == configuration().reusePort) {
+			@SuppressWarnings("unchecked")
+			T dup = (T) this;
+			return dup;
+		}
+		T dup = duplicate();
+		dup.configuration().reusePort = reusePort;
+		return dup;
+	}
+
+	/**
+	 * Return the event loops on which a server channel is bound with {@code SO_REUSEPORT}
+	 * or an empty list when a single server channel is bound.
+	 */
+	static List<EventLoop> reusePortLoops(ServerTransportConfig<?> config) {
+		if (!config.isReusePort()) {
+			return Collections.emptyList();
+		}
+		EventLoopGroup group = config.eventLoopGroup();
+		if (!EPOLL_SERVER_SOCKET_CHANNEL.equals(config.loopResources().onServerChannel(group).getName())) {
+			if (log.isWarnEnabled()) {
+				log.warn("SO_REUSEPORT is supported only by the Epoll transport, a single server channel will be bound");
+			}
+			return Collections.emptyList();
+		}
+		List<EventLoop> loops = new ArrayList<>();
+		for (EventExecutor executor : group) {
+			if (executor instanceof EventLoop) {
+				loops.add((EventLoop) executor);
+			}
+		}
+		return loops.size() > 1 ? loops : Collections.emptyList();
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	static Mono<List<Channel>> bindReusePort(ServerTransportConfig<?> config,
+			Supplier<AcceptorInitializer> initializer, Channel first, List<EventLoop> loops) {
+		SocketAddress bindAddress = first.localAddress();
+		List<Channel> channels = new ArrayList<>(loops.size());
+		return Flux.fromIterable(loops)
+		           .concatMap(loop -> TransportConnector.bind(config, initializer.get(), bindAddress, loop))
+		           .doOnNext(channels::add)
+		           .then(Mono.fromSupplier(() -> channels))
+		           .doFinally(signalType -> {
+		               // the channels are handed to the DisposableServer only on completion,
+		               // close them on error and on cancellation
+		               if (signalType != SignalType.ON_COMPLETE) {
+		                   // "FutureReturnValueIgnored" this is deliberate
+		                   first.close();
+		                   channels.forEach(Channel::close);
+		               }
+		           });
+	}
+
 	static final Logger log = Loggers.getLogger(ServerTransport.class);
 
+	static final String EPOLL_SERVER_SOCKET_CHANNEL = "io.netty.channel.epoll.EpollServerSocketChannel";
+
 	static class Acceptor extends ChannelInboundHandlerAdapter {
 
 		final EventLoopGroup childGroup;
 		final ChannelHandler childHandler;
 		final Map<ChannelOption<?>, ?> childOptions;
 		final Map<AttributeKey<?>, ?> childAttrs;
+		final boolean colocated;
 
 		Runnable enableAutoReadTask;
 
 		Acceptor(EventLoopGroup childGroup, ChannelHandler childHandler,
-				Map<ChannelOption<?>, ?> childOptions, Map<AttributeKey<?>, ?> childAttrs) {
+				Map<ChannelOption<?>, ?> childOptions, Map<AttributeKey<?>, ?> childAttrs, boolean colocated) {
 			this.childGroup = childGroup;
 			this.childHandler = childHandler;
 			this.childOptions = childOptions;
 			this.childAttrs = childAttrs;
+			this.colocated = colocated;
 		}
 
 		@Override
@@ -341,7 +437,8 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 			TransportConnector.setAttributes(child, childAttrs);
 
 			try {
-				childGroup.register(child).addListener((ChannelFutureListener) future -> {
+				EventLoopGroup group = colocated ? ctx.channel().eventLoop() : childGroup;
+				group.register(child).addListener((ChannelFutureListener) future -> {
 					if (!future.isSuccess()) {
 						forceClose(child, future.cause());
 					}
@@ -384,13 +481,19 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 	static final class AcceptorInitializer extends ChannelInitializer<Channel> {
 
 		final Acceptor acceptor;
+		final boolean reusePort;
 
-		AcceptorInitializer(Acceptor acceptor) {
+		AcceptorInitializer(Acceptor acceptor, boolean reusePort) {
 			this.acceptor = acceptor;
+			this.reusePort = reusePort;
 		}
 
 		@Override
 		public void initChannel(final Channel ch) {
+			if (reusePort) {
+				// the server channel is not bound yet, the option is applied by the bind operation
+				ch.config().setOption(EpollChannelOption.SO_REUSEPORT, true);
+			}
 			ch.eventLoop().execute(() -> ch.pipeline().addLast(acceptor));
 		}
 	}
@@ -436,6 +539,7 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 		final SocketAddress              bindAddress;
 
 		Channel channel;
+		volatile List<Channel> reusePortChannels = Collections.emptyList();
 		Subscription subscription;
 
 		DisposableBind(MonoSink<DisposableServer> sink, TransportConfig config, SocketAddress bindAddress) {
@@ -467,6 +571,9 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 						((ConnectionProvider) loopResources).disposeWhen(bindAddress);
 					}
 				}
+				// the other server channels may still be bound when the first one is closed
+				//"FutureReturnValueIgnored" this is deliberate
+				reusePortChannels.forEach(Channel::close);
 			}
 			else {
 				subscription.cancel();
@@ -498,6 +605,30 @@ public abstract class ServerTransport<T extends ServerTransport<T, CONF>,
 			}
 		}
 
+		@Override
+		public boolean isDisposed() {
+			if (channel.isActive()) {
+				return false;
+			}
+			for (Channel ch : reusePortChannels) {
+				if (ch.isActive()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public Mono<Void> onDispose() {
+			if (reusePortChannels.isEmpty()) {
+				return FutureMono.from(channel.closeFuture());
+			}
+			List<Mono<Void>> closeFutures = new ArrayList<>(reusePortChannels.size() + 1);
+			closeFutures.add(FutureMono.from(channel.closeFuture()));
+			reusePortChannels.forEach(ch -> closeFutures.add(FutureMono.from(ch.closeFuture())));
+			return Mono.when(closeFutures);
+		}
+
 		@Override
 		public void onComplete() {
 		}
@@ -123,6 +123,15 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 		return doOnUnbound;
 	}
 
+	/**
+	 * Return true if one server channel per event loop is bound to the same address with {@code SO_REUSEPORT}
+	 *
+	 * @return true if one server channel per event loop is bound to the same address with {@code SO_REUSEPORT}
+	 */
+	public final boolean isReusePort() {
+		return reusePort;
+	}
+
 
 	// Protected/Package private write API
 
@@ -133,6 +142,7 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 	Consumer<? super DisposableServer> doOnBound;
 	Consumer<? super Connection>       doOnConnection;
 	Consumer<? super DisposableServer> doOnUnbound;
+	boolean                            reusePort;
 
 	/**
 	 * Default ServerTransportConfig with options
@@ -158,6 +168,7 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 		this.doOnBound = parent.doOnBound;
 		this.doOnConnection = parent.doOnConnection;
 		this.doOnUnbound = parent.doOnUnbound;
+		this.reusePort = parent.reusePort;
 	}
 
 	@Override
@@ -224,9 +235,8 @@ public abstract class ServerTransportConfig<CONF extends TransportConfig> extend
 					doOnBound.accept((DisposableServer) connection);
 				}
 				if (doOnUnbound != null) {
-					connection.channel()
-					          .closeFuture()
-					          .addListener(f -> doOnUnbound.accept((DisposableServer) connection));
+					// the server might be bound with several channels
+					connection.onDispose(() -> doOnUnbound.accept((DisposableServer) connection));
 				}
 			}
 		}
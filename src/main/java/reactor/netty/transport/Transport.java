@@ -182,6 +182,28 @@ public abstract class Transport<T extends Transport<T, C>, C extends TransportCo
 		}
 	}
 
+	/**
+	 * Accumulate the data received/sent metrics per channel instead of recording every message.
+	 * The accumulated data is recorded when the channel completes a read or flushes, once the
+	 * given interval is elapsed since the last recording, and when the channel is closed.
+	 * With {@link Duration#ZERO} the accumulated data is recorded on every read completion/flush.
+	 * <p>The data received/sent distribution summaries then observe the bytes received/sent
+	 * per interval rather than per message, their totals are not affected.
+	 * <p>By default every message is recorded.
+	 *
+	 * @param interval the interval for recording the accumulated data or null to record every message
+	 * @return a new {@link Transport} reference
+	 * @since 1.0.0
+	 */
+	public final T metricsAccumulation(@Nullable Duration interval) {
+		if (interval != null && interval.isNegative()) {
+			throw new IllegalArgumentException("interval must be positive or zero, provided: " + interval);
+		}
+		T dup = duplicate();
+		dup.configuration().metricsAccumulationInterval = interval;
+		return dup;
+	}
+
 	/**
 	 * Set or add the given {@link ConnectionObserver} to observe the connection state changes.
 	 *
@@ -16,6 +16,7 @@
 package reactor.netty.transport;
 
 import java.net.SocketAddress;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -80,7 +81,7 @@ public abstract class TransportConfig {
 
 	public int channelHash() {
 		return Objects.hash(attrs, bindAddress != null ? bindAddress.get() : 0, channelGroup, doOnChannelInit,
-				loggingHandler, loopResources, metricsRecorder, observer, options, preferNative);
+				loggingHandler, loopResources, metricsAccumulationInterval, metricsRecorder, observer, options, preferNative);
 	}
 
 	/**
@@ -171,6 +172,18 @@ public abstract class TransportConfig {
 		return  this.metricsRecorder;
 	}
 
+	/**
+	 * Return the interval for recording the accumulated data received/sent metrics or null
+	 * when every message is recorded
+	 *
+	 * @return the interval for recording the accumulated data received/sent metrics or null
+	 * @since 1.0.0
+	 */
+	@Nullable
+	public final Duration metricsAccumulationInterval() {
+		return this.metricsAccumulationInterval;
+	}
+
 	/**
 	 * Return the read-only {@link ChannelOption} map
 	 *
@@ -192,6 +205,7 @@ public abstract class TransportConfig {
 	ChannelPipelineConfigurer                  doOnChannelInit;
 	LoggingHandler                             loggingHandler;
 	LoopResources                              loopResources;
+	Duration                                   metricsAccumulationInterval;
 	Supplier<? extends ChannelMetricsRecorder> metricsRecorder;
 	ConnectionObserver                         observer;
 	Map<ChannelOption<?>, ?>                   options;
@@ -230,6 +244,7 @@ public abstract class TransportConfig {
 		this.doOnChannelInit = parent.doOnChannelInit;
 		this.loggingHandler = parent.loggingHandler;
 		this.loopResources = parent.loopResources;
+		this.metricsAccumulationInterval = parent.metricsAccumulationInterval;
 		this.metricsRecorder = parent.metricsRecorder;
 		this.observer = parent.observer;
 		this.options = parent.options;
@@ -340,7 +355,8 @@ public abstract class TransportConfig {
 				ChannelOperations.addMetricsHandler(channel,
 						Objects.requireNonNull(config.metricsRecorder.get(), "Metrics recorder supplier returned null"),
 						remoteAddress,
-						onServer);
+						onServer,
+						config.metricsAccumulationInterval);
 
 				ByteBufAllocator alloc = channel.alloc();
 				if (alloc instanceof PooledByteBufAllocator) {
@@ -29,14 +29,20 @@ import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Mono;
+import reactor.netty.ReactorNetty;
 import reactor.util.Logger;
 import reactor.util.Loggers;
 
 import javax.annotation.Nullable;
+import java.net.Inet6Address;
+import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -66,11 +72,17 @@ public final class TransportConnector {
 	@SuppressWarnings("FutureReturnValueIgnored")
 	public static Mono<Channel> bind(TransportConfig config, ChannelInitializer<Channel> channelInitializer,
 			SocketAddress bindAddress) {
+		return bind(config, channelInitializer, bindAddress, null);
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	static Mono<Channel> bind(TransportConfig config, ChannelInitializer<Channel> channelInitializer,
+			SocketAddress bindAddress, @Nullable EventLoop eventLoop) {
 		Objects.requireNonNull(config, "config");
 		Objects.requireNonNull(bindAddress, "bindAddress");
 		Objects.requireNonNull(channelInitializer, "channelInitializer");
 
-		return doInitAndRegister(config, channelInitializer)
+		return doInitAndRegister(config, channelInitializer, eventLoop)
 				.flatMap(channel -> {
 					MonoChannelPromise promise = new MonoChannelPromise(channel);
 					// "FutureReturnValueIgnored" this is deliberate
@@ -96,7 +108,7 @@ public final class TransportConnector {
 		Objects.requireNonNull(channelInitializer, "channelInitializer");
 
 		return doInitAndRegister(config, channelInitializer)
-				.flatMap(channel -> doResolveAndConnect(channel, config, remoteAddress, resolverGroup));
+				.flatMap(channel -> doResolveAndConnect(channel, config, remoteAddress, resolverGroup, channelInitializer));
 	}
 
 	/**
@@ -149,8 +161,13 @@ public final class TransportConnector {
 		});
 	}
 
-	@SuppressWarnings("FutureReturnValueIgnored")
 	static Mono<Channel> doInitAndRegister(TransportConfig config, ChannelInitializer<Channel> channelInitializer) {
+		return doInitAndRegister(config, channelInitializer, null);
+	}
+
+	@SuppressWarnings("FutureReturnValueIgnored")
+	static Mono<Channel> doInitAndRegister(TransportConfig config, @Nullable ChannelInitializer<Channel> channelInitializer,
+			@Nullable EventLoop eventLoop) {
 		EventLoopGroup elg = config.eventLoopGroup();
 
 		ChannelFactory<? extends Channel> channelFactory = config.connectionFactory(elg);
@@ -161,7 +178,9 @@ public final class TransportConnector {
 			if (channelInitializer instanceof ServerTransport.AcceptorInitializer) {
 				((ServerTransport.AcceptorInitializer) channelInitializer).acceptor.enableAutoReadTask(channel);
 			}
-			channel.pipeline().addLast(channelInitializer);
+			if (channelInitializer != null) {
+				channel.pipeline().addLast(channelInitializer);
+			}
 			setChannelOptions(channel, config.options);
 			setAttributes(channel, config.attrs);
 		}
@@ -173,7 +192,7 @@ public final class TransportConnector {
 		}
 
 		MonoChannelPromise monoChannelPromise = new MonoChannelPromise(channel);
-		channel.unsafe().register(elg.next(), monoChannelPromise);
+		channel.unsafe().register(eventLoop != null ? eventLoop : elg.next(), monoChannelPromise);
 		Throwable cause = monoChannelPromise.cause();
 		if (cause != null) {
 			if (channel.isRegistered()) {
@@ -190,7 +209,8 @@ public final class TransportConnector {
 
 	@SuppressWarnings({"unchecked", "FutureReturnValueIgnored"})
 	static Mono<Channel> doResolveAndConnect(Channel channel, TransportConfig config,
-			SocketAddress remoteAddress, AddressResolverGroup<?> resolverGroup) {
+			SocketAddress remoteAddress, AddressResolverGroup<?> resolverGroup,
+			ChannelInitializer<Channel> channelInitializer) {
 		try {
 			AddressResolver<SocketAddress> resolver;
 			try {
@@ -202,14 +222,14 @@ public final class TransportConnector {
 				return Mono.error(t);
 			}
 
-			Supplier<? extends SocketAddress> bindAddress = config.bindAddress();
 			if (!resolver.isSupported(remoteAddress) || resolver.isResolved(remoteAddress)) {
 				MonoChannelPromise monoChannelPromise = new MonoChannelPromise(channel);
-				doConnect(remoteAddress, bindAddress, monoChannelPromise);
+				doConnect(remoteAddress, config.bindAddress(), monoChannelPromise);
 				return monoChannelPromise;
 			}
 
-			Future<SocketAddress> resolveFuture = resolver.resolve(remoteAddress);
+			MonoConnect monoConnect = new MonoConnect(channel, config, channelInitializer);
+			Future<List<SocketAddress>> resolveFuture = resolver.resolveAll(remoteAddress);
 			if (resolveFuture.isDone()) {
 				Throwable cause = resolveFuture.cause();
 				if (cause != null) {
@@ -218,30 +238,277 @@ public final class TransportConnector {
 					return Mono.error(cause);
 				}
 				else {
-					MonoChannelPromise monoChannelPromise = new MonoChannelPromise(channel);
-					doConnect(resolveFuture.getNow(), bindAddress, monoChannelPromise);
-					return monoChannelPromise;
+					monoConnect.onResolved(resolveFuture.getNow());
+					return monoConnect;
 				}
 			}
 
-			MonoChannelPromise monoChannelPromise = new MonoChannelPromise(channel);
-			resolveFuture.addListener((FutureListener<SocketAddress>) future -> {
+			resolveFuture.addListener((FutureListener<List<SocketAddress>>) future -> {
 				if (future.cause() != null) {
-					// "FutureReturnValueIgnored" this is deliberate
-					channel.close();
-					monoChannelPromise.tryFailure(future.cause());
+					monoConnect.onResolveFailure(future.cause());
 				}
 				else {
-					doConnect(future.getNow(), bindAddress, monoChannelPromise);
+					monoConnect.onResolved(future.getNow());
 				}
 			});
-			return monoChannelPromise;
+			return monoConnect;
 		}
 		catch (Throwable t) {
 			return Mono.error(t);
 		}
 	}
 
+	/**
+	 * Order the resolved addresses so that the address families alternate, starting with the family
+	 * of the first address returned by the resolver (RFC 8305, section 4).
+	 *
+	 * @param addresses the resolved addresses
+	 * @return the addresses in the order in which the connection attempts will be made
+	 */
+	static List<SocketAddress> interleaveAddressFamilies(List<SocketAddress> addresses) {
+		if (addresses.size() < 3) {
+			return addresses;
+		}
+		boolean firstIsIPv6 = isIPv6(addresses.get(0));
+		List<SocketAddress> preferred = new ArrayList<>(addresses.size());
+		List<SocketAddress> other = new ArrayList<>(addresses.size());
+		for (SocketAddress address : addresses) {
+			if (isIPv6(address) == firstIsIPv6) {
+				preferred.add(address);
+			}
+			else {
+				other.add(address);
+			}
+		}
+		if (other.isEmpty()) {
+			return addresses;
+		}
+		List<SocketAddress> result = new ArrayList<>(addresses.size());
+		for (int i = 0; i < preferred.size() || i < other.size(); i++) {
+			if (i < preferred.size()) {
+				result.add(preferred.get(i));
+			}
+			if (i < other.size()) {
+				result.add(other.get(i));
+			}
+		}
+		return result;
+	}
+
+	static boolean isIPv6(SocketAddress address) {
+		return address instanceof InetSocketAddress &&
+				((InetSocketAddress) address).getAddress() instanceof Inet6Address;
+	}
+
+	/**
+	 * Connects to the first reachable address out of the resolved addresses. The connection attempts
+	 * are staggered as described in RFC 8305 (Happy Eyeballs): the next attempt starts when the previous
+	 * one fails or when {@link #CONNECTION_ATTEMPT_DELAY} elapses. The first channel that connects wins and
+	 * the other attempts are closed.
+	 * All attempts are registered on the same event loop, so the state is confined to that event loop.
+	 * Several attempts may still connect in the same event loop iteration, a losing attempt is closed from
+	 * its connect listener, before its {@code channelActive} event. That's why only the first channel,
+	 * which is initialized before the addresses are resolved, carries the channel initializer: the next
+	 * attempts are registered with an empty pipeline and the initializer is added to the winning channel only,
+	 * before its {@code channelActive} event.
+	 */
+	static final class MonoConnect extends Mono<Channel> implements Subscription {
+
+		final Channel channel;
+		final TransportConfig config;
+		final ChannelInitializer<Channel> channelInitializer;
+		final EventLoop eventLoop;
+		final List<Channel> attempts = new ArrayList<>(2);
+
+		CoreSubscriber<? super Channel> actual;
+		List<SocketAddress> addresses;
+		Throwable error;
+		int next;
+		int pending;
+		boolean done;
+		ScheduledFuture<?> nextAttempt;
+
+		MonoConnect(Channel channel, TransportConfig config, ChannelInitializer<Channel> channelInitializer) {
+			this.channel = channel;
+			this.config = config;
+			this.channelInitializer = channelInitializer;
+			this.eventLoop = channel.eventLoop();
+		}
+
+		@Override
+		public void cancel() {
+			runInEventLoop(() -> {
+				if (!done) {
+					done = true;
+					cancelNextAttempt();
+					closeAttempts(null);
+				}
+			});
+		}
+
+		@Override
+		public void request(long n) {
+			// noop
+		}
+
+		@Override
+		public void subscribe(CoreSubscriber<? super Channel> actual) {
+			runInEventLoop(() -> {
+				this.actual = actual;
+				actual.onSubscribe(this);
+				if (done && error != null) {
+					actual.onError(error);
+				}
+				else {
+					startFirstAttempt();
+				}
+			});
+		}
+
+		void onResolved(List<SocketAddress> resolved) {
+			runInEventLoop(() -> {
+				this.addresses = interleaveAddressFamilies(resolved);
+				startFirstAttempt();
+			});
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void onResolveFailure(Throwable cause) {
+			runInEventLoop(() -> {
+				// "FutureReturnValueIgnored" this is deliberate
+				channel.close();
+				if (!done) {
+					done = true;
+					error = cause;
+					if (actual != null) {
+						actual.onError(cause);
+					}
+				}
+			});
+		}
+
+		void startFirstAttempt() {
+			if (actual != null && addresses != null && next == 0 && !done) {
+				next++;
+				pending++;
+				connect(channel, addresses.get(0));
+			}
+		}
+
+		void startNextAttempt() {
+			cancelNextAttempt();
+			if (done || next >= addresses.size()) {
+				return;
+			}
+			SocketAddress address = addresses.get(next++);
+			pending++;
+			doInitAndRegister(config, null, eventLoop)
+					.subscribe(ch -> connect(ch, address), this::onAttemptFailure);
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void connect(Channel ch, SocketAddress address) {
+			if (done) {
+				pending--;
+				// "FutureReturnValueIgnored" this is deliberate
+				ch.close();
+				return;
+			}
+			attempts.add(ch);
+			ChannelPromise connectPromise = ch.newPromise();
+			connectPromise.addListener(f -> {
+				if (f.isSuccess()) {
+					onAttemptSuccess(ch);
+				}
+				else {
+					if (log.isDebugEnabled()) {
+						log.debug(format(ch, "Failed to connect to [{}]"), address, f.cause());
+					}
+					// "FutureReturnValueIgnored" this is deliberate
+					ch.close();
+					onAttemptFailure(f.cause());
+				}
+			});
+			doConnect(address, config.bindAddress(), connectPromise);
+			// When the attempt fails synchronously, the next attempt is already started by onAttemptFailure
+			if (!done && !connectPromise.isDone() && nextAttempt == null && next < addresses.size()) {
+				nextAttempt = eventLoop.schedule(this::startNextAttempt, CONNECTION_ATTEMPT_DELAY, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void onAttemptSuccess(Channel ch) {
+			pending--;
+			if (done) {
+				// "FutureReturnValueIgnored" this is deliberate
+				ch.close();
+				return;
+			}
+			done = true;
+			cancelNextAttempt();
+			closeAttempts(ch);
+			if (ch != channel) {
+				// The connect listeners are notified before channelActive is fired, the channel is registered
+				// so the initializer runs immediately, then the added handlers receive channelRegistered
+				ch.pipeline().addLast(channelInitializer);
+				ch.pipeline().fireChannelRegistered();
+			}
+			actual.onNext(ch);
+			actual.onComplete();
+		}
+
+		void onAttemptFailure(Throwable cause) {
+			pending--;
+			if (done) {
+				return;
+			}
+			if (error == null) {
+				error = cause;
+			}
+			else if (error != cause) {
+				error.addSuppressed(cause);
+			}
+			if (next < addresses.size()) {
+				startNextAttempt();
+			}
+			else if (pending == 0) {
+				done = true;
+				actual.onError(error);
+			}
+		}
+
+		@SuppressWarnings("FutureReturnValueIgnored")
+		void closeAttempts(@Nullable Channel winner) {
+			if (attempts.isEmpty()) {
+				// "FutureReturnValueIgnored" this is deliberate
+				channel.close();
+				return;
+			}
+			for (Channel attempt : attempts) {
+				if (attempt != winner) {
+					// "FutureReturnValueIgnored" this is deliberate
+					attempt.close();
+				}
+			}
+		}
+
+		void cancelNextAttempt() {
+			if (nextAttempt != null) {
+				nextAttempt.cancel(false);
+				nextAttempt = null;
+			}
+		}
+
+		void runInEventLoop(Runnable task) {
+			if (eventLoop.inEventLoop()) {
+				task.run();
+			}
+			else {
+				eventLoop.execute(task);
+			}
+		}
+	}
+
 	static final class MonoChannelPromise extends Mono<Channel> implements ChannelPromise, Subscription {
 
 		final Channel channel;
@@ -499,5 +766,8 @@ public final class TransportConnector {
 		volatile Object result;
 	}
 
+	static final long CONNECTION_ATTEMPT_DELAY =
+			Long.parseLong(System.getProperty(ReactorNetty.CONNECTION_ATTEMPT_DELAY, "250"));
+
 	static final Logger log = Loggers.getLogger(TransportConnector.class);
 }
@@ -108,6 +108,39 @@ public abstract class UdpServer extends Transport<UdpServer, UdpServerConfig> {
 		}
 	}
 
+	/**
+	 * Enable batched reads when running on Epoll. Every read allocates a buffer big enough for
+	 * {@code datagramsPerRead} datagrams of at most {@code maxDatagramPayloadSize} bytes, which is
+	 * filled with a single {@code recvmmsg} call. Ignored by the other transports.
+	 *
+	 * @param maxDatagramPayloadSize the maximum size of a datagram payload, in bytes
+	 * @param datagramsPerRead the maximum number of datagrams received with a single read
+	 * @return a new {@link UdpServer} reference
+	 * @throws IllegalArgumentException if a value is not positive or the size of the read buffer
+	 * exceeds {@link Integer#MAX_VALUE}
+	 * @since 1.0.0
+	 */
+	public final UdpServer batchReceive(int maxDatagramPayloadSize, int datagramsPerRead) {
+		if (maxDatagramPayloadSize <= 0) {
+			throw new IllegalArgumentException("maxDatagramPayloadSize must be positive");
+		}
+		if (datagramsPerRead <= 0) {
+			throw new IllegalArgumentException("datagramsPerRead must be positive");
+		}
+		if ((long) maxDatagramPayloadSize * datagramsPerRead > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("maxDatagramPayloadSize * datagramsPerRead must not exceed " +
+					Integer.MAX_VALUE + " bytes, provided: " + maxDatagramPayloadSize + " * " + datagramsPerRead);
+		}
+		if (maxDatagramPayloadSize == configuration().maxDatagramPayloadSize &&
+				datagramsPerRead == configuration().datagramsPerRead) {
+			return this;
+		}
+		UdpServer dup = duplicate();
+		dup.configuration().maxDatagramPayloadSize = maxDatagramPayloadSize;
+		dup.configuration().datagramsPerRead = datagramsPerRead;
+		return dup;
+	}
+
 	/**
 	 * Set or add a callback called when {@link UdpServer} is about to start listening for incoming traffic.
 	 *
@@ -191,6 +224,29 @@ public abstract class UdpServer extends Transport<UdpServer, UdpServerConfig> {
 		return bindAddress(() -> AddressUtils.updatePort(configuration().bindAddress(), port));
 	}
 
+	/**
+	 * Bind one datagram channel per event loop with {@code SO_REUSEPORT}, so that the kernel
+	 * spreads the incoming datagrams across all event loops. Supported only by the Epoll transport,
+	 * otherwise a single datagram channel is bound.
+	 * <p>
+	 * The {@link #doOnBound(Consumer)}, {@link #doOnUnbound(Consumer)} and {@link #handle(BiFunction)}
+	 * callbacks are invoked for every datagram channel. The {@link Connection} emitted by {@link #bind()}
+	 * represents all datagram channels, its {@link Connection#inbound()} merges the datagrams
+	 * received by all of them.
+	 *
+	 * @param reusePort true to bind one datagram channel per event loop with {@code SO_REUSEPORT}
+	 * @return a new {@link UdpServer} reference
+	 * @since 1.0.0
+	 */
+	public final UdpServer reusePort(boolean reusePort) {
+		if (reusePort == configuration().reusePort) {
+			return this;
+		}
+		UdpServer dup = duplicate();
+		dup.configuration().reusePort = reusePort;
+		return dup;
+	}
+
 	/**
 	 * Run IO loops on a supplied {@link EventLoopGroup} from the {@link LoopResources} container.
 	 *
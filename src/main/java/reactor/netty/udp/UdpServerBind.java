@@ -15,15 +15,43 @@
  */
 package reactor.netty.udp;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.FixedRecvByteBufAllocator;
+import io.netty.channel.epoll.EpollChannelOption;
 import io.netty.util.NetUtil;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.ReferenceCounted;
+import io.netty.util.concurrent.EventExecutor;
+import org.reactivestreams.Subscription;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxOperator;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
+import reactor.core.publisher.SignalType;
+import reactor.netty.ByteBufFlux;
 import reactor.netty.Connection;
 import reactor.netty.ConnectionObserver;
+import reactor.netty.FutureMono;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
 import reactor.netty.resources.ConnectionProvider;
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import reactor.util.context.Context;
 
+import javax.annotation.Nullable;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketAddress;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Provides the actual {@link UdpServer} instance.
@@ -51,10 +79,26 @@ final class UdpServerBind extends UdpServer {
 	public Mono<? extends Connection> bind() {
 		UdpServerConfig conf = configuration();
 
+		boolean epoll = isEpoll(conf);
+		UdpServerConfig bindConfig = epoll && conf.maxDatagramPayloadSize > 0 ? batchReceiveConfig(conf) : conf;
+
 		ConnectionObserver observer = config.defaultConnectionObserver().then(config.connectionObserver());
 
-		Mono<? extends Connection> mono = ConnectionProvider.newConnection()
-		                                                    .acquire(conf, observer, null, null);
+		List<EventLoop> loops = Collections.emptyList();
+		if (epoll) {
+			loops = reusePortLoops(bindConfig);
+		}
+		else if (conf.isReusePort() && log.isWarnEnabled()) {
+			log.warn("SO_REUSEPORT is supported only by the Epoll transport, a single datagram channel will be bound");
+		}
+		Mono<? extends Connection> mono;
+		if (loops.isEmpty()) {
+			mono = ConnectionProvider.newConnection()
+			                         .acquire(bindConfig, observer, null, null);
+		}
+		else {
+			mono = bindReusePort(bindConfig, observer, loops);
+		}
 		if (conf.doOnBind() != null) {
 			mono = mono.doOnSubscribe(s -> conf.doOnBind().accept(conf));
 		}
@@ -71,6 +115,244 @@ final class UdpServerBind extends UdpServer {
 		return new UdpServerBind(new UdpServerConfig(config));
 	}
 
+	static boolean isEpoll(UdpServerConfig config) {
+		return config.isPreferNative() &&
+				EPOLL_DATAGRAM_CHANNEL.equals(config.loopResources().onDatagramChannel(config.eventLoopGroup()).getName());
+	}
+
+	static UdpServerConfig batchReceiveConfig(UdpServerConfig config) {
+		UdpServer server = new UdpServerBind(config)
+				.option(EpollChannelOption.MAX_DATAGRAM_PAYLOAD_SIZE, config.maxDatagramPayloadSize);
+		if (!config.options().containsKey(ChannelOption.RCVBUF_ALLOCATOR)) {
+			// recvmmsg is used only when the read buffer can hold more than one datagram
+			server = server.option(ChannelOption.RCVBUF_ALLOCATOR,
+					new FixedRecvByteBufAllocator(config.maxDatagramPayloadSize * config.datagramsPerRead));
+		}
+		return server.configuration();
+	}
+
+	static List<EventLoop> reusePortLoops(UdpServerConfig config) {
+		if (!config.isReusePort()) {
+			return Collections.emptyList();
+		}
+		EventLoopGroup group = config.eventLoopGroup();
+		List<EventLoop> loops = new ArrayList<>();
+		for (EventExecutor executor : group) {
+			if (executor instanceof EventLoop) {
+				loops.add((EventLoop) executor);
+			}
+		}
+		return loops.size() > 1 ? loops : Collections.emptyList();
+	}
+
+	static Mono<Connection> bindReusePort(UdpServerConfig config, ConnectionObserver observer, List<EventLoop> loops) {
+		UdpServer server = new UdpServerBind(config).option(EpollChannelOption.SO_REUSEPORT, true);
+		return Mono.defer(() -> {
+			List<Connection> connections = new ArrayList<>(loops.size());
+			return ConnectionProvider.newConnection()
+			                         .acquire(pinnedConfig(server, loops.get(0)), observer, null, null)
+			                         .flatMap(first -> {
+			                             connections.add(first);
+			                             SocketAddress bindAddress = first.channel().localAddress();
+			                             UdpServer rest = server.bindAddress(() -> bindAddress);
+			                             return Flux.fromIterable(loops.subList(1, loops.size()))
+			                                        .concatMap(loop -> ConnectionProvider.newConnection()
+			                                                .acquire(pinnedConfig(rest, loop), observer, null, null))
+			                                        .doOnNext(connections::add)
+			                                        .then(Mono.fromSupplier(() -> new ReusePortConnection(connections)));
+			                         })
+			                         .doFinally(signalType -> {
+			                             // the connections are handed to the ReusePortConnection only on completion,
+			                             // dispose them on error and on cancellation
+			                             if (signalType != SignalType.ON_COMPLETE) {
+			                                 connections.forEach(Connection::dispose);
+			                             }
+			                         });
+		});
+	}
+
+	static UdpServerConfig pinnedConfig(UdpServer server, EventLoop eventLoop) {
+		UdpServerConfig config = new UdpServerConfig(server.configuration());
+		config.eventLoop = eventLoop;
+		return config;
+	}
+
+	static final Logger log = Loggers.getLogger(UdpServerBind.class);
+
+	static final String EPOLL_DATAGRAM_CHANNEL = "io.netty.channel.epoll.EpollDatagramChannel";
+
+	/**
+	 * Represents all datagram channels bound with {@code SO_REUSEPORT}.
+	 * The inbound merges the datagrams received by all datagram channels,
+	 * the outbound sends the datagrams through the first one.
+	 */
+	static final class ReusePortConnection implements Connection {
+
+		final List<Connection> connections;
+
+		ReusePortConnection(List<Connection> connections) {
+			this.connections = connections;
+		}
+
+		@Override
+		public Channel channel() {
+			return connections.get(0).channel();
+		}
+
+		@Override
+		public void dispose() {
+			connections.forEach(Connection::dispose);
+		}
+
+		@Override
+		public NettyInbound inbound() {
+			return new ReusePortInbound(this);
+		}
+
+		@Override
+		public boolean isDisposed() {
+			for (Connection connection : connections) {
+				if (!connection.isDisposed()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public Mono<Void> onDispose() {
+			List<Mono<Void>> closeFutures = new ArrayList<>(connections.size());
+			connections.forEach(c -> closeFutures.add(FutureMono.from(c.channel().closeFuture())));
+			return Mono.when(closeFutures);
+		}
+
+		@Override
+		public NettyOutbound outbound() {
+			return connections.get(0).outbound();
+		}
+
+		@Override
+		public String toString() {
+			return "ReusePortConnection{channels=" + connections.size() + ", channel=" + channel() + "}";
+		}
+	}
+
+	static final class ReusePortInbound implements UdpInbound {
+
+		final ReusePortConnection parent;
+
+		ReusePortInbound(ReusePortConnection parent) {
+			this.parent = parent;
+		}
+
+		@Override
+		public Mono<Void> join(InetAddress multicastAddress, @Nullable NetworkInterface iface) {
+			List<Mono<Void>> joins = new ArrayList<>(parent.connections.size());
+			parent.connections.forEach(c -> joins.add(((UdpInbound) c).join(multicastAddress, iface)));
+			return Mono.when(joins);
+		}
+
+		@Override
+		public Mono<Void> leave(InetAddress multicastAddress, @Nullable NetworkInterface iface) {
+			List<Mono<Void>> leaves = new ArrayList<>(parent.connections.size());
+			parent.connections.forEach(c -> leaves.add(((UdpInbound) c).leave(multicastAddress, iface)));
+			return Mono.when(leaves);
+		}
+
+		@Override
+		public ByteBufFlux receive() {
+			return ByteBufFlux.fromInbound(receiveObject(), parent.channel().alloc());
+		}
+
+		@Override
+		public Flux<?> receiveObject() {
+			// The datagrams are released by every channel once emitted, retain them
+			// while they are handed over to the merged subscriber
+			Flux<Object> merged =
+					Flux.merge(Flux.fromIterable(parent.connections)
+					               .map(c -> c.inbound()
+					                          .receiveObject()
+					                          .doOnNext(ReferenceCountUtil::retain)), parent.connections.size());
+			return new ReleaseAfterNext(merged).doOnDiscard(ReferenceCounted.class, ReferenceCountUtil::release);
+		}
+
+		@Override
+		public NettyInbound withConnection(Consumer<? super Connection> withConnection) {
+			parent.connections.forEach(withConnection);
+			return this;
+		}
+	}
+
+	/**
+	 * Releases every emitted element once the downstream {@code onNext} has returned,
+	 * the same way the inbound of a single channel does.
+	 */
+	static final class ReleaseAfterNext extends FluxOperator<Object, Object> {
+
+		ReleaseAfterNext(Flux<Object> source) {
+			super(source);
+		}
+
+		@Override
+		public void subscribe(CoreSubscriber<? super Object> actual) {
+			source.subscribe(new ReleaseAfterNextSubscriber(actual));
+		}
+	}
+
+	static final class ReleaseAfterNextSubscriber implements CoreSubscriber<Object>, Subscription {
+
+		final CoreSubscriber<? super Object> actual;
+
+		Subscription s;
+
+		ReleaseAfterNextSubscriber(CoreSubscriber<? super Object> actual) {
+			this.actual = actual;
+		}
+
+		@Override
+		public void cancel() {
+			s.cancel();
+		}
+
+		@Override
+		public Context currentContext() {
+			return actual.currentContext();
+		}
+
+		@Override
+		public void onComplete() {
+			actual.onComplete();
+		}
+
+		@Override
+		public void onError(Throwable t) {
+			actual.onError(t);
+		}
+
+		@Override
+		public void onNext(Object o) {
+			try {
+				actual.onNext(o);
+			}
+			finally {
+				ReferenceCountUtil.release(o);
+			}
+		}
+
+		@Override
+		public void onSubscribe(Subscription s) {
+			if (Operators.validate(this.s, s)) {
+				this.s = s;
+				actual.onSubscribe(this);
+			}
+		}
+
+		@Override
+		public void request(long n) {
+			s.request(n);
+		}
+	}
+
 	/**
 	 * The default port for reactor-netty servers. Defaults to 12012 but can be tuned via
 	 * the {@code PORT} <b>environment variable</b>.
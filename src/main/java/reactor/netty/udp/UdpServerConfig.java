@@ -18,6 +18,7 @@ package reactor.netty.udp;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoop;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ReflectiveChannelFactory;
 import io.netty.channel.group.ChannelGroup;
@@ -53,6 +54,16 @@ public final class UdpServerConfig extends TransportConfig {
 		return DEFAULT_OPS;
 	}
 
+	/**
+	 * Return the maximum number of datagrams received with a single read or 0 when batched reads are disabled
+	 *
+	 * @return the maximum number of datagrams received with a single read
+	 * @since 1.0.0
+	 */
+	public final int datagramsPerRead() {
+		return datagramsPerRead;
+	}
+
 	/**
 	 * Return the configured callback or null
 	 *
@@ -93,6 +104,26 @@ public final class UdpServerConfig extends TransportConfig {
 		return family;
 	}
 
+	/**
+	 * Return true if one datagram channel per event loop will be bound with {@code SO_REUSEPORT}
+	 *
+	 * @return true if one datagram channel per event loop will be bound with {@code SO_REUSEPORT}
+	 * @since 1.0.0
+	 */
+	public final boolean isReusePort() {
+		return reusePort;
+	}
+
+	/**
+	 * Return the maximum size of a datagram payload used for batched reads or 0 when batched reads are disabled
+	 *
+	 * @return the maximum size of a datagram payload used for batched reads
+	 * @since 1.0.0
+	 */
+	public final int maxDatagramPayloadSize() {
+		return maxDatagramPayloadSize;
+	}
+
 
 	// Protected/Package private write API
 
@@ -100,6 +131,10 @@ public final class UdpServerConfig extends TransportConfig {
 	Consumer<? super Connection>      doOnBound;
 	Consumer<? super Connection>      doOnUnbound;
 	InternetProtocolFamily            family;
+	int                               datagramsPerRead;
+	int                               maxDatagramPayloadSize;
+	boolean                           reusePort;
+	EventLoop                         eventLoop;
 
 	UdpServerConfig(Map<ChannelOption<?>, ?> options, Supplier<? extends SocketAddress> bindAddress) {
 		super(options, bindAddress);
@@ -111,13 +146,19 @@ public final class UdpServerConfig extends TransportConfig {
 		this.doOnBound = parent.doOnBound;
 		this.doOnUnbound = parent.doOnUnbound;
 		this.family = parent.family;
+		this.datagramsPerRead = parent.datagramsPerRead;
+		this.maxDatagramPayloadSize = parent.maxDatagramPayloadSize;
+		this.reusePort = parent.reusePort;
+		this.eventLoop = parent.eventLoop;
 	}
 
 	@Override
 	protected ChannelFactory<? extends Channel> connectionFactory(EventLoopGroup elg) {
 		ChannelFactory<DatagramChannel> channelFactory;
 		if (isPreferNative()) {
-			channelFactory = new ReflectiveChannelFactory<>(loopResources().onDatagramChannel(elg));
+			// The channel type is selected based on the event loop group, not on the event loop the channel is bound to
+			EventLoopGroup group = eventLoop != null ? eventLoop.parent() : elg;
+			channelFactory = new ReflectiveChannelFactory<>(loopResources().onDatagramChannel(group));
 		}
 		else {
 			channelFactory = () -> new NioDatagramChannel(family());
@@ -155,7 +196,7 @@ public final class UdpServerConfig extends TransportConfig {
 
 	@Override
 	protected EventLoopGroup eventLoopGroup() {
-		return loopResources().onClient(isPreferNative());
+		return eventLoop != null ? eventLoop : loopResources().onClient(isPreferNative());
 	}
 
 	static final ChannelOperations.OnSetup DEFAULT_OPS = (ch, c, msg) -> new UdpOperations(ch, c);
@@ -21,10 +21,16 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.TooLongFrameException;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
@@ -33,9 +39,15 @@ import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.server.HttpServer;
+import reactor.test.StepVerifier;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -157,4 +169,219 @@ public class ByteBufFluxTest {
 
 		c.disposeNow();
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testAggregateWithoutCopy() {
+		List<ByteBuf> buffers = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			buffers.add(Unpooled.buffer(8).writeLong(i));
+		}
+
+		StepVerifier.create(ByteBufFlux.fromInbound(Flux.fromIterable(buffers))
+		                               .aggregate(256))
+		            .assertNext(b -> {
+		                assertThat(b).isInstanceOf(CompositeByteBuf.class);
+		                // the buffers are components of the result, none of them was consolidated
+		                assertThat(((CompositeByteBuf) b).numComponents()).isEqualTo(32);
+		                assertThat(b.readableBytes()).isEqualTo(256);
+		                assertThat(b.getLong(31 * 8)).isEqualTo(31);
+		            })
+		            .verifyComplete();
+
+		buffers.forEach(b -> assertThat(b.refCnt()).isEqualTo(1));
+		buffers.forEach(ByteBuf::release);
+	}
+
+	@Test
+	public void testAggregateExceedsMaxBytes() {
+		List<ByteBuf> buffers = new ArrayList<>();
+		for (int i = 0; i < 32; i++) {
+			buffers.add(Unpooled.buffer(8).writeLong(i));
+		}
+		AtomicInteger emitted = new AtomicInteger();
+
+		StepVerifier.create(ByteBufFlux.fromInbound(Flux.fromIterable(buffers)
+		                                                .doOnNext(b -> emitted.incrementAndGet()))
+		                               .aggregate(64))
+		            .expectError(TooLongFrameException.class)
+		            .verify(Duration.ofSeconds(5));
+
+		// fails fast on the first buffer that exceeds the maximum
+		assertThat(emitted.get()).isEqualTo(9);
+		buffers.forEach(b -> assertThat(b.refCnt()).isEqualTo(1));
+		buffers.forEach(ByteBuf::release);
+	}
+
+	@Test
+	public void testMulticastWithoutCopy() {
+		List<ByteBuf> buffers = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			buffers.add(Unpooled.buffer(8).writeLong(i));
+		}
+
+		ByteBufFlux multicast = ByteBufFlux.fromInbound(Flux.fromIterable(buffers))
+		                                   .multicast(4);
+		List<ByteBuf> received1 = new ArrayList<>();
+		List<ByteBuf> received2 = new ArrayList<>();
+		BaseSubscriber<ByteBuf> subscriber1 = subscriber(received1);
+		BaseSubscriber<ByteBuf> subscriber2 = subscriber(received2);
+		multicast.subscribe(subscriber1);
+		multicast.subscribe(subscriber2);
+
+		// the slowest subscriber bounds the buffers requested from the source
+		subscriber1.request(8);
+		assertThat(received1).hasSize(4);
+		subscriber2.request(8);
+		assertThat(received1).hasSize(8);
+		assertThat(received2).hasSize(8);
+
+		for (int i = 0; i < 8; i++) {
+			// each subscriber reads its own duplicate of the same memory
+			assertThat(received1.get(i).readLong()).isEqualTo(i);
+			assertThat(received2.get(i).readLong()).isEqualTo(i);
+			assertThat(received1.get(i).unwrap()).isSameAs(buffers.get(i));
+			assertThat(buffers.get(i).refCnt()).isEqualTo(3);
+		}
+		received1.forEach(ByteBuf::release);
+		received2.forEach(ByteBuf::release);
+
+		// all subscribers have completed, the history is released
+		buffers.forEach(b -> assertThat(b.refCnt()).isEqualTo(1));
+		buffers.forEach(ByteBuf::release);
+
+		StepVerifier.create(multicast)
+		            .expectError(IllegalStateException.class)
+		            .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	public void testMulticastReplaysHistoryToLateSubscribers() {
+		DirectProcessor<ByteBuf> source = DirectProcessor.create();
+		ByteBufFlux multicast = ByteBufFlux.fromInbound(source)
+		                                   .multicast(2, Duration.ZERO);
+		List<ByteBuf> received1 = new ArrayList<>();
+		List<ByteBuf> received2 = new ArrayList<>();
+		BaseSubscriber<ByteBuf> subscriber1 = subscriber(received1);
+		multicast.subscribe(subscriber1);
+		subscriber1.request(Long.MAX_VALUE);
+
+		for (int i = 0; i < 4; i++) {
+			ByteBuf buffer = Unpooled.buffer(8).writeLong(i);
+			source.onNext(buffer);
+			// the source releases the buffer once published, as the inbound does
+			buffer.release();
+		}
+
+		BaseSubscriber<ByteBuf> subscriber2 = subscriber(received2);
+		multicast.subscribe(subscriber2);
+		subscriber2.request(Long.MAX_VALUE);
+		source.onComplete();
+
+		assertThat(received1).extracting(ByteBuf::readLong).containsExactly(0L, 1L, 2L, 3L);
+		assertThat(received2).extracting(ByteBuf::readLong).containsExactly(2L, 3L);
+		received1.forEach(ByteBuf::release);
+		received2.forEach(ByteBuf::release);
+		received1.forEach(b -> assertThat(b.refCnt()).isEqualTo(0));
+	}
+
+	@Test
+	public void testMulticastKeepsHistoryForTheRetention() {
+		AtomicInteger cancelled = new AtomicInteger();
+		DirectProcessor<ByteBuf> source = DirectProcessor.create();
+		ByteBufFlux multicast = ByteBufFlux.fromInbound(source.doOnCancel(cancelled::incrementAndGet))
+		                                   .multicast(2, Duration.ofSeconds(10));
+		List<ByteBuf> received1 = new ArrayList<>();
+		List<ByteBuf> received2 = new ArrayList<>();
+		BaseSubscriber<ByteBuf> subscriber1 = subscriber(received1);
+		multicast.subscribe(subscriber1);
+		subscriber1.request(Long.MAX_VALUE);
+
+		ByteBuf buffer = Unpooled.buffer(8).writeLong(0);
+		source.onNext(buffer);
+		subscriber1.cancel();
+		assertThat(cancelled.get()).isEqualTo(0);
+
+		// the buffers requested before the subscriber left are still kept in the history
+		ByteBuf next = Unpooled.buffer(8).writeLong(1);
+		source.onNext(next);
+		source.onComplete();
+
+		BaseSubscriber<ByteBuf> subscriber2 = subscriber(received2);
+		multicast.subscribe(subscriber2);
+		subscriber2.request(Long.MAX_VALUE);
+
+		assertThat(received1).extracting(ByteBuf::readLong).containsExactly(0L);
+		assertThat(received2).extracting(ByteBuf::readLong).containsExactly(0L, 1L);
+		received1.forEach(ByteBuf::release);
+		received2.forEach(ByteBuf::release);
+
+		// the history is kept for the retention, the source is not cancelled within it
+		assertThat(buffer.refCnt()).isEqualTo(2);
+		assertThat(next.refCnt()).isEqualTo(2);
+		assertThat(cancelled.get()).isEqualTo(0);
+	}
+
+	@Test
+	public void testMulticastCancelledByAllSubscribers() {
+		AtomicInteger cancelled = new AtomicInteger();
+		AtomicLong requested = new AtomicLong();
+		ByteBufFlux multicast = ByteBufFlux.fromInbound(Flux.<ByteBuf>never()
+		                                                    .doOnRequest(requested::addAndGet)
+		                                                    .doOnCancel(cancelled::incrementAndGet))
+		                                   .multicast();
+		BaseSubscriber<ByteBuf> subscriber1 = subscriber(new ArrayList<>());
+		BaseSubscriber<ByteBuf> subscriber2 = subscriber(new ArrayList<>());
+		multicast.subscribe(subscriber1);
+		multicast.subscribe(subscriber2);
+		long initial = requested.get();
+
+		subscriber1.cancel();
+		assertThat(cancelled.get()).isEqualTo(0);
+		subscriber2.cancel();
+		assertThat(cancelled.get()).isEqualTo(1);
+		assertThat(requested.get()).isEqualTo(initial);
+
+		StepVerifier.create(multicast)
+		            .expectError(IllegalStateException.class)
+		            .verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	public void testMulticastReleasesHistoryAfterRetention() throws Exception {
+		ByteBuf buffer = Unpooled.buffer(8).writeLong(0);
+		ByteBufFlux multicast = ByteBufFlux.fromInbound(Flux.just(buffer))
+		                                   .multicast(2, Duration.ofMillis(200));
+
+		StepVerifier.create(multicast)
+		            .assertNext(b -> assertThat(b.release()).isFalse())
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+
+		// within the retention, late subscribers receive the history
+		StepVerifier.create(multicast)
+		            .assertNext(b -> assertThat(b.release()).isFalse())
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(5));
+		assertThat(buffer.refCnt()).isEqualTo(2);
+
+		Thread.sleep(500);
+		assertThat(buffer.refCnt()).isEqualTo(1);
+		StepVerifier.create(multicast)
+		            .expectError(IllegalStateException.class)
+		            .verify(Duration.ofSeconds(5));
+		buffer.release();
+	}
+
+	static BaseSubscriber<ByteBuf> subscriber(List<ByteBuf> received) {
+		return new BaseSubscriber<ByteBuf>() {
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+			}
+
+			@Override
+			protected void hookOnNext(ByteBuf value) {
+				received.add(value);
+			}
+		};
+	}
+}
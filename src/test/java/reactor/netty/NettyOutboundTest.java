@@ -47,7 +47,6 @@ import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
-import io.netty.handler.stream.ChunkedNioFile;
 import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.CharsetUtil;
 import io.netty.util.ReferenceCountUtil;
@@ -212,6 +211,7 @@ public class NettyOutboundTest {
 				return this;
 			}
 		};
+		mockContext.fileChunkSize(1024);
 		ChannelFuture f = channel.writeOneOutbound(1);
 
 		try{
@@ -224,7 +224,7 @@ public class NettyOutboundTest {
 			e.printStackTrace();
 		}
 
-		assertThat(messageWritten).containsExactly(Integer.class, ChunkedNioFile.class);
+		assertThat(messageWritten).containsExactly(Integer.class, ChunkedFileChannel.class);
 
 		assertThat(clearMessages)
 				.hasSize(2)
@@ -303,12 +303,13 @@ public class NettyOutboundTest {
 		};
 		Path path = Paths.get(getClass().getResource("/largeFile.txt").toURI());
 
+		mockContext.fileChunkSize(1024);
 		ChannelFuture f = channel.writeOneOutbound(1);
 		outbound.sendFileChunked(path, 0, Files.size(path))
 		        .then().block();
 
 		assertThat(channel.inboundMessages()).isEmpty();
-		assertThat(messageWritten).containsExactly(Integer.class, ChunkedNioFile.class);
+		assertThat(messageWritten).containsExactly(Integer.class, ChunkedFileChannel.class);
 
 		assertThat(channel.outboundMessages())
 				.hasSize(3)
@@ -327,6 +328,88 @@ public class NettyOutboundTest {
 		assertThat(channel.finishAndReleaseAll()).isTrue();
 	}
 
+	@Test
+	public void sendFileChunkedUsesConfiguredChunkSize() throws IOException {
+		Path path = Files.createTempFile("chunked", ".txt");
+		path.toFile().deleteOnExit();
+		byte[] content = new byte[40_000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) ('a' + i % 26);
+		}
+		Files.write(path, content);
+
+		assertThat(sendFileChunked(path, null)).containsExactly(16384, 16384, 7232);
+		assertThat(sendFileChunked(path, 10_000)).containsExactly(10_000, 10_000, 10_000, 10_000);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void fileChunkSizeMustBePositive() {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		Connection connection = () -> channel;
+		connection.fileChunkSize(0);
+	}
+
+	private List<Integer> sendFileChunked(Path path, Integer chunkSize) throws IOException {
+		List<Integer> chunks = new ArrayList<>();
+		ByteArrayOutputStream content = new ByteArrayOutputStream();
+		EmbeddedChannel channel = new EmbeddedChannel(
+				new MessageToMessageEncoder<ByteBuf>() {
+					@Override
+					protected void encode(ChannelHandlerContext ctx, ByteBuf msg, List<Object> out) throws IOException {
+						chunks.add(msg.readableBytes());
+						msg.readBytes(content, msg.readableBytes());
+						out.add(chunks.size());
+					}
+				},
+				new ChunkedWriteHandler());
+		Connection mockContext = () -> channel;
+		if (chunkSize != null) {
+			mockContext.fileChunkSize(chunkSize);
+		}
+		NettyOutbound outbound = new NettyOutbound() {
+			@Override
+			public NettyOutbound sendObject(Publisher<?> dataStream, Predicate<Object> predicate) {
+				return this;
+			}
+
+			@Override
+			public NettyOutbound sendObject(Object message) {
+				return this;
+			}
+
+			@Override
+			public NettyOutbound send(Publisher<? extends ByteBuf> dataStream, Predicate<ByteBuf> predicate) {
+				return this;
+			}
+
+			@Override
+			public ByteBufAllocator alloc() {
+				return ByteBufAllocator.DEFAULT;
+			}
+
+			@Override
+			public <S> NettyOutbound sendUsing(Callable<? extends S> sourceInput,
+					BiFunction<? super Connection, ? super S, ?> mappedInput,
+					Consumer<? super S> sourceCleanup) {
+				return then(mockSendUsing(mockContext, sourceInput, mappedInput, sourceCleanup));
+			}
+
+			@Override
+			public NettyOutbound withConnection(Consumer<? super Connection> withConnection) {
+				withConnection.accept(mockContext);
+				return this;
+			}
+		};
+
+		outbound.sendFileChunked(path, 0, Files.size(path))
+		        .then()
+		        .block(Duration.ofSeconds(5));
+
+		assertThat(content.toByteArray()).isEqualTo(Files.readAllBytes(path));
+		assertThat(channel.finishAndReleaseAll()).isTrue();
+		return chunks;
+	}
+
 	static<S> Mono<Void> mockSendUsing(Connection c, Callable<? extends S> sourceInput,
 			BiFunction<? super Connection, ? super S, ?> mappedInput,
 			Consumer<? super S> sourceCleanup) {
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Violeta Georgieva
+ */
+public class ChannelMetricsHandlerTest {
+
+	static final SocketAddress REMOTE_ADDRESS = new InetSocketAddress("127.0.0.1", 8080);
+
+	@Test
+	public void everyMessageIsRecordedByDefault() {
+		RecordingMetricsRecorder recorder = new RecordingMetricsRecorder();
+		EmbeddedChannel channel = new EmbeddedChannel(new ChannelMetricsHandler(recorder, REMOTE_ADDRESS, true));
+
+		channel.writeInbound(Unpooled.wrappedBuffer(new byte[10]), Unpooled.wrappedBuffer(new byte[20]));
+		channel.writeOutbound(Unpooled.wrappedBuffer(new byte[5]), Unpooled.wrappedBuffer(new byte[7]));
+
+		assertThat(recorder.dataReceived).containsExactly(10L, 20L);
+		assertThat(recorder.dataSent).containsExactly(5L, 7L);
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	public void dataIsAccumulatedUntilReadCompleteOrFlush() {
+		RecordingMetricsRecorder recorder = new RecordingMetricsRecorder();
+		EmbeddedChannel channel =
+				new EmbeddedChannel(new ChannelMetricsHandler(recorder, REMOTE_ADDRESS, true, Duration.ZERO));
+
+		// writeInbound/writeOutbound complete the read and flush after the messages
+		channel.writeInbound(Unpooled.wrappedBuffer(new byte[10]), Unpooled.wrappedBuffer(new byte[20]));
+		channel.writeOutbound(Unpooled.wrappedBuffer(new byte[5]), Unpooled.wrappedBuffer(new byte[7]));
+
+		assertThat(recorder.dataReceived).containsExactly(30L);
+		assertThat(recorder.dataSent).containsExactly(12L);
+		channel.finishAndReleaseAll();
+	}
+
+	@Test
+	public void accumulatedDataIsRecordedOnClose() {
+		RecordingMetricsRecorder recorder = new RecordingMetricsRecorder();
+		EmbeddedChannel channel =
+				new EmbeddedChannel(new ChannelMetricsHandler(recorder, REMOTE_ADDRESS, true, Duration.ofHours(1)));
+
+		for (int i = 0; i < 100; i++) {
+			channel.writeInbound(Unpooled.wrappedBuffer(new byte[10]));
+			channel.writeOutbound(Unpooled.wrappedBuffer(new byte[5]));
+		}
+		assertThat(recorder.dataReceived).isEmpty();
+		assertThat(recorder.dataSent).isEmpty();
+
+		channel.finishAndReleaseAll();
+
+		assertThat(recorder.dataReceived).containsExactly(1000L);
+		assertThat(recorder.dataSent).containsExactly(500L);
+	}
+
+	static final class RecordingMetricsRecorder implements ChannelMetricsRecorder {
+
+		final List<Long> dataReceived = new ArrayList<>();
+		final List<Long> dataSent = new ArrayList<>();
+
+		@Override
+		public void recordDataReceived(SocketAddress remoteAddress, long bytes) {
+			dataReceived.add(bytes);
+		}
+
+		@Override
+		public void recordDataSent(SocketAddress remoteAddress, long bytes) {
+			dataSent.add(bytes);
+		}
+
+		@Override
+		public void incrementErrorsCount(SocketAddress remoteAddress) {
+		}
+
+		@Override
+		public void recordTlsHandshakeTime(SocketAddress remoteAddress, Duration time, String status) {
+		}
+
+		@Override
+		public void recordConnectTime(SocketAddress remoteAddress, Duration time, String status) {
+		}
+
+		@Override
+		public void recordResolveAddressTime(SocketAddress remoteAddress, Duration time, String status) {
+		}
+	}
+}
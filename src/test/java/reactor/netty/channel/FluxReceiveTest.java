@@ -17,6 +17,8 @@ package reactor.netty.channel;
 
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -27,6 +29,7 @@ import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.junit.Test;
 import org.reactivestreams.Subscription;
 import reactor.core.CoreSubscriber;
+import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.netty.Connection;
@@ -164,6 +167,60 @@ public class FluxReceiveTest {
 		assertThat(buffer.refCnt()).isEqualTo(0);
 	}
 
+	@Test
+	public void testReadingSuspendedAboveHighWaterMark() {
+		EmbeddedChannel channel = new EmbeddedChannel();
+		ChannelOperations<?, ?> ops = new ChannelOperations<>(Connection.from(channel), ConnectionObserver.emptyListener());
+		ops.bind();
+		ops.inbound.receiverHighWaterMark = 32;
+		ops.inbound.receiverLowWaterMark = 8;
+
+		channel.config().setAutoRead(true);
+		long queuedBytes = FluxReceive.QUEUED_BYTES.sum();
+
+		// No receiver, the buffers are queued until the high water mark is reached
+		ops.inbound.onInboundNext(channel.alloc().buffer().writeZero(16));
+		assertThat(channel.config().isAutoRead()).isTrue();
+		ops.inbound.onInboundNext(channel.alloc().buffer().writeZero(16));
+		assertThat(channel.config().isAutoRead()).isFalse();
+		ops.inbound.onInboundNext(channel.alloc().buffer().writeZero(16));
+		assertThat(ops.inbound.receiverQueueBytes).isEqualTo(48);
+		assertThat(FluxReceive.QUEUED_BYTES.sum() - queuedBytes).isEqualTo(48);
+
+		List<Integer> received = new ArrayList<>();
+		BaseSubscriber<Object> subscriber = new BaseSubscriber<Object>() {
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+			}
+
+			@Override
+			protected void hookOnNext(Object value) {
+				received.add(((ByteBuf) value).readableBytes());
+			}
+		};
+		ops.inbound.subscribe(subscriber);
+
+		// 32 bytes are still queued, above the low water mark
+		subscriber.request(1);
+		assertThat(ops.inbound.receiverQueueBytes).isEqualTo(32);
+		assertThat(channel.config().isAutoRead()).isFalse();
+
+		// 16 bytes are still queued, above the low water mark
+		subscriber.request(1);
+		assertThat(ops.inbound.receiverQueueBytes).isEqualTo(16);
+		assertThat(channel.config().isAutoRead()).isFalse();
+
+		// The queue is drained, reading is resumed
+		subscriber.request(1);
+		assertThat(ops.inbound.receiverQueueBytes).isEqualTo(0);
+		assertThat(channel.config().isAutoRead()).isTrue();
+		assertThat(FluxReceive.QUEUED_BYTES.sum() - queuedBytes).isEqualTo(0);
+
+		assertThat(received).containsExactly(16, 16, 16);
+		subscriber.dispose();
+		channel.finishAndReleaseAll();
+	}
+
 	static final class TestSubscriber implements CoreSubscriber<Object> {
 
 		final CountDownLatch latch;
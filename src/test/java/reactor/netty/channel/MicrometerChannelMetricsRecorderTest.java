@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.channel;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Violeta Georgieva
+ */
+public class MicrometerChannelMetricsRecorderTest {
+
+	@Test
+	public void lookupKeyFindsCachedMeter() {
+		MeterKey key = new MeterKey("/path", null, "GET", "200");
+		assertThat(key.hashCode()).isEqualTo(Objects.hash("/path", null, "GET", "200"));
+
+		MeterKey lookupKey = MicrometerChannelMetricsRecorder.lookupKey("/path", null, "GET", "200");
+		assertThat(lookupKey).isEqualTo(key)
+		                     .hasSameHashCodeAs(key)
+		                     .isSameAs(MicrometerChannelMetricsRecorder.lookupKey("/path", null, "GET", "404"))
+		                     .isNotEqualTo(key);
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		ConcurrentMap<MeterKey, Counter> cache = new ConcurrentHashMap<>();
+		Counter counter = MicrometerChannelMetricsRecorder.cache(cache, key, registry.counter("test"));
+		assertThat(cache.get(MicrometerChannelMetricsRecorder.lookupKey("/path", null, "GET", "200")))
+				.isSameAs(counter);
+		assertThat(MicrometerChannelMetricsRecorder.cache(cache, new MeterKey("/path", null, "GET", "200"),
+				registry.counter("other"))).isSameAs(counter);
+		assertThat(MicrometerChannelMetricsRecorder.cache(cache, key, null)).isNull();
+	}
+
+	@Test
+	public void cacheIsBounded() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		Counter counter = registry.counter("test");
+		ConcurrentMap<String, Counter> cache = new ConcurrentHashMap<>();
+		for (int i = 0; i < MicrometerChannelMetricsRecorder.MAX_CACHED_METERS * 2; i++) {
+			assertThat(MicrometerChannelMetricsRecorder.cache(cache, "/path/" + i, counter)).isSameAs(counter);
+		}
+		assertThat(cache).hasSize(MicrometerChannelMetricsRecorder.MAX_CACHED_METERS)
+		                 .containsKey("/path/" + (MicrometerChannelMetricsRecorder.MAX_CACHED_METERS * 2 - 1));
+	}
+}
@@ -18,8 +18,14 @@ package reactor.netty.channel;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerAdapter;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.junit.Test;
@@ -54,6 +60,95 @@ public class MonoSendManyTest {
 		            .verifyComplete();
 	}
 
+	@Test
+	public void testFlushOnIdle() {
+		AtomicInteger flushes = new AtomicInteger();
+		EmbeddedChannel channel = new EmbeddedChannel(new FlushCounter(flushes), new ChannelHandlerAdapter() {});
+
+		Flux<String> flux = Flux.range(0, 10).map(count -> count + "");
+		Mono<Void> m = MonoSendMany.objectSource(flux, channel, b -> false, FlushStrategy.onIdle());
+
+		StepVerifier.create(m)
+		            .then(() -> {
+		                assertThat(flushes.get()).isEqualTo(0);
+		                channel.runPendingTasks(); //run flush
+		                assertThat(flushes.get()).isEqualTo(1);
+		                for (int i = 0; i < 10; i++) {
+		                    assertThat(channel.<String>readOutbound()).isEqualTo(i + "");
+		                }
+		            })
+		            .verifyComplete();
+	}
+
+	@Test
+	public void testFlushAfterMessages() {
+		AtomicInteger flushes = new AtomicInteger();
+		EmbeddedChannel channel = new EmbeddedChannel(new FlushCounter(flushes), new ChannelHandlerAdapter() {});
+
+		Flux<String> flux = Flux.range(0, 10).map(count -> count + "");
+		Mono<Void> m = MonoSendMany.objectSource(flux, channel, b -> false, FlushStrategy.afterMessages(3));
+
+		StepVerifier.create(m)
+		            .then(() -> {
+		                assertThat(flushes.get()).isEqualTo(3);
+		                channel.runPendingTasks(); //run flush
+		                assertThat(flushes.get()).isEqualTo(4);
+		                for (int i = 0; i < 10; i++) {
+		                    assertThat(channel.<String>readOutbound()).isEqualTo(i + "");
+		                }
+		            })
+		            .verifyComplete();
+	}
+
+	@Test
+	public void testFlushAfterBytes() {
+		AtomicInteger flushes = new AtomicInteger();
+		EmbeddedChannel channel = new EmbeddedChannel(new FlushCounter(flushes), new ChannelHandlerAdapter() {});
+
+		Flux<ByteBuf> flux = Flux.range(0, 10).map(count -> Unpooled.buffer(10).writeZero(10));
+		Mono<Void> m = MonoSendMany.byteBufSource(flux, channel, b -> false, FlushStrategy.afterBytes(50));
+
+		StepVerifier.create(m)
+		            .then(() -> {
+		                assertThat(flushes.get()).isEqualTo(2);
+		                channel.runPendingTasks(); //run flush
+		                for (int i = 0; i < 10; i++) {
+		                    ByteBuf buf = channel.readOutbound();
+		                    assertThat(buf.readableBytes()).isEqualTo(10);
+		                    buf.release();
+		                }
+		            })
+		            .verifyComplete();
+	}
+
+	@Test
+	public void testPrefetchAdaptsToMessageSize() {
+		EmbeddedChannel channel = new EmbeddedChannel(new ChannelHandlerAdapter() {});
+		channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(1024, 4096));
+
+		List<Long> requests = new ArrayList<>();
+		Flux<ByteBuf> flux = Flux.range(0, 200)
+		                         .map(count -> Unpooled.buffer(1024).writeZero(1024))
+		                         .hide()
+		                         .doOnRequest(requests::add);
+		Mono<Void> m = MonoSendMany.byteBufSource(flux, channel, b -> false, FlushStrategy.onIdle());
+
+		StepVerifier.create(m)
+		            .then(() -> {
+		                channel.runPendingTasks(); //run flush
+		                for (int i = 0; i < 200; i++) {
+		                    ByteBuf buf = channel.readOutbound();
+		                    buf.release();
+		                }
+		            })
+		            .verifyComplete();
+
+		// the first request is done before observing any message
+		assertThat(requests.get(0)).isEqualTo(MonoSend.MAX_SIZE);
+		assertThat(requests.subList(1, requests.size())).isNotEmpty()
+		                                               .allMatch(r -> r <= MonoSend.MIN_SIZE);
+	}
+
 	@Test
 	public void cleanupFuseableSyncCloseFuture() {
 		//use an extra handler
@@ -169,4 +264,19 @@ public class MonoSendManyTest {
 			throw new IllegalStateException("Has not cleaned");
 		}
 	}
+
+	static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+		final AtomicInteger flushes;
+
+		FlushCounter(AtomicInteger flushes) {
+			this.flushes = flushes;
+		}
+
+		@Override
+		public void flush(ChannelHandlerContext ctx) {
+			flushes.incrementAndGet();
+			ctx.flush();
+		}
+	}
 }
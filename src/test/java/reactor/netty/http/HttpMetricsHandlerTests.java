@@ -149,6 +149,56 @@ public class HttpMetricsHandlerTests {
 		checkExpectationsExisting("/2", sa.getHostString() + ":" + sa.getPort(), 2);
 	}
 
+	@Test
+	public void testUriTagsAreLimited() throws Exception {
+		disposableServer = httpServer.metrics(true, s -> s, 1)
+		                             .bindNow();
+		AtomicReference<SocketAddress> serverAddress = new AtomicReference<>();
+		httpClient = httpClient.metrics(true, s -> s, 1)
+		                       .doAfterRequest((req, conn) -> serverAddress.set(conn.channel().remoteAddress()));
+
+		for (String uri : new String[] {"/1", "/2", "/1"}) {
+			CountDownLatch latch = new CountDownLatch(1);
+			StepVerifier.create(httpClient.doOnResponse((res, conn) ->
+			                                  conn.channel()
+			                                      .closeFuture()
+			                                      .addListener(f -> latch.countDown()))
+			                              .post()
+			                              .uri(uri)
+			                              .send(body)
+			                              .responseContent()
+			                              .aggregate()
+			                              .asString())
+			            .expectNext("Hello World!")
+			            .expectComplete()
+			            .verify(Duration.ofSeconds(30));
+
+			assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+		}
+
+		Thread.sleep(1000);
+		checkTimer(SERVER_RESPONSE_TIME, new String[] {URI, "/1", METHOD, "POST", STATUS, "200"}, 2);
+		checkTimer(SERVER_RESPONSE_TIME, new String[] {URI, UriTagLimiter.OTHER, METHOD, "POST", STATUS, "200"}, 1);
+		// the meters registered by the other tests are propagated to the registry but not used
+		assertThat(registry.find(SERVER_RESPONSE_TIME).tags(URI, "/2").timers()).allMatch(t -> t.count() == 0);
+		assertThat(registry.find(HTTP_SERVER_PREFIX + URI_TAGS_COLLAPSED).counter().count()).isGreaterThan(0);
+
+		InetSocketAddress sa = (InetSocketAddress) serverAddress.get();
+		checkTimer(CLIENT_RESPONSE_TIME,
+				new String[] {REMOTE_ADDRESS, sa.getHostString() + ":" + sa.getPort(), URI, UriTagLimiter.OTHER, METHOD, "POST", STATUS, "200"}, 1);
+		assertThat(registry.find(CLIENT_RESPONSE_TIME).tags(URI, "/2").timers()).allMatch(t -> t.count() == 0);
+		assertThat(registry.find(HTTP_CLIENT_PREFIX + URI_TAGS_COLLAPSED).counter().count()).isGreaterThan(0);
+	}
+
+	@Test
+	public void testUriTagLimiterUsesTheActualUriWhenNoTagValue() {
+		UriTagLimiter limiter = new UriTagLimiter(HTTP_SERVER_PREFIX, uri -> uri.startsWith("/a") ? null : "/b", 2);
+		assertThat(limiter.apply("/a/1")).isEqualTo("/a/1");
+		assertThat(limiter.apply("/b/1")).isEqualTo("/b");
+		assertThat(limiter.apply("/a/1")).isEqualTo("/a/1");
+		assertThat(limiter.collapsedUriTags()).isEqualTo(0);
+	}
+
 	@Test
 	public void testNonExistingEndpoint() throws Exception {
 		disposableServer = httpServer.bindNow();
@@ -37,7 +37,9 @@ import reactor.core.publisher.Flux;
 import reactor.netty.Connection;
 
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
+import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -186,6 +188,48 @@ public class HttpOperationsTest {
 		assertEquals("/a b", HttpOperations.resolvePath("/a%20b"));
 	}
 
+	@Test
+	public void testResolvePathMatchesUriParsing() {
+		String[] schemes = {"", "/", "//", "http://", "https://", "ws://", "wss://", "HTTP://", "httpss://", "http:/"};
+		String[] hosts = {"", "localhost", "example.com", "127.0.0.1", "a_b", "-a", "user@host", "[::1]",
+				"[2001:db8::1]", "[::ffff:1.2.3.4]", "[fe80::1%25eth0]", "[1::2::3]", "[::1", "[zz]"};
+		String[] ports = {"", ":", ":8080", ":80x"};
+		String[] parts = {"a", "Z", "0", "/", "/", "//", ".", "..", "-", "_", "~", "!", "*", "'", "(", ")", ":", "@",
+				"&", "=", "+", "$", ",", ";", "?", "?", "#", "#", "[", "]", "%", "%2", "%20", "%2F", "%C3%A9", "%E2%82",
+				"%FF", "%zz", "%\u0661\u0662", " ", "|", "{", "}", "\\", "^", "`", "\"", "<", ">", "\u00e9", "\u0001"};
+
+		Random random = new Random(0);
+		for (int i = 0; i < 200_000; i++) {
+			StringBuilder uri = new StringBuilder();
+			String scheme = schemes[random.nextInt(schemes.length)];
+			uri.append(scheme);
+			if (!scheme.startsWith("/")) {
+				uri.append(hosts[random.nextInt(hosts.length)])
+				   .append(ports[random.nextInt(ports.length)]);
+			}
+			int length = random.nextInt(8);
+			for (int j = 0; j < length; j++) {
+				uri.append(parts[random.nextInt(parts.length)]);
+			}
+			if (uri.length() == 0) {
+				continue;
+			}
+
+			String candidate = uri.toString();
+			assertEquals(candidate, resolve(HttpOperations::resolvePathWithUri, candidate),
+					resolve(HttpOperations::resolvePath, candidate));
+		}
+	}
+
+	static String resolve(Function<String, String> resolver, String uri) {
+		try {
+			return resolver.apply(uri);
+		}
+		catch (IllegalArgumentException e) {
+			return e.getClass().getName();
+		}
+	}
+
 	static final class TestHttpInfos implements HttpInfos {
 		String uri;
 
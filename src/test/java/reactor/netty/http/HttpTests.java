@@ -17,12 +17,17 @@ package reactor.netty.http;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
@@ -39,6 +44,7 @@ import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.server.HttpServer;
 import reactor.netty.http.server.HttpServerRequest;
 import reactor.netty.http.server.HttpServerResponse;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.tcp.SslProvider;
 import reactor.test.StepVerifier;
 
@@ -541,33 +547,291 @@ public class HttpTests {
 		server.disposeNow();
 	}
 
-//	@Test
-//	public void testHttpToHttp2ClearText() {
-//		DisposableServer server =
-//				HttpServer.create()
-//				          .protocol(HttpProtocol.H2C)
-//				          .handle((req, res) -> res.sendString(Mono.just("Hello")))
-//				          .wiretap(true)
-//				          .bindNow();
-//
-//		StepVerifier.create(
-//				HttpClient.create()
-//				          .port(server.port())
-//				          .protocol(HttpProtocol.H2C)
-//				          .wiretap(true)
-//				          .post()
-//				          .uri("/")
-////				          .send((req, out) -> out.sendString(Mono.just("World")))
-//				          .responseContent()
-//				          .aggregate()
-//				          .asString()
-//		)
-//		            .expectNext("Hello")
-//		            .verifyComplete();
-//
-//
-//		server.disposeNow();
-//	}
+	@Test
+	public void testH2CPriorKnowledge() {
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .protocol(HttpProtocol.H2C)
+				          .handle((req, res) -> res.sendString(req.receive()
+				                                                  .aggregate()
+				                                                  .asString()
+				                                                  .map(s -> "Hello " + s)))
+				          .wiretap(true)
+				          .bindNow();
+
+		StepVerifier.create(
+				HttpClient.create()
+				          .port(server.port())
+				          .protocol(HttpProtocol.H2C)
+				          .wiretap(true)
+				          .post()
+				          .uri("/")
+				          .send(ByteBufFlux.fromString(Mono.just("World")))
+				          .responseSingle((res, bytes) -> {
+				              Assertions.assertThat(res.status().code()).isEqualTo(200);
+				              return bytes.asString();
+				          }))
+		            .expectNext("Hello World")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(30));
+
+		server.disposeNow();
+	}
+
+	@Test
+	public void testH2CStreamsAreMultiplexed() {
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .protocol(HttpProtocol.H2C)
+				          .handle((req, res) -> res.sendString(Mono.just("Hello")))
+				          .wiretap(true)
+				          .bindNow();
+
+		Set<Channel> connections = ConcurrentHashMap.newKeySet();
+		HttpClient client =
+				HttpClient.create()
+				          .port(server.port())
+				          .protocol(HttpProtocol.H2C)
+				          .doOnResponse((res, conn) -> {
+				              Assertions.assertThat(conn.channel()).isInstanceOf(Http2StreamChannel.class);
+				              connections.add(conn.channel().parent());
+				          })
+				          .wiretap(true);
+
+		StepVerifier.create(
+				Flux.range(0, 20)
+				    .flatMap(i -> client.get()
+				                        .uri("/")
+				                        .responseContent()
+				                        .aggregate()
+				                        .asString()))
+		            .expectNextCount(20)
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(30));
+
+		Assertions.assertThat(connections).hasSize(1);
+
+		server.disposeNow();
+	}
+
+	@Test
+	public void testH2CIdleConnectionIsClosed() throws Exception {
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .protocol(HttpProtocol.H2C)
+				          .handle((req, res) -> res.sendString(Mono.just("Hello")))
+				          .wiretap(true)
+				          .bindNow();
+
+		ConnectionProvider provider =
+				ConnectionProvider.builder("testH2CIdleConnectionIsClosed")
+				                  .maxConnections(1)
+				                  .maxIdleTime(Duration.ofMillis(200))
+				                  .build();
+		AtomicReference<Channel> connection = new AtomicReference<>();
+		try {
+			StepVerifier.create(
+					HttpClient.create(provider)
+					          .port(server.port())
+					          .protocol(HttpProtocol.H2C)
+					          .doOnResponse((res, conn) -> connection.set(conn.channel().parent()))
+					          .wiretap(true)
+					          .get()
+					          .uri("/")
+					          .responseContent()
+					          .aggregate()
+					          .asString())
+			            .expectNext("Hello")
+			            .expectComplete()
+			            .verify(Duration.ofSeconds(30));
+
+			Assertions.assertThat(connection.get()).isNotNull();
+			Assertions.assertThat(connection.get().closeFuture().await(5, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(30));
+			server.disposeNow();
+		}
+	}
+
+	@Test
+	public void testH2CConnectionsAreClosedWithTheConnectionProvider() throws Exception {
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .protocol(HttpProtocol.H2C)
+				          .handle((req, res) -> res.sendString(Mono.just("Hello")))
+				          .wiretap(true)
+				          .bindNow();
+
+		ConnectionProvider provider = ConnectionProvider.create("testH2CConnectionsAreClosedWithTheConnectionProvider", 1);
+		AtomicReference<Channel> connection = new AtomicReference<>();
+		try {
+			StepVerifier.create(
+					HttpClient.create(provider)
+					          .port(server.port())
+					          .protocol(HttpProtocol.H2C)
+					          .doOnResponse((res, conn) -> connection.set(conn.channel().parent()))
+					          .wiretap(true)
+					          .get()
+					          .uri("/")
+					          .responseContent()
+					          .aggregate()
+					          .asString())
+			            .expectNext("Hello")
+			            .expectComplete()
+			            .verify(Duration.ofSeconds(30));
+
+			Assertions.assertThat(connection.get()).isNotNull();
+			Assertions.assertThat(connection.get().isActive()).isTrue();
+
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(30));
+			Assertions.assertThat(connection.get().closeFuture().await(5, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			server.disposeNow();
+		}
+	}
+
+	@Test
+	public void testH2CUpgrade() {
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+				          .handle((req, res) -> res.sendString(Mono.just("Hello")))
+				          .wiretap(true)
+				          .bindNow();
+
+		AtomicReference<Channel> channel = new AtomicReference<>();
+		StepVerifier.create(
+				HttpClient.create()
+				          .port(server.port())
+				          .protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+				          .doOnResponse((res, conn) -> channel.set(conn.channel()))
+				          .wiretap(true)
+				          .get()
+				          .uri("/")
+				          .responseContent()
+				          .aggregate()
+				          .asString())
+		            .expectNext("Hello")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(30));
+
+		Assertions.assertThat(channel.get()).isInstanceOf(Http2StreamChannel.class);
+
+		server.disposeNow();
+	}
+
+	@Test
+	public void testH2CUpgradeRejectedFallsBackToHttp11() {
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .handle((req, res) -> res.sendString(Mono.just("Hello")))
+				          .wiretap(true)
+				          .bindNow();
+
+		HttpClient client =
+				HttpClient.create()
+				          .port(server.port())
+				          .protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+				          .doOnResponse((res, conn) -> Assertions.assertThat(conn.channel()).isNotInstanceOf(Http2StreamChannel.class))
+				          .wiretap(true);
+
+		for (int i = 0; i < 2; i++) {
+			StepVerifier.create(
+					client.get()
+					      .uri("/")
+					      .responseContent()
+					      .aggregate()
+					      .asString())
+			            .expectNext("Hello")
+			            .expectComplete()
+			            .verify(Duration.ofSeconds(30));
+		}
+
+		server.disposeNow();
+	}
+
+	@Test
+	public void testH2SecureClient() throws Exception {
+		SelfSignedCertificate cert = new SelfSignedCertificate();
+		SslContextBuilder serverOptions = SslContextBuilder.forServer(cert.certificate(), cert.privateKey());
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .protocol(HttpProtocol.H2)
+				          .secure(ssl -> ssl.sslContext(serverOptions))
+				          .handle((req, res) -> res.sendString(Mono.just("Hello")))
+				          .wiretap(true)
+				          .bindNow();
+
+		AtomicReference<Channel> channel = new AtomicReference<>();
+		StepVerifier.create(
+				HttpClient.create()
+				          .port(server.port())
+				          .protocol(HttpProtocol.H2)
+				          .secure(ssl -> ssl.sslContext(
+				                  SslContextBuilder.forClient()
+				                                   .trustManager(InsecureTrustManagerFactory.INSTANCE)))
+				          .doOnResponse((res, conn) -> channel.set(conn.channel()))
+				          .wiretap(true)
+				          .get()
+				          .uri("/")
+				          .responseContent()
+				          .aggregate()
+				          .asString())
+		            .expectNext("Hello")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(30));
+
+		Assertions.assertThat(channel.get()).isInstanceOf(Http2StreamChannel.class);
+
+		server.disposeNow();
+	}
+
+	@Test
+	public void testH2OrH1SecureFallsBackToHttp11() throws Exception {
+		SelfSignedCertificate cert = new SelfSignedCertificate();
+		SslContextBuilder serverOptions = SslContextBuilder.forServer(cert.certificate(), cert.privateKey());
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .secure(ssl -> ssl.sslContext(serverOptions))
+				          .handle((req, res) -> res.sendString(Mono.just("Hello")))
+				          .wiretap(true)
+				          .bindNow();
+
+		AtomicReference<Channel> channel = new AtomicReference<>();
+		StepVerifier.create(
+				HttpClient.create()
+				          .port(server.port())
+				          .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+				          .secure(ssl -> ssl.sslContext(
+				                  SslContextBuilder.forClient()
+				                                   .trustManager(InsecureTrustManagerFactory.INSTANCE)))
+				          .doOnResponse((res, conn) -> channel.set(conn.channel()))
+				          .wiretap(true)
+				          .get()
+				          .uri("/")
+				          .responseContent()
+				          .aggregate()
+				          .asString())
+		            .expectNext("Hello")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(30));
+
+		Assertions.assertThat(channel.get()).isNotInstanceOf(Http2StreamChannel.class);
+
+		server.disposeNow();
+	}
 
 	@Test
 	@Ignore
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.client;
+
+import java.time.Duration;
+
+import org.junit.Test;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class Http2ConnectionProviderTest {
+
+	@Test
+	public void oneProviderPerParent() {
+		ConnectionProvider parent = ConnectionProvider.create("oneProviderPerParent", 1);
+		ConnectionProvider other = ConnectionProvider.create("oneProviderPerParent", 1);
+		try {
+			HttpClient client = HttpClient.create(parent);
+			ConnectionProvider provider = client.protocol(HttpProtocol.H2C)
+			                                    .configuration()
+			                                    .httpConnectionProvider();
+			assertThat(provider).isInstanceOf(Http2ConnectionProvider.class);
+			assertThat(client.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+			                 .configuration()
+			                 .httpConnectionProvider()).isSameAs(provider);
+			assertThat(client.protocol(HttpProtocol.HTTP11)
+			                 .configuration()
+			                 .httpConnectionProvider()).isSameAs(parent);
+			assertThat(Http2ConnectionProvider.of(other)).isNotSameAs(provider);
+
+			provider.disposeLater()
+			        .block(Duration.ofSeconds(5));
+			assertThat(Http2ConnectionProvider.of(parent)).isNotSameAs(provider);
+		}
+		finally {
+			parent.dispose();
+			other.dispose();
+		}
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.http.server;
+
+import java.io.InterruptedIOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Violeta Georgieva
+ */
+public class AccessLogTest {
+
+	@Test
+	public void dateIsFormattedOncePerSecond() {
+		AccessLog.DateCache cache = new AccessLog.DateCache();
+		long millis = 1_577_836_800_000L;
+
+		String formatted = cache.format(millis);
+		assertThat(formatted).isEqualTo(AccessLog.DATE_TIME_FORMATTER.format(
+				Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault())));
+		assertThat(cache.format(millis + 999)).isSameAs(formatted);
+
+		String next = cache.format(millis + 1000);
+		assertThat(next).isNotEqualTo(formatted)
+		                .isEqualTo(AccessLog.DATE_TIME_FORMATTER.format(
+		                        Instant.ofEpochMilli(millis + 1000).atZone(ZoneId.systemDefault())));
+	}
+
+	@Test
+	public void durationIsMeasuredFromCreation() throws InterruptedException {
+		AccessLog accessLog = new AccessLog();
+		Thread.sleep(20);
+		assertThat(accessLog.duration()).isGreaterThanOrEqualTo(20);
+	}
+
+	@Test
+	public void formats() {
+		AccessLog accessLog = accessLog();
+		String date = accessLog.accessDateTimeFormatted().toString();
+		Map<String, Object> fields = new LinkedHashMap<>();
+		fields.put("trace", "a\"b");
+
+		StringBuilder sb = new StringBuilder();
+		AccessLogFormat.COMMON.format(accessLog, Collections.emptyMap(), sb);
+		assertThat(sb.toString())
+				.isEqualTo("127.0.0.1 - - [" + date + "] \"GET /path?q=1 HTTP/1.1\" 200 12 8080 " +
+						accessLog.duration() + " ms");
+
+		sb.setLength(0);
+		AccessLogFormat.COMBINED.format(accessLog, fields, sb);
+		assertThat(sb.toString())
+				.isEqualTo("127.0.0.1 - - [" + date + "] \"GET /path?q=1 HTTP/1.1\" 200 12 \"-\" \"test-agent\" " +
+						"trace=\"a\"b\"");
+
+		sb.setLength(0);
+		AccessLogFormat.JSON.format(accessLog, fields, sb);
+		assertThat(sb.toString())
+				.isEqualTo("{\"remoteAddress\":\"127.0.0.1\",\"user\":\"-\",\"accessDateTime\":\"" + date + "\"," +
+						"\"method\":\"GET\",\"uri\":\"/path?q=1\",\"protocol\":\"HTTP/1.1\",\"status\":\"200\"," +
+						"\"contentLength\":12,\"port\":8080,\"duration\":" + accessLog.duration() + "," +
+						"\"trace\":\"a\\\"b\"}");
+	}
+
+	@Test
+	public void recordsAreDroppedWhenTheBufferIsFull() throws Exception {
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<CharSequence> written = Collections.synchronizedList(new ArrayList<>());
+		AccessLogWriter writer =
+				AccessLogWriter.builder()
+				               .bufferSize(2)
+				               .batchSize(1)
+				               .sink(records -> {
+				                   writing.countDown();
+				                   try {
+				                       release.await(30, TimeUnit.SECONDS);
+				                   }
+				                   catch (InterruptedException e) {
+				                       throw new InterruptedIOException();
+				                   }
+				                   written.addAll(records);
+				               })
+				               .build();
+		try {
+			writer.offer(accessLog());
+			assertThat(writing.await(30, TimeUnit.SECONDS)).isTrue();
+
+			// the writer thread is blocked in the sink, only the buffer capacity is accepted
+			for (int i = 0; i < 10; i++) {
+				writer.offer(accessLog());
+			}
+			assertThat(writer.droppedRecords()).isGreaterThanOrEqualTo(8);
+		}
+		finally {
+			release.countDown();
+			writer.dispose();
+		}
+
+		assertThat(written).hasSize((int) (11 - writer.droppedRecords()));
+		writer.offer(accessLog());
+		assertThat(writer.droppedRecords()).isEqualTo(11 - written.size() + 1);
+	}
+
+	@Test
+	public void requestHeadersAreCapturedOnCompletion() {
+		DefaultHttpHeaders headers = new DefaultHttpHeaders();
+		headers.add(HttpHeaderNames.USER_AGENT, "test-agent");
+		headers.add("X-Request-Id", "42");
+		AccessLogWriter writer = AccessLogWriter.builder()
+		                                        .format(AccessLogFormat.COMBINED)
+		                                        .build();
+		AccessLog accessLog = new AccessLog().requestHeaders(headers)
+		                                     .complete(writer.requestHeaders());
+
+		headers.set(HttpHeaderNames.USER_AGENT, "other-agent");
+		assertThat(accessLog.requestHeader("User-Agent")).isEqualTo("test-agent");
+		assertThat(accessLog.requestHeader(HttpHeaderNames.REFERER)).isNull();
+		assertThat(accessLog.requestHeader("X-Request-Id")).isNull();
+	}
+
+	@Test
+	public void onlyTheRequestHeadersInUseAreCaptured() {
+		DefaultHttpHeaders headers = new DefaultHttpHeaders();
+		headers.add(HttpHeaderNames.USER_AGENT, "test-agent");
+		headers.add("X-Request-Id", "42");
+
+		AccessLogWriter writer = AccessLogWriter.create();
+		assertThat(writer.requestHeaders()).isEmpty();
+		AccessLog accessLog = new AccessLog().requestHeaders(headers)
+		                                     .complete(writer.requestHeaders());
+		assertThat(accessLog.requestHeaders).isNull();
+		assertThat(accessLog.requestHeader(HttpHeaderNames.USER_AGENT)).isNull();
+
+		writer = AccessLogWriter.builder()
+		                        .requestHeaders("X-Request-Id")
+		                        .build();
+		accessLog = new AccessLog().requestHeaders(headers)
+		                           .complete(writer.requestHeaders());
+		assertThat(accessLog.requestHeader("x-request-id")).isEqualTo("42");
+		assertThat(accessLog.requestHeader(HttpHeaderNames.USER_AGENT)).isNull();
+
+		writer = AccessLogWriter.builder()
+		                        .format((args, fields, sb) -> sb.append(args.requestHeader("X-Request-Id")))
+		                        .build();
+		assertThat(writer.requestHeaders()).isNull();
+		accessLog = new AccessLog().requestHeaders(headers)
+		                           .complete(writer.requestHeaders());
+		assertThat(accessLog.requestHeader(HttpHeaderNames.USER_AGENT)).isEqualTo("test-agent");
+	}
+
+	@Test
+	public void recordsAreNotRenderedWhenTheSinkIsDisabled() throws Exception {
+		AtomicBoolean enabled = new AtomicBoolean(true);
+		AtomicInteger rendered = new AtomicInteger();
+		List<CharSequence> written = Collections.synchronizedList(new ArrayList<>());
+		AccessLogWriter writer =
+				AccessLogWriter.builder()
+				               .field("rendered", args -> rendered.incrementAndGet())
+				               .sink(new AccessLogSink() {
+				                   @Override
+				                   public void write(List<? extends CharSequence> records) {
+				                       written.addAll(records);
+				                   }
+
+				                   @Override
+				                   public boolean isEnabled() {
+				                       return enabled.get();
+				                   }
+				               })
+				               .build();
+		try {
+			assertThat(writer.isEnabled()).isTrue();
+			enabled.set(false);
+			assertThat(writer.isEnabled()).isFalse();
+
+			writer.offer(accessLog());
+			writer.offer(accessLog());
+		}
+		finally {
+			writer.dispose();
+		}
+
+		assertThat(rendered.get()).isZero();
+		assertThat(written).isEmpty();
+		assertThat(writer.droppedRecords()).isZero();
+	}
+
+	@Test
+	public void accessLogIsWrittenWithCustomFormatAndFields() throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		List<CharSequence> written = Collections.synchronizedList(new ArrayList<>());
+		AccessLogWriter writer =
+				AccessLogWriter.builder()
+				               .format(AccessLogFormat.JSON)
+				               .field("requestId", args -> args.requestHeader("X-Request-Id"))
+				               .requestHeaders("X-Request-Id")
+				               .sink(records -> {
+				                   written.addAll(records);
+				                   latch.countDown();
+				               })
+				               .build();
+
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .accessLog(writer)
+				          .handle((req, res) -> res.sendString(Mono.just("Hello")))
+				          .bindNow();
+		try {
+			String response =
+					HttpClient.create()
+					          .host("127.0.0.1")
+					          .port(server.port())
+					          .headers(h -> h.add("X-Request-Id", "42"))
+					          .get()
+					          .uri("/hello")
+					          .responseContent()
+					          .aggregate()
+					          .asString()
+					          .block();
+			assertThat(response).isEqualTo("Hello");
+
+			assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+			assertThat(written).hasSize(1);
+			assertThat(written.get(0).toString())
+					.startsWith("{\"remoteAddress\":\"127.0.0.1\",\"user\":\"-\"")
+					.contains("\"method\":\"GET\",\"uri\":\"/hello\",\"protocol\":\"HTTP/1.1\",\"status\":\"200\"")
+					.contains("\"port\":" + server.port())
+					.endsWith(",\"requestId\":\"42\"}");
+			assertThat(writer.droppedRecords()).isZero();
+		}
+		finally {
+			server.disposeNow();
+			writer.dispose();
+		}
+	}
+
+	static AccessLog accessLog() {
+		return new AccessLog().address("127.0.0.1")
+		                      .port(8080)
+		                      .method("GET")
+		                      .uri("/path?q=1")
+		                      .protocol("HTTP/1.1")
+		                      .requestHeaders(new DefaultHttpHeaders().add(HttpHeaderNames.USER_AGENT, "test-agent"))
+		                      .status("200")
+		                      .contentLength(12)
+		                      .complete(AccessLogWriter.requestHeaders(AccessLogFormat.COMBINED.requestHeaders(),
+		                              Collections.emptySet()));
+	}
+}
@@ -16,6 +16,7 @@
 
 package reactor.netty.http.server;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
@@ -31,6 +32,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -39,10 +41,13 @@ import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Level;
+import java.util.zip.GZIPOutputStream;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import org.junit.Test;
 import org.reactivestreams.Publisher;
@@ -53,6 +58,8 @@ import reactor.core.publisher.SignalType;
 import reactor.netty.DisposableServer;
 import reactor.netty.NettyOutbound;
 import reactor.netty.http.client.HttpClient;
+import reactor.util.function.Tuple3;
+import reactor.util.function.Tuples;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -227,6 +234,175 @@ public class HttpSendFileTests {
 		}
 	}
 
+	@Test
+	public void sendDirectoryConditionalAndRangeRequests() throws IOException {
+		Path directory = createDirectory();
+		DisposableServer context =
+				customizeServerOptions(HttpServer.create())
+				          .route(r -> r.directory("/files", directory))
+				          .bindNow();
+
+		try {
+			Tuple3<Integer, HttpHeaders, String> response = get(context, "/files/small.txt", new DefaultHttpHeaders());
+			assertThat(response.getT1()).isEqualTo(200);
+			assertThat(response.getT3()).isEqualTo("0123456789abcdef");
+			String etag = response.getT2().get(HttpHeaderNames.ETAG);
+			String lastModified = response.getT2().get(HttpHeaderNames.LAST_MODIFIED);
+			assertThat(etag).isNotNull();
+			assertThat(lastModified).isNotNull();
+			assertThat(response.getT2().get(HttpHeaderNames.ACCEPT_RANGES)).isEqualTo("bytes");
+
+			response = get(context, "/files/small.txt", new DefaultHttpHeaders().set(HttpHeaderNames.IF_NONE_MATCH, etag));
+			assertThat(response.getT1()).isEqualTo(304);
+			assertThat(response.getT3()).isEmpty();
+
+			response = get(context, "/files/small.txt",
+					new DefaultHttpHeaders().set(HttpHeaderNames.IF_MODIFIED_SINCE, lastModified));
+			assertThat(response.getT1()).isEqualTo(304);
+
+			response = get(context, "/files/small.txt", new DefaultHttpHeaders().set(HttpHeaderNames.RANGE, "bytes=2-5"));
+			assertThat(response.getT1()).isEqualTo(206);
+			assertThat(response.getT2().get(HttpHeaderNames.CONTENT_RANGE)).isEqualTo("bytes 2-5/16");
+			assertThat(response.getT3()).isEqualTo("2345");
+
+			response = get(context, "/files/small.txt", new DefaultHttpHeaders().set(HttpHeaderNames.RANGE, "bytes=-3")
+			                                                                    .set(HttpHeaderNames.IF_RANGE, etag));
+			assertThat(response.getT1()).isEqualTo(206);
+			assertThat(response.getT3()).isEqualTo("def");
+
+			response = get(context, "/files/small.txt", new DefaultHttpHeaders().set(HttpHeaderNames.RANGE, "bytes=2-5")
+			                                                                    .set(HttpHeaderNames.IF_RANGE, "\"other\""));
+			assertThat(response.getT1()).isEqualTo(200);
+			assertThat(response.getT3()).isEqualTo("0123456789abcdef");
+
+			response = get(context, "/files/small.txt", new DefaultHttpHeaders().set(HttpHeaderNames.RANGE, "bytes=16-"));
+			assertThat(response.getT1()).isEqualTo(416);
+			assertThat(response.getT2().get(HttpHeaderNames.CONTENT_RANGE)).isEqualTo("bytes */16");
+
+			response = get(context, "/files/large.txt", new DefaultHttpHeaders().set(HttpHeaderNames.RANGE, "bytes=100000-100009"));
+			assertThat(response.getT1()).isEqualTo(206);
+			assertThat(response.getT3()).isEqualTo("0123456789");
+
+			response = get(context, "/files/large.txt", new DefaultHttpHeaders());
+			assertThat(response.getT1()).isEqualTo(200);
+			assertThat(response.getT3()).hasSize(200_000);
+
+			response = get(context, "/files/missing.txt", new DefaultHttpHeaders());
+			assertThat(response.getT1()).isEqualTo(404);
+
+			response = get(context, "/files/%2e%2e/" + directory.getFileName() + ".secret", new DefaultHttpHeaders());
+			assertThat(response.getT1()).isEqualTo(404);
+		}
+		finally {
+			context.disposeNow();
+		}
+	}
+
+	@Test
+	public void sendDirectoryPreCompressed() throws IOException {
+		Path directory = createDirectory();
+		byte[] gzip = Files.readAllBytes(directory.resolve("small.txt.gz"));
+		DisposableServer context =
+				customizeServerOptions(HttpServer.create())
+				          .route(r -> r.directory("/files", directory))
+				          .bindNow();
+
+		try {
+			Tuple3<Integer, HttpHeaders, String> response =
+					get(context, "/files/small.txt", new DefaultHttpHeaders().set(HttpHeaderNames.ACCEPT_ENCODING, "br;q=0, gzip"));
+			assertThat(response.getT1()).isEqualTo(200);
+			assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isEqualTo("gzip");
+			assertThat(response.getT2().get(HttpHeaderNames.VARY)).isEqualTo("accept-encoding");
+			assertThat(response.getT2().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(gzip.length);
+			String etag = response.getT2().get(HttpHeaderNames.ETAG);
+
+			response = get(context, "/files/small.txt", new DefaultHttpHeaders());
+			assertThat(response.getT1()).isEqualTo(200);
+			assertThat(response.getT2().get(HttpHeaderNames.CONTENT_ENCODING)).isNull();
+			assertThat(response.getT2().get(HttpHeaderNames.ETAG)).isNotEqualTo(etag);
+			assertThat(response.getT3()).isEqualTo("0123456789abcdef");
+
+			response = get(context, "/files/small.txt", new DefaultHttpHeaders().set(HttpHeaderNames.ACCEPT_ENCODING, "gzip")
+			                                                                    .set(HttpHeaderNames.IF_NONE_MATCH, etag));
+			assertThat(response.getT1()).isEqualTo(304);
+		}
+		finally {
+			context.disposeNow();
+		}
+	}
+
+	@Test
+	public void sendDirectoryRevalidatesFilesTruncatedInPlace() throws Exception {
+		Path directory = createDirectory();
+		Path file = directory.resolve("small.txt");
+		DisposableServer context =
+				customizeServerOptions(HttpServer.create())
+				          .route(r -> r.directory("/files", directory))
+				          .bindNow();
+
+		try {
+			Tuple3<Integer, HttpHeaders, String> response = get(context, "/files/small.txt", new DefaultHttpHeaders());
+			assertThat(response.getT1()).isEqualTo(200);
+			assertThat(response.getT3()).isEqualTo("0123456789abcdef");
+
+			Files.write(file, "0123".getBytes(StandardCharsets.UTF_8));
+			Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10_000));
+
+			// the cached metadata is revalidated after one second
+			Thread.sleep(1100);
+			response = get(context, "/files/small.txt", new DefaultHttpHeaders());
+			assertThat(response.getT1()).isEqualTo(200);
+			assertThat(response.getT2().getInt(HttpHeaderNames.CONTENT_LENGTH)).isEqualTo(4);
+			assertThat(response.getT3()).isEqualTo("0123");
+		}
+		finally {
+			context.disposeNow();
+		}
+	}
+
+	private Tuple3<Integer, HttpHeaders, String> get(DisposableServer context, String uri, HttpHeaders headers) {
+		Tuple3<Integer, HttpHeaders, String> response =
+				customizeClientOptions(HttpClient.create()
+				                                 .remoteAddress(context::address))
+				          .headers(h -> h.add(headers))
+				          .get()
+				          .uri(uri)
+				          .responseSingle((res, bytes) -> bytes.asString(StandardCharsets.ISO_8859_1)
+				                                               .defaultIfEmpty("")
+				                                               .map(body -> Tuples.of(res.status().code(), res.responseHeaders(), body)))
+				          .block(Duration.ofSeconds(5));
+		assertThat(response).isNotNull();
+		return response;
+	}
+
+	private static Path createDirectory() throws IOException {
+		Path directory = Files.createTempDirectory("directory");
+		directory.toFile().deleteOnExit();
+		Path secret = directory.resolveSibling(directory.getFileName() + ".secret");
+		Files.write(secret, "secret".getBytes(StandardCharsets.UTF_8));
+		secret.toFile().deleteOnExit();
+
+		byte[] small = "0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+		Path smallFile = Files.write(directory.resolve("small.txt"), small);
+		smallFile.toFile().deleteOnExit();
+
+		ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+		try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+			out.write(small);
+		}
+		Path gzipFile = Files.write(directory.resolve("small.txt.gz"), gzip.toByteArray());
+		gzipFile.toFile().deleteOnExit();
+
+		// larger than the in-memory threshold, served from the file system
+		byte[] large = new byte[200_000];
+		for (int i = 0; i < large.length; i++) {
+			large[i] = (byte) ('0' + i % 10);
+		}
+		Path largeFile = Files.write(directory.resolve("large.txt"), large);
+		largeFile.toFile().deleteOnExit();
+		return directory;
+	}
+
 	private void assertSendFile(Function<HttpServerResponse, NettyOutbound> fn) {
 		assertSendFile(fn, false, -1, (req, res) -> false);
 	}
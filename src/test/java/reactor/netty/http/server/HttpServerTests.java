@@ -25,7 +25,9 @@ import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -35,6 +37,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPOutputStream;
 
@@ -1638,4 +1641,100 @@ public class HttpServerTests {
 		            .expectNext("delay500delay1000")
 		            .verifyComplete();
 	}
+
+	@Test
+	public void compiledRoutesMatchAsDeclared() {
+		Consumer<HttpServerRoutes> routes =
+				r -> r.get("/api/users", (req, res) -> res.sendString(Mono.just("users")))
+				      .route(req -> req.uri().startsWith("/api/users/me"),
+				             (req, res) -> res.sendString(Mono.just("me")))
+				      .get("/api/users/{id}", (req, res) -> res.sendString(Mono.just("user " + req.param("id"))))
+				      .get("/api/users/{id}/orders/{orderId}",
+				           (req, res) -> res.sendString(Mono.just("order " + req.param("id") + " " + req.param("orderId"))))
+				      .post("/api/users/{id}", (req, res) -> res.sendString(Mono.just("post " + req.param("id"))))
+				      .get("/api/users/42", (req, res) -> res.sendString(Mono.just("shadowed")))
+				      .get("/static/**", (req, res) -> res.sendString(Mono.just("static")))
+				      .get("/files/{path}**", (req, res) -> res.sendString(Mono.just("file " + req.param("path"))))
+				      .get("/favicon.ico", (req, res) -> res.sendString(Mono.just("favicon")))
+				      .get("/a(b|c)", (req, res) -> res.sendString(Mono.just("regex")))
+				      .route(HttpPredicate.http("/versioned", HttpVersion.HTTP_1_0, HttpMethod.GET),
+				             (req, res) -> res.sendString(Mono.just("http/1.0")))
+				      .get("/versioned", (req, res) -> res.sendString(Mono.just("any version")));
+
+		DisposableServer linear =
+				HttpServer.create()
+				          .port(0)
+				          .route(routes)
+				          .bindNow();
+
+		disposableServer =
+				HttpServer.create()
+				          .port(0)
+				          .route(routes, true)
+				          .bindNow();
+
+		try {
+			List<String> uris =
+					Arrays.asList("/api/users", "/api/users/me", "/api/users/7", "/api/users/",
+					              "/api/users/7/orders/3?expand=true", "/api/users/42", "/api/users/7/orders",
+					              "/static/css/site.css", "/static/", "/static", "/files/a/b.txt",
+					              "/favicon.ico", "/ab", "/ac", "/versioned", "/unknown");
+
+			for (String uri : uris) {
+				assertThat(doRequest(HttpMethod.GET, disposableServer, uri))
+						.as(uri)
+						.isEqualTo(doRequest(HttpMethod.GET, linear, uri));
+			}
+			assertThat(doRequest(HttpMethod.POST, disposableServer, "/api/users/7"))
+					.isEqualTo(doRequest(HttpMethod.POST, linear, "/api/users/7"))
+					.isEqualTo("200 post 7");
+			assertThat(doRequest(HttpMethod.GET, disposableServer, "/api/users/me")).isEqualTo("200 me");
+			assertThat(doRequest(HttpMethod.GET, disposableServer, "/api/users/42")).isEqualTo("200 user 42");
+			assertThat(doRequest(HttpMethod.GET, disposableServer, "/files/a/b.txt")).isEqualTo("200 file a/b.txt");
+			assertThat(doRequest(HttpMethod.GET, disposableServer, "/versioned")).isEqualTo("200 any version");
+			assertThat(doRequest(HttpMethod.GET, disposableServer, "/unknown")).isEqualTo("404 ");
+			// literal segments are compared as is
+			assertThat(doRequest(HttpMethod.GET, disposableServer, "/faviconXico")).isEqualTo("404 ");
+		}
+		finally {
+			linear.disposeNow();
+		}
+	}
+
+	@Test
+	public void pathAndQueryParamsAreResolvedOnce() {
+		disposableServer =
+				HttpServer.create()
+				          .port(0)
+				          .route(r -> r.get("/users/{id}/orders/{orderId}", (req, res) -> {
+				              Map<String, String> params = req.params();
+				              assertThat(params).isSameAs(req.params())
+				                                .containsEntry("id", "7")
+				                                .containsEntry("orderId", "3");
+				              assertThatExceptionOfType(UnsupportedOperationException.class)
+				                      .isThrownBy(() -> params.put("id", "8"));
+				              Map<String, List<String>> queryParams = req.queryParams();
+				              assertThat(queryParams).isSameAs(req.queryParams());
+				              return res.sendString(Mono.just(req.param("id") + " " + req.param("orderId") + " " +
+				                      queryParams.get("expand") + " " + queryParams.get("tag")));
+				          })
+				          .get("/users", (req, res) -> res.sendString(Mono.just(req.params() + " " + req.queryParams()))))
+				          .bindNow();
+
+		assertThat(doRequest(HttpMethod.GET, disposableServer, "/users/7/orders/3?expand=true&tag=a&tag=b%20c"))
+				.isEqualTo("200 7 3 [true] [a, b c]");
+		assertThat(doRequest(HttpMethod.GET, disposableServer, "/users"))
+				.isEqualTo("200 {} {}");
+	}
+
+	private static String doRequest(HttpMethod method, DisposableServer server, String uri) {
+		return HttpClient.create()
+		                 .port(server.port())
+		                 .request(method)
+		                 .uri(uri)
+		                 .responseSingle((res, bytes) -> bytes.asString()
+		                                                      .defaultIfEmpty("")
+		                                                      .map(body -> res.status().code() + " " + body))
+		                 .block(Duration.ofSeconds(5));
+	}
 }
@@ -17,16 +17,19 @@
 package reactor.netty.http.server;
 
 import java.util.Arrays;
+import java.util.Map;
 
 import org.junit.Test;
 import reactor.netty.http.server.HttpPredicate.UriPathTemplate;
 
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 public class UriPathTemplateTest {
@@ -112,4 +115,16 @@ public class UriPathTemplateTest {
         assertThat(template.match("/tags/v1.0.0").entrySet(), empty());
     }
 
-}
\ No newline at end of file
+    @Test
+    public void captureShouldReturnImmutableParamsOrNullWhenNotMatched() {
+        UriPathTemplate template = new UriPathTemplate("/{collection}/{id}");
+        Map<String, String> params = template.capture("/comments/1?q=reactor");
+        assertThat(params, allOf(Arrays.asList(hasEntry("id", "1"), hasEntry("collection", "comments"))));
+        assertThat(params.size(), is(2));
+        assertThatExceptionOfType(UnsupportedOperationException.class)
+                .isThrownBy(() -> params.put("id", "2"));
+        assertNull(template.capture("/comments"));
+        assertThat(new UriPathTemplate("/comments").capture("/comments").entrySet(), empty());
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.resources;
+
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeFalse;
+
+public class DefaultLoopIOUringTest {
+
+	/**
+	 * The nested classes below stand in for the io_uring transport
+	 */
+	static final String FAKE_PACKAGE = DefaultLoopIOUringTest.class.getName() + "$";
+
+	@Test
+	public void ioUringIsDetectedWhenEnabledAndAvailable() throws Exception {
+		DefaultLoopIOUring ioUring = DefaultLoopIOUring.load(true, FAKE_PACKAGE);
+		assertThat(ioUring).isNotNull();
+		assertThat(DefaultLoopNativeDetector.detect(ioUring)).isSameAs(ioUring);
+
+		EventLoopGroup group = ioUring.newEventLoopGroup(1, new DefaultThreadFactory("test"));
+		try {
+			assertThat(group).isInstanceOf(IOUringEventLoopGroup.class);
+			assertThat(ioUring.getServerChannel(group)).isEqualTo(IOUringServerSocketChannel.class);
+			assertThat(ioUring.getChannel(group)).isEqualTo(IOUringSocketChannel.class);
+			assertThat(ioUring.getDatagramChannel(group)).isEqualTo(IOUringDatagramChannel.class);
+		}
+		finally {
+			group.shutdownGracefully().sync();
+		}
+
+		// a group that is not an io_uring group uses the NIO channels
+		EventLoopGroup nioGroup = new NioEventLoopGroup(1);
+		try {
+			assertThat(ioUring.getServerChannel(nioGroup)).isEqualTo(NioServerSocketChannel.class);
+			assertThat(ioUring.getChannel(nioGroup)).isEqualTo(NioSocketChannel.class);
+			assertThat(ioUring.getDatagramChannel(nioGroup)).isEqualTo(NioDatagramChannel.class);
+		}
+		finally {
+			nioGroup.shutdownGracefully().sync();
+		}
+	}
+
+	@Test
+	public void ioUringIsNotDetectedWhenDisabled() {
+		assertThat(DefaultLoopIOUring.load(false, FAKE_PACKAGE)).isNull();
+	}
+
+	@Test
+	public void ioUringIsNotDetectedWhenNotAvailable() {
+		IOUring.available = false;
+		try {
+			assertThat(DefaultLoopIOUring.load(true, FAKE_PACKAGE)).isNull();
+		}
+		finally {
+			IOUring.available = true;
+		}
+	}
+
+	@Test
+	public void fallbackWhenTheTransportIsMissing() {
+		assumeFalse(DefaultLoopKQueue.hasKQueue());
+
+		DefaultLoopIOUring ioUring = DefaultLoopIOUring.load(true, "io.netty.incubator.channel.missing.");
+		assertThat(ioUring).isNull();
+
+		DefaultLoop loop = DefaultLoopNativeDetector.detect(ioUring);
+		EventLoopGroup group = loop.newEventLoopGroup(1, new DefaultThreadFactory("test"));
+		try {
+			if (DefaultLoopEpoll.hasEpoll()) {
+				assertThat(loop).isInstanceOf(DefaultLoopEpoll.class);
+				assertThat(loop.getServerChannel(group)).isEqualTo(EpollServerSocketChannel.class);
+				assertThat(loop.getChannel(group)).isEqualTo(EpollSocketChannel.class);
+				assertThat(loop.getDatagramChannel(group)).isEqualTo(EpollDatagramChannel.class);
+			}
+			else {
+				assertThat(loop.getServerChannel(group)).isEqualTo(NioServerSocketChannel.class);
+				assertThat(loop.getChannel(group)).isEqualTo(NioSocketChannel.class);
+				assertThat(loop.getDatagramChannel(group)).isEqualTo(NioDatagramChannel.class);
+			}
+		}
+		finally {
+			group.shutdownGracefully();
+		}
+	}
+
+	public static final class IOUring {
+
+		static volatile boolean available = true;
+
+		public static boolean isAvailable() {
+			return available;
+		}
+
+		public static Throwable unavailabilityCause() {
+			return new UnsupportedOperationException("io_uring is disabled");
+		}
+	}
+
+	public static final class IOUringEventLoopGroup extends NioEventLoopGroup {
+
+		public IOUringEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+			super(nThreads, threadFactory);
+		}
+	}
+
+	public static final class IOUringServerSocketChannel extends NioServerSocketChannel {
+	}
+
+	public static final class IOUringSocketChannel extends NioSocketChannel {
+	}
+
+	@SuppressWarnings("deprecation")
+	public static final class IOUringDatagramChannel extends io.netty.channel.socket.oio.OioDatagramChannel {
+	}
+}
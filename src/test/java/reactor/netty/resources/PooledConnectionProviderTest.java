@@ -513,6 +513,60 @@ public class PooledConnectionProviderTest {
 		server.disposeNow();
 	}
 
+	@Test
+	public void evictInBackground() throws Exception {
+		DisposableServer server =
+				HttpServer.create()
+				          .port(0)
+				          .wiretap(true)
+				          .handle((req, res) -> res.sendString(Mono.just("evictInBackground")))
+				          .bindNow();
+
+		PooledConnectionProvider provider =
+				(PooledConnectionProvider) ConnectionProvider.builder("evictInBackground")
+				                                             .maxConnections(1)
+				                                             .maxIdleTime(Duration.ofMillis(50))
+				                                             .evictInBackground(Duration.ofMillis(20))
+				                                             .build();
+		CountDownLatch latch = new CountDownLatch(1);
+		HttpClient client =
+				HttpClient.create(provider)
+				          .port(server.port())
+				          .wiretap(true)
+				          .doOnConnected(conn -> conn.channel().closeFuture().addListener(f -> latch.countDown()));
+
+		StepVerifier.create(client.get()
+		                          .uri("/")
+		                          .responseContent()
+		                          .aggregate()
+		                          .asString())
+		            .expectNext("evictInBackground")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(30));
+
+		// The idle connection is closed without a subsequent acquisition
+		assertThat(latch.await(30, TimeUnit.SECONDS)).isTrue();
+
+		StepVerifier.create(client.get()
+		                          .uri("/")
+		                          .responseContent()
+		                          .aggregate()
+		                          .asString())
+		            .expectNext("evictInBackground")
+		            .expectComplete()
+		            .verify(Duration.ofSeconds(30));
+
+		provider.disposeLater()
+		        .block(Duration.ofSeconds(30));
+		server.disposeNow();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void evictInBackgroundNegativeInterval() {
+		ConnectionProvider.builder("evictInBackgroundNegativeInterval")
+		                  .evictInBackground(Duration.ofMillis(-1));
+	}
+
 	@Test
 	public void connectionReleasedOnRedirect() throws Exception {
 		String redirectedContent = StringUtils.repeat("a", 10000);
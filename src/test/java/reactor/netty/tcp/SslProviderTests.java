@@ -15,22 +15,49 @@
  */
 package reactor.netty.tcp;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+import javax.net.ssl.SNIHostName;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
 
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.handler.ssl.JdkSslContext;
 import io.netty.handler.ssl.OpenSsl;
 import io.netty.handler.ssl.OpenSslContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.ssl.util.SelfSignedCertificate;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
 import reactor.netty.DisposableServer;
 import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.server.HttpServer;
 
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -52,8 +79,8 @@ public class SslProviderTests {
 				           .doOnBind(conf -> {
 				               SslProvider ssl = conf.sslProvider();
 				               if (ssl != null) {
-				                   protocols.addAll(ssl.sslContext.applicationProtocolNegotiator().protocols());
-				                   sslContext = ssl.sslContext;
+				                   protocols.addAll(ssl.getSslContext().applicationProtocolNegotiator().protocols());
+				                   sslContext = ssl.getSslContext();
 				               }
 				           });
 	}
@@ -137,4 +164,289 @@ public class SslProviderTests {
 		                                       sslContext instanceof JdkSslContext);
 		disposableServer.disposeNow();
 	}
+
+	@Test
+	public void testServerNameIndication() throws Exception {
+		SelfSignedCertificate defaultCert = new SelfSignedCertificate("default.com");
+		SelfSignedCertificate testCert = new SelfSignedCertificate("a.test.com");
+		SelfSignedCertificate updatedCert = new SelfSignedCertificate("b.test.com");
+		SslProvider sslProvider =
+				SslProvider.builder()
+				           .sslContext(SslContextBuilder.forServer(defaultCert.certificate(), defaultCert.privateKey()).build())
+				           .addSniMapping("*.test.com",
+				                   spec -> spec.sslContext(SslContextBuilder.forServer(testCert.certificate(), testCert.privateKey())))
+				           .build();
+
+		DisposableServer disposableServer =
+				TcpServer.create()
+				         .port(0)
+				         .secure(sslProvider)
+				         .bindNow();
+
+		assertEquals("CN=a.test.com", peerPrincipal(disposableServer, "a.test.com"));
+		assertEquals("CN=a.test.com", peerPrincipal(disposableServer, "B.Test.Com"));
+		assertEquals("CN=default.com", peerPrincipal(disposableServer, "test.com"));
+		assertEquals("CN=default.com", peerPrincipal(disposableServer, "a.b.test.com"));
+		assertEquals("CN=default.com", peerPrincipal(disposableServer, null));
+
+		Map<String, Consumer<? super SslProvider.SslContextSpec>> mappings = new HashMap<>();
+		mappings.put("*.test.com",
+				spec -> spec.sslContext(SslContextBuilder.forServer(updatedCert.certificate(), updatedCert.privateKey())));
+		mappings.put("default.com",
+				spec -> spec.sslContext(SslContextBuilder.forServer(testCert.certificate(), testCert.privateKey())));
+		sslProvider.updateSniMappings(mappings);
+
+		assertEquals("CN=b.test.com", peerPrincipal(disposableServer, "a.test.com"));
+		assertEquals("CN=a.test.com", peerPrincipal(disposableServer, "default.com"));
+		assertEquals("CN=default.com", peerPrincipal(disposableServer, "other.com"));
+
+		disposableServer.disposeNow();
+	}
+
+	@Test
+	public void testServerNameIndicationConfiguration() throws Exception {
+		SslProvider sslProvider = SslProvider.builder().sslContext(builder.build()).build();
+		assertThatExceptionOfType(IllegalStateException.class)
+				.isThrownBy(() -> sslProvider.updateSniMappings(new HashMap<>()));
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> SslProvider.builder()
+				                             .sslContext(builder.build())
+				                             .addSniMapping("a.*.com", spec -> spec.sslContext(builder))
+				                             .build());
+	}
+
+	@Test
+	public void testSessionCacheConfiguration() throws Exception {
+		SslProvider sslProvider =
+				SslProvider.builder()
+				           .sslContext(builder.sslProvider(io.netty.handler.ssl.SslProvider.JDK).build())
+				           .sessionCacheSize(128)
+				           .sessionTimeout(Duration.ofMinutes(5))
+				           .build();
+
+		assertEquals(128, sslProvider.getSslContext().sessionContext().getSessionCacheSize());
+		assertEquals(300, sslProvider.getSslContext().sessionContext().getSessionTimeout());
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> SslProvider.builder()
+				                             .sslContext(builder.build())
+				                             .sessionCacheSize(-1));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> SslProvider.builder()
+				                             .sslContext(builder.build())
+				                             .sessionTicketKeyRotation(Duration.ZERO));
+	}
+
+	@Test
+	public void testDefaultConfigurationIsBuiltOnce() {
+		SslProvider sslProvider =
+				SslProvider.builder()
+				           .sslContext(builder)
+				           .defaultConfiguration(SslProvider.DefaultConfigurationType.NONE)
+				           .sessionCacheSize(128)
+				           .build();
+
+		SslProvider tcp = SslProvider.updateDefaultConfiguration(sslProvider, SslProvider.DefaultConfigurationType.TCP);
+		assertSame(tcp, SslProvider.updateDefaultConfiguration(sslProvider, SslProvider.DefaultConfigurationType.TCP));
+		assertEquals(128, tcp.getSslContext().sessionContext().getSessionCacheSize());
+	}
+
+	@Test
+	public void testSessionTicketKeyRotation() throws Exception {
+		Assume.assumeTrue(OpenSsl.isAvailable());
+		SslProvider sslProvider =
+				SslProvider.builder()
+				           .sslContext(builder.sslProvider(io.netty.handler.ssl.SslProvider.OPENSSL).build())
+				           .sessionTicketKeyRotation(Duration.ofMillis(10))
+				           .build();
+
+		SessionTicketKeys keys = sslProvider.sslContextHolder.get(null).sessionTicketKeys;
+		assertNotNull(keys);
+		OpenSslSessionTicketKey first = keys.current;
+
+		Thread.sleep(20);
+		sslProvider.configure(sslProvider.getSslContext().newHandler(ByteBufAllocator.DEFAULT));
+
+		assertNotSame(first, keys.current);
+	}
+
+	@Test
+	public void testSessionTicketKeyExpiresWhenIdle() throws Exception {
+		Assume.assumeTrue(OpenSsl.isAvailable());
+		SslProvider sslProvider =
+				SslProvider.builder()
+				           .sslContext(builder.sslProvider(io.netty.handler.ssl.SslProvider.OPENSSL).build())
+				           .sessionTicketKeyRotation(Duration.ofMillis(500))
+				           .build();
+
+		SessionTicketKeys keys = sslProvider.sslContextHolder.get(null).sessionTicketKeys;
+		assertNotNull(keys);
+		OpenSslSessionTicketKey first = keys.current;
+
+		// rotated within one interval after it was due, the previous key is kept
+		keys.nextRotation = System.nanoTime();
+		keys.rotateIfNeeded();
+		OpenSslSessionTicketKey second = keys.current;
+		assertNotSame(first, second);
+		assertSame(first, keys.previous);
+
+		// rotated more than one interval after it was due, the previous key has expired
+		keys.nextRotation = System.nanoTime() - Duration.ofSeconds(1).toNanos();
+		keys.rotateIfNeeded();
+		assertNotSame(second, keys.current);
+		assertNull(keys.previous);
+	}
+
+	@Test
+	public void testUpdateSslContext() throws Exception {
+		SelfSignedCertificate defaultCert = new SelfSignedCertificate("default.com");
+		SelfSignedCertificate testCert = new SelfSignedCertificate("a.test.com");
+		SelfSignedCertificate updatedCert = new SelfSignedCertificate("updated.com");
+		SslProvider sslProvider =
+				SslProvider.builder()
+				           .sslContext(SslContextBuilder.forServer(defaultCert.certificate(), defaultCert.privateKey()))
+				           .defaultConfiguration(SslProvider.DefaultConfigurationType.NONE)
+				           .addSniMapping("a.test.com",
+				                   spec -> spec.sslContext(SslContextBuilder.forServer(testCert.certificate(), testCert.privateKey())))
+				           .build();
+
+		DisposableServer disposableServer =
+				TcpServer.create()
+				         .port(0)
+				         .secure(sslProvider)
+				         .handle((in, out) -> out.send(in.receive().retain()))
+				         .bindNow();
+
+		SslContext clientContext =
+				SslContextBuilder.forClient()
+				                 .trustManager(InsecureTrustManagerFactory.INSTANCE)
+				                 .build();
+		Connection connection =
+				TcpClient.create()
+				         .port(disposableServer.port())
+				         .secure(spec -> spec.sslContext(clientContext))
+				         .connectNow();
+
+		assertEquals("CN=default.com", peerPrincipal(disposableServer, null));
+
+		sslProvider.updateSslContext(SslContextBuilder.forServer(updatedCert.certificate(), updatedCert.privateKey()).build());
+
+		assertEquals("CN=updated.com", peerPrincipal(disposableServer, null));
+		assertEquals("CN=updated.com", peerPrincipal(disposableServer, "other.com"));
+		assertEquals("CN=a.test.com", peerPrincipal(disposableServer, "a.test.com"));
+
+		String response =
+				connection.outbound()
+				          .sendString(Mono.just("hello"))
+				          .then()
+				          .then(connection.inbound()
+				                          .receive()
+				                          .asString()
+				                          .next())
+				          .block(Duration.ofSeconds(30));
+		assertEquals("hello", response);
+
+		connection.disposeNow();
+		disposableServer.disposeNow();
+	}
+
+	@Test
+	public void testUpdateSslContextFromFiles() throws Exception {
+		SelfSignedCertificate defaultCert = new SelfSignedCertificate("default.com");
+		SelfSignedCertificate updatedCert = new SelfSignedCertificate("updated.com");
+		Path directory = Files.createTempDirectory("SslProviderTests");
+		Path certificate = Files.copy(defaultCert.certificate().toPath(), directory.resolve("cert.pem"));
+		Path privateKey = Files.copy(defaultCert.privateKey().toPath(), directory.resolve("key.pem"));
+
+		SslProvider sslProvider =
+				SslProvider.builder()
+				           .sslContext(SslContextBuilder.forServer(certificate.toFile(), privateKey.toFile()))
+				           .defaultConfiguration(SslProvider.DefaultConfigurationType.NONE)
+				           .build();
+
+		DisposableServer disposableServer =
+				TcpServer.create()
+				         .port(0)
+				         .secure(sslProvider)
+				         .bindNow();
+
+		Disposable updates = sslProvider.updateSslContext(certificate, privateKey, Duration.ofMillis(20), builder -> {});
+		try {
+			assertEquals("CN=default.com", peerPrincipal(disposableServer, null));
+
+			FileTime lastModified = FileTime.fromMillis(System.currentTimeMillis() + 10_000);
+			Files.copy(updatedCert.privateKey().toPath(), privateKey, StandardCopyOption.REPLACE_EXISTING);
+			Files.copy(updatedCert.certificate().toPath(), certificate, StandardCopyOption.REPLACE_EXISTING);
+			Files.setLastModifiedTime(privateKey, lastModified);
+			Files.setLastModifiedTime(certificate, lastModified);
+
+			String principal = null;
+			for (int i = 0; i < 100 && !"CN=updated.com".equals(principal); i++) {
+				Thread.sleep(50);
+				principal = peerPrincipal(disposableServer, null);
+			}
+			assertEquals("CN=updated.com", principal);
+		}
+		finally {
+			updates.dispose();
+			disposableServer.disposeNow();
+			Files.delete(certificate);
+			Files.delete(privateKey);
+			Files.delete(directory);
+		}
+	}
+
+	@Test
+	public void testUpdateSslContextFromFilesRequiresMatchingKey() throws Exception {
+		SelfSignedCertificate defaultCert = new SelfSignedCertificate("default.com");
+		SelfSignedCertificate updatedCert = new SelfSignedCertificate("updated.com");
+		Path directory = Files.createTempDirectory("SslProviderTests");
+		Path certificate = Files.copy(defaultCert.certificate().toPath(), directory.resolve("cert.pem"));
+		Path privateKey = Files.copy(defaultCert.privateKey().toPath(), directory.resolve("key.pem"));
+
+		try {
+			SslProvider.checkPrivateKey(certificate, privateKey);
+
+			// only the certificate is updated, the key is not yet written
+			Files.copy(updatedCert.certificate().toPath(), certificate, StandardCopyOption.REPLACE_EXISTING);
+			assertThatExceptionOfType(IllegalStateException.class)
+					.isThrownBy(() -> SslProvider.checkPrivateKey(certificate, privateKey));
+
+			Files.copy(updatedCert.privateKey().toPath(), privateKey, StandardCopyOption.REPLACE_EXISTING);
+			SslProvider.checkPrivateKey(certificate, privateKey);
+		}
+		finally {
+			Files.delete(certificate);
+			Files.delete(privateKey);
+			Files.delete(directory);
+		}
+	}
+
+	private static String peerPrincipal(DisposableServer server, @Nullable String serverName) throws Exception {
+		SslContext clientContext =
+				SslContextBuilder.forClient()
+				                 .trustManager(InsecureTrustManagerFactory.INSTANCE)
+				                 .build();
+		Connection connection =
+				TcpClient.create()
+				         .port(server.port())
+				         .secure(spec -> spec.sslContext(clientContext)
+				                             .handlerConfigurator(handler -> {
+				                                 SSLEngine engine = handler.engine();
+				                                 SSLParameters parameters = engine.getSSLParameters();
+				                                 parameters.setServerNames(serverName == null ? Collections.emptyList() :
+				                                         Collections.singletonList(new SNIHostName(serverName)));
+				                                 engine.setSSLParameters(parameters);
+				                             }))
+				         .connectNow();
+		try {
+			SslHandler sslHandler = connection.channel().pipeline().get(SslHandler.class);
+			X509Certificate certificate = (X509Certificate) sslHandler.engine().getSession().getPeerCertificates()[0];
+			return certificate.getSubjectX500Principal().getName();
+		}
+		finally {
+			connection.disposeNow();
+		}
+	}
 }
@@ -43,6 +43,11 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.codec.LineBasedFrameDecoder;
+import io.netty.resolver.AbstractAddressResolver;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
 import org.assertj.core.api.Assertions;
 import org.junit.After;
 import org.junit.Before;
@@ -865,6 +870,108 @@ public class TcpClientTests {
 		server.disposeNow();
 	}
 
+	@Test
+	public void testConnectToNextResolvedAddressWhenRefused() {
+		DisposableServer server =
+				TcpServer.create()
+				         .host("127.0.0.1")
+				         .port(0)
+				         .wiretap(true)
+				         .handle((req, res) -> res.sendString(Mono.just("test")))
+				         .bindNow();
+
+		InetSocketAddress refused = new InetSocketAddress("127.0.0.1", SocketUtils.findAvailableTcpPort());
+		InetSocketAddress available = new InetSocketAddress("127.0.0.1", server.port());
+
+		doTestConnectToNextResolvedAddress(TcpClient.create(), server, refused, available);
+		doTestConnectToNextResolvedAddress(TcpClient.newConnection(), server, refused, available);
+
+		server.disposeNow();
+	}
+
+	@Test
+	public void testConnectToNextResolvedAddressWhenNoResponse() {
+		DisposableServer server =
+				TcpServer.create()
+				         .host("127.0.0.1")
+				         .port(0)
+				         .wiretap(true)
+				         .handle((req, res) -> res.sendString(Mono.just("test")))
+				         .bindNow();
+
+		// TEST-NET-1 address, the connection attempt either hangs or fails
+		InetSocketAddress unreachable = new InetSocketAddress("192.0.2.1", server.port());
+		InetSocketAddress available = new InetSocketAddress("127.0.0.1", server.port());
+
+		TcpClient client = TcpClient.newConnection()
+		                            .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 30000);
+		long start = System.nanoTime();
+		doTestConnectToNextResolvedAddress(client, server, unreachable, available);
+		Assertions.assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(10));
+
+		server.disposeNow();
+	}
+
+	@Test
+	public void testAllResolvedAddressesRefused() {
+		InetSocketAddress refused1 = new InetSocketAddress("127.0.0.1", SocketUtils.findAvailableTcpPort());
+		InetSocketAddress refused2 = new InetSocketAddress("127.0.0.1", SocketUtils.findAvailableTcpPort());
+
+		StepVerifier.create(TcpClient.newConnection()
+		                             .remoteAddress(() -> InetSocketAddress.createUnresolved("test.reactor.netty", 80))
+		                             .resolver(new FixedAddressResolverGroup(refused1, refused2))
+		                             .connect())
+		            .expectErrorMatches(t -> t instanceof IOException && t.getSuppressed().length == 1)
+		            .verify(Duration.ofSeconds(30));
+	}
+
+	private void doTestConnectToNextResolvedAddress(TcpClient client, DisposableServer server, SocketAddress... addresses) {
+		Connection conn =
+				client.remoteAddress(() -> InetSocketAddress.createUnresolved("test.reactor.netty", server.port()))
+				      .resolver(new FixedAddressResolverGroup(addresses))
+				      .handle((in, out) -> Mono.never())
+				      .wiretap(true)
+				      .connectNow(Duration.ofSeconds(30));
+
+		Assertions.assertThat(((InetSocketAddress) conn.channel().remoteAddress()).getPort())
+		          .isEqualTo(server.port());
+
+		conn.disposeNow();
+	}
+
+	static final class FixedAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+
+		final List<InetSocketAddress> addresses;
+
+		FixedAddressResolverGroup(SocketAddress... addresses) {
+			this.addresses = new ArrayList<>();
+			for (SocketAddress address : addresses) {
+				this.addresses.add((InetSocketAddress) address);
+			}
+		}
+
+		@Override
+		protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+			return new AbstractAddressResolver<InetSocketAddress>(executor) {
+
+				@Override
+				protected boolean doIsResolved(InetSocketAddress address) {
+					return !address.isUnresolved();
+				}
+
+				@Override
+				protected void doResolve(InetSocketAddress unresolvedAddress, Promise<InetSocketAddress> promise) {
+					promise.setSuccess(addresses.get(0));
+				}
+
+				@Override
+				protected void doResolveAll(InetSocketAddress unresolvedAddress, Promise<List<InetSocketAddress>> promise) {
+					promise.setSuccess(addresses);
+				}
+			};
+		}
+	}
+
 	@Test
 	public void testReconnectWhenDisconnected() throws Exception {
 		DisposableServer server =
@@ -129,6 +129,13 @@ public class TcpMetricsTests {
 		checkExpectationsPositive();
 	}
 
+	@Test
+	public void testSuccessfulCommunicationWithMetricsAccumulation() throws Exception {
+		tcpServer = tcpServer.metricsAccumulation(Duration.ZERO);
+		tcpClient = tcpClient.metricsAccumulation(Duration.ZERO);
+		testSuccessfulCommunication();
+	}
+
 	@Test
 	public void testFailedConnect() throws Exception {
 		disposableServer = tcpServer.bindNow();
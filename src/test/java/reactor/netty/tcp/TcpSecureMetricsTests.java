@@ -27,12 +27,18 @@ import reactor.core.publisher.Mono;
 import javax.net.ssl.SSLException;
 import java.net.InetSocketAddress;
 import java.security.cert.CertificateException;
+import java.time.Duration;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static reactor.netty.Metrics.HIT;
+import static reactor.netty.Metrics.MISS;
 import static reactor.netty.Metrics.REMOTE_ADDRESS;
 import static reactor.netty.Metrics.STATUS;
+import static reactor.netty.Metrics.TCP_CLIENT_PREFIX;
+import static reactor.netty.Metrics.TLS_SESSION_RESUMPTION;
 import static reactor.netty.Metrics.URI;
 
 /**
@@ -101,6 +107,38 @@ public class TcpSecureMetricsTests extends TcpMetricsTests {
 		checkExpectationsNegative();
 	}
 
+	@Test
+	public void testTlsSessionResumption() throws Exception {
+		disposableServer =
+				tcpServer.handle((in, out) -> out.send(in.receive().retain()))
+				         .bindNow();
+
+		for (int i = 0; i < 2; i++) {
+			// The session is created with millisecond precision
+			Thread.sleep(10);
+
+			connection = tcpClient.connectNow();
+
+			String response =
+					connection.outbound()
+					          .sendString(Mono.just("hello"))
+					          .then()
+					          .then(connection.inbound()
+					                          .receive()
+					                          .asString()
+					                          .next())
+					          .block(Duration.ofSeconds(30));
+			assertEquals("hello", response);
+
+			connection.disposeNow();
+		}
+
+		InetSocketAddress sa = (InetSocketAddress) disposableServer.channel().localAddress();
+		String serverAddress = sa.getHostString() + ":" + sa.getPort();
+		checkCounter(CLIENT_TLS_SESSION_RESUMPTION, new String[] {REMOTE_ADDRESS, serverAddress, STATUS, MISS}, 1, true);
+		checkCounter(CLIENT_TLS_SESSION_RESUMPTION, new String[] {REMOTE_ADDRESS, serverAddress, STATUS, HIT}, 1, true);
+	}
+
 	private void checkExpectationsNegative() {
 		InetSocketAddress ca = (InetSocketAddress) connection.channel().localAddress();
 		String clientAddress = ca.getHostString() + ":" + ca.getPort();
@@ -122,4 +160,6 @@ public class TcpSecureMetricsTests extends TcpMetricsTests {
 		checkDistributionSummary(CLIENT_DATA_RECEIVED, summaryTags, 0, 0, false);
 		checkCounter(CLIENT_ERRORS, summaryTags, 0, false);
 	}
+
+	static final String CLIENT_TLS_SESSION_RESUMPTION = TCP_CLIENT_PREFIX + TLS_SESSION_RESUMPTION;
 }
@@ -33,8 +33,11 @@ import java.nio.file.StandardCopyOption;
 import java.security.cert.CertificateException;
 import java.time.Duration;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
@@ -46,7 +49,9 @@ import javax.net.ssl.SSLException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.handler.codec.LineBasedFrameDecoder;
@@ -792,6 +797,89 @@ public class TcpServerTests {
 		serverConnDisposed.block(Duration.ofSeconds(5));
 	}
 
+	@Test
+	public void testReusePortBindsOneChannelPerEventLoop() throws Exception {
+		LoopResources loop = LoopResources.create("reuse-port", 4, true);
+		Set<Channel> serverChannels = ConcurrentHashMap.newKeySet();
+		AtomicBoolean colocated = new AtomicBoolean(true);
+		CountDownLatch unbound = new CountDownLatch(1);
+		CountDownLatch connections = new CountDownLatch(64);
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .runOn(loop)
+				         .reusePort(true)
+				         .doOnConnection(c -> {
+				             Channel parent = c.channel().parent();
+				             serverChannels.add(parent);
+				             if (c.channel().eventLoop() != parent.eventLoop()) {
+				                 colocated.set(false);
+				             }
+				             connections.countDown();
+				         })
+				         .doOnUnbound(s -> unbound.countDown())
+				         .handle((in, out) -> out.send(in.receive().retain()))
+				         .bindNow();
+
+		try {
+			for (int i = 0; i < 64; i++) {
+				try (SocketChannel ch = SocketChannel.open(new InetSocketAddress(NetUtil.LOCALHOST, server.port()))) {
+					ch.write(ByteBuffer.wrap("echo".getBytes(StandardCharsets.UTF_8)));
+					Assertions.assertThat(ch.read(ByteBuffer.allocate(4))).isGreaterThan(0);
+				}
+			}
+			assertTrue(connections.await(30, TimeUnit.SECONDS));
+
+			Assertions.assertThat(serverChannels)
+			          .allMatch(ch -> server.address().getPort() == ((InetSocketAddress) ch.localAddress()).getPort());
+			if (Epoll.isAvailable()) {
+				// the kernel balances the connections between the four server channels
+				Assertions.assertThat(serverChannels).hasSizeGreaterThan(1);
+				Assertions.assertThat(colocated.get()).isTrue();
+			}
+			else {
+				Assertions.assertThat(serverChannels).hasSize(1);
+			}
+		}
+		finally {
+			server.disposeNow();
+			loop.disposeLater()
+			    .block(Duration.ofSeconds(5));
+		}
+
+		assertTrue(unbound.await(30, TimeUnit.SECONDS));
+		Assertions.assertThat(server.isDisposed()).isTrue();
+		Assertions.assertThat(serverChannels).noneMatch(Channel::isActive);
+	}
+
+	@Test
+	public void testReusePortDisposeClosesAllChannelsWhenTheFirstIsClosed() throws Exception {
+		LoopResources loop = LoopResources.create("reuse-port", 4, true);
+		DisposableServer server =
+				TcpServer.create()
+				         .port(0)
+				         .runOn(loop)
+				         .reusePort(true)
+				         .bindNow();
+
+		try {
+			server.channel()
+			      .close()
+			      .sync();
+			if (Epoll.isAvailable()) {
+				// the other server channels are still bound
+				Assertions.assertThat(server.isDisposed()).isFalse();
+			}
+
+			server.disposeNow();
+			Assertions.assertThat(server.isDisposed()).isTrue();
+		}
+		finally {
+			loop.disposeLater()
+			    .block(Duration.ofSeconds(5));
+		}
+	}
+
 	@Test
 	public void testIssue688() throws Exception {
 		CountDownLatch connected = new CountDownLatch(1);
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.dns.DatagramDnsQuery;
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder;
+import io.netty.handler.codec.dns.DatagramDnsResponse;
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder;
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsQuestion;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsResponseCode;
+import io.netty.handler.codec.dns.DnsSection;
+import io.netty.resolver.DefaultAddressResolverGroup;
+import io.netty.resolver.ResolvedAddressTypes;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.SingletonDnsServerAddressStreamProvider;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
+import reactor.netty.udp.UdpServer;
+
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static reactor.netty.Metrics.HIT;
+import static reactor.netty.Metrics.MISS;
+import static reactor.netty.Metrics.REMOTE_ADDRESS;
+import static reactor.netty.Metrics.STATUS;
+
+/**
+ * @author Violeta Georgieva
+ */
+public class NameResolverProviderTest {
+	private static final String KNOWN_HOST = "test.reactor.netty";
+	private static final String UNKNOWN_HOST = "unknown.reactor.netty";
+
+	private final Map<String, AtomicInteger> queries = new ConcurrentHashMap<>();
+
+	private Connection dnsServer;
+	private DisposableServer server;
+	private MeterRegistry registry;
+
+	@Before
+	public void setUp() {
+		dnsServer =
+				UdpServer.create()
+				         .host("127.0.0.1")
+				         .port(0)
+				         .doOnBound(conn -> conn.addHandler(new DatagramDnsQueryDecoder())
+				                                .addHandler(new DatagramDnsResponseEncoder()))
+				         .handle((in, out) ->
+				             out.sendObject(in.receiveObject()
+				                              .cast(DatagramDnsQuery.class)
+				                              .map(this::answer)))
+				         .bindNow();
+
+		server =
+				TcpServer.create()
+				         .host("127.0.0.1")
+				         .port(0)
+				         .handle((in, out) -> in.receive().then())
+				         .bindNow();
+
+		registry = new SimpleMeterRegistry();
+		Metrics.addRegistry(registry);
+	}
+
+	@After
+	public void tearDown() {
+		server.disposeNow();
+		dnsServer.disposeNow();
+		Metrics.removeRegistry(registry);
+		registry.clear();
+		registry.close();
+	}
+
+	@Test
+	public void defaultResolverIsNonBlocking() {
+		assertThat(TcpClient.create().configuration().resolver()).isInstanceOf(DnsAddressResolverGroup.class);
+
+		TcpClient client = TcpClient.create().resolver(DefaultAddressResolverGroup.INSTANCE);
+		assertThat(client.configuration().resolver()).isSameAs(DefaultAddressResolverGroup.INSTANCE);
+		assertThat(client.resolver(spec -> spec.ndots(1)).configuration().resolver())
+				.isInstanceOf(DnsAddressResolverGroup.class);
+	}
+
+	@Test
+	public void resolverGroupIsSharedByEqualConfigurations() {
+		assertThat(TcpClient.create().resolver(spec -> spec.ndots(1)).configuration().resolver())
+				.isSameAs(TcpClient.create().resolver(spec -> spec.ndots(1)).configuration().resolver())
+				.isNotSameAs(TcpClient.create().resolver(spec -> spec.ndots(2)).configuration().resolver());
+	}
+
+	@Test
+	public void hostsFileEntryIsNotCountedAsCacheHit() {
+		TcpClient client = createClient(spec -> spec).host("localhost");
+
+		connectAndDispose(client);
+
+		String address = "localhost:" + server.port();
+		assertThat(getCounterValue(address, HIT)).isEqualTo(-1);
+		assertThat(getCounterValue(address, MISS)).isEqualTo(-1);
+	}
+
+	@Test
+	public void resolvedAddressIsCached() {
+		TcpClient client = createClient(spec -> spec);
+
+		connectAndDispose(client);
+		connectAndDispose(client);
+
+		assertThat(queries.get(KNOWN_HOST).get()).isEqualTo(1);
+
+		String address = KNOWN_HOST + ":" + server.port();
+		assertThat(getCounterValue(address, MISS)).isEqualTo(1);
+		assertThat(getCounterValue(address, HIT)).isEqualTo(1);
+	}
+
+	@Test
+	public void failedResolutionIsCached() {
+		TcpClient client = createClient(spec -> spec.cacheNegativeTimeToLive(Duration.ofSeconds(30)))
+				.host(UNKNOWN_HOST);
+
+		for (int i = 0; i < 2; i++) {
+			assertThatExceptionOfType(RuntimeException.class)
+					.isThrownBy(client::connectNow)
+					.withRootCauseInstanceOf(UnknownHostException.class);
+		}
+
+		assertThat(queries.get(UNKNOWN_HOST).get()).isEqualTo(1);
+
+		String address = UNKNOWN_HOST + ":" + server.port();
+		assertThat(getCounterValue(address, MISS)).isEqualTo(1);
+		assertThat(getCounterValue(address, HIT)).isEqualTo(1);
+	}
+
+	@Test
+	public void failedResolutionIsNotCachedByDefault() {
+		TcpClient client = createClient(spec -> spec).host(UNKNOWN_HOST);
+
+		for (int i = 0; i < 2; i++) {
+			assertThatExceptionOfType(RuntimeException.class)
+					.isThrownBy(client::connectNow)
+					.withRootCauseInstanceOf(UnknownHostException.class);
+		}
+
+		assertThat(queries.get(UNKNOWN_HOST).get()).isEqualTo(2);
+	}
+
+	@Test
+	public void invalidConfiguration() {
+		NameResolverProvider.NameResolverSpec spec = NameResolverProvider.builder();
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> spec.cacheNegativeTimeToLive(Duration.ofSeconds(-1)));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> spec.maxQueriesPerResolve(0));
+		assertThatExceptionOfType(IllegalArgumentException.class)
+				.isThrownBy(() -> spec.ndots(-2));
+		assertThatExceptionOfType(NullPointerException.class)
+				.isThrownBy(() -> spec.queryTimeout(null));
+	}
+
+	private TcpClient createClient(Function<NameResolverProvider.NameResolverSpec,
+			NameResolverProvider.NameResolverSpec> customizer) {
+		return TcpClient.newConnection()
+		                .host(KNOWN_HOST)
+		                .port(server.port())
+		                .metrics(true)
+		                .resolver(spec -> customizer.apply(
+		                    spec.nameServerProvider(new SingletonDnsServerAddressStreamProvider(
+		                            (InetSocketAddress) dnsServer.address()))
+		                        .resolvedAddressTypes(ResolvedAddressTypes.IPV4_ONLY)
+		                        .searchDomains(Collections.emptyList())
+		                        .queryTimeout(Duration.ofSeconds(2))));
+	}
+
+	private static void connectAndDispose(TcpClient client) {
+		Connection connection = client.connectNow();
+		assertThat(connection.channel().isActive()).isTrue();
+		connection.disposeNow();
+	}
+
+	private DatagramDnsResponse answer(DatagramDnsQuery query) {
+		DnsQuestion question = query.recordAt(DnsSection.QUESTION);
+		String name = question.name().endsWith(".") ?
+				question.name().substring(0, question.name().length() - 1) : question.name();
+		if (question.type() == DnsRecordType.A) {
+			queries.computeIfAbsent(name, key -> new AtomicInteger()).incrementAndGet();
+		}
+
+		DatagramDnsResponse response = new DatagramDnsResponse(query.recipient(), query.sender(), query.id());
+		response.setRecursionAvailable(true);
+		response.addRecord(DnsSection.QUESTION, question);
+		if (KNOWN_HOST.equals(name) && question.type() == DnsRecordType.A) {
+			response.addRecord(DnsSection.ANSWER,
+					new DefaultDnsRawRecord(question.name(), DnsRecordType.A, 60,
+							Unpooled.wrappedBuffer(new byte[] {127, 0, 0, 1})));
+		}
+		else {
+			response.setCode(DnsResponseCode.NXDOMAIN);
+		}
+		return response;
+	}
+
+	private double getCounterValue(String address, String status) {
+		Counter counter = registry.find("reactor.netty.tcp.client.address.resolver.cache")
+		                          .tags(REMOTE_ADDRESS, address, STATUS, status).counter();
+		double result = -1;
+		if (counter != null) {
+			result = counter.count();
+		}
+		return result;
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2011-Present VMware, Inc. or its affiliates, All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package reactor.netty.transport;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.resolver.AbstractAddressResolver;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Promise;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.tcp.TcpClient;
+import reactor.netty.tcp.TcpServer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransportConnectorTest {
+
+	@Test
+	public void onlyTheWinningAttemptIsInitialized() {
+		DisposableServer closed1 = TcpServer.create().host("127.0.0.1").port(0).bindNow();
+		DisposableServer closed2 = TcpServer.create().host("127.0.0.1").port(0).bindNow();
+		InetSocketAddress refused1 = new InetSocketAddress("127.0.0.1", closed1.port());
+		InetSocketAddress refused2 = new InetSocketAddress("127.0.0.1", closed2.port());
+		closed1.disposeNow();
+		closed2.disposeNow();
+
+		DisposableServer server =
+				TcpServer.create()
+				         .host("127.0.0.1")
+				         .port(0)
+				         .handle((in, out) -> out.send(in.receive().retain()))
+				         .bindNow();
+
+		// the first channel is initialized before the addresses are resolved, the second attempt
+		// fails without being initialized and the third attempt wins
+		List<InetSocketAddress> addresses =
+				Arrays.asList(refused1, refused2, new InetSocketAddress("127.0.0.1", server.port()));
+		AtomicInteger initialized = new AtomicInteger();
+		Connection connection = null;
+		try {
+			connection =
+					TcpClient.newConnection()
+					         .remoteAddress(() -> InetSocketAddress.createUnresolved("example.test", 80))
+					         .resolver(new TestAddressResolverGroup(addresses))
+					         .doOnChannelInit((observer, channel, address) -> initialized.incrementAndGet())
+					         .connectNow();
+
+			assertThat(connection.channel().remoteAddress()).isEqualTo(addresses.get(2));
+			assertThat(initialized.get()).isEqualTo(2);
+
+			connection.outbound()
+			          .sendString(Mono.just("echo"))
+			          .then()
+			          .subscribe();
+			String echo = connection.inbound()
+			                        .receive()
+			                        .asString()
+			                        .next()
+			                        .block(Duration.ofSeconds(30));
+			assertThat(echo).isEqualTo("echo");
+		}
+		finally {
+			if (connection != null) {
+				connection.disposeNow();
+			}
+			server.disposeNow();
+		}
+	}
+
+	static final class TestAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+
+		final List<InetSocketAddress> addresses;
+
+		TestAddressResolverGroup(List<InetSocketAddress> addresses) {
+			this.addresses = addresses;
+		}
+
+		@Override
+		protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+			return new AbstractAddressResolver<InetSocketAddress>(executor) {
+
+				@Override
+				protected boolean doIsResolved(InetSocketAddress address) {
+					return !address.isUnresolved();
+				}
+
+				@Override
+				protected void doResolve(InetSocketAddress unresolvedAddress, Promise<InetSocketAddress> promise) {
+					promise.setSuccess(addresses.get(0));
+				}
+
+				@Override
+				protected void doResolveAll(InetSocketAddress unresolvedAddress, Promise<List<InetSocketAddress>> promise) {
+					promise.setSuccess(addresses);
+				}
+			};
+		}
+	}
+}
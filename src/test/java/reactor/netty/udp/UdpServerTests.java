@@ -31,13 +31,18 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.socket.InternetProtocolFamily;
+import io.netty.util.CharsetUtil;
 import io.netty.util.NetUtil;
 import org.assertj.core.api.Assertions;
 import org.junit.After;
@@ -269,4 +274,111 @@ public class UdpServerTests {
 
 		conn.disposeNow();
 	}
+
+	@Test
+	public void batchReceiveRejectsReadBufferOverflow() {
+		Assertions.assertThatExceptionOfType(IllegalArgumentException.class)
+		          .isThrownBy(() -> UdpServer.create().batchReceive(65536, 65536));
+
+		Assertions.assertThat(UdpServer.create().batchReceive(65536, 32767).configuration().datagramsPerRead)
+		          .isEqualTo(32767);
+	}
+
+	@Test
+	public void reusePortBindsOneDatagramChannelPerEventLoop() throws Exception {
+		LoopResources loop = LoopResources.create("reuse-port", 4, true);
+		Set<Channel> bound = ConcurrentHashMap.newKeySet();
+		Set<Channel> receivers = ConcurrentHashMap.newKeySet();
+		int sources = 64;
+		CountDownLatch latch = new CountDownLatch(sources * 4);
+		CountDownLatch unbound = new CountDownLatch(1);
+		Connection server = null;
+		try {
+			server =
+					UdpServer.create()
+					         .port(0)
+					         .runOn(loop)
+					         .reusePort(true)
+					         .batchReceive(1024, 16)
+					         .doOnBound(c -> bound.add(c.channel()))
+					         .doOnUnbound(c -> unbound.countDown())
+					         .handle((in, out) ->
+					                 in.receiveObject()
+					                   .doOnNext(o -> {
+					                       in.withConnection(c -> receivers.add(c.channel()));
+					                       latch.countDown();
+					                   })
+					                   .then())
+					         .bindNow(Duration.ofSeconds(30));
+
+			boolean epoll = bound.iterator().next() instanceof EpollDatagramChannel;
+			Assertions.assertThat(bound).hasSize(epoll ? 4 : 1);
+			for (Channel channel : bound) {
+				Assertions.assertThat(((InetSocketAddress) channel.localAddress()).getPort()).isEqualTo(server.address().getPort());
+			}
+
+			byte[] data = new byte[512];
+			for (int i = 0; i < sources; i++) {
+				try (DatagramChannel udp = DatagramChannel.open()) {
+					udp.connect(new InetSocketAddress(NetUtil.LOCALHOST, server.address().getPort()));
+					for (int j = 0; j < 4; j++) {
+						udp.write(ByteBuffer.wrap(data));
+					}
+				}
+			}
+
+			Assertions.assertThat(latch.await(30, TimeUnit.SECONDS)).as("latch await").isTrue();
+			if (epoll) {
+				Assertions.assertThat(receivers.size()).isGreaterThan(1);
+			}
+		}
+		finally {
+			if (server != null) {
+				server.disposeNow();
+				Assertions.assertThat(server.isDisposed()).isTrue();
+				Assertions.assertThat(unbound.await(30, TimeUnit.SECONDS)).as("unbound await").isTrue();
+				Assertions.assertThat(bound).noneMatch(Channel::isActive);
+			}
+			loop.disposeLater()
+			    .block(Duration.ofSeconds(30));
+		}
+	}
+
+	@Test
+	public void reusePortInboundMergesAllDatagramChannels() throws Exception {
+		LoopResources loop = LoopResources.create("reuse-port-inbound", 4, true);
+		Connection server = null;
+		try {
+			server =
+					UdpServer.create()
+					         .port(0)
+					         .runOn(loop)
+					         .reusePort(true)
+					         .bindNow(Duration.ofSeconds(30));
+
+			int sources = 32;
+			CountDownLatch latch = new CountDownLatch(sources);
+			server.inbound()
+			      .receive()
+			      .asString()
+			      .filter("ping"::equals)
+			      .subscribe(s -> latch.countDown());
+
+			for (int i = 0; i < sources; i++) {
+				try (DatagramChannel udp = DatagramChannel.open()) {
+					udp.connect(new InetSocketAddress(NetUtil.LOCALHOST, server.address().getPort()));
+					udp.write(ByteBuffer.wrap("ping".getBytes(CharsetUtil.UTF_8)));
+				}
+			}
+
+			Assertions.assertThat(latch.await(30, TimeUnit.SECONDS)).as("latch await").isTrue();
+		}
+		finally {
+			if (server != null) {
+				server.disposeNow();
+			}
+			loop.disposeLater()
+			    .block(Duration.ofSeconds(30));
+		}
+	}
 }